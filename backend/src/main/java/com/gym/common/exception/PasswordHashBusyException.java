@@ -0,0 +1,18 @@
+package com.gym.common.exception;
+
+/**
+ * [251122] 비밀번호 해시 대기열 초과 → 503 + Retry-After (PasswordHashBusyHandler)
+ */
+public class PasswordHashBusyException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public PasswordHashBusyException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,27 @@
+package com.gym.common.exception;
+
+import com.gym.common.ApiResponse;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * [251122] 비밀번호 해시 대기열 초과 응답 (로그인/회원 등록·수정 — 사용자/CMS 공통)
+ * - GlobalExceptionHandler(사용자 패키지 한정, Exception → 500)보다 먼저 적용되도록 최우선 순서
+ */
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class PasswordHashBusyHandler {
+
+    @ExceptionHandler(PasswordHashBusyException.class)
+    public ResponseEntity<ApiResponse<Void>> handleBusy(PasswordHashBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.fail(-503, e.getMessage()));
+    }
+}
@@ -0,0 +1,120 @@
+package com.gym.common.export;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * [251120] CSV 행 입력기 (가져오기용, CsvRowWriter 와 같은 규칙)
+ * - UTF-8, 앞쪽 BOM 무시
+ * - RFC 4180: 큰따옴표로 감싼 셀 안의 콤마/줄바꿈/두 번 쓴 따옴표 허용
+ * - 따옴표로 감싸지 않은 셀은 앞뒤 공백 제거
+ * - CsvRowWriter 가 붙인 수식 방지 접두(작은따옴표 + =,+,-,@)는 셀 값에 그대로 둠
+ *   → 내보낸 열에만 호출 측이 stripFormulaGuard 로 떼어 냄(비밀번호 등 내보내지 않는 열의 "'=" 값은 보존)
+ * - 1행씩 읽음 → 파일 크기와 무관하게 메모리 일정
+ */
+public class CsvRowReader implements AutoCloseable {
+
+    private final BufferedReader reader;
+    private long lineNo;           // 지금까지 읽은 물리 줄 수
+    private long rowLine;          // 마지막으로 반환한 행의 시작 줄 번호(1부터)
+    private boolean first = true;
+
+    public CsvRowReader(InputStream in) {
+        this(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    public CsvRowReader(Reader in) {
+        this.reader = (in instanceof BufferedReader br) ? br : new BufferedReader(in, 16 * 1024);
+    }
+
+    /**
+     * 다음 행
+     * @return 셀 목록, 파일 끝이면 null (빈 줄은 건너뜀)
+     * @throws IllegalArgumentException 닫히지 않은 따옴표
+     */
+    public List<String> next() throws IOException {
+        while (true) {
+            String line = reader.readLine();
+            if (line == null) return null;
+            lineNo++;
+            if (first) {
+                first = false;
+                if (!line.isEmpty() && line.charAt(0) == '\uFEFF') line = line.substring(1);
+            }
+            if (line.isEmpty()) continue;
+            rowLine = lineNo;
+            return parse(line);
+        }
+    }
+
+    /** 마지막으로 반환한 행의 시작 줄 번호 (오류 보고용) */
+    public long rowLine() {
+        return rowLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private List<String> parse(String line) throws IOException {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;      // 현재 셀이 따옴표로 시작했는지
+        boolean inQuotes = false;    // 따옴표 안을 읽는 중
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!inQuotes) break;
+                // 따옴표 안 줄바꿈 → 다음 줄 이어 읽기
+                String more = reader.readLine();
+                if (more == null) {
+                    throw new IllegalArgumentException(rowLine + "행: 닫히지 않은 따옴표");
+                }
+                lineNo++;
+                cell.append('\n');
+                line = more;
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (inQuotes) {
+                if (c == '"') {
+                    if (i < line.length() && line.charAt(i) == '"') {
+                        cell.append('"');
+                        i++;
+                    } else {
+                        inQuotes = false;
+                    }
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == ',') {
+                cells.add(quoted ? cell.toString() : cell.toString().trim());
+                cell.setLength(0);
+                quoted = false;
+            } else if (c == '"' && cell.length() == 0 && !quoted) {
+                quoted = true;
+                inQuotes = true;
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(quoted ? cell.toString() : cell.toString().trim());
+        return cells;
+    }
+
+    /** CsvRowWriter 수식 방지 접두 제거 ("'=..." → "=...") — 내보내기에 포함되는 열에만 사용 */
+    public static String stripFormulaGuard(String v) {
+        if (v.length() > 1 && v.charAt(0) == '\'' && "=+-@".indexOf(v.charAt(1)) >= 0) {
+            return v.substring(1);
+        }
+        return v;
+    }
+}
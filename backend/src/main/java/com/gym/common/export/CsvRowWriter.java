@@ -0,0 +1,80 @@
+package com.gym.common.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * [251103] CSV 행 출력기
+ * - UTF-8 + BOM (엑셀에서 한글 깨짐 방지)
+ * - RFC 4180 규칙: 콤마/따옴표/줄바꿈 포함 시 큰따옴표로 감싸고 내부 따옴표는 두 번
+ * - FLUSH_ROWS 행마다 flush → 톰캣이 chunked 로 즉시 전송, 서버에 행이 쌓이지 않음
+ */
+public class CsvRowWriter implements RowWriter {
+
+    private static final int FLUSH_ROWS = 500;   // 커서 fetchSize와 동일 단위로 flush
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Writer writer;
+    private int pending;                          // 마지막 flush 이후 기록한 행 수
+
+    public CsvRowWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+    }
+
+    @Override
+    public void header(String... titles) throws IOException {
+        writer.write('\uFEFF');                   // BOM
+        row((Object[]) titles);
+    }
+
+    @Override
+    public void row(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) writer.write(',');
+            writer.write(escape(values[i]));
+        }
+        writer.write("\r\n");
+        if (++pending >= FLUSH_ROWS) {
+            writer.flush();
+            pending = 0;
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() {
+        // 출력 스트림은 컨테이너 소유 → 여기서 닫지 않음
+    }
+
+    /** 값 → CSV 셀 문자열 */
+    static String escape(Object value) {
+        if (value == null) return "";
+        String s;
+        if (value instanceof LocalDateTime ldt) {
+            s = ldt.format(DATE_TIME);
+        } else if (value instanceof LocalDate ld) {
+            s = ld.toString();
+        } else {
+            s = String.valueOf(value);
+            // 수식 주입 방지: 문자열이 =,+,-,@ 로 시작하면 작은따옴표 접두
+            if (value instanceof String && !s.isEmpty() && "=+-@".indexOf(s.charAt(0)) >= 0) {
+                s = "'" + s;
+            }
+        }
+        if (s.indexOf(',') >= 0 || s.indexOf('"') >= 0 || s.indexOf('\n') >= 0 || s.indexOf('\r') >= 0) {
+            return '"' + s.replace("\"", "\"\"") + '"';
+        }
+        return s;
+    }
+}
@@ -0,0 +1,49 @@
+package com.gym.common.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * [251103] 내보내기(CSV/XLSX) 공통 행 단위 출력기
+ * - MyBatis Cursor에서 1행씩 꺼내 바로 기록 → 목록(List) 적재 없이 메모리 일정
+ * - 구현체: CsvRowWriter(즉시 스트리밍), XlsxRowWriter(SXSSF 슬라이딩 윈도우)
+ * - 사용 순서: header() 1회 → row() N회 → finish() 1회 (close()는 예외 시 정리용)
+ */
+public interface RowWriter extends AutoCloseable {
+
+    /** 헤더 행 기록 */
+    void header(String... titles) throws IOException;
+
+    /** 데이터 행 기록 (null은 빈 칸) */
+    void row(Object... values) throws IOException;
+
+    /** 남은 버퍼를 출력 스트림으로 내보냄 (스트림 자체는 닫지 않음) */
+    void finish() throws IOException;
+
+    /** 임시 자원 정리 (finish 이후 또는 예외 발생 시 호출) */
+    @Override
+    void close() throws IOException;
+
+    /**
+     * 포맷 문자열로 구현체 선택
+     * @param format "csv"(기본) | "xlsx"
+     * @param sheetName XLSX 시트명 (CSV는 무시)
+     */
+    static RowWriter of(String format, String sheetName, OutputStream out) {
+        if (isXlsx(format)) {
+            return new XlsxRowWriter(sheetName, out);
+        }
+        return new CsvRowWriter(out);
+    }
+
+    /** 포맷 문자열 검증 + xlsx 여부 */
+    static boolean isXlsx(String format) {
+        if (format == null || format.isBlank() || "csv".equalsIgnoreCase(format.trim())) {
+            return false;
+        }
+        if ("xlsx".equalsIgnoreCase(format.trim())) {
+            return true;
+        }
+        throw new IllegalArgumentException("format은 'csv' 또는 'xlsx'만 허용됩니다.");
+    }
+}
@@ -0,0 +1,88 @@
+package com.gym.common.export;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * [251103] XLSX 행 출력기 (POI SXSSF)
+ * - 메모리에는 최근 WINDOW_ROWS 행만 유지, 나머지는 압축 임시파일로 내려감 → 행 수와 무관하게 메모리 일정
+ * - XLSX는 zip 구조라 finish() 시점에 한 번에 출력 스트림으로 기록됨
+ *   (그래서 서비스는 커서/트랜잭션을 먼저 닫고 finish()를 호출함)
+ * - close()에서 dispose()로 임시파일 삭제
+ */
+public class XlsxRowWriter implements RowWriter {
+
+    private static final int WINDOW_ROWS = 100;
+    private static final int MAX_ROWS = 1_048_576;   // 엑셀 시트 최대 행 수
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final SXSSFWorkbook workbook;
+    private final OutputStream out;
+    private final String sheetName;
+    private Sheet sheet;
+    private String[] titles;
+    private int rowIndex;
+    private int sheetNo = 1;
+
+    public XlsxRowWriter(String sheetName, OutputStream out) {
+        this.workbook = new SXSSFWorkbook(WINDOW_ROWS);
+        this.workbook.setCompressTempFiles(true);     // 임시파일 gzip (디스크 사용량 절감)
+        this.sheetName = sheetName;
+        this.out = out;
+        this.sheet = workbook.createSheet(sheetName);
+    }
+
+    @Override
+    public void header(String... titles) {
+        this.titles = titles;
+        writeRow((Object[]) titles);
+    }
+
+    @Override
+    public void row(Object... values) {
+        if (rowIndex >= MAX_ROWS) {                   // 시트 한도 초과 시 다음 시트로 이어서 기록
+            sheet = workbook.createSheet(sheetName + "_" + (++sheetNo));
+            rowIndex = 0;
+            if (titles != null) writeRow((Object[]) titles);
+        }
+        writeRow(values);
+    }
+
+    private void writeRow(Object... values) {
+        Row row = sheet.createRow(rowIndex++);
+        for (int i = 0; i < values.length; i++) {
+            Object v = values[i];
+            if (v == null) continue;
+            Cell cell = row.createCell(i);
+            if (v instanceof Number n) {
+                cell.setCellValue(n.doubleValue());
+            } else if (v instanceof LocalDateTime ldt) {
+                cell.setCellValue(ldt.format(DATE_TIME));
+            } else if (v instanceof LocalDate ld) {
+                cell.setCellValue(ld.toString());
+            } else {
+                cell.setCellValue(String.valueOf(v));
+            }
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        workbook.write(out);
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        workbook.dispose();                           // 임시파일 삭제
+        workbook.close();
+    }
+}
@@ -0,0 +1,141 @@
+package com.gym.common.upload;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUpload;
+import org.apache.commons.fileupload.FileUploadBase;
+import org.apache.commons.fileupload.FileUploadException;
+import org.apache.commons.fileupload.UploadContext;
+import org.apache.commons.fileupload.util.Streams;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * [251116] 스트리밍 멀티파트 파서 (commons-fileupload Streaming API)
+ * - MultipartFile(메모리/임시파일 버퍼링) 없이 요청 본문을 파트 순서대로 한 번만 읽음
+ * - 파일 파트는 handler 에 InputStream 으로 넘김 → handler 가 최종 위치로 바로 기록
+ * - 크기 제한은 바이트가 들어오는 동안 검사(fileSizeMax), 초과 시 MaxUploadSizeExceededException(413)
+ * - 폼 필드는 파일 앞/뒤 어디에 있어도 됨 (작은 값만 문자열로 읽음)
+ * 주의: spring.servlet.multipart.resolve-lazily=true 여야 함 (컨트롤러 진입 전 본문 파싱 방지),
+ *       같은 요청에서 request.getParameter()/@RequestParam 을 쓰면 톰캣이 본문을 먼저 읽어 버림
+ */
+public final class StreamingMultipart {
+
+    /** 폼 필드 값 최대 길이(문자) — 필드로 큰 데이터를 보내는 요청 차단 */
+    private static final int MAX_FIELD_CHARS = 1000;
+
+    /** 파일 파트 처리기 (반환값은 Result.stored 로 전달) */
+    @FunctionalInterface
+    public interface FileHandler<T> {
+        T handle(String fileName, InputStream in) throws IOException;
+    }
+
+    /** 파싱 결과: 폼 필드 + 파일 처리 결과 */
+    public static final class Result<T> {
+        private final Map<String, String> fields = new LinkedHashMap<>();
+        private T stored;
+        private String fileName;
+
+        public Map<String, String> getFields() { return fields; }
+        public String field(String name) { return fields.get(name); }
+        public T getStored() { return stored; }
+        public String getFileName() { return fileName; }
+    }
+
+    private StreamingMultipart() {
+    }
+
+    /**
+     * @param fileField    파일 파트 이름 (예: "file", "image") — 첫 번째 1개만 처리, 나머지 파일 파트는 무시
+     * @param maxFileBytes 파일 1개 최대 크기(byte)
+     */
+    public static <T> Result<T> parse(HttpServletRequest request, String fileField, long maxFileBytes,
+                                      FileHandler<T> handler) throws IOException {
+        FileUpload upload = new FileUpload();
+        upload.setFileSizeMax(maxFileBytes);
+        upload.setSizeMax(maxFileBytes + 64 * 1024); // 필드/경계 문자열 여유분
+        upload.setHeaderEncoding(StandardCharsets.UTF_8.name());
+
+        Result<T> result = new Result<>();
+        try {
+            FileItemIterator it = upload.getItemIterator(new ServletUploadContext(request));
+            while (it.hasNext()) {
+                FileItemStream item = it.next();
+                try (InputStream in = item.openStream()) {
+                    if (item.isFormField()) {
+                        String value = Streams.asString(in, StandardCharsets.UTF_8.name());
+                        if (value.length() > MAX_FIELD_CHARS) {
+                            throw new IllegalArgumentException("폼 필드 값이 너무 깁니다: " + item.getFieldName());
+                        }
+                        result.fields.put(item.getFieldName(), value);
+                    } else if (fileField.equals(item.getFieldName()) && result.fileName == null
+                            && item.getName() != null && !item.getName().isBlank()) {
+                        result.fileName = item.getName();
+                        result.stored = handler.handle(item.getName(), in);
+                    }
+                    // 그 밖의 파일 파트는 읽지 않고 건너뜀(iterator 가 다음 경계까지 소비)
+                }
+            }
+        } catch (FileUploadException e) {
+            throw toUploadException(e, maxFileBytes);
+        } catch (IOException e) {
+            if (isSizeExceeded(e)) throw new MaxUploadSizeExceededException(maxFileBytes, e);
+            throw e;
+        }
+        return result;
+    }
+
+    private static RuntimeException toUploadException(FileUploadException e, long maxFileBytes) {
+        if (isSizeExceeded(e)) return new MaxUploadSizeExceededException(maxFileBytes, e);
+        return new IllegalArgumentException("멀티파트 요청 형식이 올바르지 않습니다: " + e.getMessage(), e);
+    }
+
+    private static boolean isSizeExceeded(Throwable t) {
+        for (Throwable c = t; c != null; c = c.getCause()) {
+            if (c instanceof FileUploadBase.SizeException) return true;
+        }
+        return false;
+    }
+
+    /** jakarta.servlet 요청 → commons-fileupload UploadContext (1.x 는 javax 전용 ServletRequestContext 만 제공) */
+    private static final class ServletUploadContext implements UploadContext {
+        private final HttpServletRequest request;
+
+        private ServletUploadContext(HttpServletRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public String getCharacterEncoding() {
+            return request.getCharacterEncoding();
+        }
+
+        @Override
+        public String getContentType() {
+            return request.getContentType();
+        }
+
+        @Override
+        @Deprecated
+        public int getContentLength() {
+            return request.getContentLength();
+        }
+
+        @Override
+        public long contentLength() {
+            return request.getContentLengthLong();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return request.getInputStream();
+        }
+    }
+}
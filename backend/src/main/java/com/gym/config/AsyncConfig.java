@@ -0,0 +1,96 @@
+/* ============================================================
+[비동기 실행 설정] AsyncConfig
+- 목적: 요청 스레드를 붙잡지 않아야 하는 긴 작업용 전용 스레드풀
+  - [251111] messageBroadcastExecutor : 대량 공지 발송(휴관공지 등)
+  - [251113] fileCleanupExecutor      : 게시글 삭제 후 물리파일 정리
+  - [251115] imageDerivativeExecutor  : 업로드 이미지 썸네일/중간 크기 생성
+  - [251120] memberImportExecutor     : 회원 일괄 가져오기(CSV) 작업
+  - [251120] passwordHashExecutor     : 비밀번호 BCrypt 해시(CPU 전용, 가져오기 chunk 병렬 처리)
+              [251122] 로그인/회원 등록·수정 해시도 이 풀에서 (PasswordHashService, 요청 대기 상한은 member.password.max-pending)
+- 풀/큐 크기는 application.yml 의 async.* 로 조정
+- 큐가 가득 차면 TaskRejectedException → 호출측에서 "잠시 후 재시도" 응답
+============================================================ */
+package com.gym.config;                                         // ⚙️ 설정 패키지
+
+import org.springframework.beans.factory.annotation.Value;     // ⚙️ 설정값 주입
+import org.springframework.context.annotation.Bean;            // ⚙️ 빈 등록
+import org.springframework.context.annotation.Configuration;    // ⚙️ 스프링 설정
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor; // 🧵 스레드풀
+
+@Configuration
+public class AsyncConfig {                                      // 🧵 비동기 실행 설정
+
+    @Bean(name = "messageBroadcastExecutor")
+    public ThreadPoolTaskExecutor messageBroadcastExecutor(
+            @Value("${async.message-broadcast.pool-size:2}") int poolSize,
+            @Value("${async.message-broadcast.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);                      // 동시 발송 작업 수
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);                // 대기 작업 수 상한
+        executor.setThreadNamePrefix("msg-broadcast-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);      // 종료 시 진행 중 발송 마무리
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "fileCleanupExecutor")
+    public ThreadPoolTaskExecutor fileCleanupExecutor(
+            @Value("${async.file-cleanup.pool-size:1}") int poolSize,
+            @Value("${async.file-cleanup.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);                      // 디스크 I/O 라 1개로 충분
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);                // 대기 정리 작업 수 상한
+        executor.setThreadNamePrefix("file-cleanup-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "imageDerivativeExecutor")
+    public ThreadPoolTaskExecutor imageDerivativeExecutor(
+            @Value("${async.image-derivative.pool-size:2}") int poolSize,
+            @Value("${async.image-derivative.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);                      // 디코딩/축소는 CPU·힙 사용 → 소수 고정
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);                // 초과분은 건너뜀(조회 시 재예약)
+        executor.setThreadNamePrefix("image-derive-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);     // 파생본은 다시 만들 수 있음
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "memberImportExecutor")
+    public ThreadPoolTaskExecutor memberImportExecutor(
+            @Value("${async.member-import.pool-size:1}") int poolSize,
+            @Value("${async.member-import.queue-capacity:5}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);                      // 동시 가져오기 작업 수
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);                // 대기 작업 수 상한
+        executor.setThreadNamePrefix("member-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);      // 종료 시 진행 중 chunk 마무리
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${async.password-hash.pool-size:4}") int poolSize,
+            @Value("${async.password-hash.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);                      // BCrypt 는 CPU 전용 → 코어 수 이하
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);                // 실제 대기 상한은 PasswordHashService 세마포어
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,14 @@
+/* ============================================================
+[스케줄러 설정] SchedulingConfig
+- 목적: @Scheduled 주기 작업 활성화 ([251107] 통계 집계 증분 실행)
+- 주기/사용여부는 application.yml 의 stats.rollup.* 로 조정
+============================================================ */
+package com.gym.config;                                         // ⚙️ 설정 패키지
+
+import org.springframework.context.annotation.Configuration;    // ⚙️ 스프링 설정
+import org.springframework.scheduling.annotation.EnableScheduling; // ⏱ @Scheduled 활성화
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {                                 // ⏱ 주기 작업 설정
+}
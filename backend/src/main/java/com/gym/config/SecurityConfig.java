@@ -13,6 +13,7 @@
 
 package com.gym.config;
 
+import org.springframework.beans.factory.annotation.Value; // [251122] BCrypt 비용 설정
 import org.springframework.context.annotation.Bean; // @Bean 등록용
 import org.springframework.context.annotation.Configuration; // 설정 클래스 표시
 import org.springframework.security.config.annotation.web.builders.HttpSecurity; // 보안 빌더
@@ -27,6 +28,16 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 // import com.gym.security.JwtTokenProvider; [250916 삭제]
 import com.gym.security.NewJwtTokenProvider; // [250916 추가]
 import com.gym.security.JwtAuthenticationFilter;
+import com.gym.security.TokenDenylist;
+import com.gym.security.RateLimitFilter;
+import com.gym.security.RateLimitRule;
+import com.gym.security.RateLimiter;
+import com.gym.security.AccessRule;
+import com.gym.security.AccessRule.Access;
+import com.gym.security.RouteAuthorizationManager;
+
+import java.time.Duration;
+import java.util.List;
 import org.springframework.http.HttpMethod; //[250917 추가]
 import org.springframework.web.bind.annotation.RequestMapping;
 //⚠️ [251007 추가] CORS 전역 설정용 import
@@ -40,8 +51,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() { // 비밀번호 해싱(회원 가입/로그인 대비)
-        return new BCryptPasswordEncoder(); // BCrypt
+    public PasswordEncoder passwordEncoder(@Value("${member.password.bcrypt-cost:10}") int bcryptCost) { // 비밀번호 해싱(회원 가입/로그인 대비)
+        return new BCryptPasswordEncoder(bcryptCost); // BCrypt ([251122] 비용 설정화, 실행은 PasswordHashService 경유)
     }
 
     // security 적용 예외 URL 등록 (Swagger 등)
@@ -71,11 +82,158 @@ public class SecurityConfig {
      */
     // 수정
     private final NewJwtTokenProvider jwtTokenProvider;
+    private final TokenDenylist tokenDenylist; // [251124] 폐기 토큰 확인
+    private final RateLimiter rateLimiter;     // [251126] 요청 속도 제한
 
-    public SecurityConfig(NewJwtTokenProvider jwtTokenProvider) {
+    public SecurityConfig(NewJwtTokenProvider jwtTokenProvider, TokenDenylist tokenDenylist, RateLimiter rateLimiter) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenDenylist = tokenDenylist;
+        this.rateLimiter = rateLimiter;
     }
 
+    // [251126] 쓰기 많은 경로 요청 속도 제한 (로그인 회원: 회원ID / 비로그인: IP 단위, 일치하는 규칙 모두 적용)
+    //          capacity 건까지 한꺼번에 허용, period 동안 capacity 건 속도로 다시 채움 → 초과 시 429 + Retry-After
+    //          IP 는 rate-limit.trusted-proxies 를 거친 X-Forwarded-For 오른쪽 기준(프록시 뒤에서도 사용자별)
+    private static final List<RateLimitRule> RATE_LIMITS = List.of(
+        RateLimitRule.of("sign-in",     "/sign-api/sign-in",     10, Duration.ofMinutes(1), HttpMethod.POST)
+                .keyedBy("userId"),                                                                             // 로그인(BCrypt): 아이디+IP
+        RateLimitRule.of("sign-in-ip",  "/sign-api/sign-in",    120, Duration.ofMinutes(1), HttpMethod.POST),   // 로그인: IP 전체(아이디 바꿔 가며 시도 방지, 공용 와이파이 고려)
+        RateLimitRule.of("refresh",     "/sign-api/refresh",     30, Duration.ofMinutes(1), HttpMethod.POST),   // 토큰 재발급
+        RateLimitRule.of("sign-up",     "/api/members",           5, Duration.ofMinutes(10), HttpMethod.POST),  // 회원가입(BCrypt)
+        RateLimitRule.of("reservation", "/api/reservations/**",  20, Duration.ofMinutes(1),
+                HttpMethod.POST, HttpMethod.PUT, HttpMethod.DELETE),                                           // 예약 신청/변경/취소
+        RateLimitRule.of("payment",     "/api/payments",         10, Duration.ofMinutes(1), HttpMethod.POST),   // 결제 등록
+        RateLimitRule.of("upload",      "/api/files/upload/**",  30, Duration.ofMinutes(1), HttpMethod.POST)    // 파일 업로드(비로그인 허용)
+    );
+
+    // [251127] 경로 권한 선언표 — 기존 filterChain 의 requestMatchers 체인을 같은 순서로 옮김(먼저 선언한 규칙이 이김)
+    //          RouteAuthorizationManager 가 기동 시 트라이로 컴파일, 가려지거나 겹치는 규칙은 기동 로그에 보고
+    //          (public: 경로 권한 벤치마크에서 같은 표를 사용)
+    private static final String[] ADMIN_MANAGERS = {"관리자", "책임자", "ROLE_ADMIN", "admin"};
+    private static final String[] ADMIN_TEACHERS = {"강사", "책임자", "ROLE_ADMIN", "admin"};
+
+    public static final List<AccessRule> ACCESS_RULES = List.of(
+
+        /* ========= 로그인 사용자(일반회원 이상) ========= */
+        // 25년 10월 21일 연동 문제로 위치를 이동시킴 (중간에 예약신청을 막고 있음)
+        AccessRule.any(Access.PERMIT_ALL,
+        //  "/api/members/*",    // 내 정보 조회/수정/삭제 → [GET/PUT/DELETE]
+            "/api/reservations/**",      // 예약 신청/변경/조회/삭제 → [POST/PUT/GET/DELETE]
+            "/api/cms/reservations",     //[251021] 예약 조회
+            "/api/cms/reservations/**",  //[251021] 예약 신청/변경/조회/삭제
+            "/api/boards/*/posts",       // 게시글 등록 → [POST]
+            "/api/boards/*/posts/*",     // 게시글 수정/삭제 → [PUT/DELETE]
+            // "/api/comments/**",       // 댓글 등록/수정/삭제 → [POST/PUT/DELETE]
+            "/api/payments",             // 결제 등록 → [POST]
+            "/api/payments/search"),     // 결제 목록/검색 → [GET]
+        //).authenticated()
+
+        // CMS 회원 관리: ROLE_ADMIN, 책임자, 관리자 허용
+        AccessRule.any(Access.hasAnyAuthority("ROLE_ADMIN", "책임자", "관리자", "admin"), "/api/cms/members/**"),
+
+        /* ========= 250929 회원정보 리엑트 연동 테스트  ========= */
+        AccessRule.of(HttpMethod.GET, Access.PERMIT_ALL, "/api/membersTEMP/test"),
+
+        AccessRule.of(HttpMethod.OPTIONS, Access.PERMIT_ALL, "/**"),   // ← 프리플라이트 허용(최상단)
+
+        /* ========= 무인증 공개 영역(permitAll) ========= */
+        AccessRule.any(Access.PERMIT_ALL,
+            "/health",            // 헬스 체크 → [GET]
+            "/health/db",         // DB 헬스 체크 → [GET]
+            "/v3/api-docs/**",    // Swagger JSON → [GET]
+            "/swagger-ui/**",     // Swagger UI → [GET]
+            "/sign-api/**"),      // 로그인/회원가입 → [POST/GET]
+
+        // 사용자 공개 조회 -------------------------
+        AccessRule.any(Access.PERMIT_ALL,
+            "/api/facilities",        // 시설 목록 → [GET]
+            "/api/facilities/*",      // 시설 단건 → [GET]
+            "/api/boards/*/posts",    // 게시글 목록 → [GET]
+            "/api/boards/*/posts/*"), // 게시글 상세 → [GET]
+
+        /* =========================== 콘텐츠 권한 분리  =========================== */
+        AccessRule.of(HttpMethod.GET, Access.PERMIT_ALL, "/api/contents/**"), // GET: 콘텐츠 단건 조회 (뷰/링크)
+        AccessRule.of(HttpMethod.POST, Access.PERMIT_ALL, "/api/cms/contents"), // ⚠️ 첨부파일 업로드 허용
+
+        /* =========================== 계좌 권한 분리 =========================== */
+        // --- 계좌 등록/목록/대표지정/삭제: 로그인 본인만 허용 ---
+        AccessRule.of(HttpMethod.POST, Access.AUTHENTICATED, "/api/accounts"),              // POST: 계좌 등록
+        AccessRule.of(HttpMethod.GET, Access.AUTHENTICATED, "/api/members/*/accounts"),     // GET: 회원별 계좌 목록 조회
+        AccessRule.of(HttpMethod.PATCH, Access.AUTHENTICATED, "/api/accounts/*/main"),      // PATCH: 대표계좌 설정
+        AccessRule.of(HttpMethod.DELETE, Access.AUTHENTICATED, "/api/accounts/*"),          // DELETE: 계좌 삭제
+
+        /* =========================== 카드 권한 분리 =========================== */
+        // --- 카드 등록/목록/대표지정/삭제: 로그인 본인만 허용 ---
+        AccessRule.of(HttpMethod.POST, Access.AUTHENTICATED, "/api/cards"),                 // POST: 카드 등록
+        AccessRule.of(HttpMethod.GET, Access.AUTHENTICATED, "/api/members/*/cards"),        // GET: 회원별 카드 목록 조회
+        AccessRule.of(HttpMethod.PATCH, Access.AUTHENTICATED, "/api/cards/*/main"),         // PATCH: 대표카드 설정
+        AccessRule.of(HttpMethod.DELETE, Access.AUTHENTICATED, "/api/cards/*"),             // DELETE: 카드 삭제
+
+        /* =========================== 게시판 권한 분리 =========================== */
+        AccessRule.of(HttpMethod.GET, Access.PERMIT_ALL, "/api/boards/**"),
+
+        /* ============================= CMS 관리 =========================== */
+        // 통계정보
+        AccessRule.any(Access.hasAnyRole("ADMIN"), "/api/cms/stats", "/api/cms/stats/**", "/api/cms/dashboard/**"),
+        AccessRule.any(Access.hasAnyAuthority(ADMIN_MANAGERS), "/api/cms/accounts/**"),   // 계좌
+        AccessRule.any(Access.hasAnyAuthority(ADMIN_MANAGERS), "/api/cms/cards/**"),      // 카드
+        AccessRule.any(Access.hasAnyRole("ADMIN"), "/api/cms/contents/**"),                 // 콘텐츠
+        AccessRule.any(Access.hasAnyAuthority(ADMIN_TEACHERS), "/api/cms/facilities/**"), // 시설
+        AccessRule.any(Access.hasAnyAuthority(ADMIN_MANAGERS), "/api/cms/boards/**"),     // 게시판
+        AccessRule.any(Access.hasAnyAuthority(ADMIN_MANAGERS), "/api/cms/exports/**"),    // [251103] 내보내기(CSV/XLSX)
+        AccessRule.any(Access.hasAnyAuthority(ADMIN_MANAGERS), "/api/cms/messages/**"),   // [251110] 메시지 관리(보관 실행 등)
+        AccessRule.any(Access.hasAnyAuthority(ADMIN_MANAGERS), "/api/cms/files/**"),      // [251117] 파일 관리(고아 파일 GC)
+
+        /* ====================== 파일 권한 분리 [250923파일권한] ====================== */
+        // ✅ 비로그인 허용: 목록/미리보기/다운로드(GET)
+        AccessRule.of(HttpMethod.GET, Access.PERMIT_ALL, "/api/files"),                    // 파일 목록
+        AccessRule.of(HttpMethod.GET, Access.PERMIT_ALL, "/api/files/*/preview"),          // 미리보기
+        AccessRule.of(HttpMethod.GET, Access.PERMIT_ALL, "/api/files/download"),           // 다운로드
+        AccessRule.of(HttpMethod.POST, Access.PERMIT_ALL, "/api/files/upload/**"),         // 업로드도 허용
+        AccessRule.of(HttpMethod.POST, Access.PERMIT_ALL, "/api/files/upload/editor"),     // [251014] 업로드도 허용 + 리치에디터 하용(**)
+
+        /* ====================== 공휴일 권한 분리 [250924권한] ====================== */
+        // ✅ 비로그인 허용: 목록(GET)
+        AccessRule.of(HttpMethod.GET, Access.PERMIT_ALL, "/api/closed-days/**"),           // 목록 조회
+        // 🔒 로그인 필요: 등록/수정/삭제
+        AccessRule.any(Access.hasAnyAuthority(ADMIN_TEACHERS), "/api/cms/closed-days/**"),
+
+        /* ====================== 게시글 권한 분리 [250924게시글권한] ====================== */
+        // ✅ 비로그인 허용: 목록/상세 조회(GET) — 사용자 화면용
+        AccessRule.of(HttpMethod.GET, Access.PERMIT_ALL, "/api/posts"),        // 게시글 목록 조회(비로그인 허용)
+        AccessRule.of(HttpMethod.GET, Access.PERMIT_ALL, "/api/posts/*"),      // 게시글 단건 조회(비로그인 허용)
+        // 🔒 로그인 필요: 등록/수정/삭제 — 작성자 본인 여부는 컨트롤러에서 검사(관리자·최고관리자는 예외 허용)
+        AccessRule.of(HttpMethod.POST, Access.AUTHENTICATED, "/api/posts"),    // 게시글 등록(로그인 필요)
+        AccessRule.of(HttpMethod.PUT, Access.AUTHENTICATED, "/api/posts/*"),   // 게시글 수정(로그인 필요)
+        AccessRule.of(HttpMethod.DELETE, Access.AUTHENTICATED, "/api/posts/*"),// 게시글 삭제(로그인 필요)
+        // 🔒 CMS 전용: 관리자 권한만 접근 가능 — 담당자/관리자/책임자
+        AccessRule.any(Access.hasAnyAuthority("담당자", "관리자", "책임자"), "/api/cms/posts/**"),
+
+        /* ====================== 댓글 권한 분리 [250925 댓글 권한] ====================== */
+        //[251021] 이후
+        AccessRule.any(Access.PERMIT_ALL, "/api/boards/*/posts/*/comments", "/api/boards/*/posts/*/comments/*"),
+        AccessRule.any(Access.PERMIT_ALL, "/api/cms/boards/*/posts/*/comments", "/api/cms/boards/*/posts/*/comments/*"),
+        AccessRule.any(Access.PERMIT_ALL, "/api/boards/*/posts/*/comments/demo"), // 이건 정상 (맨 끝)
+
+        /* ====================== 회원(사용자) API ====================== */
+        // 회원가입(등록): 비로그인 허용 — 입력폼(application/x-www-form-urlencoded)으로 구현 예정
+        AccessRule.of(HttpMethod.POST, Access.PERMIT_ALL, "/api/members"),
+        // 사용자 단건조회/수정: 로그인 필요(본인 확인은 컨트롤러/서비스에서 비밀번호로 재검증)
+        AccessRule.of(HttpMethod.GET, Access.AUTHENTICATED, "/api/members/me"),
+        AccessRule.of(HttpMethod.PUT, Access.AUTHENTICATED, "/api/members/me"),
+        // 사용자 '목록/삭제'는 사용자 컨트롤러에선 제공하지 않으므로 차단(혹시 유입되어도 방어)
+        AccessRule.of(HttpMethod.GET, Access.DENY_ALL, "/api/members"),
+        AccessRule.of(HttpMethod.DELETE, Access.DENY_ALL, "/api/members/*"),
+
+        /* ====================== 회원(CMS) API ====================== */
+        // CMS 회원 관리: ROLE_ADMIN만 1차 허용
+        // ※ 최종 등급 검증은 컨트롤러에서 adminType == "책임자"로만 진행 가능
+        AccessRule.any(Access.hasAnyAuthority("ROLE_ADMIN", "책임자", "admin"), "/api/cms/closed-days/**")
+
+        /* ========= 로그인 사용자(일반회원 이상) ========= */
+        // 그 외 전부: authenticated (RouteAuthorizationManager 기본값)
+    );
+
     // ⚠️ [251007 추가] CORS 설정 Bean (전역 허용)
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -98,178 +256,16 @@ public class SecurityConfig {
 
         // 기존 개발 초기 정책 유지
         http.csrf(csrf -> csrf.disable()) // 개발 초기 임시: CSRF 비활성(운영 전 복구)
+            // [251127] 요청마다 requestMatchers 체인을 순서대로 훑던 방식 → 선언표(ACCESS_RULES)를 기동 시 트라이로 컴파일해 1회 탐색
+            //          규칙/순서/권한은 기존 체인 그대로 옮김, 기존 anyRequest().authenticated() 는 기본값으로
             .authorizeHttpRequests(auth -> auth
-
-            		/* ====================== 회원(CMS) API ====================== */
-
-            		/* ========= 로그인 사용자(일반회원 이상) ========= */
-            		// 25년 10월 21일 연동 문제로 위치를 이동시킴 (중간에 예약신청을 막고 있음)
-	            	.requestMatchers(
-            	    //  "/api/members/*",    // 내 정보 조회/수정/삭제 → [GET/PUT/DELETE]
-            	        "/api/reservations/**",   // 예약 신청/변경/조회/삭제 → [POST/PUT/GET/DELETE]
-            	        
-            	        "/api/cms/reservations",   //[251021] 예약 조회
-            	        "/api/cms/reservations/**",   //[251021] 예약 신청/변경/조회/삭제
-            	        
-            	        "/api/boards/*/posts",    // 게시글 등록 → [POST]
-            	        "/api/boards/*/posts/*",  // 게시글 수정/삭제 → [PUT/DELETE]
-            	        // "/api/comments/**",       // 댓글 등록/수정/삭제 → [POST/PUT/DELETE]
-            	        "/api/payments",          // 결제 등록 → [POST]
-            	        "/api/payments/search"    // 결제 목록/검색 → [GET]
-            	    ).permitAll()
-	            	//).authenticated()
-            		
-            		
-            		// CMS 회원 관리: ROLE_ADMIN, 책임자, 관리자 허용
-            		.requestMatchers("/api/cms/members/**").hasAnyAuthority("ROLE_ADMIN", "책임자", "관리자", "admin")
-            		/* ====================== 회원(CMS) API ====================== */
-            		
-            		/* ========= 250929 회원정보 리엑트 연동 테스트  ========= */
-            		.requestMatchers(HttpMethod.GET, "/api/membersTEMP/test").permitAll()
-            		/* ========= 250929 회원정보 리엑트 연동 테스트  ========= */
-            		
-            	    .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()   // ← 프리플라이트 허용(최상단)
-
-            	    /* ========= 무인증 공개 영역(permitAll) ========= */
-            	    .requestMatchers(
-            	        "/health",    // 헬스 체크 → [GET]
-            	        "/health/db", // DB 헬스 체크 → [GET]
-            	        "/v3/api-docs/**",    // Swagger JSON → [GET]
-            	        "/swagger-ui/**",     // Swagger UI → [GET]
-            	        "/sign-api/**"        // 로그인/회원가입 → [POST/GET]
-            	    ).permitAll()
-
-            	    // 사용자 공개 조회 -------------------------
-            	    .requestMatchers(
-            	        "/api/facilities",    // 시설 목록 → [GET]
-            	        "/api/facilities/*",  // 시설 단건 → [GET]
-            	        "/api/boards/*/posts",    // 게시글 목록 → [GET]
-            	        "/api/boards/*/posts/*"   // 게시글 상세 → [GET]
-            	    ).permitAll()
-            	                	    
-            	    /* =========================== 콘텐츠 권한 분리  =========================== */
-            	    // --- 콘텐츠 단건 조회: 누구나(permitAll) - 링크 클릭 시 단건 조회 허용 ---
-            	    .requestMatchers(HttpMethod.GET, "/api/contents/**").permitAll() // GET: 콘텐츠 단건 조회 (뷰/링크)
-            	    .requestMatchers(HttpMethod.POST, "/api/cms/contents").permitAll() // ⚠️ 첨부파일 업로드 허용
-            	    /* =========================== 콘텐츠 권한 분리  =========================== */
-            	    
-            	    /* =========================== 계좌 권한 분리 =========================== */
-            	    // --- 계좌 등록/목록/대표지정/삭제: 로그인 본인만 허용 ---
-            	    .requestMatchers(HttpMethod.POST, "/api/accounts").authenticated()           // POST: 계좌 등록
-            	    .requestMatchers(HttpMethod.GET, "/api/members/*/accounts").authenticated() // GET: 회원별 계좌 목록 조회
-            	    .requestMatchers(HttpMethod.PATCH, "/api/accounts/*/main").authenticated()  // PATCH: 대표계좌 설정
-            	    .requestMatchers(HttpMethod.DELETE, "/api/accounts/*").authenticated()      // DELETE: 계좌 삭제
-            	    /* =========================== 계좌 권한 분리 =========================== */
-
-            	    /* =========================== 카드 권한 분리 =========================== */
-            	    // --- 카드 등록/목록/대표지정/삭제: 로그인 본인만 허용 ---
-            	    .requestMatchers(HttpMethod.POST, "/api/cards").authenticated()            // POST: 카드 등록
-            	    .requestMatchers(HttpMethod.GET, "/api/members/*/cards").authenticated()   // GET: 회원별 카드 목록 조회
-            	    .requestMatchers(HttpMethod.PATCH, "/api/cards/*/main").authenticated()    // PATCH: 대표카드 설정
-            	    .requestMatchers(HttpMethod.DELETE, "/api/cards/*").authenticated()        // DELETE: 카드 삭제
-            	    /* =========================== 카드 권한 분리 =========================== */
-            	    
-            	    /* =========================== 게시판 권한 분리 =========================== */
-            	    .requestMatchers(HttpMethod.GET, "/api/boards/**").permitAll()
-            	    /* =========================== 게시판 권한 분리 =========================== */
-
-            	    /* ============================= CMS 관리 =========================== */
-            	    // 통계정보
-            	    // .requestMatchers("/api/cms/stats").hasAnyRole("ADMIN")
-            	    .requestMatchers("/api/cms/stats", "/api/cms/stats/**", "/api/cms/dashboard/**").hasAnyRole("ADMIN")
-            	    // 계좌
-            	    .requestMatchers("/api/cms/accounts/**").hasAnyAuthority("관리자","책임자","ROLE_ADMIN","admin")
-            	    // 카드
-            	    .requestMatchers("/api/cms/cards/**").hasAnyAuthority("관리자","책임자","ROLE_ADMIN","admin")
-            	    // 콘텐츠 
-            	    .requestMatchers("/api/cms/contents/**").hasAnyRole("ADMIN")
-            	    // 시설
-            	    .requestMatchers("/api/cms/facilities/**").hasAnyAuthority("강사","책임자","ROLE_ADMIN","admin")
-            	    // 게시판
-            	    .requestMatchers("/api/cms/boards/**").hasAnyAuthority("관리자","책임자","ROLE_ADMIN","admin")
-            	    
-            	    /* ======================= CMS 계좌/카드 관리 =========================== */
-            	    
-            	    /* ====================== 파일 권한 분리 [250923파일권한] ====================== */
-            	    // ✅ 비로그인 허용: 목록/미리보기/다운로드(GET)
-            	    .requestMatchers(HttpMethod.GET, "/api/files").permitAll()                   // 파일 목록
-            	    .requestMatchers(HttpMethod.GET, "/api/files/*/preview").permitAll()        // 미리보기
-            	    .requestMatchers(HttpMethod.GET, "/api/files/download").permitAll()         // 다운로드
-            	    .requestMatchers(HttpMethod.POST, "/api/files/upload/**").permitAll()      // 업로드도 허용
-            	    .requestMatchers(HttpMethod.POST, "/api/files/upload/editor").permitAll()// [251014] 업로드도 허용 + 리치에디터 하용(**)
-            	    /* ====================== 파일 권한 분리 [250923파일권한] ====================== */
-            	    
-            	    /* ====================== 공휴일 권한 분리 [250924권한] ====================== */
-            	    // ✅ 비로그인 허용: 목록(GET)
-            	    .requestMatchers(HttpMethod.GET, "/api/closed-days/**").permitAll() // 목록 조회
-            	    
-            	    // 🔒 로그인 필요: 등록/수정/삭제
-            	    .requestMatchers("/api/cms/closed-days/**").hasAnyAuthority("강사","책임자","ROLE_ADMIN","admin")
-            	    /* ====================== 파일 권한 분리 [250924권한] ====================== */
-            	    
-            	    /* ====================== 게시글 권한 분리 [250924게시글권한] ====================== */
-            	    // ✅ 비로그인 허용: 목록/상세 조회(GET) — 사용자 화면용
-            	    .requestMatchers(HttpMethod.GET, "/api/posts").permitAll() // 게시글 목록 조회(비로그인 허용)
-            	    .requestMatchers(HttpMethod.GET, "/api/posts/*").permitAll()// 게시글 단건 조회(비로그인 허용)
-
-            	    // 🔒 로그인 필요: 등록/수정/삭제 — 작성자 본인 여부는 컨트롤러에서 검사(관리자·최고관리자는 예외 허용)
-            	    .requestMatchers(HttpMethod.POST,   "/api/posts").authenticated()      // 게시글 등록(로그인 필요)
-            	    .requestMatchers(HttpMethod.PUT,    "/api/posts/*").authenticated()    // 게시글 수정(로그인 필요)
-            	    .requestMatchers(HttpMethod.DELETE, "/api/posts/*").authenticated()    // 게시글 삭제(로그인 필요)
-
-            	    // 🔒 CMS 전용: 관리자 권한만 접근 가능 — 담당자/관리자/책임자
-            	    .requestMatchers("/api/cms/posts/**")
-            	    .hasAnyAuthority("담당자","관리자","책임자") // CMS 게시글 관리(권한 계정만 허용)
-            	    /* ====================== 게시글 권한 분리 [250924게시글권한] ====================== */
-            	    
-            	    /* ====================== 댓글 권한 분리 [250925 댓글 권한] ====================== */
-            	    //[251020] 이전
-            	    //.requestMatchers(HttpMethod.GET, "/api/posts/*/comments").permitAll()
-            	    //.requestMatchers(HttpMethod.GET, "/api/posts/*/comments/**").permitAll()
-            	    //http://localhost:5173/api/boards/01/posts/8/comments
-            	    
-            	    
-            	    //.requestMatchers("/api/boards/*/posts/*/comments/**").permitAll() // post 허용 (로그인했을 경우)
-            	    //.requestMatchers("/api/boards/**/posts/**/comments/demo").permitAll() // ⚠️ 테스트용 댓글 등록 임시 허용
-            	    //.requestMatchers("/api/cms/boards/**/posts/**/comments/**").permitAll() // [251020] CMS 댓글 조회·삭제 허용
-            	    
-            	    //[251021] 이후
-            	    .requestMatchers("/api/boards/*/posts/*/comments", "/api/boards/*/posts/*/comments/*").permitAll()
-            	    .requestMatchers("/api/cms/boards/*/posts/*/comments", "/api/cms/boards/*/posts/*/comments/*").permitAll()
-            	    .requestMatchers("/api/boards/*/posts/*/comments/demo").permitAll() // 이건 정상 (맨 끝)
-            	    /* ====================== 댓글 권한 분리 [250925 댓글 권한] ====================== */
-            	    
-            	    
-            	    /* ====================== 회원(사용자) API ====================== */
-	            	// 회원가입(등록): 비로그인 허용 — 입력폼(application/x-www-form-urlencoded)으로 구현 예정
-	            	.requestMatchers(HttpMethod.POST, "/api/members").permitAll()
-	            	
-	            	// 사용자 단건조회/수정: 로그인 필요(본인 확인은 컨트롤러/서비스에서 비밀번호로 재검증)
-	            	//.requestMatchers(HttpMethod.GET,  "/api/members/*").authenticated()
-	            	//.requestMatchers(HttpMethod.PUT,  "/api/members/*").authenticated()
-	            	.requestMatchers(HttpMethod.GET,  "/api/members/me").authenticated()
-	            	.requestMatchers(HttpMethod.PUT,  "/api/members/me").authenticated()
-	            	
-	            	// 테스트
-	            	// .requestMatchers(HttpMethod.GET,  "/api/members/*").permitAll() // [250929]임시로 회원조회가 리엑트와 연동되는지 테스트하려고 전체허용함
-
-	            	// 사용자 '목록/삭제'는 사용자 컨트롤러에선 제공하지 않으므로 차단(혹시 유입되어도 방어)
-	            	.requestMatchers(HttpMethod.GET,    "/api/members").denyAll()
-	            	.requestMatchers(HttpMethod.DELETE, "/api/members/*").denyAll()
-	            	/* ====================== 회원(사용자) API ====================== */
-	
-	            	/* ====================== 회원(CMS) API ====================== */
-	            	// CMS 회원 관리: ROLE_ADMIN만 1차 허용
-	            	// ※ 최종 등급 검증은 컨트롤러에서 adminType == "책임자"로만 진행 가능
-	            	.requestMatchers("/api/cms/closed-days/**").hasAnyAuthority("ROLE_ADMIN", "책임자", "admin")
-	            	/* ====================== 회원(CMS) API ====================== */
-            	    
-            	    /* ========= 로그인 사용자(일반회원 이상) ========= */
-            	    .anyRequest().authenticated()
-            	);
+                .anyRequest().access(new RouteAuthorizationManager(ACCESS_RULES, Access.AUTHENTICATED))
+            );
 
         // JWT 인증 필터 등록 (스프링의 UsernamePasswordAuthenticationFilter 앞에 삽입)
-        http.addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, tokenDenylist), UsernamePasswordAuthenticationFilter.class);
+        // [251126] 요청 속도 제한 (JWT 인증 다음 → 회원ID 기준 판정 가능)
+        http.addFilterAfter(new RateLimitFilter(RATE_LIMITS, rateLimiter), JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -26,6 +26,12 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.unit.DataSize;                 // [251116] 스트리밍 업로드 크기 제한
+import org.springframework.web.server.ResponseStatusException; // [251116] 검증 실패 → 400
+import org.springframework.web.util.UriComponentsBuilder;      // [251116] 쿼리스트링 직접 파싱
+import com.gym.common.upload.StreamingMultipart;               // [251116] commons-fileupload 스트리밍 파서
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 
 @CrossOrigin("*")
 @Tag(name = "07.File", description = "첨부파일 API (업로드/조회/삭제/미리보기/다운로드)")
@@ -42,6 +48,10 @@ public class FileController {
     private String configuredUploadRoot;
     // private String configuredUploadRoot;  // [251019] yml 키와 동일하게 수정
 
+    // [251116] 스트리밍 업로드 최대 크기 (바이트가 들어오는 동안 검사)
+    @Value("${file.stream.max-file-size:50MB}")
+    private DataSize streamMaxFileSize;
+
     public FileController(FileService fileService, FileQueryMapper fileQueryMapper) {
         this.fileService = fileService;
         this.fileQueryMapper = fileQueryMapper;
@@ -78,9 +88,12 @@ public class FileController {
         }
 
         // ✅ 1) 실제 파일 저장
+        // [251114] 내용 주소(SHA-256) 저장소: 같은 내용이면 기존 물리파일을 공유하고 해시를 함께 기록
         String savedRelPath;
+        StoredFile stored;
         try {
-            savedRelPath = fileService.savePhysicalFile(file);
+            stored = fileService.storeFile(file);
+            savedRelPath = stored.getFilePath();
         } catch (Exception e) {
             log.error("[FileController] 파일 저장 실패: {}", e.getMessage());
             throw new IOException("파일 저장 중 오류 발생", e);
@@ -96,6 +109,7 @@ public class FileController {
         req.setFileExt(fileExt);
         req.setFileSize(size);
         req.setFilePath(savedRelPath);
+        req.setFileHash(stored.getFileHash()); // [251114]
 
         int affected = fileService.uploadFile(req);
 
@@ -105,6 +119,7 @@ public class FileController {
         result.put("filePath", savedRelPath);
         result.put("originalName", originalName);
         result.put("fileSize", size);
+        result.put("fileHash", stored.getFileHash()); // [251114] 같은 해시 = 같은 파일(캐시 키로 사용 가능)
 
         log.info("[FileController] 업로드 완료: {}", savedRelPath);
         return ApiResponse.ok(result);
@@ -197,5 +212,121 @@ public class FileController {
 		}
 	}
 
+    /* ================================================================
+    [251116 추가] 스트리밍 업로드 API (대용량 PDF 등)
+    목적:
+      - 기존 /upload, /upload/editor 는 MultipartFile 로 요청 전체를 메모리/임시파일에 받은 뒤 다시 복사
+      - 여기서는 요청 본문을 파트 순서대로 읽으며 최종 저장 위치로 바로 기록 (업로드당 메모리 일정)
+      - 확장자/파일 시그니처/크기 검사와 SHA-256 계산을 같은 1회 읽기에서 처리
+    경로:
+      - POST /api/files/upload/stream        (필드: file, fileTargetType, fileTargetId, fileType)
+      - POST /api/files/upload/editor/stream (필드: image)
+    주의:
+      - 폼 필드는 본문 또는 쿼리스트링 어디로 보내도 됨
+      - @RequestParam/request.getParameter() 를 쓰면 톰캣이 본문을 먼저 읽으므로 사용하지 않음
+    ================================================================ */
+    @CrossOrigin("*")
+    @Operation(summary = "파일 업로드(스트리밍)", description = "요청 본문을 버퍼링 없이 바로 저장. 크기/형식은 받는 동안 검사.")
+    @PostMapping(path = "/upload/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ApiResponse<Map<String, Object>> uploadFileStream(HttpServletRequest request) throws IOException {
 
+        final String memberId = getLoginMemberId();
+        if (memberId == null || memberId.isBlank()) {
+            throw new AuthenticationCredentialsNotFoundException("인증 필요: 로그인 후 업로드하세요.");
+        }
+
+        // ✅ 1) 본문 스트리밍 → 최종 위치 저장
+        StreamingMultipart.Result<StoredFile> parsed;
+        try {
+            parsed = StreamingMultipart.parse(request, "file", streamMaxFileSize.toBytes(),
+                    (name, in) -> fileService.storeStream(in, name, false));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        StoredFile stored = parsed.getStored();
+        if (stored == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "file 파트가 없습니다.");
+        }
+
+        String fileTargetType = streamParam(parsed, request, "fileTargetType");
+        String fileTargetIdStr = streamParam(parsed, request, "fileTargetId");
+        String fileType = streamParam(parsed, request, "fileType");
+        if (fileTargetType == null || fileTargetType.isBlank() || fileTargetIdStr == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fileTargetType, fileTargetId 는 필수입니다.");
+        }
+        Long fileTargetId;
+        try {
+            fileTargetId = Long.valueOf(fileTargetIdStr.trim());
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fileTargetId 는 숫자여야 합니다.");
+        }
+        if (fileType == null || (!"본문".equals(fileType) && !"썸네일".equals(fileType))) {
+            fileType = "본문";
+        }
+
+        String originalName = parsed.getFileName();
+        String fileExt = originalName.substring(originalName.lastIndexOf('.') + 1);
+
+        // ✅ 2) DB 기록 (기존 /upload 와 동일)
+        FileUploadRequest req = new FileUploadRequest();
+        req.setMemberId(memberId);
+        req.setFileTargetType(fileTargetType);
+        req.setFileTargetId(fileTargetId);
+        req.setFileName(originalName);
+        req.setFileType(fileType);
+        req.setFileExt(fileExt);
+        req.setFileSize(stored.getFileSize());
+        req.setFilePath(stored.getFilePath());
+        req.setFileHash(stored.getFileHash());
+
+        int affected = fileService.uploadFile(req);
+
+        // ✅ 3) 응답 구성 — 기존 /upload 와 같은 키
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("affected", affected);
+        result.put("filePath", stored.getFilePath());
+        result.put("originalName", originalName);
+        result.put("fileSize", stored.getFileSize());
+        result.put("fileHash", stored.getFileHash());
+
+        log.info("[251116] 스트리밍 업로드 완료: {} ({} bytes)", stored.getFilePath(), stored.getFileSize());
+        return ApiResponse.ok(result);
+    }
+
+    @CrossOrigin("*")
+    @Operation(summary = "리치에디터 이미지 업로드(스트리밍)", description = "응답 형식은 /upload/editor 와 동일")
+    @PostMapping(path = "/upload/editor/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Map<String, Object>> uploadEditorImageStream(HttpServletRequest request) throws IOException {
+        StreamingMultipart.Result<StoredFile> parsed;
+        try {
+            parsed = StreamingMultipart.parse(request, "image", streamMaxFileSize.toBytes(),
+                    (name, in) -> fileService.storeStream(in, name, true));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        if (parsed.getStored() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "image 파트가 없습니다.");
+        }
+
+        // "images/editor/{sha256}.png" → "/images/editor/{sha256}.png" (기존 saveEditorImage 반환 형식)
+        String path = parsed.getStored().getFilePath();
+        String imageUrl = "/images/editor/" + path.substring(path.lastIndexOf('/') + 1);
+        log.info("[251116] 리치에디터 이미지 스트리밍 업로드 성공: {}", imageUrl);
+
+        Map<String, Object> data = new HashMap<>();
+        Map<String, Object> wrapper = new HashMap<>();
+        data.put("link", "http://localhost:8181" + imageUrl);
+        wrapper.put("data", data);
+        return ResponseEntity.ok(wrapper);
+    }
+
+    /** [251116] 폼 필드 우선, 없으면 쿼리스트링 (getParameter 는 본문을 읽으므로 직접 파싱) */
+    private String streamParam(StreamingMultipart.Result<?> parsed, HttpServletRequest request, String name) {
+        String v = parsed.field(name);
+        if (v != null) return v;
+        String qs = request.getQueryString();
+        if (qs == null) return null;
+        String raw = UriComponentsBuilder.newInstance().query(qs).build().getQueryParams().getFirst(name);
+        return raw == null ? null : URLDecoder.decode(raw, StandardCharsets.UTF_8);
+    }
 }
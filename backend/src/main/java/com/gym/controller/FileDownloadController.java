@@ -3,6 +3,7 @@ package com.gym.controller;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.InputStreamResource;
@@ -12,6 +13,10 @@ import org.springframework.web.bind.annotation.*;
 import java.io.*;
 import java.net.URLEncoder;
 import java.nio.file.Files;
+import java.nio.file.Path;            // [251115] 파생본 경로
+import com.gym.service.ImageDerivativeService; // [251115] ?size=thumb|medium
+import java.util.concurrent.TimeUnit; // [251114] 영구 캐시 max-age
+import java.util.regex.Pattern;       // [251114] 해시 파일명 판별
 
 /**
  * 파일 다운로드 & 미리보기 전용 컨트롤러
@@ -25,8 +30,12 @@ import java.nio.file.Files;
 @CrossOrigin("*")
 @RequestMapping("/images")
 @Log4j2
+@RequiredArgsConstructor // [251115] 파생본 서비스 주입
 public class FileDownloadController {
 
+    // [251115] 이미지 파생본(썸네일/중간 크기) 조회
+    private final ImageDerivativeService imageDerivativeService;
+
     // [251010] application.yml의 절대경로 주입
     @Value("${fileUploadPath}")
     private String uploadBaseDir; // 예: C:/developer_project/gym_reservation_files/
@@ -39,6 +48,7 @@ public class FileDownloadController {
     public ResponseEntity<?> downloadOrPreviewFile(
             @PathVariable("category") String category,
             @PathVariable("fileName") String fileName,
+            @RequestParam(name = "size", required = false) String size, // [251115] thumb | medium (없으면 원본)
             HttpServletRequest request,
             HttpServletResponse response
     ) {
@@ -59,6 +69,22 @@ public class FileDownloadController {
                         .body("파일을 찾을 수 없습니다: " + fileName);
             }
 
+            // [251114] 내용 주소 파일: 이름(해시)이 같으면 내용도 같으므로 ETag 일치 시 본문 없이 304
+            if (isNotModified(request, fileName, size)) {
+                return cacheable(ResponseEntity.status(HttpStatus.NOT_MODIFIED), fileName, size).build();
+            }
+
+            // [251115] ?size= 파생본이 있으면 그 파일로 응답 (아직 없으면 생성 예약 후 원본)
+            if (size != null && !size.isBlank()) {
+                Path derived = imageDerivativeService.resolve(file.toPath(), size);
+                if (derived != null) {
+                    file = derived.toFile();
+                } else {
+                    size = null; // 원본으로 응답하므로 캐시 키도 원본 기준
+                }
+                log.info("[FileDownloadController] 파생본 요청: size={}, 응답파일={}", size, file.getName());
+            }
+
             // [2] MIME 타입 자동 감지
             String mimeType = Files.probeContentType(file.toPath());
             if (mimeType == null) mimeType = "application/octet-stream";
@@ -97,7 +123,7 @@ public class FileDownloadController {
             InputStreamResource resource = new InputStreamResource(new FileInputStream(file));
             log.info("[251019] [FileDownloadController] 다운로드/미리보기 응답 성공: {}", fullPath);
 
-            return ResponseEntity.ok()
+            return cacheable(ResponseEntity.ok(), fileName, size) // [251114] 해시 파일명은 영구 캐시
                     .contentType(MediaType.parseMediaType(mimeType)) // ✅ Content-Type 자동 처리
                     .header(HttpHeaders.CONTENT_DISPOSITION,
                             (mimeType.startsWith("image/") || mimeType.contains("pdf"))
@@ -121,6 +147,7 @@ public class FileDownloadController {
     public ResponseEntity<?> downloadOrPreviewEditorFile(
             @PathVariable("category") String category,
             @PathVariable("fileName") String fileName,
+            @RequestParam(name = "size", required = false) String size, // [251115] thumb | medium (없으면 원본)
             HttpServletRequest request,
             HttpServletResponse response
     ) {
@@ -141,6 +168,22 @@ public class FileDownloadController {
                         .body("파일을 찾을 수 없습니다: " + fileName);
             }
 
+            // [251114] 내용 주소 파일: 이름(해시)이 같으면 내용도 같으므로 ETag 일치 시 본문 없이 304
+            if (isNotModified(request, fileName, size)) {
+                return cacheable(ResponseEntity.status(HttpStatus.NOT_MODIFIED), fileName, size).build();
+            }
+
+            // [251115] ?size= 파생본이 있으면 그 파일로 응답 (아직 없으면 생성 예약 후 원본)
+            if (size != null && !size.isBlank()) {
+                Path derived = imageDerivativeService.resolve(file.toPath(), size);
+                if (derived != null) {
+                    file = derived.toFile();
+                } else {
+                    size = null; // 원본으로 응답하므로 캐시 키도 원본 기준
+                }
+                log.info("[EditorFileDownload] 파생본 요청: size={}, 응답파일={}", size, file.getName());
+            }
+
             // [2] MIME 타입 감지
             String mimeType = Files.probeContentType(file.toPath());
             if (mimeType == null) mimeType = "application/octet-stream";
@@ -179,7 +222,7 @@ public class FileDownloadController {
             InputStreamResource resource = new InputStreamResource(new FileInputStream(file));
             log.info("[251019] [EditorFileDownload] 다운로드/미리보기 응답 성공: {}", fullPath);
 
-            return ResponseEntity.ok()
+            return cacheable(ResponseEntity.ok(), fileName, size) // [251114] 해시 파일명은 영구 캐시
                     .contentType(MediaType.parseMediaType(mimeType)) // ✅ Content-Type 자동 설정
                     .header(HttpHeaders.CONTENT_DISPOSITION,
                             (mimeType.startsWith("image/") || mimeType.contains("pdf"))
@@ -194,4 +237,40 @@ public class FileDownloadController {
                     .body("파일 다운로드 중 오류가 발생했습니다.");
         }
     }
+
+    // ============================================================
+    // [251114] 내용 주소(SHA-256) 파일 캐시
+    // - 파일명이 "{sha256}.{ext}" 이면 내용이 절대 바뀌지 않으므로 1년 + immutable 캐시, ETag = 해시
+    // - 기존 UUID 파일명은 지금처럼 캐시 헤더 없이 응답
+    // ============================================================
+    private static final Pattern CONTENT_ADDRESSED = Pattern.compile("^([0-9a-f]{64})(\\.[A-Za-z0-9]+)?$");
+
+    private static String contentHash(String fileName) {
+        if (fileName == null) return null;
+        var m = CONTENT_ADDRESSED.matcher(fileName);
+        return m.matches() ? m.group(1) : null;
+    }
+
+    private static ResponseEntity.BodyBuilder cacheable(ResponseEntity.BodyBuilder builder, String fileName, String size) {
+        String tag = etagOf(fileName, size);
+        if (tag != null) {
+            builder.cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                   .eTag(tag);
+        }
+        return builder;
+    }
+
+    private static boolean isNotModified(HttpServletRequest request, String fileName, String size) {
+        String tag = etagOf(fileName, size);
+        if (tag == null) return false;
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        return ifNoneMatch != null && ifNoneMatch.contains("\"" + tag + "\"");
+    }
+
+    /** [251115] ETag = 해시 (파생본은 "해시-size") */
+    private static String etagOf(String fileName, String size) {
+        String hash = contentHash(fileName);
+        if (hash == null) return null;
+        return (size == null || size.isBlank()) ? hash : hash + "-" + size;
+    }
 }
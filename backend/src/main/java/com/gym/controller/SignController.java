@@ -2,14 +2,21 @@
 package com.gym.controller;
 
 import com.gym.security.NewJwtTokenProvider; // [1-1] JWT 토큰 발급/검증
+import com.gym.security.SecuRoles; // [1-5] [251123] 역할 → ROLE 변환(캐시)
+import com.gym.security.TokenDenylist; // [1-6] [251124] 토큰 폐기 목록(로그아웃)
+import com.gym.security.RefreshTokenService; // [1-7] [251125] 리프레시 토큰 발급/회전
+import com.gym.security.RequestMemberCache; // [1-8] [251125] 재발급 시 역할 조회
 import com.gym.security.mapper.LoginQueryMapper; // [1-2] 회원 로그인 전용 매퍼
 import com.gym.domain.member.Member; // [1-3] member_tbl과 매핑된 DTO
+import com.gym.service.PasswordHashService; // [1-4] [251122] BCrypt 검증(전용 해시 풀)
 
+import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import jakarta.servlet.http.HttpServletRequest;
+
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -22,15 +29,24 @@ import java.util.Map;
 public class SignController {
 
     private final LoginQueryMapper loginQueryMapper; // [2-1] 로그인 쿼리 매퍼
-    private final PasswordEncoder passwordEncoder;   // [2-2] 비밀번호 검증기(BCrypt)
+    private final PasswordHashService passwordHashService; // [2-2] 비밀번호 검증기(BCrypt, [251122] 전용 해시 풀 + 대기열 상한)
     private final NewJwtTokenProvider jwt;           // [2-3] JWT 토큰 제공자
+    private final TokenDenylist tokenDenylist;       // [2-4] [251124] 로그아웃 토큰 폐기
+    private final RefreshTokenService refreshTokenService; // [2-5] [251125] 리프레시 토큰
+    private final RequestMemberCache requestMemberCache;   // [2-6] [251125] 회원 역할 행(PK 조회)
 
     public SignController(LoginQueryMapper loginQueryMapper,
-                          PasswordEncoder passwordEncoder,
-                          NewJwtTokenProvider jwt) {
+                          PasswordHashService passwordHashService,
+                          NewJwtTokenProvider jwt,
+                          TokenDenylist tokenDenylist,
+                          RefreshTokenService refreshTokenService,
+                          RequestMemberCache requestMemberCache) {
         this.loginQueryMapper = loginQueryMapper;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashService = passwordHashService;
         this.jwt = jwt;
+        this.tokenDenylist = tokenDenylist;
+        this.refreshTokenService = refreshTokenService;
+        this.requestMemberCache = requestMemberCache;
     }
 
     @Operation(summary = "로그인", description = "아이디/비밀번호 확인 후 토큰과 전체 회원정보 반환")
@@ -38,23 +54,25 @@ public class SignController {
     public ResponseEntity<?> signIn(@RequestParam("userId") String userId,
                                     @RequestParam("password") String password) {
         // [3-1] DB에서 userId로 회원 조회
-        var row = loginQueryMapper.findUser(userId);
-        if (row == null) {
+        // [251123] findUser → findRoles → selectMemberById(같은 행 3회) 대신 1회 조회로 비밀번호 해시/역할/프로필 함께
+        // var row = loginQueryMapper.findUser(userId); // old
+        Member member = loginQueryMapper.selectMemberById(userId);
+        if (member == null) {
             return ResponseEntity.status(400).body(Map.of("code","400","message","회원 없음"));
         }
 
         // [3-2] 비밀번호 검증 (BCrypt 해시 또는 평문)
-        String dbPw = row.getPasswordHash();
-        boolean ok = (dbPw != null && dbPw.length() >= 60)
-                ? passwordEncoder.matches(password, dbPw)
-                : password.equals(dbPw);
+        // [251122] 해시 검증은 요청 스레드가 아닌 passwordHashExecutor 에서 (대기열 초과 시 503 + Retry-After)
+        String dbPw = member.getMemberPw();
+        boolean ok = passwordHashService.matches(password, dbPw);
         if (!ok) {
             return ResponseEntity.status(401).body(Map.of("code","401","message","비밀번호 불일치"));
         }
+        passwordHashService.rehashOnLogin(userId, password, dbPw); // [251122] 비용 변경/평문이면 백그라운드 재해시
 
         // [3-3] 권한 조회 후 ROLE 변환
-        List<String> rawRoles = loginQueryMapper.findRoles(userId);
-        List<String> secuRoles = rawRoles.stream().map(this::toSecRole).toList();
+        // List<String> rawRoles = loginQueryMapper.findRoles(userId); // old: 같은 행 재조회
+        List<String> secuRoles = SecuRoles.roleNames(member.getMemberRole()); // [251123] 조회한 행의 역할 → 캐시된 변환 결과
 
         // [3-4] JWT 토큰 발급
         String token = jwt.createToken(userId, secuRoles);
@@ -69,13 +87,7 @@ public class SignController {
         // Member member = loginQueryMapper.selectMemberById(userId); //⚠️ old: 결과적으로 회원 전체 정보 조회 후 user + token 반환했음
         
         // ------------------------------------------- ⚠️ [251006] 관리자 전용 필터 (CMS 로그인용) -------------------------------------------
-        Member member = loginQueryMapper.selectMemberById(userId); // 로그인한 회원의 정보 조회 실행
-        if (member == null) {	// 회원 값이 DB에 존재하지 않을 경우
-            return ResponseEntity.status(404).body(Map.of( // 404에러 발생(회원 데이터가 없을 경우) 
-            		"code","404", // 응답 코드
-            		"message","회원 데이터 없음"	// 응답 메시지
-            ));
-        }
+        // [251123] 회원 정보는 [3-1] 에서 이미 조회 (재조회/404 분기 제거)
         String requestPath = "";  // 현재 요청 경로(request URI)를 확인하기
         try {
         	// RequestContextHolder를 통해 현재 요청 정보를 가져옴
@@ -99,20 +111,56 @@ public class SignController {
         // ------------------------------------------------------------------------------------------------------------------------------
         
         // [3-6] 응답 반환 : 토큰 + 전체 회원 정보
+        // [251125] + 리프레시 토큰(액세스 토큰 만료 시 /sign-api/refresh 로 비밀번호 확인 없이 재발급)
         return ResponseEntity.ok(Map.of(
                 "user", member,
-                "token", token
+                "token", token,
+                "refreshToken", refreshTokenService.issue(userId)
         ));
     }
 
-    // [4] 원본 권한값을 Spring Security ROLE로 변환
-    private String toSecRole(String raw) {
-        return switch (raw) {
-            //case "admin","관리자","최고관리자","담당자" -> "ROLE_ADMIN"; // old
-            case "admin","관리자","책임자","강사" -> "ROLE_ADMIN"; // new
-            case "user","회원" -> "ROLE_USER";
-            default -> "ROLE_USER";
-        };
+    // [251125] 액세스 토큰 재발급: 리프레시 토큰 1회용 회전(HMAC + 메모리 색인, BCrypt 없음)
+    //          이미 사용한 리프레시 토큰이 오면 그 로그인의 리프레시 토큰 전부 폐기 → 다시 로그인
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 새 액세스 토큰 + 새 리프레시 토큰 발급(이전 리프레시 토큰은 사용 불가)")
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestParam("refreshToken") String refreshToken) {
+        RefreshTokenService.Rotation rotation;
+        try {
+            rotation = refreshTokenService.rotate(refreshToken);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.status(401).body(Map.of("code","401","message", e.getMessage()));
+        }
+        // 역할은 매번 DB 에서(역할 변경이 다음 재발급부터 반영)
+        Member roleRow = requestMemberCache.findRoleRow(rotation.memberId());
+        if (roleRow == null) {
+            return ResponseEntity.status(401).body(Map.of("code","401","message","회원 없음"));
+        }
+        String token = jwt.createToken(rotation.memberId(), SecuRoles.roleNames(roleRow.getMemberRole()));
+        return ResponseEntity.ok(Map.of(
+                "token", token,
+                "refreshToken", rotation.refreshToken()
+        ));
+    }
+
+    // [251124] 로그아웃: 요청 토큰(jti)을 만료 시각까지 폐기 목록에 등록 → 이후 같은 토큰은 인증되지 않음
+    // [251125] refreshToken 을 함께 보내면 그 로그인의 리프레시 토큰도 폐기
+    @Operation(summary = "로그아웃", description = "현재 토큰을 폐기(만료 시각까지 사용 불가), 리프레시 토큰도 폐기")
+    @PostMapping("/sign-out")
+    public ResponseEntity<?> signOut(HttpServletRequest request,
+                                     @RequestParam(value = "refreshToken", required = false) String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
+        String token = jwt.resolveToken(request);
+        Claims claims = token != null ? jwt.parseClaims(token) : null;
+        if (claims == null) {
+            return ResponseEntity.status(401).body(Map.of("code","401","message","유효한 토큰 없음"));
+        }
+        if (claims.getId() == null) { // jti 없는 이전 발급 토큰 → 토큰 단위 폐기 불가(만료까지 유효)
+            return ResponseEntity.ok(Map.of("code","200","message","로그아웃 (이전 형식 토큰: 만료 시 자동 폐기)"));
+        }
+        tokenDenylist.revokeToken(claims.getId(), claims.getSubject(), claims.getExpiration(), "logout");
+        return ResponseEntity.ok(Map.of("code","200","message","로그아웃 완료"));
     }
-}
 
+    // [4] 원본 권한값을 Spring Security ROLE로 변환
+    // [251123] SecuRoles.roleNames 로 이동 (UserDetailsServiceImpl 과 공용, 원본 역할별 캐시)
+}
@@ -0,0 +1,150 @@
+// src/main/java/com/gym/controller/cms/CmsExportController.java
+package com.gym.controller.cms;
+
+import com.gym.common.export.RowWriter;                 // 포맷 검증(csv/xlsx)
+import com.gym.domain.payment.PaymentSearchRequest;     // 결제 검색 DTO
+import com.gym.domain.reservation.ReservationSearchRequest; // 예약 검색 DTO
+import com.gym.service.ExportService;                   // 내보내기 서비스
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * [CMS 내보내기 API] [251103]
+ * - 예약/결제/문자 목록을 CSV 또는 XLSX 파일로 내려받기
+ * - [251120] 회원 목록 내보내기 (회원 일괄 가져오기와 같은 열 제목)
+ * - 목록 API처럼 전체를 List로 만들지 않고, DB 커서 → 응답 스트림으로 바로 기록(chunked)
+ * - 검색 조건은 각 목록 API와 동일(미입력 시 전체)
+ * - 접근권한: 관리자 전용 — SecurityConfig "/api/cms/exports/**"
+ */
+@CrossOrigin("*")
+@Tag(name = "14.Export-CMS", description = "CMS 데이터 내보내기(CSV/XLSX)")
+@RestController
+@RequestMapping("/api/cms/exports")
+@RequiredArgsConstructor
+@Slf4j
+public class CmsExportController {
+
+    private static final MediaType XLSX =
+            MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+    private static final MediaType CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private final ExportService exportService;
+
+    // ---------------------------------------------------------------------
+    // 1) 예약 내보내기
+    // ---------------------------------------------------------------------
+    @Operation(summary = "예약 내보내기(CMS)", description = "예약 목록과 동일한 조건. format=csv(기본)|xlsx")
+    @GetMapping("/reservations")
+    public ResponseEntity<StreamingResponseBody> exportReservations(
+            @RequestParam(value = "resvId",       required = false) Long   resvId,        // 예약ID
+            @RequestParam(value = "facilityId",   required = false) Long   facilityId,    // 시설ID
+            @RequestParam(value = "facilityType", required = false) String facilityType,  // 시설 카테고리
+            @RequestParam(value = "memberId",     required = false) String memberId,      // 회원ID
+            @Parameter(description = "파일 형식", schema = @Schema(allowableValues = {"csv", "xlsx"}))
+            @RequestParam(value = "format", defaultValue = "csv") String format
+    ) {
+        ReservationSearchRequest req = ReservationSearchRequest.builder()
+                .resvId(resvId)
+                .facilityId(facilityId)
+                .facilityType(facilityType)
+                .memberId(memberId)
+                .build();
+        return download("reservations", format,
+                out -> exportService.exportReservations(req, format, out));
+    }
+
+    // ---------------------------------------------------------------------
+    // 2) 결제 내보내기
+    // ---------------------------------------------------------------------
+    @Operation(summary = "결제 내보내기(CMS)", description = "결제 목록과 동일한 조건. format=csv(기본)|xlsx")
+    @GetMapping("/payments")
+    public ResponseEntity<StreamingResponseBody> exportPayments(
+            @Parameter(description="결제ID") @RequestParam(name="paymentId", required=false) Long paymentId,
+            @Parameter(description="회원ID") @RequestParam(name="memberId", required=false) String memberId,
+            @Parameter(description="예약ID") @RequestParam(name="resvId", required=false) Long resvId,
+            @Parameter(description="수단(계좌/카드)") @RequestParam(name="method", required=false) String method,
+            @Parameter(description="상태(예약/완료/취소)") @RequestParam(name="paymentStatus", required=false) String paymentStatus,
+            @Parameter(description="결제일 시작(YYYY-MM-DD)") @RequestParam(name="fromDate", required=false) String fromDate,
+            @Parameter(description="결제일 종료(YYYY-MM-DD)") @RequestParam(name="toDate", required=false) String toDate,
+            @Parameter(description = "파일 형식", schema = @Schema(allowableValues = {"csv", "xlsx"}))
+            @RequestParam(value = "format", defaultValue = "csv") String format
+    ) {
+        PaymentSearchRequest req = PaymentSearchRequest.builder()
+                .paymentId(paymentId)
+                .memberId(memberId)
+                .resvId(resvId)
+                .method(method)
+                .paymentStatus(paymentStatus)
+                .fromDate(fromDate)
+                .toDate(toDate)
+                .build();
+        return download("payments", format,
+                out -> exportService.exportPayments(req, format, out));
+    }
+
+    // ---------------------------------------------------------------------
+    // 3) 문자 내보내기
+    // ---------------------------------------------------------------------
+    @Operation(summary = "문자 내보내기(CMS)", description = "문자 목록과 동일한 조건. format=csv(기본)|xlsx")
+    @GetMapping("/messages")
+    public ResponseEntity<StreamingResponseBody> exportMessages(
+            @Parameter(description = "전송날짜 시작일 (YYYY-MM-DD)") @RequestParam(name = "startDate", required = false) String startDate,
+            @Parameter(description = "전송날짜 종료일 (YYYY-MM-DD)") @RequestParam(name = "endDate", required = false) String endDate,
+            @Parameter(description = "메시지 종류: 예약확인, 예약취소, 휴관공지") @RequestParam(name = "messageType", required = false) String messageType,
+            @Parameter(description = "수신자(회원ID)") @RequestParam(name = "receiverId", required = false) String receiverId,
+            @Parameter(description = "파일 형식", schema = @Schema(allowableValues = {"csv", "xlsx"}))
+            @RequestParam(value = "format", defaultValue = "csv") String format
+    ) {
+        return download("messages", format,
+                out -> exportService.exportMessages(startDate, endDate, messageType, receiverId, format, out));
+    }
+
+    // ---------------------------------------------------------------------
+    // 4) [251120] 회원 내보내기
+    // ---------------------------------------------------------------------
+    @Operation(summary = "회원 내보내기(CMS)", description = "회원 목록과 동일한 조건(비밀번호 제외). format=csv(기본)|xlsx")
+    @GetMapping("/members")
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+            @Parameter(description = "검색어(회원ID/이름/이메일)") @RequestParam(name = "keyword", required = false) String keyword,
+            @Parameter(description = "역할필터(user/admin)") @RequestParam(name = "role", required = false) String role,
+            @Parameter(description = "파일 형식", schema = @Schema(allowableValues = {"csv", "xlsx"}))
+            @RequestParam(value = "format", defaultValue = "csv") String format
+    ) {
+        return download("members", format,
+                out -> exportService.exportMembers(keyword, role, format, out));
+    }
+
+    /**
+     * 공통 다운로드 응답
+     * - 포맷 검증은 스트리밍 시작 전에 수행(잘못된 값이면 일반 오류 응답)
+     * - 파일명: {name}_yyyyMMdd.{csv|xlsx}
+     */
+    private ResponseEntity<StreamingResponseBody> download(String name, String format, StreamingResponseBody body) {
+        boolean xlsx = RowWriter.isXlsx(format);
+        String fileName = name + "_" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + (xlsx ? ".xlsx" : ".csv");
+        log.info("[내보내기 요청] {}", fileName);
+
+        return ResponseEntity.ok()
+                .contentType(xlsx ? XLSX : CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+}
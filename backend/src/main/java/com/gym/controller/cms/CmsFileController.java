@@ -0,0 +1,62 @@
+// src/main/java/com/gym/controller/cms/CmsFileController.java
+package com.gym.controller.cms;
+
+import com.gym.common.ApiResponse;              // 공통 응답
+import com.gym.domain.file.FileGcReport;        // [251117] 고아 파일 GC 결과
+import com.gym.service.FileGcService;           // [251117] 고아 파일 GC 서비스
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * [CMS 파일 관리 API] [251117]
+ * - 고아 파일 GC: 업로드 폴더 중 DB 에서 참조하지 않는 파일 정리
+ * - dry-run 보고로 대상/용량을 먼저 확인한 뒤 실행
+ * - 평소에는 스케줄(file.gc.cron, file.gc.enabled=true)로 자동 실행
+ * - 접근권한: 관리자 전용 — SecurityConfig "/api/cms/files/**"
+ */
+@CrossOrigin("*")
+@Tag(name = "16.File-CMS", description = "CMS 파일 관리")
+@RestController
+@RequestMapping("/api/cms/files")
+@RequiredArgsConstructor
+@Slf4j
+public class CmsFileController {
+
+    private final FileGcService fileGcService;
+
+    // ---------------------------------------------------------------------
+    // 1) 고아 파일 dry-run 보고 (삭제 없음)
+    // ---------------------------------------------------------------------
+    @Operation(summary = "고아 파일 보고(CMS)", description = "삭제 없이 고아 파일 수/용량과 예시(최대 100건) 반환")
+    @GetMapping("/gc/report")
+    public ApiResponse<FileGcReport> report() {
+        return ApiResponse.ok(runGc(true));
+    }
+
+    // ---------------------------------------------------------------------
+    // 2) 고아 파일 GC 수동 실행
+    // ---------------------------------------------------------------------
+    @Operation(summary = "고아 파일 정리 실행(CMS)", description = "유예기간 지난 고아 파일을 배치 단위로 삭제 (dryRun=true 면 보고만)")
+    @PostMapping("/gc")
+    public ApiResponse<FileGcReport> run(@RequestParam(name = "dryRun", defaultValue = "false") boolean dryRun) {
+        FileGcReport report = runGc(dryRun);
+        log.info("[CmsFileController] 고아 파일 GC 실행: {}", report);
+        return ApiResponse.ok(report);
+    }
+
+    private FileGcReport runGc(boolean dryRun) {
+        try {
+            return fileGcService.run(dryRun);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage()); // 이미 실행 중 등
+        }
+    }
+}
@@ -1,24 +1,32 @@
 package com.gym.controller.cms;
 
 import com.gym.common.ApiResponse;
+import com.gym.common.PageResponse;
 import com.gym.domain.member.Member;
+import com.gym.domain.member.MemberImportStatus; // [251120] 일괄 가져오기 진행 상태
 import com.gym.domain.member.MemberResponse; // [DTO-조회용]
 import com.gym.mapper.annotation.AccountMapper;
 import com.gym.mapper.annotation.CardMapper;
+import com.gym.service.MemberImportService;
 import com.gym.service.MemberService;
+import com.gym.service.PasswordHashService; // [251122] 비밀번호 해시(전용 해시 풀)
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -44,9 +52,12 @@ import java.util.Map;
 public class CmsMemberController {
 
 	private final MemberService memberService;
+	private final MemberImportService memberImportService; // [251120] 회원 일괄 가져오기
 
 	// [250927] CMS 컨트롤러 전용 인스턴스 
-	private final BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
+	// private final BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
+	// [251122] 공용 해시 서비스로 변경 (설정 비용, 전용 해시 풀, 대기열 초과 시 503 + Retry-After)
+	private final PasswordHashService passwordHashService;
 	// [250927] 계좌/카드 Mapper 불러오기...(계정 삭제할때,연결된 FK도 삭제 처리해야함)
 	private final AccountMapper accountMapper;
 	private final CardMapper cardMapper;
@@ -108,7 +119,7 @@ public class CmsMemberController {
 
         Member req = new Member();
         req.setMemberId(memberId);
-        req.setMemberPw(bCryptPasswordEncoder.encode(memberPw)); // [비번암호화]
+        req.setMemberPw(passwordHashService.encode(memberPw)); // [비번암호화]
         req.setMemberName(memberName);
         req.setMemberGender(memberGender);
         req.setMemberEmail(memberEmail);
@@ -170,7 +181,7 @@ public class CmsMemberController {
 	public ApiResponse<Member> getMemberByIdCms(
 			@Parameter(description = "회원ID") @PathVariable("memberId") String memberId) {
 		log.info("[CMS][GET]/api/cms/members/{}", memberId); // 로그 출력
-		Member m = memberService.getMemberById(memberId); // 서비스 호출
+		Member m = memberService.getMemberProfile(memberId); // 서비스 호출 ([251119] 비밀번호 제외)
 		if (m == null) {
 			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "해당 회원을 찾을 수 없습니다.");
 		}
@@ -192,6 +203,25 @@ public class CmsMemberController {
 		return ApiResponse.ok(list); // [응답]
 	}
 
+	// ============================================================
+	// [251118] 회원 검색 (CMS 회원 선택창 타이핑 중 조회)
+	// ============================================================
+	@CrossOrigin("*")
+	@Operation(summary = "회원 검색(CMS)", description = "회원ID/이름/이메일 부분일치(앞뒤 공백 제거, 대소문자 무시). 검색 인덱스로 현재 페이지 + 전체 건수 반환. "
+			+ "다른 서버에서 바뀐 회원은 인덱스 갱신 주기 후 반영 — 정확한 목록은 GET /api/cms/members(DB 조회)")
+	@GetMapping("/search")
+	public ApiResponse<PageResponse<Member>> searchMembersCms(
+			@Parameter(description = "검색어") @RequestParam(value = "keyword", required = false) String keyword,
+			@Parameter(description = "역할필터(선택: user/admin)") @RequestParam(value = "role", required = false) String role,
+			@Parameter(description = "페이지번호(1부터)") @RequestParam(value = "page", defaultValue = "1") int page,
+			@Parameter(description = "사이즈(최대 1000)") @RequestParam(value = "size", defaultValue = "20") int size) {
+		try {
+			return ApiResponse.ok(memberService.searchMembers(keyword, role, page, size));
+		} catch (IllegalArgumentException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+		}
+	}
+
 	// ============================================================
 	// 회원 수정 (CMS) — user와 차이: 역할/등급도 수정 가능
 	// ============================================================
@@ -230,7 +260,7 @@ public class CmsMemberController {
 		Member req = new Member();
 
 		if (nz(newPw))
-			req.setMemberPw(bCryptPasswordEncoder.encode(newPw));
+			req.setMemberPw(passwordHashService.encode(newPw));
 		if (nz(memberEmail))
 			req.setMemberEmail(memberEmail);
 		if (nz(memberMobile))
@@ -301,4 +331,40 @@ public class CmsMemberController {
 	    boolean exists = memberService.existsById(memberId);
 	    return ApiResponse.ok(Map.of("exists", exists));
 	}
+
+	// ------------------------------------------------------------
+	// [251120] 회원 일괄 가져오기 (CSV) — 202 + jobId 반환
+	// ------------------------------------------------------------
+	@CrossOrigin("*")
+	@Operation(summary = "회원 일괄 가져오기(CMS)",
+			description = "CSV(UTF-8) 업로드 → 비동기 등록. 헤더: 회원ID,비밀번호,이름,성별,이메일,휴대폰,생년월일(필수) "
+					+ "+ 전화번호,우편번호,도로명주소,지번주소,상세주소,결제수단,권한,관리자유형(선택). 회원 내보내기 파일 + 비밀번호 열 사용 가능")
+	@PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<ApiResponse<MemberImportStatus>> importMembersCms(@RequestParam("file") MultipartFile file) {
+		if (file == null || file.isEmpty()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV 파일이 비어 있습니다.");
+		}
+		try (InputStream in = file.getInputStream()) {
+			MemberImportStatus status = memberImportService.start(in, file.getOriginalFilename());
+			return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.ok(status));
+		} catch (IllegalStateException e) {
+			throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+		} catch (IOException e) {
+			throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "업로드 파일을 읽지 못했습니다.");
+		}
+	}
+
+	// ------------------------------------------------------------
+	// [251120] 회원 일괄 가져오기 진행 상태 + 행 오류
+	// ------------------------------------------------------------
+	@CrossOrigin("*")
+	@Operation(summary = "회원 일괄 가져오기 상태(CMS)", description = "status: QUEUED/RUNNING/DONE/FAILED, total/inserted/failed, errors(줄 번호별)")
+	@GetMapping("/import/{jobId}")
+	public ApiResponse<MemberImportStatus> importStatusCms(@PathVariable("jobId") String jobId) {
+		MemberImportStatus status = memberImportService.getStatus(jobId);
+		if (status == null) {
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "가져오기 작업을 찾을 수 없습니다: " + jobId);
+		}
+		return ApiResponse.ok(status);
+	}
 }
@@ -0,0 +1,80 @@
+// src/main/java/com/gym/controller/cms/CmsMessageController.java
+package com.gym.controller.cms;
+
+import com.gym.common.ApiResponse;                      // 공통 응답
+import com.gym.domain.message.MessageBroadcastRequest;  // [251111] 대량 공지 요청
+import com.gym.domain.message.MessageBroadcastStatus;   // [251111] 대량 공지 진행 상태
+import com.gym.domain.message.MessageRetentionResult;   // 보관 실행 결과
+import com.gym.service.MessageBroadcastService;         // [251111] 대량 공지 서비스
+import com.gym.service.MessageRetentionService;         // 메시지 보관 서비스
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * [CMS 메시지 관리 API] [251110]
+ * - 메시지 보관(retention) 수동 실행: 운영 테이블 보관기간 경과분을 보관 테이블로 이동
+ * - 평소에는 스케줄(message.retention.cron)로 자동 실행
+ * - [251111] 대량 공지(휴관공지 등) 비동기 발송 + 진행 상태 조회
+ * - 접근권한: 관리자 전용 — SecurityConfig "/api/cms/messages/**"
+ */
+@CrossOrigin("*")
+@Tag(name = "15.Message-CMS", description = "CMS 메시지 관리")
+@RestController
+@RequestMapping("/api/cms/messages")
+@RequiredArgsConstructor
+@Slf4j
+public class CmsMessageController {
+
+    private final MessageRetentionService messageRetentionService;
+    private final MessageBroadcastService messageBroadcastService;
+
+    // ---------------------------------------------------------------------
+    // 1) 메시지 보관 수동 실행
+    // ---------------------------------------------------------------------
+    @Operation(summary = "메시지 보관 실행(CMS)", description = "보관기간(hot-days) 경과 메시지를 chunk 단위로 보관 테이블로 이동")
+    @PostMapping("/retention")
+    public ApiResponse<MessageRetentionResult> runRetention() {
+        MessageRetentionResult result = messageRetentionService.runRetention();
+        log.info("[CmsMessageController] 메시지 보관 실행: {}", result);
+        return ApiResponse.ok(result);
+    }
+
+    // ---------------------------------------------------------------------
+    // 2) [251111] 대량 공지 발송 (비동기) — 202 + jobId 반환
+    // ---------------------------------------------------------------------
+    @Operation(summary = "대량 공지 발송(CMS)",
+               description = "closedId 또는 facilityId/targetDate(예약 회원), 없으면 전체 회원(memberRole) 대상. 즉시 jobId 반환")
+    @PostMapping("/broadcast")
+    public ResponseEntity<ApiResponse<MessageBroadcastStatus>> broadcast(@RequestBody MessageBroadcastRequest request) {
+        try {
+            MessageBroadcastStatus status = messageBroadcastService.start(request);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.ok(status));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // 3) [251111] 대량 공지 진행 상태
+    // ---------------------------------------------------------------------
+    @Operation(summary = "대량 공지 진행 상태(CMS)", description = "status: QUEUED/RUNNING/DONE/FAILED, total/sent/skipped")
+    @GetMapping("/broadcast/{jobId}")
+    public ApiResponse<MessageBroadcastStatus> broadcastStatus(@PathVariable("jobId") String jobId) {
+        MessageBroadcastStatus status = messageBroadcastService.getStatus(jobId);
+        if (status == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "발송 작업을 찾을 수 없습니다: " + jobId);
+        }
+        return ApiResponse.ok(status);
+    }
+}
@@ -39,28 +39,50 @@ public class CmsPaymentController {
     // ---------------------------------------------------------------------
     // 1) 상태 변경 — 폼에 결제ID만(상태는 '완료/예약/취소' 중 택1)
     // ---------------------------------------------------------------------
-    @Operation(summary = "결제 상태변경(폼/CMS)", description = "결제ID만 입력하여 상태를 예약/완료/취소로 변경")
+    // [251104] 상태머신 적용: 예약→완료, 예약→취소, 완료→취소만 허용(그 외 IllegalStateException)
+    //          version(선택): 목록 조회 시 받은 paymentVersion — 다른 관리자가 먼저 바꿨으면 IllegalStateException
+    //          응답 data: 변경 후 버전
+    // ---------------------------------------------------------------------
+    @Operation(summary = "결제 상태변경(폼/CMS)", description = "결제ID만 입력하여 상태를 예약/완료/취소로 변경. version 입력 시 낙관적 잠금")
     @PutMapping(value="/{paymentId}/status", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
-    public ApiResponse<Void> updateStatusForm(
+    public ApiResponse<Long> updateStatusForm(
             @Parameter(description = "결제ID", required = true)
             @PathVariable("paymentId") Long paymentId,
             @Parameter(description = "결제상태(완료/예약/취소)", required = true,
                     schema = @Schema(allowableValues = {"완료","예약","취소"}))
-            @RequestParam("paymentStatus") String paymentStatus
+            @RequestParam("paymentStatus") String paymentStatus,
+            @Parameter(description = "결제 버전(선택, 조회 시 paymentVersion)")
+            @RequestParam(name = "version", required = false) Long version
     ) {
         // 값 검증(서비스는 update만 호출) — 매퍼 updatePaymentStatus 사용 :contentReference[oaicite:12]{index=12}
         String status = paymentStatus == null ? null : paymentStatus.trim();
         if (!("완료".equals(status) || "예약".equals(status) || "취소".equals(status))) {
             throw new IllegalArgumentException("paymentStatus는 '완료', '예약', '취소'만 허용됩니다.");
         }
-        paymentService.updateStatus(paymentId, status); // XML updatePaymentStatus 실행 :contentReference[oaicite:13]{index=13}
-        return ApiResponse.ok();
+        Long newVersion = paymentService.updateStatus(paymentId, status, version); // [251104] XML transitPaymentStatus 실행
+        return ApiResponse.ok(newVersion);
+    }
+
+    // ---------------------------------------------------------------------
+    // 1-1) [251104] 상태 일괄 변경 — JSON 배열 [{paymentId, paymentStatus, version}]
+    //      건별 실패(전이 불가/버전 불일치/없음)는 전체를 막지 않고 결과에 사유 표시, 최대 1000건
+    // ---------------------------------------------------------------------
+    @Operation(summary = "결제 상태 일괄변경(CMS)", description = "여러 결제를 한 번에 상태 변경(최대 1000건). 건별 성공/실패 결과 반환")
+    @PostMapping(value = "/status/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ApiResponse<List<PaymentStatusChangeResult>> updateStatusBatch(
+            @RequestBody List<PaymentStatusChangeRequest> reqs
+    ) {
+        return ApiResponse.ok(paymentService.updateStatusBatch(reqs));
     }
 
     // ---------------------------------------------------------------------
     // 2) 결제 목록 검색 — 미입력 시 전체(필터 방식)
+    //    [251106] DB 페이징으로 변경
+    //    - cursor(직전 응답의 nextCursor) 있으면 키셋 페이징, 없으면 page 기반(기존 화면 호환)
+    //    - fromDate~toDate: 결제일 범위(YYYY-MM-DD, 종료일 포함)
+    //    - total: 같은 필터 COUNT (서비스에서 30초 캐시)
     // ---------------------------------------------------------------------
-    @Operation(summary = "결제 목록 검색(CMS)", description = "필터 미입력 시 전체. 응답키는 items/total/page/size")
+    @Operation(summary = "결제 목록 검색(CMS)", description = "필터 미입력 시 전체. 응답키는 items/total/page/size/hasNext/nextCursor")
     @GetMapping
     public ApiResponse<Map<String, Object>> listForCms(
             @Parameter(description="결제ID") @RequestParam(name="paymentId", required=false) Long paymentId,
@@ -68,11 +90,15 @@ public class CmsPaymentController {
             @Parameter(description="예약ID") @RequestParam(name="resvId", required=false) Long resvId,
             @Parameter(description="수단(계좌/카드)") @RequestParam(name="method", required=false) String method,
             @Parameter(description="상태(예약/완료/취소)") @RequestParam(name="paymentStatus", required=false) String paymentStatus,
+            @Parameter(description="결제일 시작(YYYY-MM-DD)") @RequestParam(name="fromDate", required=false) String fromDate,
+            @Parameter(description="결제일 종료(YYYY-MM-DD)") @RequestParam(name="toDate", required=false) String toDate,
+            @Parameter(description="키셋 커서(직전 응답 nextCursor)") @RequestParam(name="cursor", required=false) Long cursor,
             @Parameter(description="페이지(0부터)") @RequestParam(name="page", defaultValue="0") int page,
             @Parameter(description="페이지 크기") @RequestParam(name="size", defaultValue="10") int size
     ) {
         if (page < 0) page = 0;
         if (size <= 0) size = 10;
+        if (size > 200) size = 200;            // [251106] 과도한 페이지 크기 제한
 
         // 검색 DTO(폼→DTO: req.set… 대신 Builder 사용 허용, 그러나 라인 주석 및 키는 동일 스타일)
         PaymentSearchRequest req = PaymentSearchRequest.builder()
@@ -81,16 +107,23 @@ public class CmsPaymentController {
                 .resvId(resvId)
                 .method(method)
                 .paymentStatus(paymentStatus)
+                .fromDate(fromDate)
+                .toDate(toDate)
+                .cursor(cursor)
                 .build();
 
-        List<PaymentResponse> items = paymentService.findList(req); // XML selectPayments 사용 :contentReference[oaicite:14]{index=14}
+        List<PaymentResponse> rows = paymentService.findPage(req, page, size); // size+1건까지
+        boolean hasNext = rows.size() > size;
+        List<PaymentResponse> items = hasNext ? rows.subList(0, size) : rows;
 
         // 간단 페이징 포맷(시설 CMS와 동일 키)
         Map<String, Object> payload = new LinkedHashMap<>();
         payload.put("items", items);
-        payload.put("total", items.size()); // count 매퍼를 안 건드리므로 단순 총건수
+        payload.put("total", paymentService.count(req));
         payload.put("page", page);
         payload.put("size", size);
+        payload.put("hasNext", hasNext);
+        payload.put("nextCursor", hasNext ? items.get(items.size() - 1).getPaymentId() : null); // 다음 요청 cursor
         return ApiResponse.ok(payload);
     }
 
@@ -1,11 +1,10 @@
 package com.gym.controller.cms;
 
 //도메인/DTO
-import com.gym.domain.comments.CommentsResponse; // [250925] 댓글 응답 DTO
+import com.gym.domain.post.PostBulkDeleteRequest; // [251113] 일괄 삭제 요청 DTO
 import com.gym.domain.post.PostResponse; // 게시글 DTO(요청/응답 겸용)
 
 //서비스
-import com.gym.service.CommentsService; // [250925] 댓글 서비스(삭제 시 선삭제 호출)
 import com.gym.service.PostService; // 게시글 서비스(목록/단건/등록/수정/삭제/조회수 증가)
 
 //Swagger 문서화
@@ -33,7 +32,7 @@ import java.util.*; // List, Set, Collection, Locale 등
 /**
  * CMS용 게시글 컨트롤러
  * - 폼 전송 기반 등록/수정/삭제 + 조회(목록/단건)
- * - 흐름: Controller(CmsPostController) → Service(PostService/CommentsService) → Mapper → SQL
+ * - 흐름: Controller(CmsPostController) → Service(PostService) → Mapper → SQL
  * - 정책(CMS):
  *   1) 작성자ID는 로그인ID 자동 세팅(등록 시 1회), 수정 시 불변
  *   2) 수정/삭제는 작성자 본인 또는 관리자/책임자만
@@ -48,7 +47,6 @@ import java.util.*; // List, Set, Collection, Locale 등
 public class CmsPostController {
 
     private final PostService postService; // 게시글 서비스(Controller→Service 진입점)
-    private final CommentsService commentsService; // 댓글 서비스(삭제 시 선삭제 호출)
 
     /** 목록 조회
      * Controller.listPosts → PostService.getPostsByBoard → Mapper → SQL
@@ -216,7 +214,7 @@ public class CmsPostController {
     }
 
     /** 삭제
-     * Controller.deletePost → (선삭제) CommentsService.deleteComments* → (본삭제) PostService.deletePostById
+     * Controller.deletePost → PostService.deletePostCascade (댓글/첨부파일 포함 한 트랜잭션 삭제)
      * 정책: 본인 또는 관리자/책임자만 삭제 가능
      */
     @Operation(summary = "CMS 게시글 삭제")
@@ -242,15 +240,59 @@ public class CmsPostController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "작성자 본인 또는 관리자/책임자만 삭제할 수 있습니다.");
         }
 
-        // [250925] 게시글 삭제 시 댓글 일괄 삭제: 댓글 조회 후 루프 삭제(연쇄 정합성 확보)
-        // Controller → CommentsService.getCommentsByPost → CommentsService.deleteComments(id) → Mapper → SQL
-        List<CommentsResponse> comments = commentsService.getCommentsByPost(postId);
-        for (CommentsResponse c : comments) {
-            commentsService.deleteComments(c.getCommentsId());
+        // [251113] 연쇄삭제: 댓글/첨부파일 행/게시글을 한 트랜잭션에서 집합 DELETE (물리파일은 커밋 후 비동기 정리)
+        // Controller → PostService.deletePostCascade → Mapper → SQL
+        postService.deletePostCascade(postId);
+        return "게시글이 삭제되었습니다.(CMS)";
+    }
+
+    /** [251113] 일괄 삭제 (관리자/책임자 전용)
+     * Controller.deletePosts → PostService.deletePostsCascade (한 트랜잭션, 경로 게시판 소속 글만)
+     */
+    @Operation(summary = "CMS 게시글 일괄 삭제", description = "게시글ID 목록(최대 1000건)을 댓글/첨부파일과 함께 한 번에 삭제합니다.")
+    @PostMapping("/bulk-delete")
+    public String deletePosts(
+            @Parameter(description = "게시판ID(경로변수)") @PathVariable("boardId") Long boardId,
+            @RequestBody PostBulkDeleteRequest request
+    ) {
+        requireAdminOrManager();
+        if (request == null || request.getPostIds() == null || request.getPostIds().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "삭제할 게시글ID를 입력하세요.");
+        }
+        try {
+            int deleted = postService.deletePostsCascade(boardId, request.getPostIds());
+            return deleted + "건의 게시글이 삭제되었습니다.(CMS)";
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
+    }
 
-        postService.deletePostById(postId); // 본삭제(Service→Mapper→SQL)
-        return "게시글이 삭제되었습니다.(CMS)";
+    /** [251113] 게시판 전체 게시글 삭제 (관리자/책임자 전용, all=true 필수)
+     * Controller.deleteAllPosts → PostService.deletePostsByBoard (한 트랜잭션)
+     */
+    @Operation(summary = "CMS 게시판 전체 게시글 삭제", description = "실수 방지를 위해 all=true 를 함께 보내야 합니다.")
+    @DeleteMapping
+    public String deleteAllPosts(
+            @Parameter(description = "게시판ID(경로변수)") @PathVariable("boardId") Long boardId,
+            @Parameter(description = "전체 삭제 확인(true 필수)") @RequestParam(name = "all", defaultValue = "false") boolean all
+    ) {
+        requireAdminOrManager();
+        if (!all) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "전체 삭제는 all=true 가 필요합니다.");
+        }
+        int deleted = postService.deletePostsByBoard(boardId);
+        return deleted + "건의 게시글이 삭제되었습니다.(CMS)";
+    }
+
+    /** [251113] 일괄/전체 삭제 권한 검사 (로그인 + 관리자/책임자) */
+    private void requireAdminOrManager() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication(); // 인증 주체
+        if (auth == null || auth.getName() == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
+        }
+        if (!hasAnyAuthority(auth, "관리자", "책임자", "ROLE_ADMIN", "ROLE_MANAGER", "admin", "manager")) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "관리자/책임자만 일괄 삭제할 수 있습니다.");
+        }
     }
 
     /** postType 허용값 정규화 유틸("일반"/"공지")
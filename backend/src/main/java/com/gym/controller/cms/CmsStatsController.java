@@ -7,6 +7,14 @@ package com.gym.controller.cms;
 import org.springframework.web.bind.annotation.*; // @RestController, @GetMapping, @RequestMapping 등 사용
 import org.springframework.beans.factory.annotation.Autowired; // 의존성 주입(Dependency Injection) 어노테이션
 import com.gym.mapper.annotation.CmsStatsMapper; // MyBatis 매퍼 인터페이스 import — DB 통계 조회 수행
+import com.gym.common.ApiResponse; // [251107] 공통 응답
+import com.gym.domain.stats.RevenueDailyResponse; // [251107] 일별 매출 집계
+import com.gym.domain.stats.StatsRollupResult; // [251107] 집계 실행 결과
+import com.gym.domain.stats.UsageDailyResponse; // [251107] 일별 시설 이용 집계
+import com.gym.service.StatsRollupService; // [251107] 집계(롤업) 서비스
+import org.springframework.format.annotation.DateTimeFormat; // [251107] yyyy-MM-dd 파라미터 변환
+
+import java.time.LocalDate; // [251107] 기간 조회
 
 import java.util.List; // 여러 행(시설별 현황)을 담기 위해 사용
 import java.util.Map;  // 단일 Map으로 통계값 반환
@@ -22,11 +30,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;  // Swagger에서 그룹명(카
 public class CmsStatsController { 
 
     private final CmsStatsMapper cmsStatsMapper; // 매퍼 객체 선언 — 실제 DB 접근 수행자
+    private final StatsRollupService statsRollupService; // [251107] 일별 집계 테이블 조회/실행
 
     // [1] CMS 통계 조회 (전체 카운트 + 예약상태별)
     @Autowired // 스프링이 자동으로 매퍼 구현체 주입 (MyBatis가 자동 생성한 Proxy를 주입함)
-    public CmsStatsController(CmsStatsMapper cmsStatsMapper) { // 생성자 주입 방식
+    public CmsStatsController(CmsStatsMapper cmsStatsMapper, StatsRollupService statsRollupService) { // 생성자 주입 방식
         this.cmsStatsMapper = cmsStatsMapper; // 주입된 매퍼를 필드에 저장
+        this.statsRollupService = statsRollupService;
     }
 
     // [2] 시설 전체 예약신청 샅개 비율 통계
@@ -49,4 +59,33 @@ public class CmsStatsController {
         return list;
     }
 
-}
\ No newline at end of file
+    // [4][251107] 일별 시설종류별 매출 (집계 테이블 조회 — 원본 결제/로그 스캔 없음)
+    @Operation(summary = "일별 매출 통계", description = "결제완료/완료후취소/순매출을 일자×시설종류별로 조회 (기간 미지정 시 최근 30일)")
+    @GetMapping("/stats/revenue/daily")
+    public ApiResponse<List<RevenueDailyResponse>> getRevenueDaily(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) String facilityType) {
+        return ApiResponse.ok(statsRollupService.getRevenueDaily(fromDate, toDate, facilityType));
+    }
+
+    // [5][251107] 일별 시설 이용/가동률 (집계 테이블 조회)
+    @Operation(summary = "일별 시설 이용 통계", description = "이용일×시설별 예약신청/확정 시간과 가동률 조회 (기간 미지정 시 최근 30일)")
+    @GetMapping("/stats/usage/daily")
+    public ApiResponse<List<UsageDailyResponse>> getUsageDaily(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) Long facilityId) {
+        return ApiResponse.ok(statsRollupService.getUsageDaily(fromDate, toDate, facilityId));
+    }
+
+    // [6][251107] 집계 수동 실행 (rebuild=true 면 집계 비우고 처음부터 재집계)
+    @Operation(summary = "통계 집계 실행", description = "마지막 집계 이후 신규 결제로그/예약만 반영, rebuild=true 시 전체 재집계")
+    @PostMapping("/stats/rollup")
+    public ApiResponse<StatsRollupResult> runRollup(@RequestParam(defaultValue = "false") boolean rebuild) {
+        StatsRollupResult result = rebuild ? statsRollupService.rebuild() : statsRollupService.runIncremental();
+        log.info("[CmsStatsController] 통계 집계 실행: {}", result);
+        return ApiResponse.ok(result);
+    }
+
+}
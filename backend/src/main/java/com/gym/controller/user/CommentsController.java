@@ -108,9 +108,15 @@ public class CommentsController {
     // 2) 목록 조회 — 시그니처 유지(getCommentsByPost)
     // ------------------------------------------------------------------
     @CrossOrigin("*")
-    @Operation(summary = "댓글 목록 조회", description = "특정 게시글의 댓글 전체 조회")
+    @Operation(summary = "댓글 목록 조회", description = "특정 게시글의 댓글 조회. size 지정 시 키셋 페이징(cursor = 직전 페이지 마지막 댓글ID), 미지정 시 전체")
     @GetMapping
-    public ResponseEntity<List<CommentsResponse>> getCommentsByPost(@PathVariable("postId") Long postId) {
+    public ResponseEntity<List<CommentsResponse>> getCommentsByPost(@PathVariable("postId") Long postId,
+            @Parameter(description = "페이지 크기(1~100), 미지정 시 전체 조회") @RequestParam(name = "size", required = false) Integer size,
+            @Parameter(description = "직전 페이지 마지막 댓글ID") @RequestParam(name = "cursor", required = false) Long cursor) {
+        if (size != null || cursor != null) {
+            // [251112] 키셋 페이징 — 다음 페이지는 응답 마지막 댓글ID를 cursor 로 전달
+            return ResponseEntity.ok(commentsService.getCommentsPage(postId, cursor, size != null ? size : 20));
+        }
         return ResponseEntity.ok(commentsService.getCommentsByPost(postId)); // 서비스 호출
     }
 
@@ -2,6 +2,7 @@ package com.gym.controller.user;
 
 import com.gym.domain.message.Message;
 import com.gym.domain.message.MessageResponse;
+import com.gym.domain.message.MessageBulkReadRequest;
 import com.gym.service.MessageService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,6 +17,9 @@ import java.util.List;
 // 250925 임포트 추가
 import org.springframework.http.MediaType; // consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE 지정할 때 필요
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpStatus; // 251109 인증 누락 401
+import org.springframework.security.core.Authentication; // 251109 로그인 회원
+import org.springframework.web.server.ResponseStatusException;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -109,7 +113,12 @@ public class MessageController {
 //	}// [251016] 회원별 메시지 리스트 조회 기능 추가
 	
 	public List<MessageResponse> getMessagesForMember(@RequestParam("memberId") String memberId,
-	                                                 @RequestParam(value = "limit", defaultValue = "5") int limit) {
+	                                                 @RequestParam(value = "limit", defaultValue = "5") int limit,
+	                                                 @Parameter(description = "이전 페이지 마지막 메시지ID (지정 시 그보다 오래된 메시지)")
+	                                                 @RequestParam(value = "cursor", required = false) Long cursor) {
+	    if (cursor != null) {
+	        return messageService.findOlderByMemberId(memberId, cursor, limit); // [251108] 키셋 페이징
+	    }
 	    return messageService.findByMemberId(memberId, limit);
 	} // [251030] limit 파라미터 명시 추가
 
@@ -144,5 +153,44 @@ public class MessageController {
         }
     }
 
+	/**
+	 * 251109 추가 선택 메시지 일괄 읽음 처리 API
+	 * - 메시지함에서 여러 건을 한 번의 요청/트랜잭션으로 읽음 처리
+	 * - 로그인 회원 소유 메시지만 반영(SQL member_id 조건)
+	 *
+	 * @return 실제 읽음으로 전환된 건수
+	 */
+	@Operation(summary = "선택 메시지 일괄 읽음 처리", description = "messageIds(최대 1000건) 중 로그인 회원 소유의 안 읽은 메시지를 한 번에 읽음 처리")
+	@PostMapping("/read")
+	public ResponseEntity<Integer> markMessagesAsRead(@RequestBody MessageBulkReadRequest request,
+	                                                  Authentication authentication) {
+		String memberId = loginMemberId(authentication);
+		int updated = messageService.markAsReadBulk(memberId, request.getMessageIds());
+		return ResponseEntity.ok(updated);
+	}
+
+	/**
+	 * 251109 추가 전체 읽음 처리 API
+	 * - upToMessageId 지정 시 그 ID 이하만(화면을 연 뒤 도착한 메시지는 안 읽음 유지)
+	 *
+	 * @return 실제 읽음으로 전환된 건수
+	 */
+	@Operation(summary = "전체 메시지 읽음 처리", description = "로그인 회원의 안 읽은 메시지 전체(upToMessageId 지정 시 그 이하)를 한 번에 읽음 처리")
+	@PostMapping("/read-all")
+	public ResponseEntity<Integer> markAllMessagesAsRead(
+			@Parameter(description = "이 메시지ID 이하만 처리(미지정 시 전체)") @RequestParam(name = "upToMessageId", required = false) Long upToMessageId,
+			Authentication authentication) {
+		String memberId = loginMemberId(authentication);
+		int updated = messageService.markAllAsRead(memberId, upToMessageId);
+		return ResponseEntity.ok(updated);
+	}
+
+	/** 251109 JWT subject(username) = 회원ID, 없으면 401 */
+	private String loginMemberId(Authentication authentication) {
+		if (authentication == null || authentication.getName() == null) {
+			throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "인증 정보가 없습니다.");
+		}
+		return authentication.getName();
+	}
 
 }
@@ -4,15 +4,14 @@ import com.gym.common.ApiResponse;
 import com.gym.domain.member.Member;
 import com.gym.domain.member.MemberResponse; // ✅ 조회용 DTO
 import com.gym.service.MemberService;
+import com.gym.service.PasswordHashService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import org.springframework.web.server.ResponseStatusException;
@@ -39,8 +38,8 @@ public class UserMemberController {
 
     private final MemberService memberService;
 
-    @Autowired
-    BCryptPasswordEncoder bCryptPasswordEncoder;
+    // [251122] BCrypt 는 전용 해시 풀에서 (요청 스레드 CPU 점유 방지, 대기열 초과 시 503 + Retry-After)
+    private final PasswordHashService passwordHashService;
 
     // ============================================================
     // 회원 등록
@@ -81,7 +80,7 @@ public class UserMemberController {
         // [250930] req->member로 바꿨음
         Member member = new Member();
         member.setMemberId(memberId);
-        member.setMemberPw(bCryptPasswordEncoder.encode(memberPw)); // [비번암호화] 신규 등록 시 BCrypt로 해시 저장
+        member.setMemberPw(passwordHashService.encode(memberPw)); // [비번암호화] 신규 등록 시 BCrypt로 해시 저장
         member.setMemberName(memberName);
         member.setMemberGender(memberGender);
         member.setMemberEmail(memberEmail);
@@ -137,7 +136,7 @@ public class UserMemberController {
         log.info("현재 로그인 사용자 ID = {}", memberId); // [로그]
 
         // [DB조회] 서비스 통해 단건 조회
-        final Member member = memberService.getMemberById(memberId);
+        final Member member = memberService.getMemberProfile(memberId); // [251119] 비밀번호 제외 조회
         if (member == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "회원 정보를 찾을 수 없습니다.");
         }
@@ -197,7 +196,7 @@ public class UserMemberController {
         String stored = existing.getMemberPw();          // [비번검증-준비] DB 저장된 비번(평문 또는 해시)
         boolean isBCrypt = looksLikeBCrypt(stored);      // [비번검증] 저장 포맷 판별
         boolean ok = isBCrypt
-                ? bCryptPasswordEncoder.matches(currentPw, stored)  // [비번검증-해시매칭]
+                ? passwordHashService.matches(currentPw, stored)  // [비번검증-해시매칭]
                 : stored != null && stored.equals(currentPw);       // [비번검증-평문비교]
         if (!ok) // [예외처리]
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "비밀번호가 일치하지 않습니다.");
@@ -213,9 +212,9 @@ public class UserMemberController {
         Member member = new Member(); // [부분수정] null이 아닌 필드만 Mapper가 업데이트하도록 전달
 
         if (newPw != null) { // [비번암호화] 새 비번이 오면 해시하여 저장
-        	member.setMemberPw(bCryptPasswordEncoder.encode(newPw));
+        	member.setMemberPw(passwordHashService.encode(newPw));
         } else if (!isBCrypt && stored != null) { // [비번암호화-업그레이드] 기존이 평문이면 이번 요청에서 해시 업그레이드
-        	member.setMemberPw(bCryptPasswordEncoder.encode(stored));
+        	member.setMemberPw(passwordHashService.encode(stored));
         }
 
         if (memberEmail   != null) member.setMemberEmail(memberEmail);     // [부분수정-이메일]
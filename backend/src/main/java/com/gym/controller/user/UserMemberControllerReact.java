@@ -71,7 +71,7 @@ public class UserMemberControllerReact {
         log.info("현재 로그인 사용자 ID = {}", memberId); // [로그]
 
         // [DB조회] 서비스 통해 단건 조회
-        final Member member = memberService.getMemberById(memberId);
+        final Member member = memberService.getMemberProfile(memberId); // [251119] 비밀번호 제외 조회
         if (member == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "회원 정보를 찾을 수 없습니다.");
         }
@@ -4,6 +4,7 @@ package com.gym.controller.user;
 import com.gym.common.ApiResponse;                              // 공통 응답 래퍼
 import com.gym.domain.payment.*;                                // DTO/도메인 (변경 없음)
 import com.gym.service.PaymentService;                          // 서비스 인터페이스 (변경 없음)
+import com.gym.service.IdempotencyService;                      // [251105] 멱등키 처리
 
 import io.swagger.v3.oas.annotations.Operation;                 // Swagger 요약
 import io.swagger.v3.oas.annotations.Parameter;                 // Swagger 파라미터
@@ -37,6 +38,7 @@ public class UserPaymentController {
 
     private final PaymentService paymentService;  // 서비스 빈 (create/findList/updateStatus 그대로 사용) :contentReference[oaicite:4]{index=4}
     private final JdbcTemplate jdbc;              // 매퍼 무변경을 위해 컨트롤러에서 단일 SQL로 금액 계산
+    private final IdempotencyService idempotencyService; // [251105] 재시도 중복 결제 방지
 
     /* ---------------------------------------------------------------------
        1) 결제 등록 — 폼 입력: 예약ID/결제수단만, 금액은 컨트롤러가 계산
@@ -65,11 +67,25 @@ public class UserPaymentController {
             // ⚠️ [251004 추가] 카드 할부 개월수 (일시불=0)
             @RequestParam(name = "cardInstallment", defaultValue = "0") Integer cardInstallment,
 
+            // [251105] 재시도 중복 방지 키(선택) — 같은 키 재요청은 최초 결제ID 그대로 반환
+            @Parameter(description = "멱등키(선택, 재시도 시 동일 값)")
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+
             Authentication auth   // 로그인 사용자(본인만 결제 가능)
     ) {
         // 0) 로그인 사용자 ID 확보(본인 소유 보장)
         final String loginId = auth.getName();
 
+        // [251105] 멱등키가 있으면 최초 1회만 검증/등록 실행(재요청은 매퍼 호출 없이 결과 재사용)
+        final String fingerprint = resvId + "|" + paymentMethod + "|" + accountId + "|" + cardId + "|" + cardInstallment;
+        Long paymentId = idempotencyService.execute("payment", loginId, idempotencyKey, fingerprint,
+                () -> createPayment(loginId, resvId, paymentMethod, accountId, cardId, cardInstallment));
+        return ApiResponse.ok(paymentId);
+    }
+
+    /** [251105] 결제 등록 본문(검증 → 금액 계산 → INSERT) — createForm에서 분리 */
+    private Long createPayment(String loginId, Long resvId, String paymentMethod,
+                               Long accountId, Long cardId, Integer cardInstallment) {
         // 0-1) 결제수단 값 검증(허용: '계좌' 또는 '카드' — 공백/대소문자 등 방지)
         if (paymentMethod == null || (!paymentMethod.equals("계좌") && !paymentMethod.equals("카드"))) {
             throw new IllegalArgumentException("결제수단은 '계좌' 또는 '카드'만 허용됩니다.");
@@ -156,8 +172,7 @@ public class UserPaymentController {
         
         // 4) 서비스 호출(INSERT → 시퀀스 CURRVAL 회수)
         log.info("[USER][POST]/api/payments form req={}", req);
-        Long paymentId = paymentService.create(req);
-        return ApiResponse.ok(paymentId);
+        return paymentService.create(req);
     }
     
 
@@ -172,6 +187,8 @@ public class UserPaymentController {
             @Parameter(description = "예약ID") @RequestParam(name="resvId", required=false) Long resvId,
             @Parameter(description = "결제수단(계좌/카드)") @RequestParam(name="method", required=false) String method,
             @Parameter(description = "결제상태(예약/완료/취소)") @RequestParam(name="paymentStatus", required=false) String paymentStatus,
+            @Parameter(description = "결제일 시작(YYYY-MM-DD)") @RequestParam(name="fromDate", required=false) String fromDate,  // [251106]
+            @Parameter(description = "결제일 종료(YYYY-MM-DD)") @RequestParam(name="toDate", required=false) String toDate,      // [251106]
             Authentication auth
     ) {
         final String loginId = auth.getName(); // 본인 강제
@@ -181,6 +198,8 @@ public class UserPaymentController {
                 .resvId(resvId)
                 .method(method)
                 .paymentStatus(paymentStatus)
+                .fromDate(fromDate)
+                .toDate(toDate)
                 .build();
         return ApiResponse.ok(paymentService.findList(req));     // XML selectPayments 사용 :contentReference[oaicite:7]{index=7}
     }
@@ -1,11 +1,9 @@
 package com.gym.controller.user; // 사용자 컨트롤러 계층
 
 // 도메인/DTO
-import com.gym.domain.comments.CommentsResponse; // [250925] 댓글 응답 DTO
 import com.gym.domain.post.PostResponse; // 게시글 DTO(요청/응답 겸용)
 
 // 서비스
-import com.gym.service.CommentsService; // [250925] 댓글 서비스(삭제 시 선삭제 호출)
 import com.gym.service.PostService; // 게시글 서비스(목록/단건/등록/수정/삭제/조회수 증가)
 
 // Swagger 문서화
@@ -34,7 +32,7 @@ import java.util.*; // List, Set, Collection, Locale 등
 /**
  * 사용자용 게시글 컨트롤러
  * - 폼 전송 기반 등록/수정/삭제 + 조회(목록/단건)
- * - Controller → Service(PostService/CommentsService) → Mapper → SQL 흐름
+ * - Controller → Service(PostService) → Mapper → SQL 흐름
  * - 정책: 작성자ID 자동세팅, 수정/삭제 권한 검사, 비밀글 접근제어, 사용자화면은 공지 입력 불가
  */
 @CrossOrigin("*")
@@ -45,7 +43,6 @@ import java.util.*; // List, Set, Collection, Locale 등
 public class UserPostController {
 
     private final PostService postService; // 게시글 비즈니스 로직 진입점
-    private final CommentsService commentsService; // 댓글 비즈니스 로직 진입점
 
     /** 목록 조회
      * Controller.listPosts → PostService.getPostsByBoard → Mapper → SQL
@@ -210,7 +207,7 @@ public class UserPostController {
     }
 
     /** 삭제
-     * Controller.deletePost → (선삭제) CommentsService.deleteComments* → (본삭제) PostService.deletePostById
+     * Controller.deletePost → PostService.deletePostCascade (댓글/첨부파일 포함 한 트랜잭션 삭제)
      * 정책: 본인 또는 관리자/책임자만 삭제 가능
      */
     @Operation(summary = "게시글 삭제")
@@ -236,14 +233,9 @@ public class UserPostController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "작성자 본인 또는 관리자/책임자만 삭제할 수 있습니다."); // 403
         }
 
-        // [250925] 게시글 삭제할 경우 댓글 일괄 삭제: 댓글 전부 조회 후 루프 삭제
-        // Controller → CommentsService.getCommentsByPost → CommentsService.deleteComments(id) → Mapper → SQL
-        List<CommentsResponse> comments = commentsService.getCommentsByPost(postId);
-        for (CommentsResponse c : comments) {
-            commentsService.deleteComments(c.getCommentsId());
-        }
-
-        postService.deletePostById(postId); // 본삭제(Service → Mapper → SQL)
+        // [251113] 연쇄삭제: 댓글/첨부파일 행/게시글을 한 트랜잭션에서 집합 DELETE (물리파일은 커밋 후 비동기 정리)
+        // Controller → PostService.deletePostCascade → Mapper → SQL
+        postService.deletePostCascade(postId);
         return "게시글이 삭제되었습니다.";
     }
 
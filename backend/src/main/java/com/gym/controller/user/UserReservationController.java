@@ -7,6 +7,7 @@ import com.gym.domain.reservation.ReservationUpdateRequest;  // 수정 DTO
 import com.gym.domain.reservation.ReservationSearchRequest;  // 검색 DTO
 import com.gym.domain.reservation.ReservationResponse;       // 응답 DTO
 import com.gym.service.ReservationService;                   // 서비스
+import com.gym.service.IdempotencyService;                   // [251105] 멱등키 처리
 import io.swagger.v3.oas.annotations.Operation;              // Swagger 요약/설명
 import io.swagger.v3.oas.annotations.Parameter;              // Swagger 파라미터
 import io.swagger.v3.oas.annotations.media.Schema;           // Swagger 스키마
@@ -32,6 +33,7 @@ import java.util.List;                                       // 목록
 public class UserReservationController {
 
     private final ReservationService reservationService; // 서비스 주입
+    private final IdempotencyService idempotencyService; // [251105] 재시도 중복 예약 방지
 
     // ---------------------------------------------------------------------
     // 1) 예약 등록 — 폼 입력, 로그인ID를 memberId로 강제 주입
@@ -60,6 +62,10 @@ public class UserReservationController {
             @Parameter(description = "종료 시각(시 단위, 10~21)", schema = @Schema(type = "string", example = "11"), required = true)
             @RequestParam("endHour") String endHour,
 
+            // [251105] 재시도 중복 방지 키(선택) — 같은 키 재요청은 최초 예약ID 그대로 반환
+            @Parameter(description = "멱등키(선택, 재시도 시 동일 값)")
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+
             Authentication auth
     ) {
         final String loginId = auth.getName(); // 로그인 사용자ID
@@ -85,7 +91,10 @@ public class UserReservationController {
         request.setResvStartTime(resvStartTime);
         request.setResvEndTime(resvEndTime);
 
-        return ApiResponse.ok(reservationService.createReservation(request)); // PK 반환
+        // [251105] 멱등키가 있으면 최초 1회만 등록(재요청은 ReservationMapper 호출 없이 결과 재사용)
+        String fingerprint = facilityId + "|" + resvContent + "|" + resvStartTime + "|" + resvEndTime + "|" + resvPersonCount;
+        return ApiResponse.ok(idempotencyService.execute("reservation", loginId, idempotencyKey, fingerprint,
+                () -> reservationService.createReservation(request))); // PK 반환
     }
 
     /* ===================== [old] JSON 등록 보존(비활성) =====================
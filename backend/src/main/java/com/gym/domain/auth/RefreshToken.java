@@ -0,0 +1,26 @@
+package com.gym.domain.auth;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * [251125] refresh_token_tbl 엔티티(컬럼 1:1 매핑)
+ * - PK: tokenHash (원문은 저장하지 않음)
+ * - familyId: 로그인 1회 단위, 재발급마다 같은 family 로 새 토큰 발급 / 이전 토큰은 usedAt 기록
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class RefreshToken {
+
+    private String tokenHash;			// HMAC-SHA256(원문) 16진수
+    private String familyId;			// 로그인 단위 UUID
+    private String memberId;			// 회원ID
+    private LocalDateTime issuedAt;		// 발급 일시
+    private LocalDateTime expiresAt;	// 만료 일시
+    private LocalDateTime usedAt;		// 재발급 사용 일시(null = 미사용)
+    private LocalDateTime revokedAt;	// family 폐기 일시
+}
@@ -0,0 +1,28 @@
+package com.gym.domain.auth;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * [251124] token_denylist_tbl 엔티티(컬럼 1:1 매핑)
+ * - PK: (denyType, denyKey)
+ * - denyType: 'T' 토큰 1개(denyKey = jti), 'M' 회원 전체(denyKey = 회원ID, revokedAt 이전 발급분)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class TokenDenylistEntry {
+
+    public static final String TYPE_TOKEN = "T";
+    public static final String TYPE_MEMBER = "M";
+
+    private String denyType;			// 'T' | 'M'
+    private String denyKey;				// jti 또는 회원ID
+    private String memberId;			// 토큰 주인 회원ID
+    private LocalDateTime revokedAt;	// 폐기 일시(DB 시각)
+    private LocalDateTime expiresAt;	// 토큰 만료 일시(이후 정리)
+    private String denyReason;			// logout / role-change / deleted
+}
@@ -13,6 +13,7 @@ public class FacilityResponse {
     private String facilityPhone;
     private String facilityContent;
     private String facilityImagePath;
+    private String facilityThumbPath;    // [251115] 목록용 썸네일 경로 (facilityImagePath + "?size=thumb")
     private Integer facilityPersonMax;
     private Integer facilityPersonMin;
     private boolean facilityUse;
@@ -0,0 +1,50 @@
+package com.gym.domain.file;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.*;
+
+/**
+ * [251117] 고아 파일 GC 1회 실행 결과
+ * - dryRun=true 면 삭제 없이 후보만 집계 (orphan*), deleted* 는 0
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FileGcReport {
+
+    /** 삭제 없이 보고만 했는지 */
+    private boolean dryRun;
+
+    /** 이 시각 이전에 수정된 파일만 삭제 대상 (유예기간) */
+    private LocalDateTime graceCutoff;
+
+    /** 디렉터리에서 확인한 파일 수 */
+    private long scannedFiles;
+
+    /** DB 참조가 있는 파일 수 (파생본 포함) */
+    private long referencedFiles;
+
+    /** 참조는 없지만 유예기간 안이라 남겨둔 파일 수 */
+    private long skippedRecent;
+
+    /** 고아 파일 수 / 용량(byte) */
+    private long orphanFiles;
+    private long orphanBytes;
+
+    /** 실제 삭제한 파일 수 / 용량(byte) */
+    private long deletedFiles;
+    private long deletedBytes;
+
+    /** 다음 실행으로 넘긴 잔여 여부 (1회 삭제 상한 도달) */
+    private boolean remaining;
+
+    /** 고아 파일 예시 (최대 100건, 상대경로) */
+    private List<String> samples;
+
+    /** 소요 시간 */
+    private long elapsedMillis;
+}
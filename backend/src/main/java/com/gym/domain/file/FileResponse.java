@@ -28,5 +28,8 @@ public class FileResponse {
     private String fileExt;			// 확장자
     private Long fileSize;			// 파일 크기
     private LocalDateTime fileRegDate;	// 등록일
+    private String fileHash;		// [251114] 내용 SHA-256 (기존 UUID 파일은 null)
+    private String fileThumbPath;	// [251115] 썸네일 파생본 경로 (이미지만)
+    private String fileMediumPath;	// [251115] 중간 크기 파생본 경로 (이미지만)
 
 }
@@ -32,4 +32,7 @@ public class FileUploadRequest {
     private String fileType;         // 파일 용도 ('썸네일' | '본문')
     private String fileExt;          // 확장자 (jpg, png, pdf 등)
     private Long fileSize;           // 파일 크기(byte)
+    private String fileHash;         // [251114] 내용 SHA-256(hex), 같은 값이면 같은 물리파일 공유
+    private String fileThumbPath;    // [251115] 썸네일 파생본 경로 (이미지만)
+    private String fileMediumPath;   // [251115] 중간 크기 파생본 경로 (이미지만)
 }
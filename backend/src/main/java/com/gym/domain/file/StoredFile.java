@@ -0,0 +1,22 @@
+package com.gym.domain.file;
+
+import lombok.*;
+
+/**
+ * [251114] 내용 주소(SHA-256) 저장 결과 DTO
+ * - FileServiceImpl.storeFile() 반환값
+ * - filePath 는 업로드 루트 기준 상대경로 ("images/{sha256}.png"), DB file_path 에 그대로 저장
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class StoredFile {
+
+    private String filePath;        // 저장 경로 (업로드 루트 기준 상대경로)
+    private String fileHash;        // 내용 SHA-256 (hex 64자)
+    private Long fileSize;          // 파일 크기(byte)
+    private boolean deduplicated;   // true = 같은 내용이 이미 있어 새로 쓰지 않음
+}
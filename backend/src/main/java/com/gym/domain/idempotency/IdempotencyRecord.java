@@ -0,0 +1,27 @@
+package com.gym.domain.idempotency;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * [251105] idempotency_tbl 엔티티(컬럼 1:1 매핑)
+ * - PK: (idemScope, memberId, idemKey)
+ * - idemStatus: 'P' 처리중, 'D' 완료
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class IdempotencyRecord {
+
+    private String idemScope;			// 요청 범위('payment','reservation')
+    private String memberId;			// 요청 회원ID
+    private String idemKey;				// Idempotency-Key 헤더 값
+    private String requestHash;			// 요청 파라미터 SHA-256 hex
+    private String idemStatus;			// 'P' 처리중 | 'D' 완료
+    private String claimToken;			// 선점 토큰(인수되면 바뀜 → 이전 선점자의 완료 기록은 0건)
+    private Long resultId;				// 생성된 PK(결제ID/예약ID)
+    private LocalDateTime createdAt;	// 최초 요청 일시
+}
@@ -0,0 +1,24 @@
+package com.gym.domain.member;
+
+import lombok.*;
+
+/**
+ * [251120] 회원 일괄 가져오기 행 단위 오류
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberImportError {
+
+    /** CSV 줄 번호 (헤더 = 1행) */
+    private long line;
+
+    /** 해당 행의 회원ID (읽지 못했으면 null) */
+    private String memberId;
+
+    /** 오류 내용 */
+    private String message;
+}
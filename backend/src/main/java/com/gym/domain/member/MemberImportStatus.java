@@ -0,0 +1,50 @@
+package com.gym.domain.member;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.*;
+
+/**
+ * [251120] 회원 일괄 가져오기 작업 진행 상태
+ * - status: QUEUED(대기) → RUNNING(처리 중) → DONE(완료) | FAILED(실패)
+ * - inserted + failed = processed, processed / total = 진행률
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberImportStatus {
+
+    /** 작업 ID */
+    private String jobId;
+
+    /** 작업 상태 */
+    private String status;
+
+    /** 업로드 파일명 */
+    private String fileName;
+
+    /** 데이터 행 수 (헤더 제외, 파일을 한 번 훑은 뒤 채워짐) */
+    private int total;
+
+    /** 등록된 회원 수 */
+    private int inserted;
+
+    /** 오류로 건너뛴 행 수 */
+    private int failed;
+
+    /** 행 단위 오류 (최대 member.import.max-errors 건) */
+    @ToString.Exclude
+    private List<MemberImportError> errors;
+
+    /** 요청 일시 */
+    private LocalDateTime requestedAt;
+
+    /** 완료 일시 */
+    private LocalDateTime finishedAt;
+
+    /** 작업 전체 실패 사유 (헤더 오류 등) */
+    private String error;
+}
@@ -0,0 +1,24 @@
+package com.gym.domain.member;
+
+import java.util.List;
+import lombok.*;
+
+/**
+ * [251118] 회원 검색 인덱스 조회 결과
+ * - memberIds: 요청한 페이지 구간의 회원ID (재적재 시 회원ID 순, 이후 등록분은 뒤에)
+ * - total: 조건에 맞는 전체 건수 (페이지와 무관)
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberSearchHits {
+
+    /** 현재 페이지 회원ID */
+    private List<String> memberIds;
+
+    /** 전체 일치 건수 */
+    private long total;
+}
@@ -0,0 +1,39 @@
+package com.gym.domain.message;
+
+import java.time.LocalDate;
+import lombok.*;
+
+/**
+ * 251111 대량 공지 발송 요청 DTO
+ * 수신 대상(우선순위 순):
+ * - closedId 지정: 해당 휴관일의 시설/날짜로 대상 결정, 메시지에 closed_id 기록
+ * - facilityId / targetDate 지정: 해당 시설·날짜에 취소되지 않은 예약이 있는 회원
+ *   (targetDate 없으면 오늘 이후 예약 전체)
+ * - 위 조건 없음: 전체 회원 (memberRole 지정 시 해당 권한만)
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MessageBroadcastRequest {
+
+    /** 휴관일 ID (지정 시 시설/날짜 자동 결정) */
+    private Long closedId;
+
+    /** 대상 시설 ID */
+    private Long facilityId;
+
+    /** 대상 이용일 (YYYY-MM-DD) */
+    private LocalDate targetDate;
+
+    /** 회원 권한 세그먼트 ('user','admin') — 시설/날짜 조건이 없을 때만 적용 */
+    private String memberRole;
+
+    /** 문자 유형 (기본 휴관공지) */
+    private String messageType;
+
+    /** 문자 내용 */
+    private String messageContent;
+}
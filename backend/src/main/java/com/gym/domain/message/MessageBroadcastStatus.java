@@ -0,0 +1,42 @@
+package com.gym.domain.message;
+
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * 251111 대량 공지 발송 작업 진행 상태
+ * - status: QUEUED(대기) → RUNNING(발송 중) → DONE(완료) | FAILED(실패)
+ * - sent + skipped = processed, processed / total = 진행률
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MessageBroadcastStatus {
+
+    /** 작업 ID */
+    private String jobId;
+
+    /** 작업 상태 */
+    private String status;
+
+    /** 수신 대상 회원 수 */
+    private int total;
+
+    /** 저장(발송)된 건수 */
+    private int sent;
+
+    /** 중복으로 건너뛴 건수 (같은 시각·유형 메시지가 이미 있는 회원) */
+    private int skipped;
+
+    /** 요청 일시 */
+    private LocalDateTime requestedAt;
+
+    /** 완료 일시 */
+    private LocalDateTime finishedAt;
+
+    /** 실패 사유 */
+    private String error;
+}
@@ -0,0 +1,21 @@
+package com.gym.domain.message;
+
+import java.util.List;
+import lombok.*;
+
+/**
+ * 251109 일괄 읽음 처리 요청 DTO
+ * - messageIds 에 지정한 메시지들만 읽음 처리 (로그인 회원 소유분만, 비어 있으면 0건)
+ * - 전체/특정 ID 이하 읽음 처리는 POST /read-all?upToMessageId= 사용
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MessageBulkReadRequest {
+
+    /** 읽음 처리할 메시지 ID 목록 (최대 1000건) */
+    private List<Long> messageIds;
+}
@@ -0,0 +1,37 @@
+package com.gym.domain.message;
+
+import java.time.LocalDate;
+import lombok.*;
+
+/**
+ * 251110 메시지 보관(retention) 1회 실행 결과
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MessageRetentionResult {
+
+    /** 이 날짜 이전 발송분을 보관 테이블로 이동 */
+    private LocalDate archiveCutoff;
+
+    /** 이 날짜 이전 보관분을 최종 삭제 (null = 보관 무기한) */
+    private LocalDate purgeCutoff;
+
+    /** 보관 테이블로 이동한 건수 */
+    private long archived;
+
+    /** 보관 테이블에서 삭제한 건수 */
+    private long purged;
+
+    /** 커밋한 chunk 수 */
+    private int chunks;
+
+    /** 다음 실행으로 넘긴 잔여 여부 (chunk 상한 도달) */
+    private boolean remaining;
+
+    /** 소요 시간 */
+    private long elapsedMillis;
+}
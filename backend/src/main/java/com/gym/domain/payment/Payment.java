@@ -26,5 +26,6 @@ public class Payment {
     private String paymentStatus;		// 결제상태 VARCHAR2 NOT NULL('완료','예약','취소') → payment_tbl.payment_status
     private LocalDateTime paymentDate;	// 결제일시 DATE DEFAULT SYSDATE → payment_tbl.payment_date
     private Integer cardInstallment;	// [251004추가사항] 0=일시불, 2~6개월 + 12개월 할부
+    private Long paymentVersion;		// [251104] 낙관적 버전 NUMBER → payment_tbl.payment_version
 }
 
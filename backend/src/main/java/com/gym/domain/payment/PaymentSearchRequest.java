@@ -24,4 +24,7 @@ public class PaymentSearchRequest {
     //private LocalDateTime toAt;		// 종료일시 → payment_tbl.payment_date <= toAt
     //private Integer page;			// 페이지 번호(0부터 시작) → 페이징 연산에 사용
     //private Integer size;			// 페이지 크기 → 페이징 연산에 사용
+    private String fromDate;		// [251106] 결제일 시작(YYYY-MM-DD) → payment_date >= fromDate
+    private String toDate;			// [251106] 결제일 종료(YYYY-MM-DD, 당일 포함) → payment_date < toDate + 1
+    private Long cursor;			// [251106] 키셋 페이징: 직전 페이지 마지막 결제ID (이 값 미만부터 조회)
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.gym.domain.payment;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * [251104] 결제 상태머신
+ * - 허용 전이: 예약 → 완료, 예약 → 취소, 완료 → 취소 (취소는 종료 상태)
+ * - 결제 상태가 바뀌면 예약 상태도 함께 동기화 (reservationStatus)
+ *     완료 → 예약 '완료' (이미 완료/취소면 그대로)
+ *     취소 → 예약 '취소'
+ * - label: DB 값(payment_tbl.payment_status CHECK 제약과 동일)
+ */
+public enum PaymentStatus {
+
+    RESERVED("예약", "대기"),
+    COMPLETED("완료", "완료"),
+    CANCELED("취소", "취소");
+
+    private final String label;               // payment_status 값
+    private final String reservationStatus;   // 동기화할 reservation_tbl.resv_status 값
+
+    PaymentStatus(String label, String reservationStatus) {
+        this.label = label;
+        this.reservationStatus = reservationStatus;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public String reservationStatus() {
+        return reservationStatus;
+    }
+
+    /** 이 상태에서 전이 가능한 다음 상태 */
+    public Set<PaymentStatus> next() {
+        switch (this) {
+            case RESERVED:  return EnumSet.of(COMPLETED, CANCELED);
+            case COMPLETED: return EnumSet.of(CANCELED);
+            default:        return Collections.emptySet();
+        }
+    }
+
+    public boolean canTransitTo(PaymentStatus to) {
+        return next().contains(to);
+    }
+
+    /** 목표 상태로 올 수 있는 이전 상태 라벨 (SQL WHERE payment_status IN (...) 용) */
+    public List<String> allowedFrom() {
+        return Arrays.stream(values())
+                .filter(s -> s.canTransitTo(this))
+                .map(PaymentStatus::label)
+                .collect(Collectors.toList());
+    }
+
+    /** 라벨 → 상태 (허용되지 않는 값은 IllegalArgumentException) */
+    public static PaymentStatus of(String label) {
+        String v = label == null ? "" : label.trim();
+        for (PaymentStatus s : values()) {
+            if (s.label.equals(v)) return s;
+        }
+        throw new IllegalArgumentException("paymentStatus는 '완료', '예약', '취소'만 허용됩니다.");
+    }
+}
@@ -0,0 +1,21 @@
+package com.gym.domain.payment;
+
+import lombok.*;
+
+/**
+ * [251104] 결제 상태 일괄 변경 요청 1건
+ * - POST /api/cms/payments/status/batch 요청 JSON 배열의 원소
+ * - version: 조회 시 받은 paymentVersion (미입력 시 버전 검사 생략)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class PaymentStatusChangeRequest {
+
+    private Long paymentId;			// 결제ID
+    private String paymentStatus;	// 변경할 상태('완료','취소')
+    private Long version;			// 낙관적 버전(선택)
+}
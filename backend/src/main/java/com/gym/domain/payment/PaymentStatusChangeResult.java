@@ -0,0 +1,22 @@
+package com.gym.domain.payment;
+
+import lombok.*;
+
+/**
+ * [251104] 결제 상태 일괄 변경 결과 1건
+ * - success=false 이면 reason에 사유(전이 불가/버전 불일치/없음)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class PaymentStatusChangeResult {
+
+    private Long paymentId;			// 결제ID
+    private boolean success;		// 반영 여부
+    private String paymentStatus;	// 반영 후 상태(실패 시 요청값)
+    private Long version;			// 반영 후 버전(실패 시 null)
+    private String reason;			// 실패 사유
+}
@@ -0,0 +1,32 @@
+package com.gym.domain.payment;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * [251104] 결제 상태전이 1건 (MyBatis CALLABLE 파라미터)
+ * - IN : paymentId, toStatus, fromStatuses, expectedVersion(선택)
+ * - OUT: rows(반영 건수), resvId, memberId, version(변경 후 버전) ← UPDATE ... RETURNING 결과
+ * - XML 매퍼: payment-mapper.xml transitPaymentStatus
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class PaymentTransition {
+
+    // ===== IN =====
+    private Long paymentId;				// 대상 결제ID
+    private String toStatus;			// 목표 상태('완료','취소')
+    private List<String> fromStatuses;	// 허용 이전 상태 (PaymentStatus.allowedFrom)
+    private String reservationStatus;	// 동기화할 예약 상태 (PaymentStatus.reservationStatus)
+    private Long expectedVersion;		// 낙관적 버전(null이면 버전 검사 생략)
+
+    // ===== OUT =====
+    private Integer rows;				// 반영 건수(0이면 전이 불가/버전 불일치/없음)
+    private Long resvId;				// RETURNING resv_id
+    private String memberId;			// RETURNING member_id
+    private Long version;				// RETURNING payment_version (변경 후)
+}
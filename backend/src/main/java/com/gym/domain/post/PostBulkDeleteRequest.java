@@ -0,0 +1,16 @@
+package com.gym.domain.post;
+
+import java.util.List;
+import lombok.*;
+
+/**
+ * [251113] CMS 게시글 일괄 삭제 요청 DTO
+ * - postIds: 삭제할 게시글 ID 목록 (최대 1000건, 경로의 게시판 소속 글만 삭제)
+ */
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class PostBulkDeleteRequest {
+
+    private List<Long> postIds;    /* 삭제할 게시글 ID 목록 */
+}
@@ -46,4 +46,6 @@ public class PostResponse {
     
     private String postFilePath; // [251017 추가] 첨부파일 경로
 
+    private Integer postCommentCount; // [251112 추가] 댓글 수(post_tbl 비정규화 컬럼)
+
 }
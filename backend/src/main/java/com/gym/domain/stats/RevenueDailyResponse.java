@@ -0,0 +1,25 @@
+package com.gym.domain.stats;
+
+import lombok.*;
+import java.time.LocalDate;
+
+/**
+ * [251107] 일별 시설종류별 매출 집계 조회 DTO (stat_revenue_daily_tbl)
+ * - netAmount = paidAmount - cancelAmount (SQL에서 계산)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class RevenueDailyResponse {
+
+    private LocalDate statDate;			// 집계일(결제/취소 발생일)
+    private String facilityType;		// 시설 종류
+    private Long paidCount;				// 결제 완료 건수
+    private Long paidAmount;			// 결제 완료 금액
+    private Long cancelCount;			// 완료 후 취소 건수
+    private Long cancelAmount;			// 완료 후 취소 금액
+    private Long netAmount;				// 순매출
+}
@@ -0,0 +1,25 @@
+package com.gym.domain.stats;
+
+import lombok.*;
+
+/**
+ * [251107] 집계 1회 실행 결과
+ * - rows: 이번에 큐에서 꺼내 반영한 원본 행 수 (재구축은 큐에 없는 원본 전체라 0)
+ * - merged: MERGE로 갱신/추가된 집계 행 수
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class StatsRollupResult {
+
+    private int paylogRows;			// 반영한 paylog 큐 행 수
+    private int resvRows;				// 반영한 reservation 큐 행 수
+    private boolean backlog;			// 1회 처리 상한에 걸려 큐에 남은 행 있음
+    private int revenueMerged;			// 매출 집계 반영 행 수
+    private int usageMerged;			// 이용 집계 반영 행 수
+    private boolean rebuilt;			// 전체 재구축 여부
+    private long elapsedMillis;			// 소요 시간
+}
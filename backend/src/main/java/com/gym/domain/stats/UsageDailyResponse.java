@@ -0,0 +1,28 @@
+package com.gym.domain.stats;
+
+import lombok.*;
+import java.time.LocalDate;
+
+/**
+ * [251107] 일별 시설 이용 집계 조회 DTO (stat_usage_daily_tbl)
+ * - occupancyRate = doneHours / 시설 운영시간(open~close, 미설정 시 12h) × 100 (SQL에서 계산, 소수 1자리)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class UsageDailyResponse {
+
+    private LocalDate statDate;			// 이용일(want_date)
+    private Long facilityId;			// 시설ID
+    private String facilityName;		// 시설명
+    private String facilityType;		// 시설 종류
+    private Long resvCount;				// 예약신청 건수
+    private Double resvHours;			// 예약신청 시간 합계
+    private Long resvPersons;			// 예약신청 인원 합계
+    private Long doneCount;				// 확정(결제완료) 건수
+    private Double doneHours;			// 확정(결제완료) 시간 합계
+    private Double occupancyRate;		// 가동률(%)
+}
@@ -30,7 +30,10 @@ public interface FileMapper {
           file_path,
           file_type,
           file_ext,
-          file_size
+          file_size,
+          file_hash,
+          file_thumb_path,
+          file_medium_path
         ) VALUES (
           seq_file_id.NEXTVAL,
           #{memberId},
@@ -40,7 +43,10 @@ public interface FileMapper {
           #{filePath,jdbcType=VARCHAR},     -- [251009] backend 상대경로("file/images/...") 저장
           #{fileType},
           #{fileExt,jdbcType=VARCHAR},
-          #{fileSize,jdbcType=NUMERIC}
+          #{fileSize,jdbcType=NUMERIC},
+          #{fileHash,jdbcType=VARCHAR},     -- [251114] 내용 SHA-256 (중복 제거 저장소)
+          #{fileThumbPath,jdbcType=VARCHAR},  -- [251115] 썸네일 파생본 경로
+          #{fileMediumPath,jdbcType=VARCHAR}  -- [251115] 중간 크기 파생본 경로
         )
     """)
     @SelectKey(statement = "SELECT seq_file_id.CURRVAL FROM dual",
@@ -61,7 +67,10 @@ public interface FileMapper {
           file_type        AS fileType,
           file_ext         AS fileExt,
           file_size        AS fileSize,
-          file_reg_date    AS fileRegDate
+          file_reg_date    AS fileRegDate,
+          file_hash        AS fileHash,         -- [251114] 내용 해시
+          file_thumb_path  AS fileThumbPath,    -- [251115] 파생본 경로
+          file_medium_path AS fileMediumPath
         FROM file_tbl
         WHERE file_target_type = #{targetType}
           AND file_target_id = #{targetId}
@@ -0,0 +1,116 @@
+package com.gym.mapper.annotation;
+
+import com.gym.domain.idempotency.IdempotencyRecord;
+import org.apache.ibatis.annotations.*;
+
+/**
+ * [251105] IdempotencyMapper
+ * - idempotency_tbl 단건 CRUD (PK: idem_scope + member_id + idem_key)
+ * - INSERT 시 PK 충돌(DuplicateKeyException) = 다른 요청이 먼저 선점
+ */
+@Mapper
+public interface IdempotencyMapper {
+
+    /** 멱등키 단건 조회 */
+    @Select("""
+        SELECT
+          idem_scope    AS idemScope,
+          member_id     AS memberId,
+          idem_key      AS idemKey,
+          request_hash  AS requestHash,
+          idem_status   AS idemStatus,
+          claim_token   AS claimToken,
+          result_id     AS resultId,
+          created_at    AS createdAt
+        FROM idempotency_tbl
+        WHERE idem_scope = #{scope}
+          AND member_id  = #{memberId}
+          AND idem_key   = #{key}
+    """)
+    IdempotencyRecord selectByKey(@Param("scope") String scope,
+                                  @Param("memberId") String memberId,
+                                  @Param("key") String key);
+
+    /** 처리중('P') 선점 INSERT — PK 충돌 시 DuplicateKeyException */
+    @Insert("""
+        INSERT INTO idempotency_tbl (idem_scope, member_id, idem_key, request_hash, idem_status, claim_token)
+        VALUES (#{idemScope}, #{memberId}, #{idemKey}, #{requestHash}, 'P', #{claimToken})
+    """)
+    int insertPending(IdempotencyRecord rec);
+
+    /**
+     * 완료('D') + 결과ID 기록 — 등록과 같은 트랜잭션에서 호출
+     * - 내 선점(claim_token)이 아직 유효할 때만 1건, 그 사이 인수됐으면 0건(→ 호출 쪽이 등록 롤백)
+     */
+    @Update("""
+        UPDATE idempotency_tbl
+           SET idem_status = 'D',
+               result_id   = #{resultId}
+         WHERE idem_scope  = #{scope}
+           AND member_id   = #{memberId}
+           AND idem_key    = #{key}
+           AND idem_status = 'P'
+           AND claim_token = #{claimToken}
+    """)
+    int complete(@Param("scope") String scope,
+                 @Param("memberId") String memberId,
+                 @Param("key") String key,
+                 @Param("claimToken") String claimToken,
+                 @Param("resultId") Long resultId);
+
+    /**
+     * 오래된 처리중('P') 행 인수 — 선점한 서버가 죽었거나 등록 트랜잭션이 pending-timeout 을 넘김
+     * - 'P' = 등록이 커밋되지 않았음(등록과 'D' 는 같은 트랜잭션) → 인수 후 다시 실행해도 중복 아님
+     * - 조건부 UPDATE(DB 시각 기준)라 여러 서버가 동시에 시도해도 1곳만 1건
+     */
+    @Update("""
+        UPDATE idempotency_tbl
+           SET created_at  = SYSDATE,
+               claim_token = #{claimToken}
+         WHERE idem_scope = #{scope}
+           AND member_id  = #{memberId}
+           AND idem_key   = #{key}
+           AND idem_status = 'P'
+           AND created_at < SYSDATE - #{pendingSeconds} / 86400
+    """)
+    int takeOverStale(@Param("scope") String scope,
+                      @Param("memberId") String memberId,
+                      @Param("key") String key,
+                      @Param("claimToken") String claimToken,
+                      @Param("pendingSeconds") long pendingSeconds);
+
+    /** 보관기간 지난 단건 삭제(DB 시각 기준) — 1건이면 같은 키로 다시 선점 */
+    @Delete("""
+        DELETE FROM idempotency_tbl
+         WHERE idem_scope = #{scope}
+           AND member_id  = #{memberId}
+           AND idem_key   = #{key}
+           AND created_at < SYSDATE - #{ttlHours} / 24
+    """)
+    int deleteIfExpired(@Param("scope") String scope,
+                        @Param("memberId") String memberId,
+                        @Param("key") String key,
+                        @Param("ttlHours") long ttlHours);
+
+    /** 보관기간 지난 행 정리 (1회 최대 limit 건) */
+    @Delete("""
+        DELETE FROM idempotency_tbl
+         WHERE created_at < SYSDATE - #{ttlHours} / 24
+           AND ROWNUM <= #{limit}
+    """)
+    int deleteExpired(@Param("ttlHours") long ttlHours, @Param("limit") int limit);
+
+    /** 내 선점 행 삭제(등록 실패 → 같은 키로 재시도 허용) — 인수된 행은 건드리지 않음 */
+    @Delete("""
+        DELETE FROM idempotency_tbl
+         WHERE idem_scope  = #{scope}
+           AND member_id   = #{memberId}
+           AND idem_key    = #{key}
+           AND idem_status = 'P'
+           AND claim_token = #{claimToken}
+    """)
+    int deleteClaim(@Param("scope") String scope,
+                    @Param("memberId") String memberId,
+                    @Param("key") String key,
+                    @Param("claimToken") String claimToken);
+}
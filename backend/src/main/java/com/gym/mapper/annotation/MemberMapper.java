@@ -34,6 +34,43 @@ public interface MemberMapper {
 			""")
 	Member selectMemberById(@Param("memberId") String memberId);
 
+	/**
+	 * [251119] 프로필 조회 — 비밀번호 제외 (내 정보/CMS 단건 화면)
+	 * - 비밀번호 검증·전체 행 UPDATE 가 필요한 곳만 selectMemberById 사용
+	 */
+	@Select("""
+			    SELECT
+			      member_id        AS memberId,
+			      member_name      AS memberName,
+			      member_gender    AS memberGender,
+			      member_email     AS memberEmail,
+			      member_mobile    AS memberMobile,
+			      member_phone     AS memberPhone,
+			      zip,
+			      road_address     AS roadAddress,
+			      jibun_address    AS jibunAddress,
+			      detail_address   AS detailAddress,
+			      member_birthday  AS memberBirthday,
+			      member_manipay   AS memberManipay,
+			      member_joindate  AS memberJoindate,
+			      member_role      AS memberRole,
+			      admin_type       AS adminType
+			    FROM member_tbl
+			    WHERE member_id = #{memberId}
+			""")
+	Member selectMemberProfileById(@Param("memberId") String memberId);
+
+	/** [251119] 권한 확인용 — 아이디 + 역할 + 관리자유형만 (없으면 null) */
+	@Select("""
+			    SELECT
+			      member_id        AS memberId,
+			      member_role      AS memberRole,
+			      admin_type       AS adminType
+			    FROM member_tbl
+			    WHERE member_id = #{memberId}
+			""")
+	Member selectMemberRoleById(@Param("memberId") String memberId);
+
 	/**
 	 * 등록(INSERT) — DEFAULT 컬럼은 Service에서 값 보정 - DDL: member_joindate DATE DEFAULT
 	 * SYSDATE NOT NULL - 따라서 INSERT 목록에 member_joindate 를 넣지 않는다(기본값 사용)
@@ -0,0 +1,40 @@
+package com.gym.mapper.annotation;
+
+import org.apache.ibatis.annotations.*;
+
+/**
+ * [251126] RateLimitMapper
+ * - rate_limit_tbl (PK: limit_key) — rate-limit.shared: true 일 때만 사용
+ * - GCRA: 허용이면 tat = GREATEST(tat, now) + interval, 판정과 갱신을 조건부 UPDATE 1문장으로
+ */
+@Mapper
+public interface RateLimitMapper {
+
+    /** 허용이면 1(갱신), 한도 초과 또는 행 없음이면 0 */
+    @Update("""
+        UPDATE rate_limit_tbl
+           SET tat_ms     = GREATEST(tat_ms, #{nowMs}) + #{intervalMs},
+               updated_at = SYSTIMESTAMP
+         WHERE limit_key = #{limitKey}
+           AND GREATEST(tat_ms, #{nowMs}) - #{nowMs} <= #{toleranceMs}
+    """)
+    int tryAcquire(@Param("limitKey") String limitKey,
+                   @Param("nowMs") long nowMs,
+                   @Param("intervalMs") long intervalMs,
+                   @Param("toleranceMs") long toleranceMs);
+
+    /** 첫 요청(행 없음) — 동시 등록이면 DuplicateKeyException */
+    @Insert("""
+        INSERT INTO rate_limit_tbl (limit_key, tat_ms, updated_at)
+        VALUES (#{limitKey}, #{tatMs}, SYSTIMESTAMP)
+    """)
+    int insert(@Param("limitKey") String limitKey, @Param("tatMs") long tatMs);
+
+    /** 지난 행 정리(버킷이 가득 찬 상태와 같음, 1회 최대 limit 건) */
+    @Delete("""
+        DELETE FROM rate_limit_tbl
+         WHERE tat_ms < #{nowMs}
+           AND ROWNUM <= #{limit}
+    """)
+    int deleteIdle(@Param("nowMs") long nowMs, @Param("limit") int limit);
+}
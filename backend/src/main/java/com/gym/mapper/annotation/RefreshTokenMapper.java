@@ -0,0 +1,62 @@
+package com.gym.mapper.annotation;
+
+import com.gym.domain.auth.RefreshToken;
+import org.apache.ibatis.annotations.*;
+
+/**
+ * [251125] RefreshTokenMapper
+ * - refresh_token_tbl (PK: token_hash)
+ * - 1회용 보장: markUsed 는 미사용·미폐기·미만료일 때만 갱신(조건부 UPDATE) → 여러 서버/동시 요청 중 1건만 성공
+ */
+@Mapper
+public interface RefreshTokenMapper {
+
+    /** 발급 */
+    @Insert("""
+        INSERT INTO refresh_token_tbl (token_hash, family_id, member_id, issued_at, expires_at)
+        VALUES (#{tokenHash}, #{familyId}, #{memberId}, SYSTIMESTAMP, #{expiresAt})
+    """)
+    int insert(RefreshToken token);
+
+    /** 해시로 단건 조회 (메모리 색인에 없을 때) */
+    @Select("""
+        SELECT token_hash AS tokenHash,
+               family_id  AS familyId,
+               member_id  AS memberId,
+               issued_at  AS issuedAt,
+               expires_at AS expiresAt,
+               used_at    AS usedAt,
+               revoked_at AS revokedAt
+          FROM refresh_token_tbl
+         WHERE token_hash = #{tokenHash}
+    """)
+    RefreshToken selectByHash(@Param("tokenHash") String tokenHash);
+
+    /** 재발급에 사용 처리 (성공 1 / 이미 사용·폐기·만료 0) */
+    @Update("""
+        UPDATE refresh_token_tbl
+           SET used_at = SYSTIMESTAMP
+         WHERE token_hash = #{tokenHash}
+           AND used_at IS NULL
+           AND revoked_at IS NULL
+           AND expires_at > SYSTIMESTAMP
+    """)
+    int markUsed(@Param("tokenHash") String tokenHash);
+
+    /** family 전체 폐기 (재사용 감지/로그아웃) */
+    @Update("""
+        UPDATE refresh_token_tbl
+           SET revoked_at = SYSTIMESTAMP
+         WHERE family_id = #{familyId}
+           AND revoked_at IS NULL
+    """)
+    int revokeFamily(@Param("familyId") String familyId);
+
+    /** 만료 행 정리 (1회 최대 limit 건) */
+    @Delete("""
+        DELETE FROM refresh_token_tbl
+         WHERE expires_at < SYSTIMESTAMP
+           AND ROWNUM <= #{limit}
+    """)
+    int deleteExpired(@Param("limit") int limit);
+}
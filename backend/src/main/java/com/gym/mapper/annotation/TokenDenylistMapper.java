@@ -0,0 +1,65 @@
+package com.gym.mapper.annotation;
+
+import com.gym.domain.auth.TokenDenylistEntry;
+import org.apache.ibatis.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * [251124] TokenDenylistMapper
+ * - token_denylist_tbl (PK: deny_type + deny_key)
+ * - 등록은 MERGE → 같은 토큰 재로그아웃/같은 회원 재폐기도 오류 없이 최신 시각으로 갱신
+ */
+@Mapper
+public interface TokenDenylistMapper {
+
+    /** 폐기 등록/갱신 (revoked_at 은 DB 시각) */
+    @Update("""
+        MERGE INTO token_denylist_tbl d
+        USING (SELECT #{denyType} AS deny_type, #{denyKey} AS deny_key FROM dual) s
+           ON (d.deny_type = s.deny_type AND d.deny_key = s.deny_key)
+        WHEN MATCHED THEN UPDATE SET
+             d.revoked_at  = SYSTIMESTAMP,
+             d.expires_at  = GREATEST(d.expires_at, #{expiresAt}),
+             d.deny_reason = #{denyReason, jdbcType=VARCHAR}
+        WHEN NOT MATCHED THEN INSERT (deny_type, deny_key, member_id, revoked_at, expires_at, deny_reason)
+             VALUES (#{denyType}, #{denyKey}, #{memberId}, SYSTIMESTAMP, #{expiresAt}, #{denyReason, jdbcType=VARCHAR})
+    """)
+    int mergeEntry(TokenDenylistEntry entry);
+
+    /** 아직 만료되지 않은 전체 (기동 시 적재) */
+    @Select("""
+        SELECT deny_type   AS denyType,
+               deny_key    AS denyKey,
+               member_id   AS memberId,
+               revoked_at  AS revokedAt,
+               expires_at  AS expiresAt,
+               deny_reason AS denyReason
+          FROM token_denylist_tbl
+         WHERE expires_at > SYSTIMESTAMP
+    """)
+    List<TokenDenylistEntry> selectActive();
+
+    /** since 이후 폐기분 (다른 서버 추가분 주기 조회) */
+    @Select("""
+        SELECT deny_type   AS denyType,
+               deny_key    AS denyKey,
+               member_id   AS memberId,
+               revoked_at  AS revokedAt,
+               expires_at  AS expiresAt,
+               deny_reason AS denyReason
+          FROM token_denylist_tbl
+         WHERE revoked_at >= #{since}
+           AND expires_at > SYSTIMESTAMP
+    """)
+    List<TokenDenylistEntry> selectRevokedSince(@Param("since") LocalDateTime since);
+
+    /** 만료 행 정리 (1회 최대 limit 건) */
+    @Delete("""
+        DELETE FROM token_denylist_tbl
+         WHERE expires_at < SYSTIMESTAMP
+           AND ROWNUM <= #{limit}
+    """)
+    int deleteExpired(@Param("limit") int limit);
+}
@@ -27,6 +27,17 @@ public interface CommentsMapper {
      */
     List<CommentsResponse> selectCommentsByPost(@Param("postId") Long postId);
 
+    /**
+     * [251112] 게시글 댓글 키셋 페이징 (최신순)
+     * @param postId 게시글 ID
+     * @param cursor 직전 페이지 마지막 댓글 ID (null 이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 댓글 리스트
+     */
+    List<CommentsResponse> selectCommentsPage(@Param("postId") Long postId,
+                                              @Param("cursor") Long cursor,
+                                              @Param("size") int size);
+
     /**
      * 댓글 단건 조회
      * @param commentsId 댓글 ID
@@ -51,4 +62,19 @@ public interface CommentsMapper {
      * @return 영향받은 행 수
      */
     int deleteCommentsById(@Param("commentsId") Long commentsId);
-}
\ No newline at end of file
+
+    /**
+     * [251112] 게시글 댓글 수 증감
+     * @param postId 게시글 ID
+     * @param delta +1(등록) / -1(삭제)
+     * @return 영향받은 행 수
+     */
+    int addPostCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    /**
+     * [251112] 회원 삭제 전 해당 회원 댓글 수만큼 게시글 댓글 수 차감
+     * @param memberId 회원 ID
+     * @return 영향받은 게시글 수
+     */
+    int subtractCommentCountsByMember(@Param("memberId") String memberId);
+}
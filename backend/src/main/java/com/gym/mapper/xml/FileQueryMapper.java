@@ -4,6 +4,7 @@ import com.gym.domain.file.FileRequest;
 import com.gym.domain.file.FileResponse;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor; // [251117] 고아 파일 GC 참조 경로 스트리밍
 
 import java.util.List;
 
@@ -45,4 +46,17 @@ public interface FileQueryMapper {
      * result: long
      */
     long countFiles(FileRequest request);
+
+    /**
+     * [251113] 물리파일 참조 수 (file_tbl.file_path + post_tbl.post_file_path)
+     * - 0 일 때만 실제 파일 삭제 (다른 행이 같은 파일을 가리키면 보존)
+     */
+    long countFilePathRefs(@Param("filePath") String filePath);
+
+    /**
+     * [251117] 고아 파일 GC: 참조 중인 파일 경로 전체 (정규화 상대경로, 코드포인트 순 정렬, 중복 가능)
+     * - file_tbl(원본/파생본) + 게시글/콘텐츠/시설/게시판 경로 컬럼
+     * - Cursor 라 트랜잭션 안에서 순회해야 함
+     */
+    Cursor<String> cursorReferencedPaths();
 }
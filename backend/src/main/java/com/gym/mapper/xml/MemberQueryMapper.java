@@ -2,6 +2,7 @@ package com.gym.mapper.xml;                          // 📦 XML 매퍼 인터
 
 import com.gym.domain.member.Member;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.annotations.Param;
 import java.util.List;
 
@@ -30,5 +31,16 @@ public interface MemberQueryMapper {
         @Param("adminType") String adminType,
         @Param("name") String name
     );
-}
 
+    // [251118] 회원 검색 인덱스 적재용 — member_id/name/email/role 만, 회원ID 순 스트리밍
+    Cursor<Member> cursorSearchRows();
+
+    // [251118] 검색 인덱스 결과(현재 페이지 회원ID)만 조회 — 최대 1000건(Oracle IN 목록 제한)
+    List<Member> selectMembersByIds(@Param("memberIds") List<String> memberIds);
+
+    // [251120] 일괄 가져오기 — chunk 회원ID 중 이미 등록된 ID (최대 1000건)
+    List<String> selectExistingMemberIds(@Param("memberIds") List<String> memberIds);
+
+    // [251120] 회원 내보내기 커서 — 목록과 같은 조건, 비밀번호 제외, 회원ID 순
+    Cursor<Member> cursorMemberExport(@Param("keyword") String keyword, @Param("role") String role);
+}
@@ -6,7 +6,10 @@ import com.gym.domain.message.MessageMarkReadRequest;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -32,16 +35,26 @@ public interface MessageMapper {
      * 메시지 저장 (insert)
      * @param message 저장 대상 메시지 정보
      * @return 저장된 메시지 고유 ID (생성된 키값)
+     * 251108 selectKey로 message.messageId에 발급 PK가 채워짐 (반환값은 영향 행 수)
      */
     int insertMessage(Message message);
 
     /**
      * 전체 메시지 목록 조회 (단일 엔드포인트용 필터)
      * @param params 검색 파라미터 맵 (startDate, endDate, messageType, receiverId)
+     *               251110 includeArchive(Boolean) — true 면 보관 테이블도 함께 조회
      * @return 메시지 전체 리스트
      */
     List<MessageResponse> selectAllMessages(Map<String, Object> params);
 
+    /**
+     * 251103 추가
+     * 메시지 내보내기(CSV/XLSX)용 커서 조회
+     * @param params selectAllMessages와 동일한 검색 파라미터 맵
+     * @return 메시지 커서 (트랜잭션 안에서만 순회 가능)
+     */
+    Cursor<MessageResponse> cursorAllMessages(Map<String, Object> params);
+
     /**
      * 251016 추가
      * 회원별 메시지 리스트 조회 (limit 포함)
@@ -51,6 +64,26 @@ public interface MessageMapper {
      */
     List<MessageResponse> findByMemberId(@Param("memberId") String memberId, @Param("limit") int limit);
 
+    /**
+     * 251108 추가
+     * 회원별 이전 메시지 키셋 페이징 조회
+     * @param memberId 회원 ID
+     * @param cursor 직전 페이지 마지막 메시지 ID (이 메시지보다 오래된 것부터)
+     * @param limit 최대 리스트 개수
+     * @return 회원별 메시지 리스트 (최신순)
+     */
+    List<MessageResponse> findOlderByMemberId(@Param("memberId") String memberId,
+                                              @Param("cursor") Long cursor,
+                                              @Param("limit") int limit);
+
+    /**
+     * 251108 추가
+     * 메시지 소유 회원 ID 조회 (읽음 처리 후 캐시 갱신용)
+     * @param messageId 메시지 고유 ID
+     * @return 회원 ID (없으면 null)
+     */
+    String selectMemberIdByMessageId(@Param("messageId") Long messageId);
+
     /**
      * 메시지 읽음 처리
      * @param messageId 메시지 고유 ID
@@ -62,4 +95,52 @@ public interface MessageMapper {
     // int markAsRead(@Param("request") MessageMarkReadRequest request);
     int markAsRead(@Param("messageId") Long messageId); // [251023] DTO 대신 Long 타입의 messageId를 직접 받도록 변경
 
+    /**
+     * 251109 추가
+     * 선택 메시지 일괄 읽음 처리 (본인 소유 + 안 읽은 메시지만)
+     * @param memberId 로그인 회원 ID
+     * @param messageIds 메시지 ID 목록 (Oracle IN 제한으로 최대 1000건)
+     * @return 실제 읽음으로 전환된 건수
+     */
+    int markAsReadByIds(@Param("memberId") String memberId, @Param("messageIds") List<Long> messageIds);
+
+    /**
+     * 251109 추가
+     * 회원 메시지 전체 읽음 처리
+     * @param memberId 로그인 회원 ID
+     * @param upToMessageId 이 ID 이하만 처리 (null 이면 전체)
+     * @return 실제 읽음으로 전환된 건수
+     */
+    int markAllAsRead(@Param("memberId") String memberId, @Param("upToMessageId") Long upToMessageId);
+
+    /**
+     * 251111 추가
+     * 대량 공지 수신 대상 회원ID 조회 (1회 쿼리)
+     * @param facilityId 대상 시설 (null 가능)
+     * @param targetDate 대상 이용일 (null 이면 오늘 이후)
+     * @param memberRole 시설/날짜 조건이 없을 때 회원 권한 세그먼트 (null 이면 전체)
+     */
+    List<String> selectBroadcastRecipients(@Param("facilityId") Long facilityId,
+                                           @Param("targetDate") LocalDate targetDate,
+                                           @Param("memberRole") String memberRole);
+
+    /**
+     * 251110 추가 (보관)
+     * cutoff 이전 메시지 중 message_id 오름차순 chunkSize 번째 ID
+     * @return 이번 chunk 상한 ID (대상 없으면 null)
+     */
+    Long selectArchiveChunkMaxId(@Param("cutoff") LocalDate cutoff, @Param("chunkSize") int chunkSize);
+
+    /** 251110 cutoff 이전 + maxId 이하 메시지를 보관 테이블로 복사 */
+    int copyToArchive(@Param("cutoff") LocalDate cutoff, @Param("maxId") Long maxId);
+
+    /** 251110 보관 테이블로 복사한 메시지를 운영 테이블에서 삭제 (copyToArchive 와 같은 조건) */
+    int deleteArchived(@Param("cutoff") LocalDate cutoff, @Param("maxId") Long maxId);
+
+    /** 251110 보관 테이블에서 cutoff 이전 메시지 최대 chunkSize 건 삭제 */
+    int purgeArchive(@Param("cutoff") LocalDate cutoff, @Param("chunkSize") int chunkSize);
+
+    /** 251110 보관 테이블의 가장 최근 발송일시 (비어 있으면 null) */
+    LocalDateTime selectArchivedMaxDate();
+
 }
@@ -2,10 +2,13 @@ package com.gym.mapper.xml;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 import java.util.List;
 
 import com.gym.domain.payment.Payment;
+import com.gym.domain.payment.PaymentResponse;
 import com.gym.domain.payment.PaymentSearchRequest;
+import com.gym.domain.payment.PaymentTransition;
 
 @Mapper
 public interface PaymentMapper {
@@ -37,11 +40,23 @@ public interface PaymentMapper {
 
     /**
      * 결제 목록/검색 조회
-     * - 입력: PaymentSearchRequest (회원ID, 예약ID, 결제수단, 상태 등 조건)
-     * - 반환: 조건에 맞는 결제 리스트
+     * - 입력: PaymentSearchRequest (회원ID, 예약ID, 결제수단, 상태, 결제일 범위, 키셋 cursor 등 조건)
+     * - [251106] offset/limit: null이면 전체 조회(기존 동작)
+     * - 반환: 조건에 맞는 결제 리스트 (PaymentResponse로 바로 매핑)
      * - XML 매퍼: selectPayments
      */
-    List<Payment> selectPayments(@Param("req") PaymentSearchRequest req);
+    List<PaymentResponse> selectPayments(@Param("req") PaymentSearchRequest req,
+                                         @Param("offset") Integer offset,
+                                         @Param("limit") Integer limit);
+
+    /**
+     * [251103 신규] 결제 내보내기(CSV/XLSX)용 커서 조회
+     * - 입력: PaymentSearchRequest (selectPayments와 동일 조건)
+     * - 반환: PaymentResponse 커서 (엔티티 변환 없이 응답 DTO로 바로 매핑)
+     * - 트랜잭션 안에서만 순회 가능 (ExportServiceImpl 참고)
+     * - XML 매퍼: cursorPayments
+     */
+    Cursor<PaymentResponse> cursorPayments(@Param("req") PaymentSearchRequest req);
 
     /**
      * 결제 건수 조회
@@ -50,7 +65,7 @@ public interface PaymentMapper {
      * - 보통 페이징 처리 시 전체 개수 계산 용도
      * - XML 매퍼: countPayments
      */
-    //int countPayments(@Param("req") PaymentSearchRequest req);
+    long countPayments(@Param("req") PaymentSearchRequest req); // [251106] 주석 해제(키셋 cursor는 무시)
 
     /**
      * 결제 상태 변경 (UPDATE)
@@ -60,6 +75,30 @@ public interface PaymentMapper {
      */
     int updatePaymentStatus(@Param("paymentId") Long paymentId,
                             @Param("status") String status);
+
+    /**
+     * [251104 신규] 결제 상태전이 (PL/SQL 블록 1회 호출)
+     * - 입력: PaymentTransition IN 필드(paymentId, toStatus, fromStatuses, reservationStatus, expectedVersion)
+     * - 결과: 같은 객체의 OUT 필드(rows, resvId, memberId, version)에 채워짐
+     * - 예약 상태 동기화까지 같은 블록에서 처리
+     * - XML 매퍼: transitPaymentStatus (statementType=CALLABLE)
+     */
+    void transitPaymentStatus(PaymentTransition t);
+
+    /**
+     * [251104 신규] 결제 상태/버전 다건 조회
+     * - 반환: paymentId, memberId, resvId, paymentStatus, paymentVersion 만 채운 엔티티
+     * - XML 매퍼: selectPaymentStates
+     */
+    List<Payment> selectPaymentStates(@Param("ids") List<Long> ids);
+
+    /**
+     * [251104 신규] 예약 상태 일괄 동기화
+     * - 반환: 영향받은 예약 수
+     * - XML 매퍼: syncReservationStatus
+     */
+    int syncReservationStatus(@Param("status") String status,
+                              @Param("resvIds") List<Long> resvIds);
     
     
     
@@ -86,4 +86,14 @@ public interface PostMapper {
      */
     void increaseViewCount(Long postId); // [250925추가]
 
+    /**
+     * [251113] 게시글 연쇄삭제(집합 단위)
+     * - 대상: boardId(게시판 전체) 또는 postIds(최대 1000건), 둘 다 주면 AND 조건
+     * - 실행 순서: 파일경로 수집 → 댓글 삭제 → 첨부파일 행 삭제 → 게시글 삭제 (한 트랜잭션)
+     */
+    List<String> selectCascadeFilePaths(@Param("boardId") Long boardId, @Param("postIds") List<Long> postIds);
+    int deleteCommentsByPosts(@Param("boardId") Long boardId, @Param("postIds") List<Long> postIds);
+    int deleteFilesByPosts(@Param("boardId") Long boardId, @Param("postIds") List<Long> postIds);
+    int deletePostsByTarget(@Param("boardId") Long boardId, @Param("postIds") List<Long> postIds);
+
 }
@@ -2,6 +2,7 @@ package com.gym.mapper.xml;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -22,6 +23,9 @@ public interface ReservationQueryMapper {
 
     // [수정] 검색 DTO 단일 파라미터(@Param("req")), 반환 타입 응답 DTO
     List<ReservationResponse> listReservations(@Param("req") ReservationSearchRequest req); // [수정]
+
+    // [251103 신규] 내보내기(CSV/XLSX)용 커서 조회 — 조건은 listReservations와 동일, 트랜잭션 안에서만 순회
+    Cursor<ReservationResponse> cursorReservations(@Param("req") ReservationSearchRequest req);
     
     
     // [추가] 예약 중복 여부 확인
@@ -0,0 +1,56 @@
+package com.gym.mapper.xml;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.gym.domain.stats.RevenueDailyResponse;
+import com.gym.domain.stats.UsageDailyResponse;
+
+/**
+ * [251107] 일별 매출/이용 집계(롤업) 매퍼 — XML: resources/mappers/stats-rollup-mapper.xml
+ * - 증분 집계: 큐(stat_queue_tbl)에서 꺼낸 원본 PK만 GROUP BY → MERGE로 기존 집계에 더한 뒤 큐에서 삭제
+ * - 재구축: ids = null → 큐에 없는 원본 전체 대상
+ * - 조회: 집계 테이블만 읽음(원본 paylog/reservation 스캔 없음)
+ */
+@Mapper
+public interface StatsRollupMapper {
+
+    /** watermark 행 잠금 조회(동시 실행 직렬화) — 행 없으면 null */
+    Long lockWatermark(@Param("statName") String statName);
+
+    /** 마지막으로 반영한 원본 PK 기록(참고용) */
+    int updateWatermark(@Param("statName") String statName, @Param("lastId") Long lastId);
+
+    /** 큐에 쌓인 미반영 원본 PK (PK 오름차순, 최대 limit건) */
+    List<Long> selectQueuedIds(@Param("statName") String statName, @Param("limit") int limit);
+
+    /** 반영한 원본 PK 를 큐에서 삭제 (ids 최대 1000건 — Oracle IN 목록 제한) */
+    int deleteQueued(@Param("statName") String statName, @Param("ids") List<Long> ids);
+
+    /** paylog(ids, null=큐에 없는 전체) → 일별 시설종류별 매출 누적 */
+    int mergeRevenue(@Param("ids") List<Long> ids);
+
+    /** paylog(ids, null=큐에 없는 전체) → 이용일별 시설 확정 이용 누적(완료 +, 완료→취소 -) */
+    int mergeUsageDone(@Param("ids") List<Long> ids);
+
+    /** reservation(ids, null=큐에 없는 전체) → 이용일별 시설 예약신청 누적 */
+    int mergeUsageRequested(@Param("ids") List<Long> ids);
+
+    /** 재구축용 전체 삭제 */
+    int deleteRevenueAll();
+
+    int deleteUsageAll();
+
+    /** 일별 매출 조회(기간/시설종류) */
+    List<RevenueDailyResponse> selectRevenueDaily(@Param("fromDate") LocalDate fromDate,
+                                                  @Param("toDate") LocalDate toDate,
+                                                  @Param("facilityType") String facilityType);
+
+    /** 일별 시설 이용 조회(기간/시설) */
+    List<UsageDailyResponse> selectUsageDaily(@Param("fromDate") LocalDate fromDate,
+                                              @Param("toDate") LocalDate toDate,
+                                              @Param("facilityId") Long facilityId);
+}
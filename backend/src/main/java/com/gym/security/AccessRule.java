@@ -0,0 +1,98 @@
+package com.gym.security;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * [251127] 경로 권한 규칙 1줄 (SecurityConfig.ACCESS_RULES 선언표)
+ * - 기존 requestMatchers(...).permitAll() 한 줄과 같은 뜻: 메서드(null = 전체) + 경로 패턴 여러 개 + 접근 조건
+ * - 패턴: 세그먼트 단위 리터럴, "*"(세그먼트 1개), 끝의 "**"(0개 이상)만 허용 — 그 외는 기동 시 오류
+ * - 선언 순서가 우선순위(먼저 선언한 규칙이 이김), 기존 체인과 동일
+ */
+public final class AccessRule {
+
+    private final HttpMethod method;      // null = 모든 메서드
+    private final List<String> patterns;
+    private final Access access;
+
+    private AccessRule(HttpMethod method, Access access, String... patterns) {
+        if (patterns.length == 0) throw new IllegalArgumentException("권한 규칙에 경로가 없습니다.");
+        this.method = method;
+        this.patterns = List.of(patterns);
+        this.access = access;
+    }
+
+    /** 모든 메서드 */
+    public static AccessRule any(Access access, String... patterns) {
+        return new AccessRule(null, access, patterns);
+    }
+
+    /** 특정 메서드 */
+    public static AccessRule of(HttpMethod method, Access access, String... patterns) {
+        return new AccessRule(method, access, patterns);
+    }
+
+    public HttpMethod getMethod() { return method; }
+    public List<String> getPatterns() { return patterns; }
+    public Access getAccess() { return access; }
+
+    /** 접근 조건 (permitAll / denyAll / authenticated / hasAnyAuthority) */
+    public static final class Access {
+
+        private static final AuthenticationTrustResolver TRUST = new AuthenticationTrustResolverImpl();
+
+        public static final Access PERMIT_ALL = new Access("permitAll", null);
+        public static final Access DENY_ALL = new Access("denyAll", null);
+        public static final Access AUTHENTICATED = new Access("authenticated", null);
+
+        private final String name;
+        private final Set<String> authorities; // hasAnyAuthority 일 때만
+
+        private Access(String name, Set<String> authorities) {
+            this.name = name;
+            this.authorities = authorities;
+        }
+
+        public static Access hasAnyAuthority(String... authorities) {
+            return new Access("hasAnyAuthority" + Arrays.toString(authorities), Set.of(authorities));
+        }
+
+        /** hasAnyRole("ADMIN") = hasAnyAuthority("ROLE_ADMIN") */
+        public static Access hasAnyRole(String... roles) {
+            return hasAnyAuthority(Arrays.stream(roles).map(r -> "ROLE_" + r).toArray(String[]::new));
+        }
+
+        /** permitAll/denyAll 은 인증 정보를 꺼내지 않음 */
+        public boolean needsAuthentication() {
+            return this != PERMIT_ALL && this != DENY_ALL;
+        }
+
+        public boolean check(Authentication auth) {
+            if (this == PERMIT_ALL) return true;
+            if (this == DENY_ALL) return false;
+            if (auth == null || !TRUST.isAuthenticated(auth)) return false;
+            if (authorities == null) return true;                 // authenticated
+            for (GrantedAuthority a : auth.getAuthorities()) {
+                if (authorities.contains(a.getAuthority())) return true;
+            }
+            return false;
+        }
+
+        /** 같은 조건인지(충돌 보고용) */
+        boolean sameAs(Access other) {
+            return this == other || (authorities != null && other.authorities != null && authorities.equals(other.authorities));
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.gym.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * [251124] 문자열 Bloom 필터 (TokenDenylist 전용)
+ * - mightContain 이 false 면 확실히 없음 → 대부분의 요청(폐기 안 된 토큰)은 비트 k 개 확인으로 끝
+ * - true 면 정확 집합에서 한 번 더 확인(오탐률 fpp)
+ * - 삭제 불가 → 만료분 정리는 새 필터로 다시 만들어 교체
+ * - 비트 배열은 AtomicLongArray → 동시 put 에서도 비트 유실 없음(유실되면 폐기 토큰을 놓침)
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long numBits;
+    private final int numHashes;
+    private final int capacity;
+
+    /**
+     * @param capacity 예상 항목 수 (이를 넘기면 오탐률이 올라가므로 호출측이 더 크게 다시 만듦)
+     * @param fpp 목표 오탐률 (0~1)
+     */
+    BloomFilter(int capacity, double fpp) {
+        int n = Math.max(1, capacity);
+        long bits = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, Math.min((bits + 63) / 64, Integer.MAX_VALUE / 2));
+        this.words = new AtomicLongArray(wordCount);
+        this.numBits = (long) wordCount * 64;
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / n * Math.log(2)));
+        this.capacity = n;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    void put(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            int idx = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long w;
+            do {
+                w = words.get(idx);
+                if ((w & mask) != 0) break;
+            } while (!words.compareAndSet(idx, w, w | mask));
+        }
+    }
+
+    boolean mightContain(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    /** FNV-1a 64bit */
+    private static long hash(String s) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    /** splitmix64 마무리 섞기 */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
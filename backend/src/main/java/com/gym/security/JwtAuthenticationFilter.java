@@ -6,6 +6,8 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import io.jsonwebtoken.Claims;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
@@ -19,13 +21,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 //  private final JwtTokenProvider jwtTokenProvider;
 
 	private final NewJwtTokenProvider newJwtTokenProvider;
+	private final TokenDenylist tokenDenylist; // [251124] 로그아웃/역할 변경으로 폐기된 토큰 (메모리 판단)
 
 //  public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
 //      this.jwtTokenProvider = jwtTokenProvider;
 //  }
 
-	public JwtAuthenticationFilter(NewJwtTokenProvider jwtTokenProvider) {
+	public JwtAuthenticationFilter(NewJwtTokenProvider jwtTokenProvider, TokenDenylist tokenDenylist) {
 		this.newJwtTokenProvider = jwtTokenProvider;
+		this.tokenDenylist = tokenDenylist;
 	}
 
 	// 필터 사이클
@@ -42,13 +46,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		LOGGER.info("[doFilterInternal] token 값 유효성 체크 시작");
 
 		// if (token != null && jwtTokenProvider.validateToken(token)) {
-		if (token != null && newJwtTokenProvider.validateToken(token)) {
-
-			// Authentication authentication = jwtTokenProvider.getAuthentication(token);
-			Authentication authentication = newJwtTokenProvider.getAuthentication(token);
-			SecurityContextHolder.getContext().setAuthentication(authentication);
-
-			LOGGER.info("[doFilterInternal] token 값 유효성 체크 완료");
+		// [251124] 검증+클레임 추출 1회 → 폐기 여부 확인(메모리) → 인증
+		Claims claims = token != null ? newJwtTokenProvider.parseClaims(token) : null;
+		if (claims != null) {
+			if (tokenDenylist.isRevoked(claims.getId(), claims.getSubject(), claims.getIssuedAt())) {
+				LOGGER.info("[doFilterInternal] 폐기된 토큰 — 인증 생략. sub : {}", claims.getSubject());
+			} else {
+				// Authentication authentication = jwtTokenProvider.getAuthentication(token);
+				Authentication authentication = newJwtTokenProvider.getAuthentication(claims);
+				SecurityContextHolder.getContext().setAuthentication(authentication);
+
+				LOGGER.info("[doFilterInternal] token 값 유효성 체크 완료");
+			}
 		}
 
 		filterChain.doFilter(servletRequest, servletResponse); //필터 체인지
@@ -2,6 +2,7 @@ package com.gym.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 // import io.jsonwebtoken.io.Decoders;
@@ -11,6 +12,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -26,6 +28,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
+import com.gym.security.dto.SecuUserDTO;
+
 @Component
 @Getter
 @Setter
@@ -36,13 +40,23 @@ public class NewJwtTokenProvider {
     private UserDetailsService userDetailsService;
 
     private Key secretKey;
+    private JwtParser parser; // [251124] 파서 1회 생성 후 재사용(스레드 안전)
+
+    // [251124] 무상태 인증: true 면 요청마다 회원 조회 없이 토큰 클레임(sub/roles)으로 인증 (역할 변경은 TokenDenylist 로 폐기)
+    @Value("${jwt.stateless:false}")
+    private boolean stateless;
 
     // 환경설정 키를 기존 yml과 동일하게 맞춤(jwt.secret). Base64가 아닌 “그대로의 문자열”을 키로 사용.
-    public NewJwtTokenProvider(@Value("${jwt.secret}") String secret) {
+    // [251125] 액세스 토큰 유효시간을 jwt.access-token-validity-seconds 로 (리프레시 토큰으로 재발급하므로 짧게 운영 가능)
+    public NewJwtTokenProvider(@Value("${jwt.secret}") String secret,
+                               @Value("${jwt.access-token-validity-seconds:3600}") long validitySeconds) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+        this.tokenValidMillisecond = validitySeconds * 1000L;
     }
 
-    private final long tokenValidMillisecond = 1000L * 60 * 60; // 1시간
+    // private final long tokenValidMillisecond = 1000L * 60 * 60; // 1시간 (old)
+    private final long tokenValidMillisecond;
 
     @PostConstruct
     protected void init() {
@@ -55,6 +69,7 @@ public class NewJwtTokenProvider {
         Date now = new Date();
         return Jwts.builder()
                    .setClaims(claims)
+                   .setId(UUID.randomUUID().toString()) // [251124] jti: 토큰 단위 폐기(로그아웃) 식별자
                    .setIssuedAt(now)
                    .setExpiration(new Date(now.getTime() + tokenValidMillisecond))
                    .signWith(this.secretKey, SignatureAlgorithm.HS256)
@@ -66,6 +81,28 @@ public class NewJwtTokenProvider {
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
+    // [251124] 이미 검증한 클레임으로 인증 (필터에서 토큰을 한 번만 파싱)
+    public Authentication getAuthentication(Claims claims) {
+        if (stateless) {
+            List<?> roles = claims.get("roles", List.class);
+            UserDetails userDetails = SecuUserDTO.ofAuthorities(claims.getSubject(), "", SecuRoles.authoritiesOfNames(roles));
+            return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        }
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+    }
+
+    /** [251124] 서명/만료 검증 + 클레임 반환 (유효하지 않으면 null) */
+    public Claims parseClaims(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            return claims.getExpiration().before(new Date()) ? null : claims;
+        } catch (Exception e) {
+            log.error("[parseClaims] 토큰 유효성 오류", e);
+            return null;
+        }
+    }
+
     public String getUsername(String token) {
         return Jwts.parserBuilder()
                    .setSigningKey(secretKey)
@@ -76,8 +113,13 @@ public class NewJwtTokenProvider {
     }
 
     // 헤더에서 토큰 추출(X-AUTH-TOKEN 사용)
+    // [251124] JwtAuthenticationFilter 와 같게 Authorization: Bearer 도 허용 (로그아웃에서 사용)
     public String resolveToken(HttpServletRequest request) {
-        return request.getHeader("X-AUTH-TOKEN");
+        String token = request.getHeader("X-AUTH-TOKEN");
+        if (token != null && !token.isBlank()) return token;
+        String auth = request.getHeader("Authorization");
+        if (auth != null && auth.startsWith("Bearer ")) return auth.substring(7);
+        return null;
     }
 
     public boolean validateToken(String token) {
@@ -0,0 +1,92 @@
+package com.gym.security;
+
+import java.io.IOException;
+import java.util.List;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gym.common.ApiResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * [251126] 요청 속도 제한 필터 (JwtAuthenticationFilter 다음 — 로그인 회원ID 를 알 수 있는 위치)
+ * - SecurityConfig 에 선언한 규칙 중 일치하는 규칙 모두 적용(하나라도 초과면 거절) — 예: 로그인 아이디+IP 한도 + IP 전체 한도
+ * - 로그인 회원은 회원ID, 비로그인은 IP 버킷(+ keyedBy 파라미터) → 초과 시 429 + Retry-After(초)
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private final Logger LOGGER = LoggerFactory.getLogger(RateLimitFilter.class);
+	private static final ObjectMapper JSON = new ObjectMapper();
+
+	private final List<RateLimitRule> rules;
+	private final RateLimiter rateLimiter;
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+	public RateLimitFilter(List<RateLimitRule> rules, RateLimiter rateLimiter) {
+		this.rules = List.copyOf(rules);
+		this.rateLimiter = rateLimiter;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+			FilterChain filterChain) throws ServletException, IOException {
+
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		String base = null;
+		for (RateLimitRule rule : rules) {
+			if (!rule.matchesMethod(request.getMethod()) || !pathMatcher.match(rule.getPattern(), path)) continue;
+			if (base == null) base = subject(request);
+			String subject = keyed(base, rule, request);
+			long retryAfter = rateLimiter.tryAcquire(rule, subject);
+			if (retryAfter > 0) {
+				// 요청마다 INFO 는 폭주 시 로그가 넘침 → DEBUG, 건수는 RateLimiter.sweep 에서 주기별 INFO
+				LOGGER.debug("[RateLimitFilter] 요청 한도 초과 rule={}, {}, retryAfter={}s", rule.getName(), subject, retryAfter);
+				response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+				response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+				response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+				response.setCharacterEncoding("UTF-8");
+				JSON.writeValue(response.getWriter(),
+						ApiResponse.fail(-429, "요청이 너무 많습니다. " + retryAfter + "초 후 다시 시도해 주세요."));
+				return;
+			}
+		}
+		filterChain.doFilter(request, response);
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !rateLimiter.isEnabled() || HttpMethod.OPTIONS.matches(request.getMethod()); // 프리플라이트 제외
+	}
+
+	/** keyedBy 규칙이면 대상 + 파라미터 값(길이 제한, 없으면 대상만) */
+	private static String keyed(String base, RateLimitRule rule, HttpServletRequest request) {
+		if (rule.getKeyParam() == null) return base;
+		String value = request.getParameter(rule.getKeyParam());
+		if (value == null || value.isBlank()) return base;
+		value = value.trim();
+		return base + "|" + (value.length() > 64 ? value.substring(0, 64) : value);
+	}
+
+	/** 로그인 회원 → m:회원ID, 그 외 → ip:주소 */
+	private String subject(HttpServletRequest request) {
+		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+		if (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)) {
+			return "m:" + auth.getName();
+		}
+		return "ip:" + rateLimiter.clientIp(request);
+	}
+}
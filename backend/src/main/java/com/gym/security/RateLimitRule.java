@@ -0,0 +1,66 @@
+package com.gym.security;
+
+import org.springframework.http.HttpMethod;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * [251126] 경로별 요청 속도 제한 규칙 (SecurityConfig 에서 선언)
+ * - capacity 건을 한꺼번에(버스트) 허용하고, period 동안 capacity 건 속도로 다시 채움
+ * - 대상: 로그인 회원은 회원ID, 비로그인은 IP 단위 버킷 (keyedBy 로 요청 파라미터를 더하면 대상+파라미터 단위, 예: 로그인 아이디+IP)
+ * - 내부 표현은 GCRA(토큰 버킷과 같은 판정): 1건 간격 interval, 허용 오차 tolerance = interval × (capacity - 1)
+ */
+public final class RateLimitRule {
+
+    private final String name;
+    private final String pattern;
+    private final Set<HttpMethod> methods;
+    private final int capacity;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final String keyParam;        // [251126] 버킷 키에 더할 요청 파라미터(null = 없음)
+
+    private RateLimitRule(String name, String pattern, int capacity, Duration period, Set<HttpMethod> methods, String keyParam) {
+        if (capacity < 1 || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("rate limit 규칙 값이 올바르지 않습니다: " + name);
+        }
+        this.name = name;
+        this.pattern = pattern;
+        this.methods = methods;
+        this.capacity = capacity;
+        this.intervalNanos = Math.max(1, period.toNanos() / capacity);
+        this.toleranceNanos = intervalNanos * (capacity - 1);
+        this.keyParam = keyParam;
+    }
+
+    /**
+     * @param name 규칙명(버킷 키 접두어, 로그/공유 상태 키)
+     * @param pattern Ant 경로 패턴 (예: /api/files/upload/**)
+     * @param capacity 버스트 허용 건수
+     * @param period capacity 건이 다시 채워지는 시간
+     * @param methods 대상 HTTP 메서드
+     */
+    public static RateLimitRule of(String name, String pattern, int capacity, Duration period, HttpMethod... methods) {
+        if (methods.length == 0) {
+            throw new IllegalArgumentException("rate limit 규칙에 HTTP 메서드가 없습니다: " + name);
+        }
+        return new RateLimitRule(name, pattern, capacity, period, Set.of(methods), null);
+    }
+
+    /** 같은 규칙을 대상 + 요청 파라미터(예: userId) 단위 버킷으로 */
+    public RateLimitRule keyedBy(String param) {
+        return new RateLimitRule(name, pattern, capacity, Duration.ofNanos(intervalNanos * capacity), methods, param);
+    }
+
+    public String getName() { return name; }
+    public String getPattern() { return pattern; }
+    public int getCapacity() { return capacity; }
+    public String getKeyParam() { return keyParam; }
+    long intervalNanos() { return intervalNanos; }
+    long toleranceNanos() { return toleranceNanos; }
+
+    boolean matchesMethod(String method) {
+        return methods.contains(HttpMethod.valueOf(method));
+    }
+}
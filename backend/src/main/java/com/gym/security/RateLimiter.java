@@ -0,0 +1,243 @@
+package com.gym.security;
+
+import com.gym.mapper.annotation.RateLimitMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [251126] 메모리 요청 속도 제한 (회원ID / IP 단위 토큰 버킷)
+ * - 버킷 1개 = AtomicLong 1개(GCRA 이론 도착 시각, nanoTime) → 판정/차감이 CAS 한 번, 락 없음
+ * - 버킷 맵 상한(max-keys): 넘치면 가장 먼저 만든 버킷부터 제거 → 봇이 IP 를 바꿔도 메모리 일정
+ *   · 제거된 대상은 새 버킷(가득 찬 상태)으로 다시 시작 — 다른 대상과 버킷을 합치지 않음(무관한 사용자 차단 방지)
+ * - 유휴 제거: 이론 도착 시각이 지난 버킷(= 가득 찬 버킷, 새로 만든 것과 같음)은 idle-sweep-ms 마다 삭제
+ * - 공유 모드(shared: true): 메모리 버킷을 통과한 요청만 rate_limit_tbl 조건부 UPDATE 로 서버 전체 한도 확인
+ *   · DB 오류면 허용(fail-open) — 속도 제한 때문에 서비스가 멈추지 않도록
+ * - 클라이언트 IP: trusted-proxies(주소/CIDR)에서 온 요청만 X-Forwarded-For 를 오른쪽부터 거슬러 올라가
+ *   신뢰하지 않는 첫 주소를 사용 (왼쪽 값은 클라이언트가 마음대로 넣을 수 있으므로 사용하지 않음)
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+	private static final int PURGE_DELETE_LIMIT = 1000; // 1회 공유 상태 정리 최대 건수
+
+	private final RateLimitMapper rateLimitMapper;
+	private final boolean enabled;
+	private final int maxKeys;
+	private final boolean shared;
+	private final List<TrustedProxy> trustedProxies;
+
+	private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>(); // 규칙명:대상 → 이론 도착 시각(ns)
+	private final ConcurrentLinkedQueue<Created> created = new ConcurrentLinkedQueue<>(); // 버킷 생성 순서(상한 초과 시 제거용)
+	private final LongAdder rejected = new LongAdder();                                    // 주기별 거절 건수(sweep 에서 INFO 1줄)
+
+	public RateLimiter(RateLimitMapper rateLimitMapper,
+			@Value("${rate-limit.enabled:true}") boolean enabled,
+			@Value("${rate-limit.max-keys:100000}") int maxKeys,
+			@Value("${rate-limit.shared:false}") boolean shared,
+			@Value("${rate-limit.trusted-proxies:127.0.0.1,::1}") String trustedProxies) {
+		this.rateLimitMapper = rateLimitMapper;
+		this.enabled = enabled;
+		this.maxKeys = maxKeys;
+		this.shared = shared;
+		this.trustedProxies = TrustedProxy.parseAll(trustedProxies);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 1건 요청
+	 * @param subject "m:회원ID" 또는 "ip:주소"
+	 * @return 0 이면 허용, 아니면 다시 시도할 수 있을 때까지 초(Retry-After)
+	 */
+	public long tryAcquire(RateLimitRule rule, String subject) {
+		String key = rule.getName() + ":" + subject;
+		long retryAfter = acquireLocal(rule, bucket(key));
+		if (retryAfter == 0 && shared) retryAfter = acquireShared(rule, key);
+		if (retryAfter > 0) rejected.increment();
+		return retryAfter;
+	}
+
+	/**
+	 * 클라이언트 IP
+	 * - 직접 접속(신뢰 프록시 아님): getRemoteAddr
+	 * - 신뢰 프록시 경유: X-Forwarded-For 를 오른쪽(가장 가까운 홉)부터 보며 신뢰 프록시가 아닌 첫 주소
+	 *   (모두 신뢰 프록시면 가장 왼쪽)
+	 */
+	public String clientIp(HttpServletRequest request) {
+		String remote = request.getRemoteAddr();
+		if (!isTrusted(remote)) return remote;
+		String forwarded = request.getHeader("X-Forwarded-For");
+		if (forwarded == null || forwarded.isBlank()) return remote;
+		String[] hops = forwarded.split(",");
+		String client = remote;
+		for (int i = hops.length - 1; i >= 0; i--) {
+			String hop = hops[i].trim();
+			if (hop.isEmpty()) continue;
+			client = hop;
+			if (!isTrusted(hop)) break;
+		}
+		return client;
+	}
+
+	private boolean isTrusted(String address) {
+		if (trustedProxies.isEmpty()) return false;
+		byte[] bytes = TrustedProxy.literal(address);
+		if (bytes == null) return false;
+		for (TrustedProxy p : trustedProxies) {
+			if (p.contains(bytes)) return true;
+		}
+		return false;
+	}
+
+	/** 유휴 버킷 제거(메모리) + 지난 공유 상태 정리(DB) */
+	@Scheduled(initialDelayString = "${rate-limit.idle-sweep-ms:60000}", fixedDelayString = "${rate-limit.idle-sweep-ms:60000}")
+	public void sweep() {
+		long now = System.nanoTime();
+		int before = buckets.size();
+		buckets.values().removeIf(tat -> tat.get() - now <= 0);
+		created.removeIf(c -> buckets.get(c.key) != c.bucket);                   // 이미 제거된 버킷의 순서 기록 정리
+		int removed = before - buckets.size();
+		if (removed > 0) log.debug("[RateLimiter] 유휴 버킷 제거={}, 남은 버킷={}", removed, buckets.size());
+		long denied = rejected.sumThenReset();
+		if (denied > 0) log.info("[RateLimiter] 요청 한도 초과 {}건(최근 주기), 버킷={}", denied, buckets.size());
+		if (!shared) return;
+		try {
+			rateLimitMapper.deleteIdle(System.currentTimeMillis(), PURGE_DELETE_LIMIT);
+		} catch (RuntimeException e) {
+			log.warn("[RateLimiter] 공유 상태 정리 실패 — 다음 주기에 재시도", e);
+		}
+	}
+
+	private AtomicLong bucket(String key) {
+		AtomicLong bucket = buckets.get(key);
+		if (bucket != null) return bucket;
+		AtomicLong fresh = new AtomicLong(System.nanoTime());
+		bucket = buckets.putIfAbsent(key, fresh);
+		if (bucket != null) return bucket;                                      // 동시 요청이 먼저 만듦
+		created.offer(new Created(key, fresh));
+		while (buckets.size() > maxKeys) {                                      // 상한 초과 → 오래된 버킷부터 제거
+			Created oldest = created.poll();
+			if (oldest == null) break;
+			buckets.remove(oldest.key, oldest.bucket);                          // 그 사이 다시 만든 버킷은 건드리지 않음
+		}
+		return fresh;
+	}
+
+	/** GCRA: 허용이면 tat = max(tat, now) + interval (CAS 재시도, 락 없음) */
+	private static long acquireLocal(RateLimitRule rule, AtomicLong bucket) {
+		long now = System.nanoTime();
+		for (;;) {
+			long tat = bucket.get();
+			long base = tat - now > 0 ? tat : now;
+			long wait = base - now - rule.toleranceNanos();
+			if (wait > 0) return toRetryAfterSeconds(wait);
+			if (bucket.compareAndSet(tat, base + rule.intervalNanos())) return 0;
+		}
+	}
+
+	/** 서버 전체 한도 (조건부 UPDATE, 행이 없으면 INSERT) */
+	private long acquireShared(RateLimitRule rule, String key) {
+		long nowMs = System.currentTimeMillis();
+		long intervalMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(rule.intervalNanos()));
+		long toleranceMs = TimeUnit.NANOSECONDS.toMillis(rule.toleranceNanos());
+		try {
+			if (rateLimitMapper.tryAcquire(key, nowMs, intervalMs, toleranceMs) == 1) return 0;
+			try {
+				rateLimitMapper.insert(key, nowMs + intervalMs);
+				return 0;
+			} catch (DuplicateKeyException e) {
+				// 다른 서버가 먼저 등록 → 한 번 더 판정
+				if (rateLimitMapper.tryAcquire(key, nowMs, intervalMs, toleranceMs) == 1) return 0;
+			}
+			return toRetryAfterSeconds(TimeUnit.MILLISECONDS.toNanos(intervalMs));
+		} catch (RuntimeException e) {
+			log.warn("[RateLimiter] 공유 상태 확인 실패 — 허용 처리 key={}", key, e);
+			return 0;
+		}
+	}
+
+	private static long toRetryAfterSeconds(long nanos) {
+		return Math.max(1, (nanos + 999_999_999L) / 1_000_000_000L);
+	}
+
+	/** 버킷 생성 기록 (키 + 그때 만든 버킷 — 같은 키를 다시 만든 경우 구분) */
+	private record Created(String key, AtomicLong bucket) {}
+
+	/** 신뢰 프록시 주소/CIDR (예: 127.0.0.1, 10.0.0.0/8, ::1) */
+	private static final class TrustedProxy {
+		final byte[] network;
+		final int prefixBits;
+
+		TrustedProxy(byte[] network, int prefixBits) {
+			this.network = network;
+			this.prefixBits = prefixBits;
+		}
+
+		static List<TrustedProxy> parseAll(String config) {
+			List<TrustedProxy> out = new ArrayList<>();
+			if (config == null) return out;
+			for (String item : config.split(",")) {
+				String s = item.trim();
+				if (s.isEmpty()) continue;
+				int slash = s.indexOf('/');
+				byte[] net = literal(slash < 0 ? s : s.substring(0, slash));
+				if (net == null) {
+					throw new IllegalArgumentException("rate-limit.trusted-proxies 는 IP 또는 CIDR 이어야 합니다: " + s);
+				}
+				int bits = slash < 0 ? net.length * 8 : Integer.parseInt(s.substring(slash + 1));
+				if (bits < 0 || bits > net.length * 8) {
+					throw new IllegalArgumentException("rate-limit.trusted-proxies CIDR 길이가 올바르지 않습니다: " + s);
+				}
+				out.add(new TrustedProxy(net, bits));
+			}
+			return out;
+		}
+
+		/** IP 리터럴만 변환 (호스트명은 DNS 조회가 생기므로 null) */
+		static byte[] literal(String s) {
+			if (s == null || s.isEmpty() || s.length() > 45) return null;
+			boolean v6 = s.indexOf(':') >= 0;                          // IPv6 는 16진수 허용, IPv4 는 숫자/점만
+			for (int i = 0; i < s.length(); i++) {
+				char c = s.charAt(i);
+				boolean ok = (c >= '0' && c <= '9') || c == '.'
+						|| (v6 && (c == ':' || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F')));
+				if (!ok) return null;
+			}
+			try {
+				return InetAddress.getByName(s).getAddress();
+			} catch (UnknownHostException e) {
+				return null;
+			}
+		}
+
+		boolean contains(byte[] address) {
+			if (address.length != network.length) return false;
+			int full = prefixBits / 8, rest = prefixBits % 8;
+			if (!Arrays.equals(Arrays.copyOf(address, full), Arrays.copyOf(network, full))) return false;
+			if (rest == 0) return true;
+			int mask = (0xFF << (8 - rest)) & 0xFF;
+			return (address[full] & mask) == (network[full] & mask);
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package com.gym.security;
+
+import com.gym.domain.auth.RefreshToken;
+import com.gym.mapper.annotation.RefreshTokenMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * [251125] 리프레시 토큰 발급/회전
+ * - 로그인 시 발급(family 시작), /sign-api/refresh 마다 1회용으로 회전: 이전 토큰 used_at 기록 + 같은 family 새 토큰
+ * - 저장: 원문 대신 HMAC-SHA256(jwt.secret) 해시만 DB(refresh_token_tbl)에 → DB 가 유출돼도 토큰으로 쓸 수 없음
+ * - 재발급 비용: HMAC 1회 + 메모리 색인 조회 + 조건부 UPDATE/INSERT (BCrypt 비밀번호 확인 없음)
+ * - 메모리 색인(hot-index-max 건까지): 이 서버가 발급한 미사용 토큰 → 조회 SELECT 생략. 없으면 DB 조회
+ *   · 사용 여부의 최종 판단은 항상 DB 조건부 UPDATE(markUsed) → 다른 서버에서 이미 쓴 토큰도 여기서 걸림
+ * - 재사용 감지: 이미 사용한 토큰이 다시 오면 탈취 의심 → family 전체 폐기(정상 사용자도 다시 로그인)
+ */
+@Slf4j
+@Component
+public class RefreshTokenService {
+
+	private static final int TOKEN_BYTES = 32;
+	private static final int PURGE_DELETE_LIMIT = 1000; // 1회 DB 정리 최대 건수
+
+	private final RefreshTokenMapper refreshTokenMapper;
+	private final byte[] hmacKey;
+	private final long validityDays;
+	private final int hotIndexMax;
+
+	private final SecureRandom random = new SecureRandom();
+	private final Map<String, RefreshToken> hot = new ConcurrentHashMap<>(); // 토큰 해시 → 미사용 토큰
+	private final ThreadLocal<Mac> mac;
+
+	public RefreshTokenService(RefreshTokenMapper refreshTokenMapper,
+			@Value("${jwt.secret}") String secret,
+			@Value("${jwt.refresh.validity-days:14}") long validityDays,
+			@Value("${jwt.refresh.hot-index-max:50000}") int hotIndexMax) {
+		this.refreshTokenMapper = refreshTokenMapper;
+		this.hmacKey = ("refresh:" + secret).getBytes(StandardCharsets.UTF_8); // 액세스 토큰 서명 키와 용도 분리
+		this.validityDays = validityDays;
+		this.hotIndexMax = hotIndexMax;
+		this.mac = ThreadLocal.withInitial(this::newMac);
+	}
+
+	/** 재발급 결과: 회원ID + 새 리프레시 토큰 원문 */
+	public record Rotation(String memberId, String refreshToken) {}
+
+	/** 로그인 시 새 family 로 발급 → 원문 반환(클라이언트 보관용, 서버는 해시만 저장) */
+	public String issue(String memberId) {
+		return issue(memberId, UUID.randomUUID().toString());
+	}
+
+	/**
+	 * 1회용 회전
+	 * @throws IllegalArgumentException 없음/만료/폐기된 토큰
+	 * @throws IllegalStateException 이미 사용한 토큰(재사용 감지 → family 폐기)
+	 */
+	public Rotation rotate(String refreshToken) {
+		if (refreshToken == null || refreshToken.isBlank()) {
+			throw new IllegalArgumentException("리프레시 토큰이 없습니다.");
+		}
+		String hash = hash(refreshToken);
+		RefreshToken current = find(hash);
+		if (current == null || current.getRevokedAt() != null) {
+			throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
+		}
+		if (current.getUsedAt() != null) {
+			throw reuse(current);
+		}
+		if (!current.getExpiresAt().isAfter(LocalDateTime.now())) {
+			hot.remove(hash);
+			throw new IllegalArgumentException("만료된 리프레시 토큰입니다.");
+		}
+		// 최종 판단은 DB: 다른 서버/동시 요청이 먼저 썼거나 그 사이 폐기됐으면 0건
+		if (refreshTokenMapper.markUsed(hash) == 0) {
+			throw reuse(current);
+		}
+		hot.remove(hash);
+		return new Rotation(current.getMemberId(), issue(current.getMemberId(), current.getFamilyId()));
+	}
+
+	/** 로그아웃: 이 토큰의 family 전체 폐기 (없는 토큰은 무시) */
+	public void revoke(String refreshToken) {
+		if (refreshToken == null || refreshToken.isBlank()) return;
+		RefreshToken current = find(hash(refreshToken));
+		if (current != null) revokeFamily(current.getFamilyId());
+	}
+
+	/** 만료분 정리(메모리 + DB) */
+	@Scheduled(initialDelayString = "${jwt.refresh.purge-ms:3600000}", fixedDelayString = "${jwt.refresh.purge-ms:3600000}")
+	public void purge() {
+		LocalDateTime now = LocalDateTime.now();
+		hot.values().removeIf(t -> !t.getExpiresAt().isAfter(now));
+		try {
+			int deleted = refreshTokenMapper.deleteExpired(PURGE_DELETE_LIMIT);
+			if (deleted > 0) log.info("[RefreshToken] 만료 정리: DB 행={}", deleted);
+		} catch (RuntimeException e) {
+			log.warn("[RefreshToken] 만료 정리 실패 — 다음 주기에 재시도", e);
+		}
+	}
+
+	private String issue(String memberId, String familyId) {
+		byte[] raw = new byte[TOKEN_BYTES];
+		random.nextBytes(raw);
+		String token = Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+		RefreshToken row = RefreshToken.builder()
+				.tokenHash(hash(token))
+				.familyId(familyId)
+				.memberId(memberId)
+				.issuedAt(LocalDateTime.now())
+				.expiresAt(LocalDateTime.now().plusDays(validityDays))
+				.build();
+		refreshTokenMapper.insert(row);
+		if (hot.size() < hotIndexMax) hot.put(row.getTokenHash(), row); // 가득 차면 DB 조회로 처리
+		return token;
+	}
+
+	/** 메모리 색인 → 없으면 DB */
+	private RefreshToken find(String hash) {
+		RefreshToken cached = hot.get(hash);
+		return cached != null ? cached : refreshTokenMapper.selectByHash(hash);
+	}
+
+	private IllegalStateException reuse(RefreshToken token) {
+		log.warn("[RefreshToken] 재사용 감지 — family 폐기 memberId={}, familyId={}", token.getMemberId(), token.getFamilyId());
+		revokeFamily(token.getFamilyId());
+		return new IllegalStateException("이미 사용된 리프레시 토큰입니다. 다시 로그인해 주세요.");
+	}
+
+	private void revokeFamily(String familyId) {
+		refreshTokenMapper.revokeFamily(familyId);
+		hot.values().removeIf(t -> familyId.equals(t.getFamilyId()));
+	}
+
+	private String hash(String token) {
+		return HexFormat.of().formatHex(mac.get().doFinal(token.getBytes(StandardCharsets.US_ASCII)));
+	}
+
+	private Mac newMac() {
+		try {
+			Mac m = Mac.getInstance("HmacSHA256");
+			m.init(new SecretKeySpec(hmacKey, "HmacSHA256"));
+			return m;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("HmacSHA256 초기화 실패", e);
+		}
+	}
+}
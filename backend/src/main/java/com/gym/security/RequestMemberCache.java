@@ -0,0 +1,76 @@
+package com.gym.security;
+
+import com.gym.domain.member.Member;
+import com.gym.mapper.annotation.MemberMapper;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * [251121] 요청 단위 회원 캐시
+ * - 한 요청 안에서 같은 회원 행(아이디+역할)을 여러 번 읽지 않도록 요청 속성(request attribute)에 보관
+ * - 인증 단계(UserDetailsServiceImpl)가 권한 조회를 이 캐시로 하므로 로그인 회원 행은 필터에서 이미 채워지고,
+ *   서비스(게시판/게시글/예약)는 findRoleRow/exists 로 같은 행을 재사용
+ * - 없는 회원도 "없음"으로 기억 (같은 요청에서 재조회 안 함)
+ * - 요청 밖(스케줄러·비동기 스레드)에서는 캐시 없이 매번 DB 조회 → 요청이 끝나면 자동 폐기되므로 무효화 부담 없음
+ * - 같은 요청에서 회원을 등록/수정/삭제하면 evict 로 해당 항목만 비움
+ */
+@Component
+public class RequestMemberCache {
+
+    private static final String ATTR = RequestMemberCache.class.getName();
+
+    private final MemberMapper memberMapper;
+
+    public RequestMemberCache(MemberMapper memberMapper) {
+        this.memberMapper = memberMapper;
+    }
+
+    /** 회원 아이디+역할+관리자유형 (없으면 null) — MemberMapper.selectMemberRoleById 와 같은 행 */
+    public Member findRoleRow(String memberId) {
+        if (memberId == null) return null;
+        Map<String, Optional<Member>> rows = rows();
+        if (rows == null) return memberMapper.selectMemberRoleById(memberId);
+        Optional<Member> cached = rows.get(memberId);
+        if (cached == null) {
+            cached = Optional.ofNullable(memberMapper.selectMemberRoleById(memberId));
+            rows.put(memberId, cached);
+        }
+        return cached.orElse(null);
+    }
+
+    /** 회원 존재 여부 — 이미 읽은 행이 있으면 DB 조회 없이 판단 */
+    public boolean exists(String memberId) {
+        if (memberId == null) return false;
+        Map<String, Optional<Member>> rows = rows();
+        if (rows == null) return memberMapper.existsMemberById(memberId);
+        Optional<Member> cached = rows.get(memberId);
+        if (cached != null) return cached.isPresent();
+        // 존재 확인만 필요한 곳이 대부분 곧이어 역할도 보므로 행 단위로 한 번에 적재
+        return findRoleRow(memberId) != null;
+    }
+
+    /** 같은 요청 안에서 회원이 바뀐 경우 해당 항목 폐기 */
+    public void evict(String memberId) {
+        Map<String, Optional<Member>> rows = rows();
+        if (rows != null && memberId != null) rows.remove(memberId);
+    }
+
+    /** 현재 요청의 캐시 맵 (요청 밖이면 null) */
+    @SuppressWarnings("unchecked")
+    private Map<String, Optional<Member>> rows() {
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (attrs == null) return null;
+        Object rows = attrs.getAttribute(ATTR, RequestAttributes.SCOPE_REQUEST);
+        if (rows == null) {
+            rows = new HashMap<String, Optional<Member>>();
+            attrs.setAttribute(ATTR, rows, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<String, Optional<Member>>) rows;
+    }
+}
@@ -0,0 +1,246 @@
+package com.gym.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * [251127] 선언표(AccessRule 목록)를 기동 시 1회 컴파일한 경로 권한 판단기
+ * - 기존: 요청마다 requestMatchers 체인을 위에서부터 순서대로 패턴 매칭(규칙 수만큼)
+ * - 변경: 경로 세그먼트 트라이 1회 탐색 — 노드마다 리터럴 자식(해시) / "*" 자식 / 끝 "**" 만 따라감 → 경로 깊이에 비례
+ *   · 여러 규칙이 맞으면 선언 순서가 가장 앞선 규칙(= 기존 체인의 첫 일치)을 선택 → 판단 결과 동일
+ *   · 어떤 규칙과도 맞지 않으면 기본값(authenticated, 기존 anyRequest().authenticated())
+ * - 기동 시 충돌 보고: 앞 규칙에 완전히 가려져 적용되지 않는 규칙 / 겹치는 구간에서 접근 조건이 다른 규칙
+ * - 경로 기준: servletPath + pathInfo, 끝 "/" 처리는 기존 MVC 매처(PathPattern)와 동일
+ *   · "/a/b" 패턴은 "/a/b/" 와 불일치, 끝 "*" 패턴("/a/*")은 "/a/" 와 일치, 끝 "**" 는 "/a" · "/a/" 모두 일치
+ *   · 동일성 검증: RouteAuthorizationManagerTest (선언표 전체를 PathPattern 체인과 비교)
+ */
+@Slf4j
+public class RouteAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final String STAR = "*";
+    private static final String DOUBLE_STAR = "**";
+    private static final int NONE = Integer.MAX_VALUE;
+
+    private final Node root = new Node();
+    private final List<Entry> entries = new ArrayList<>();  // 선언 순서(우선순위) = 인덱스
+    private final AccessRule.Access fallback;
+    private final List<String> conflicts;
+
+    public RouteAuthorizationManager(List<AccessRule> rules, AccessRule.Access fallback) {
+        this.fallback = fallback;
+        for (AccessRule rule : rules) {
+            for (String pattern : rule.getPatterns()) {
+                Entry e = new Entry(entries.size(), rule.getMethod(), pattern, segments(pattern, true), rule.getAccess());
+                entries.add(e);
+                insert(e);
+            }
+        }
+        this.conflicts = Collections.unmodifiableList(findConflicts());
+        log.info("[RouteAuthorization] 권한 규칙 {}개 컴파일 완료, 충돌 {}건", entries.size(), conflicts.size());
+        for (String c : conflicts) log.warn("[RouteAuthorization] {}", c);
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        HttpServletRequest request = context.getRequest();
+        AccessRule.Access access = decide(request.getMethod(), pathOf(request));
+        // permitAll/denyAll 은 인증 정보 조회 없이 결정
+        return new AuthorizationDecision(access.needsAuthentication()
+                ? access.check(authentication.get())
+                : access == AccessRule.Access.PERMIT_ALL);
+    }
+
+    /** 메서드 + 경로에 적용되는 접근 조건 (벤치마크/점검용으로도 사용) */
+    public AccessRule.Access decide(String method, String path) {
+        String[] segs = segments(path, false);
+        int best = find(root, segs, 0, method, NONE);
+        return best == NONE ? fallback : entries.get(best).access;
+    }
+
+    /** 기동 시 충돌 보고 내용 */
+    public List<String> conflicts() {
+        return conflicts;
+    }
+
+    /* ====================== 컴파일 ====================== */
+
+    private void insert(Entry e) {
+        Node node = root;
+        node.minIndex = Math.min(node.minIndex, e.index);
+        for (int i = 0; i < e.segments.length; i++) {
+            String seg = e.segments[i];
+            if (DOUBLE_STAR.equals(seg)) {
+                if (node.doubleStar == null) node.doubleStar = new Node();
+                node = node.doubleStar;
+                node.minIndex = Math.min(node.minIndex, e.index);
+                break;                                               // "**" 는 끝에만(segments 에서 검사)
+            } else if (STAR.equals(seg)) {
+                if (node.star == null) node.star = new Node();
+                node = node.star;
+            } else {
+                node = node.children.computeIfAbsent(seg, k -> new Node());
+            }
+            node.minIndex = Math.min(node.minIndex, e.index);
+        }
+        node.accept(e);
+    }
+
+    /* ====================== 판단 ====================== */
+
+    /** 일치하는 규칙 중 가장 앞선 인덱스 (best 보다 앞선 것만 갱신) */
+    private static int find(Node node, String[] segs, int i, String method, int best) {
+        if (node.doubleStar != null) best = Math.min(best, node.doubleStar.indexFor(method)); // 나머지 0개 이상
+        if (i == segs.length) return Math.min(best, node.indexFor(method));
+        if (node.minIndex >= best) return best;                                                // 더 앞선 규칙이 아래에 없음
+        Node literal = node.children.get(segs[i]);
+        if (literal != null) best = find(literal, segs, i + 1, method, best);
+        if (node.star != null) {
+            if (!segs[i].isEmpty()) best = find(node.star, segs, i + 1, method, best);
+            else if (i == segs.length - 1) best = Math.min(best, node.star.indexFor(method)); // 끝 "/" = 끝 "*" 의 빈 세그먼트
+        }
+        return best;
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        String path = request.getServletPath();
+        String info = request.getPathInfo();
+        return info == null ? path : path + info;
+    }
+
+    /** "/a/b/c" → [a, b, c] (정규식 split 없이), 규칙 패턴이면 와일드카드 형식 검사 */
+    private static String[] segments(String path, boolean pattern) {
+        List<String> out = new ArrayList<>(8);
+        int start = path.startsWith("/") ? 1 : 0;
+        if (start < path.length() || !path.startsWith("/")) {
+            for (int i = start; ; ) {
+                int slash = path.indexOf('/', i);
+                out.add(slash < 0 ? path.substring(i) : path.substring(i, slash));
+                if (slash < 0) break;
+                i = slash + 1;
+            }
+        }
+        if (pattern) {
+            for (int i = 0; i < out.size(); i++) {
+                String seg = out.get(i);
+                boolean wildcard = seg.indexOf('*') >= 0 || seg.indexOf('{') >= 0;
+                if (wildcard && !STAR.equals(seg) && !DOUBLE_STAR.equals(seg)) {
+                    throw new IllegalArgumentException("지원하지 않는 권한 경로 패턴(세그먼트 단위 * / 끝 ** 만 허용): " + path);
+                }
+                if (DOUBLE_STAR.equals(seg) && i != out.size() - 1) {
+                    throw new IllegalArgumentException("** 는 경로 끝에만 사용할 수 있습니다: " + path);
+                }
+            }
+        }
+        return out.toArray(new String[0]);
+    }
+
+    /* ====================== 충돌 보고 ====================== */
+
+    private List<String> findConflicts() {
+        List<String> out = new ArrayList<>();
+        for (int j = 0; j < entries.size(); j++) {
+            Entry later = entries.get(j);
+            for (int i = 0; i < j; i++) {
+                Entry earlier = entries.get(i);
+                if (!methodsOverlap(earlier.method, later.method) || !intersects(earlier.segments, 0, later.segments, 0)) continue;
+                boolean covered = methodCovers(earlier.method, later.method) && covers(earlier.segments, 0, later.segments, 0);
+                if (covered) {
+                    out.add((earlier.access.sameAs(later.access) ? "중복(적용 안 됨) " : "가려짐(적용 안 됨) ")
+                            + later + " ← 앞 규칙 " + earlier);
+                    break;                                           // 이미 적용되지 않는 규칙 → 더 볼 필요 없음
+                }
+                // 전체 경로 규칙("/**", 예: OPTIONS 프리플라이트)과의 겹침은 의도된 것 → 보고 생략
+                if (!earlier.access.sameAs(later.access) && !isCatchAll(earlier) && !isCatchAll(later)) {
+                    out.add("겹침(앞 규칙 우선) " + later + " ↔ " + earlier);
+                }
+            }
+        }
+        return out;
+    }
+
+    private static boolean isCatchAll(Entry e) {
+        return e.segments.length == 1 && DOUBLE_STAR.equals(e.segments[0]);
+    }
+
+    private static boolean methodsOverlap(HttpMethod a, HttpMethod b) {
+        return a == null || b == null || a.equals(b);
+    }
+
+    private static boolean methodCovers(HttpMethod a, HttpMethod b) {
+        return a == null || a.equals(b);
+    }
+
+    /** 두 패턴에 함께 맞는 경로가 있는지 */
+    private static boolean intersects(String[] a, int i, String[] b, int j) {
+        if (i < a.length && DOUBLE_STAR.equals(a[i])) return true;
+        if (j < b.length && DOUBLE_STAR.equals(b[j])) return true;
+        if (i == a.length || j == b.length) return i == a.length && j == b.length;
+        boolean segOk = a[i].equals(b[j]) || STAR.equals(a[i]) || STAR.equals(b[j]);
+        return segOk && intersects(a, i + 1, b, j + 1);
+    }
+
+    /** b 에 맞는 모든 경로가 a 에도 맞는지 */
+    private static boolean covers(String[] a, int i, String[] b, int j) {
+        if (i < a.length && DOUBLE_STAR.equals(a[i])) return true;
+        if (j < b.length && DOUBLE_STAR.equals(b[j])) return false;
+        if (i == a.length || j == b.length) return i == a.length && j == b.length;
+        if (STAR.equals(a[i])) return covers(a, i + 1, b, j + 1);
+        return !STAR.equals(b[j]) && a[i].equals(b[j]) && covers(a, i + 1, b, j + 1);
+    }
+
+    /* ====================== 구조 ====================== */
+
+    /** 트라이 노드: 이 위치에서 끝나는 규칙의 메서드별 최소 인덱스 + 아래 전체 최소 인덱스(가지치기) */
+    private static final class Node {
+        final Map<String, Node> children = new HashMap<>();
+        Node star;
+        Node doubleStar;
+        final Map<String, Integer> byMethod = new HashMap<>();
+        int anyMethod = NONE;
+        int minIndex = NONE;                                         // 이 노드 포함 하위 규칙 중 최소 인덱스
+
+        void accept(Entry e) {
+            if (e.method == null) anyMethod = Math.min(anyMethod, e.index);
+            else byMethod.merge(e.method.name(), e.index, Math::min);
+        }
+
+        int indexFor(String method) {
+            Integer m = byMethod.get(method);
+            return m == null ? anyMethod : Math.min(m, anyMethod);
+        }
+    }
+
+    private static final class Entry {
+        final int index;
+        final HttpMethod method;
+        final String pattern;
+        final String[] segments;
+        final AccessRule.Access access;
+
+        Entry(int index, HttpMethod method, String pattern, String[] segments, AccessRule.Access access) {
+            this.index = index;
+            this.method = method;
+            this.pattern = pattern;
+            this.segments = segments;
+            this.access = access;
+        }
+
+        @Override
+        public String toString() {
+            return "#" + index + " " + (method == null ? "*" : method.name()) + " " + pattern + " → " + access;
+        }
+    }
+}
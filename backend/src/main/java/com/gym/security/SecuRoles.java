@@ -0,0 +1,74 @@
+package com.gym.security;
+
+import com.gym.security.dto.SecuRoleDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * [251123] DB 원본 역할(member_role) → Spring Security 권한 변환 (로그인 토큰 발급 / JWT 인증 공통)
+ * - SignController.toSecRole / UserDetailsServiceImpl.toSecurityRole 에 같은 switch 가 두 벌 있던 것을 한 곳으로
+ * - 역할 값은 몇 종류뿐이므로 변환 결과(불변 리스트)를 원본 값별로 캐시 → 요청마다 stream/리스트 생성 없음
+ */
+public final class SecuRoles {
+
+    private static final int MAX_CACHED = 64; // 예상 밖 값이 계속 들어와도 맵이 커지지 않도록
+
+    private static final Map<String, List<String>> ROLE_NAMES = new ConcurrentHashMap<>();
+    private static final Map<String, List<SecuRoleDTO>> AUTHORITIES = new ConcurrentHashMap<>();
+    private static final Map<String, List<SecuRoleDTO>> BY_NAME = new ConcurrentHashMap<>(); // [251124] 권한명 → 권한 객체
+
+    private SecuRoles() {}
+
+    /** 원본 역할 → 권한명 목록 (토큰 roles 클레임용, 불변) */
+    public static List<String> roleNames(String rawRole) {
+        String key = key(rawRole);
+        List<String> cached = ROLE_NAMES.get(key);
+        if (cached != null) return cached;
+        List<String> names = List.of(toSecurityRole(key));
+        if (ROLE_NAMES.size() < MAX_CACHED) ROLE_NAMES.putIfAbsent(key, names);
+        return names;
+    }
+
+    /** 원본 역할 → 권한 객체 목록 (SecuUserDTO 용, 불변) */
+    public static List<SecuRoleDTO> authorities(String rawRole) {
+        String key = key(rawRole);
+        List<SecuRoleDTO> cached = AUTHORITIES.get(key);
+        if (cached != null) return cached;
+        List<SecuRoleDTO> authorities = List.of(new SecuRoleDTO(toSecurityRole(key)));
+        if (AUTHORITIES.size() < MAX_CACHED) AUTHORITIES.putIfAbsent(key, authorities);
+        return authorities;
+    }
+
+    /** [251124] 토큰 roles 클레임(권한명 목록) → 권한 객체 목록 (무상태 인증용, 불변) */
+    public static List<SecuRoleDTO> authoritiesOfNames(List<?> roleNames) {
+        if (roleNames == null || roleNames.isEmpty()) return List.of();
+        if (roleNames.size() == 1) return byName(String.valueOf(roleNames.get(0)));
+        List<SecuRoleDTO> out = new ArrayList<>(roleNames.size());
+        for (Object name : roleNames) out.addAll(byName(String.valueOf(name)));
+        return List.copyOf(out);
+    }
+
+    private static List<SecuRoleDTO> byName(String roleName) {
+        List<SecuRoleDTO> cached = BY_NAME.get(roleName);
+        if (cached != null) return cached;
+        List<SecuRoleDTO> authorities = List.of(new SecuRoleDTO(roleName));
+        if (BY_NAME.size() < MAX_CACHED) BY_NAME.putIfAbsent(roleName, authorities);
+        return authorities;
+    }
+
+    private static String key(String rawRole) {
+        return rawRole == null ? "user" : rawRole; // member_role DEFAULT 'user'
+    }
+
+    private static String toSecurityRole(String raw) {
+        return switch (raw) {
+            //case "admin", "관리자", "최고관리자", "담당자" -> "ROLE_ADMIN"; // old
+            case "admin", "관리자", "책임자", "강사" -> "ROLE_ADMIN"; // CMS권한은 ADMIN으로 통합
+            case "user", "회원" -> "ROLE_USER";
+            default -> "ROLE_USER";
+        };
+    }
+}
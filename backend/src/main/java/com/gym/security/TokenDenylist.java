@@ -0,0 +1,240 @@
+package com.gym.security;
+
+import com.gym.domain.auth.TokenDenylistEntry;
+import com.gym.mapper.annotation.TokenDenylistMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * [251124] JWT 폐기 목록 (로그아웃 / 역할 변경·탈퇴)
+ * - 원본: token_denylist_tbl (서버 재기동·여러 서버 공유), 판단: 메모리만 (JwtAuthenticationFilter 에서 DB 조회 없음)
+ * - 토큰 단위(jti): Bloom 필터 → 있을 수도 있을 때만 정확 집합 확인 (대부분 요청은 비트 몇 개 확인으로 끝)
+ * - 회원 단위: 회원ID → "이 시각(초) 이하에 발급된 토큰 폐기" (역할 변경 시 이전 역할이 담긴 토큰 전부 무효)
+ *   · 발급 시각(iat)은 초 단위 → 폐기와 같은 초에 발급된 토큰도 폐기(그 사이 재로그인했다면 다시 로그인)
+ * - 폐기 행은 호출한 쪽 트랜잭션에서 기록, 메모리 반영은 커밋 후(afterCommit) → 롤백되면 이 서버도 폐기하지 않음
+ * - 다른 서버 추가분: poll-ms 마다 revoked_at >= (마지막으로 본 시각 - overlap) 조회 (커밋 지연/시계 차이 흡수, 중복 반영은 무해)
+ * - 항목은 토큰 만료(expires_at)와 함께 사라짐: 메모리 정리 후 Bloom 필터 재생성, DB 행은 chunk 삭제
+ * - jti 가 없는 이전 발급 토큰은 토큰 단위 폐기 불가(회원 단위 폐기는 적용, 최대 1시간 후 자연 만료)
+ */
+@Slf4j
+@Component
+public class TokenDenylist {
+
+	private static final ZoneId ZONE = ZoneId.systemDefault();
+	private static final int PURGE_DELETE_LIMIT = 1000; // 1회 DB 정리 최대 건수
+
+	private final TokenDenylistMapper tokenDenylistMapper;
+	private final long tokenValidMillis;
+	private final int expectedEntries;
+	private final double falsePositiveRate;
+	private final long overlapSeconds;
+	private final long purgeMillis;
+
+	private final Map<String, Long> tokens = new ConcurrentHashMap<>();          // jti → 만료(ms)
+	private final Map<String, MemberCutoff> members = new ConcurrentHashMap<>(); // 회원ID → 발급 상한
+	private volatile BloomFilter bloom;
+	private volatile boolean loaded;        // DB 전체 적재 완료 여부
+	private LocalDateTime lastSeen;         // 마지막으로 본 revoked_at (poll 스레드 전용)
+	private long lastPurgedAt;              // poll 스레드 전용
+
+	public TokenDenylist(TokenDenylistMapper tokenDenylistMapper,
+			NewJwtTokenProvider jwtTokenProvider,
+			@Value("${jwt.denylist.expected-entries:100000}") int expectedEntries,
+			@Value("${jwt.denylist.false-positive-rate:0.01}") double falsePositiveRate,
+			@Value("${jwt.denylist.overlap-seconds:60}") int overlapSeconds,
+			@Value("${jwt.denylist.purge-ms:600000}") long purgeMillis) {
+		if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException("jwt.denylist.false-positive-rate 는 0 과 1 사이여야 합니다.");
+		}
+		this.tokenDenylistMapper = tokenDenylistMapper;
+		this.tokenValidMillis = jwtTokenProvider.getTokenValidMillisecond();
+		this.expectedEntries = Math.max(1000, expectedEntries);
+		this.falsePositiveRate = falsePositiveRate;
+		this.overlapSeconds = overlapSeconds;
+		this.purgeMillis = purgeMillis;
+		this.bloom = new BloomFilter(this.expectedEntries, falsePositiveRate);
+	}
+
+	/** 기동 시 1회 적재 (DB 오류면 poll 에서 재시도) */
+	@PostConstruct
+	void init() {
+		try {
+			loadAll();
+		} catch (RuntimeException e) {
+			log.warn("[TokenDenylist] 기동 시 적재 실패 — 주기 조회에서 재시도", e);
+		}
+	}
+
+	/**
+	 * 폐기 여부 (요청마다 호출, DB 조회 없음)
+	 * @param jti 토큰 jti (없으면 토큰 단위 판단 생략)
+	 * @param memberId 토큰 주인(sub)
+	 * @param issuedAt 토큰 발급 시각(iat)
+	 */
+	public boolean isRevoked(String jti, String memberId, Date issuedAt) {
+		if (memberId != null && !members.isEmpty()) {
+			MemberCutoff cutoff = members.get(memberId);
+			if (cutoff != null && (issuedAt == null || issuedAt.getTime() / 1000 <= cutoff.issuedUpToSec)) {
+				return true;
+			}
+		}
+		if (jti == null || !bloom.mightContain(jti)) return false;
+		return tokens.containsKey(jti);
+	}
+
+	/** 토큰 1개 폐기 (로그아웃) — DB 기록 후 이 서버에 커밋 시 반영, 다른 서버는 다음 주기 조회 때 */
+	public void revokeToken(String jti, String memberId, Date expiresAt, String reason) {
+		if (jti == null || expiresAt == null || expiresAt.getTime() <= System.currentTimeMillis()) return;
+		tokenDenylistMapper.mergeEntry(TokenDenylistEntry.builder()
+				.denyType(TokenDenylistEntry.TYPE_TOKEN)
+				.denyKey(jti)
+				.memberId(memberId)
+				.expiresAt(LocalDateTime.ofInstant(expiresAt.toInstant(), ZONE))
+				.denyReason(reason)
+				.build());
+		afterCommit(() -> addToken(jti, expiresAt.getTime()));
+	}
+
+	/** 회원의 지금까지 발급된 토큰 전부 폐기 (역할 변경/탈퇴) */
+	public void revokeMember(String memberId, String reason) {
+		if (memberId == null) return;
+		long now = System.currentTimeMillis();
+		tokenDenylistMapper.mergeEntry(TokenDenylistEntry.builder()
+				.denyType(TokenDenylistEntry.TYPE_MEMBER)
+				.denyKey(memberId)
+				.memberId(memberId)
+				.expiresAt(LocalDateTime.ofInstant(new Date(now + tokenValidMillis).toInstant(), ZONE))
+				.denyReason(reason)
+				.build());
+		MemberCutoff cutoff = new MemberCutoff(now / 1000, now + tokenValidMillis);
+		afterCommit(() -> members.merge(memberId, cutoff, MemberCutoff::later));
+	}
+
+	/** 다른 서버 추가분 반영 + 만료분 정리 */
+	@Scheduled(initialDelayString = "${jwt.denylist.poll-ms:5000}", fixedDelayString = "${jwt.denylist.poll-ms:5000}")
+	public void poll() {
+		try {
+			if (!loaded) {
+				loadAll();
+				return;
+			}
+			LocalDateTime since = (lastSeen != null ? lastSeen : LocalDateTime.now())
+					.minusSeconds(overlapSeconds);
+			for (TokenDenylistEntry e : tokenDenylistMapper.selectRevokedSince(since)) {
+				apply(e);
+			}
+			long now = System.currentTimeMillis();
+			if (now - lastPurgedAt >= purgeMillis) {
+				purge(now);
+				lastPurgedAt = now;
+			}
+		} catch (RuntimeException e) {
+			log.warn("[TokenDenylist] 주기 조회 실패 — 다음 주기에 재시도", e);
+		}
+	}
+
+	/** DB 유효분 전체 적재 → 메모리 교체 */
+	private void loadAll() {
+		List<TokenDenylistEntry> entries = tokenDenylistMapper.selectActive();
+		synchronized (this) {
+			tokens.clear();
+			members.clear();
+			for (TokenDenylistEntry e : entries) apply(e);
+			rebuildBloom();
+		}
+		loaded = true;
+		log.info("[TokenDenylist] 적재 완료: 토큰={}, 회원={}", tokens.size(), members.size());
+	}
+
+	private void apply(TokenDenylistEntry e) {
+		if (e.getRevokedAt() != null && (lastSeen == null || e.getRevokedAt().isAfter(lastSeen))) {
+			lastSeen = e.getRevokedAt();
+		}
+		long expiresAt = toMillis(e.getExpiresAt());
+		if (TokenDenylistEntry.TYPE_MEMBER.equals(e.getDenyType())) {
+			long revokedSec = toMillis(e.getRevokedAt()) / 1000;
+			members.merge(e.getDenyKey(), new MemberCutoff(revokedSec, expiresAt), MemberCutoff::later);
+		} else {
+			addToken(e.getDenyKey(), expiresAt);
+		}
+	}
+
+	private synchronized void addToken(String jti, long expiresAt) {
+		tokens.put(jti, expiresAt);             // 정확 집합 먼저 → Bloom 비트를 본 요청은 집합에서도 찾음
+		if (tokens.size() > bloom.capacity()) {
+			rebuildBloom();                      // 예상 건수 초과 → 더 크게
+		} else {
+			bloom.put(jti);
+		}
+	}
+
+	/** 만료분 제거(메모리 + DB) */
+	private void purge(long now) {
+		int removed;
+		synchronized (this) {
+			int before = tokens.size();
+			tokens.values().removeIf(expiresAt -> expiresAt <= now);
+			removed = before - tokens.size();
+			if (removed > 0) rebuildBloom();      // Bloom 은 삭제 불가 → 남은 항목으로 다시 만듦
+		}
+		members.values().removeIf(c -> c.expiresAt <= now);
+		int deleted = tokenDenylistMapper.deleteExpired(PURGE_DELETE_LIMIT);
+		if (removed > 0 || deleted > 0) {
+			log.info("[TokenDenylist] 만료 정리: 메모리 토큰={}, DB 행={}", removed, deleted);
+		}
+	}
+
+	/** 현재 정확 집합으로 Bloom 필터 재생성 (synchronized 안에서 호출) */
+	private void rebuildBloom() {
+		BloomFilter next = new BloomFilter(Math.max(expectedEntries, tokens.size() * 2), falsePositiveRate);
+		for (String jti : tokens.keySet()) next.put(jti);
+		bloom = next;
+	}
+
+	/** 트랜잭션 안이면 커밋 후 실행, 아니면 즉시 */
+	private static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+
+	private static long toMillis(LocalDateTime t) {
+		return t == null ? 0 : t.atZone(ZONE).toInstant().toEpochMilli();
+	}
+
+	/** 회원 단위 폐기: issuedUpToSec 이하 발급 토큰 무효, expiresAt 이후 항목 제거 */
+	private static final class MemberCutoff {
+		final long issuedUpToSec;
+		final long expiresAt;
+
+		MemberCutoff(long issuedUpToSec, long expiresAt) {
+			this.issuedUpToSec = issuedUpToSec;
+			this.expiresAt = expiresAt;
+		}
+
+		static MemberCutoff later(MemberCutoff a, MemberCutoff b) {
+			return new MemberCutoff(Math.max(a.issuedUpToSec, b.issuedUpToSec), Math.max(a.expiresAt, b.expiresAt));
+		}
+	}
+}
@@ -1,22 +1,23 @@
 package com.gym.security;
 
 import com.gym.security.dto.SecuUserDTO;
+import com.gym.domain.member.Member;
 import com.gym.security.mapper.LoginQueryMapper;  // 매퍼 함께 추가
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 /** MyBatis로 회원/권한 로딩 → SecuUserDTO 구성 */
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final LoginQueryMapper loginQueryMapper;
+    private final RequestMemberCache requestMemberCache; // [251121] 요청 단위 회원 캐시
 
-    public UserDetailsServiceImpl(LoginQueryMapper loginQueryMapper){
+    public UserDetailsServiceImpl(LoginQueryMapper loginQueryMapper, RequestMemberCache requestMemberCache){
         this.loginQueryMapper = loginQueryMapper;
+        this.requestMemberCache = requestMemberCache;
     }
 
     @Override
@@ -25,20 +26,13 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         if (row == null) throw new UsernameNotFoundException("존재하지 않는 회원: " + memberId);
 
         // DB 원본 role(user/admin/한글)을 Security 권한으로 변환
-        List<String> rawRoles = loginQueryMapper.findRoles(memberId);      // ex) ["user"] or ["admin"]
-        List<String> secuRoles = rawRoles.stream().map(this::toSecurityRole).toList();
-
-        return SecuUserDTO.of(row.getMemberId(), row.getPasswordHash(), secuRoles);
-    }
-
-    private String toSecurityRole(String raw){
-        return switch (raw) {
-            //case "admin", "관리자", "최고관리자", "담당자" -> "ROLE_ADMIN"; // CMS권한은 ADMIN으로 통합
-        	// 책임자로 변경
-        	case "admin", "관리자", "책임자", "강사" -> "ROLE_ADMIN"; // CMS권한은 ADMIN으로 통합 
-            case "user",  "회원" -> "ROLE_USER";
-            default -> "ROLE_USER";
-        };
+        // List<String> rawRoles = loginQueryMapper.findRoles(memberId);      // ex) ["user"] or ["admin"]
+        // [251121] 역할 행은 요청 캐시로 읽음 → 같은 요청의 서비스(게시판 권한/회원 존재 확인)가 재조회하지 않음
+        Member roleRow = requestMemberCache.findRoleRow(memberId);
+        if (roleRow == null) throw new UsernameNotFoundException("존재하지 않는 회원: " + memberId);
+        // [251123] 역할 변환은 SecuRoles(원본 역할별 캐시)로 통합 — 기존 toSecurityRole switch 와 같은 규칙
+        return SecuUserDTO.ofAuthorities(row.getMemberId(), row.getPasswordHash(),
+                SecuRoles.authorities(roleRow.getMemberRole()));
     }
 }
 
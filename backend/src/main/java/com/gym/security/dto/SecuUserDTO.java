@@ -38,6 +38,11 @@ public class SecuUserDTO implements UserDetails {
         );
     }
 
+    // [251123] 이미 변환된(캐시된) 권한 목록으로 생성 — 요청마다 권한 객체를 새로 만들지 않음
+    public static SecuUserDTO ofAuthorities(String userId, String passwordHash, List<SecuRoleDTO> authorities){
+        return new SecuUserDTO(userId, passwordHash, authorities);
+    }
+
     @Override public Collection<? extends GrantedAuthority> getAuthorities(){ return authorities; } // 시큐리티는 GrantedAuthority 컬렉션만 요구
     @Override public String getPassword(){ return passwordHash; } 
     @Override public String getUsername(){ return userId; } //  username=userId 규칙
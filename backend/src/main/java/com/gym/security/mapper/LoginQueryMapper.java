@@ -2,6 +2,7 @@ package com.gym.security.mapper;
 
 import com.gym.domain.member.Member;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import java.util.List;
 
 @Mapper
@@ -14,8 +15,14 @@ public interface LoginQueryMapper {
     List<String> findRoles(String memberId);
 
     // ⚠️ [3] 전체 회원 정보 조회 (MyBatis XML과 매핑) [250930]추가
+    //  - [251123] 로그인(SignController)은 이 1회 조회로 비밀번호 해시/역할/프로필을 함께 받음 (findUser/findRoles 재조회 없음)
     Member selectMemberById(String memberId);
 
+    // [4] [251122] 로그인 재해시 저장 — 저장값이 아직 oldHash 일 때만 (그 사이 비밀번호 변경 시 0건)
+    int updatePasswordHash(@Param("memberId") String memberId,
+                           @Param("oldHash") String oldHash,
+                           @Param("newHash") String newHash);
+
     // [내부 static 클래스: findUser 리턴타입]
     class LoginRow {
         private String memberId;
@@ -23,6 +23,15 @@ public interface CommentsService {
      */
     List<CommentsResponse> getCommentsByPost(Long postId);
 
+    /**
+     * [251112] 게시글 별 댓글 키셋 페이징 (최신순)
+     * @param postId 게시글 ID
+     * @param cursor 직전 페이지 마지막 댓글 ID (null 이면 첫 페이지)
+     * @param size 페이지 크기 (1~100)
+     * @return 댓글 리스트
+     */
+    List<CommentsResponse> getCommentsPage(Long postId, Long cursor, int size);
+
     /**
      * 댓글 단건 조회
      * @param commentsId 댓글 ID
@@ -43,4 +52,10 @@ public interface CommentsService {
      * @param commentsId 댓글 ID
      */
     void deleteComments(Long commentsId);
+
+    /**
+     * [251112] 회원 삭제 전 게시글 댓글 수 차감 (댓글은 FK CASCADE 로 함께 삭제됨)
+     * @param memberId 회원 ID
+     */
+    void subtractCommentCountsByMember(String memberId);
 }
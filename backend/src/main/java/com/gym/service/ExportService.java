@@ -0,0 +1,26 @@
+package com.gym.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.gym.domain.payment.PaymentSearchRequest;
+import com.gym.domain.reservation.ReservationSearchRequest;
+
+/**
+ * [251103] CMS 데이터 내보내기(CSV/XLSX) 서비스
+ * - 목록(List)을 만들지 않고 MyBatis Cursor → 출력 스트림으로 바로 기록
+ * - format: "csv"(기본) | "xlsx"
+ * - 반환: 기록한 데이터 행 수(헤더 제외)
+ */
+public interface ExportService {
+
+	long exportReservations(ReservationSearchRequest req, String format, OutputStream out) throws IOException; // 예약 내보내기
+
+	long exportPayments(PaymentSearchRequest req, String format, OutputStream out) throws IOException; // 결제 내보내기
+
+	long exportMessages(String startDate, String endDate, String messageType, String receiverId,
+			String format, OutputStream out) throws IOException; // 문자 내보내기
+
+	// [251120] 회원 내보내기 — 헤더는 회원 일괄 가져오기와 같은 한글 제목(비밀번호 제외)
+	long exportMembers(String keyword, String role, String format, OutputStream out) throws IOException;
+}
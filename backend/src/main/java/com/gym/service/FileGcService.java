@@ -0,0 +1,19 @@
+package com.gym.service;
+
+import com.gym.domain.file.FileGcReport;
+
+/**
+ * 251117 고아 파일 GC 서비스
+ * - 업로드 루트(fileUploadPath)의 파일 중 DB 어디에서도 참조하지 않는 파일을 정리
+ * - 디렉터리 순회와 참조 경로(DB 커서)를 같은 순서로 정렬해 병합 비교 → 전체 목록을 메모리에 올리지 않음
+ * - 평소에는 스케줄(file.gc.cron), CMS 에서 dry-run 보고/수동 실행
+ */
+public interface FileGcService {
+
+	/**
+	 * GC 1회 실행
+	 * @param dryRun true 면 삭제 없이 보고만
+	 * @throws IllegalStateException 이미 실행 중
+	 */
+	FileGcReport run(boolean dryRun);
+}
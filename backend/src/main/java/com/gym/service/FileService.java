@@ -23,6 +23,19 @@ public interface FileService {
     // - 구현체(FileServiceImpl)에서 확장자 분류 및 상대경로 생성
     String savePhysicalFile(MultipartFile multipartFile) throws IOException;
     
+    // [251114] 내용 주소(SHA-256) 저장: 같은 내용은 한 번만 저장하고 경로/해시/크기 반환
+    // - savePhysicalFile 도 내부적으로 같은 저장소를 사용 (반환값이 경로뿐인 기존 호출부 호환)
+    StoredFile storeFile(MultipartFile multipartFile) throws IOException;
+
+    // [251116] 스트리밍 업로드 저장: 요청 본문 스트림을 최종 위치로 바로 기록 (확장자/시그니처 검사 + 해시 동시 계산)
+    // - editorImage=true 면 이미지 전용, images/editor 폴더
+    StoredFile storeStream(java.io.InputStream in, String originalName, boolean editorImage) throws IOException;
+
     // [251014 추가] 리치에디터 이미지 전용 업로드용 메서드
     String saveEditorImage(org.springframework.web.multipart.MultipartFile image) throws java.io.IOException;
+
+    // [251113] 물리파일 비동기 삭제 (게시글 연쇄삭제 커밋 후 호출)
+    // - 경로는 file_tbl.file_path("images/x.png") 또는 "/images/images/x.png" 형태 모두 허용
+    // - 아직 다른 행이 참조 중인 경로는 건너뜀, 큐 포화 시 건너뛰고 로그만 남김
+    void deletePhysicalFilesAsync(java.util.Collection<String> filePaths);
 }
@@ -0,0 +1,21 @@
+package com.gym.service;
+
+import java.util.function.Supplier;
+
+/**
+ * [251105] 멱등키(Idempotency-Key) 처리 서비스
+ * - 같은 (범위, 회원, 키) 요청은 최초 1회만 action 실행, 이후에는 최초 결과(PK) 그대로 반환
+ * - 동시에 들어온 중복 요청은 최초 실행이 끝날 때까지 대기 후 같은 결과 반환
+ * - 같은 키로 다른 내용의 요청(fingerprint 불일치)은 IllegalStateException
+ */
+public interface IdempotencyService {
+
+	/**
+	 * @param scope       요청 범위("payment", "reservation")
+	 * @param memberId    로그인 회원ID (키 공간 분리)
+	 * @param key         Idempotency-Key 헤더 값
+	 * @param fingerprint 요청 파라미터 문자열(내부에서 SHA-256)
+	 * @param action      최초 1회 실행할 등록 로직 → 생성 PK
+	 */
+	Long execute(String scope, String memberId, String key, String fingerprint, Supplier<Long> action);
+}
@@ -0,0 +1,34 @@
+package com.gym.service;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 251115 이미지 파생본(썸네일/중간 크기) 서비스
+ * - 업로드 직후 bounded 스레드풀(imageDerivativeExecutor)에서 비동기 생성
+ * - 파생본 경로는 원본 경로에서 규칙으로 결정: "{폴더}/{이름}_{size}.{jpg|png}"
+ * - 조회: /images/... ?size=thumb|medium (파생본이 아직 없으면 원본 응답 + 생성 예약)
+ */
+public interface ImageDerivativeService {
+
+	/** 지원 크기 이름 (thumb, medium) */
+	List<String> sizes();
+
+	/** 이미지 확장자 여부 (jpg/jpeg/png/gif) */
+	boolean isImage(String path);
+
+	/**
+	 * 원본 상대경로 → 파생본 상대경로 (file_tbl.file_thumb_path 등 기록용)
+	 * @return 이미지가 아니거나 지원하지 않는 size 이거나 이미 파생본(_thumb/_medium)이면 null
+	 */
+	String derivedPath(String relPath, String size);
+
+	/** 파생본 생성 예약 (큐 포화 시 건너뜀, 다음 조회 때 다시 예약) */
+	void generateAsync(String relPath);
+
+	/**
+	 * 조회용: 원본 파일 → 파생본 파일
+	 * @return 파생본이 있으면 그 경로, 없으면 null (이 경우 생성 예약 후 원본 응답)
+	 */
+	Path resolve(Path original, String size);
+}
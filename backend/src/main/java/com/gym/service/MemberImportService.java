@@ -0,0 +1,26 @@
+package com.gym.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.gym.domain.member.MemberImportStatus;
+
+/**
+ * [251120] 회원 일괄 가져오기(CSV) 서비스
+ * - 파일을 임시파일로 받아 두고 memberImportExecutor 에서 비동기 처리 → jobId 로 진행 상태/행 오류 조회
+ * - chunk 단위: 검증 → 아이디 중복 1회 조회 → 비밀번호 해시(PasswordHashService, 해시 풀 병렬) → JDBC 배치 INSERT(커밋)
+ * - 헤더: CMS 회원 내보내기와 같은 한글 제목 또는 필드명(memberId, memberPw ...)
+ */
+public interface MemberImportService {
+
+	/**
+	 * 가져오기 작업 등록
+	 * @param in 업로드 CSV (호출 중에 임시파일로 복사)
+	 * @param fileName 원본 파일명 (상태 표시용)
+	 * @throws IllegalStateException 대기 작업 초과
+	 */
+	MemberImportStatus start(InputStream in, String fileName) throws IOException;
+
+	/** 진행 상태 (없으면 null) */
+	MemberImportStatus getStatus(String jobId);
+}
@@ -0,0 +1,32 @@
+package com.gym.service;
+
+import com.gym.domain.member.Member;
+import com.gym.domain.member.MemberSearchHits;
+
+/**
+ * 251118 회원 검색 인덱스 (메모리 n-gram)
+ * - 대상: member_id / member_name / member_email 부분일치(대소문자 무시), member_role 필터
+ * - 2글자 이상 검색어는 bigram/trigram 목록 교집합 → 후보만 부분일치 확인, 1글자는 메모리 순차 확인
+ * - 변경 반영: MemberServiceImpl 등록/수정/삭제 커밋 직후 put/remove, 주기적으로 전체 재적재(다른 서버 변경 반영)
+ */
+public interface MemberSearchIndex {
+
+	/**
+	 * 검색
+	 * @param keyword 검색어 (공백이면 null 반환 → DB 조회)
+	 * @param role    역할 필터 (null/공백 = 전체)
+	 * @param offset  건너뛸 건수
+	 * @param limit   가져올 건수 (0 이면 건수만)
+	 * @return 인덱스 적재 전이거나 검색어가 없으면 null
+	 */
+	MemberSearchHits search(String keyword, String role, int offset, int limit);
+
+	/** 회원 추가/갱신 (memberId/memberName/memberEmail/memberRole 사용) */
+	void put(Member member);
+
+	/** 회원 제거 */
+	void remove(String memberId);
+
+	/** DB 에서 전체 재적재 (재적재 중 변경분은 끝난 뒤 다시 반영) */
+	void rebuild();
+}
@@ -1,5 +1,6 @@
 package com.gym.service;                                 // 📦 서비스 인터페이스
 
+import com.gym.common.PageResponse;
 import com.gym.domain.member.Member;
 
 import java.util.List;
@@ -10,7 +11,9 @@ import java.util.List;
  */
 public interface MemberService {
 
-    Member getMemberById(String memberId);         // 🔎 단건 조회(readOnly)
+    Member getMemberById(String memberId);         // 🔎 단건 조회(readOnly) — 비밀번호 포함(비번 검증/수정용)
+
+    Member getMemberProfile(String memberId);      // [251119] 🔎 프로필 조회 — 비밀번호 제외(화면 표시용)
 
     int createMember(Member req);                  // ➕ 등록(REQUIRED)
 
@@ -21,6 +24,9 @@ public interface MemberService {
     List<Member> listMembers(Integer page, Integer size, String keyword, String role); // 📃 목록
 
     long countMembers(String keyword, String role); // 🔢 총 개수
+
+    // [251118] 회원 검색(타이핑 중 조회) — 검색 인덱스로 현재 페이지 + 전체 건수, page 1부터
+    PageResponse<Member> searchMembers(String keyword, String role, int page, int size);
     
     // [251007] 회원ID 존재 여부 확인용 (중복검사용)
     boolean existsById(String memberId);
@@ -0,0 +1,24 @@
+package com.gym.service;
+
+import com.gym.domain.message.MessageBroadcastRequest;
+import com.gym.domain.message.MessageBroadcastStatus;
+
+/**
+ * 251111 대량 공지(휴관공지 등) 발송 서비스
+ * - 수신 대상은 1회 쿼리로 조회, 저장은 JDBC 배치(chunk 단위 커밋)
+ * - 요청 스레드는 작업 등록 후 바로 반환, 진행 상황은 jobId 로 조회
+ */
+public interface MessageBroadcastService {
+
+	/**
+	 * 발송 작업 등록(비동기 실행)
+	 * @return 등록 직후 상태(jobId 포함)
+	 */
+	MessageBroadcastStatus start(MessageBroadcastRequest request);
+
+	/**
+	 * 발송 작업 진행 상태 조회
+	 * @return 상태 (없는 jobId 면 null)
+	 */
+	MessageBroadcastStatus getStatus(String jobId);
+}
@@ -0,0 +1,20 @@
+package com.gym.service;
+
+import com.gym.domain.message.MessageRetentionResult;
+
+/**
+ * 251110 메시지 보관(retention) 서비스
+ * - 운영 테이블(message_tbl)은 최근 hot-days 일치만 유지, 경과분은 보관 테이블로 chunk 단위 이동
+ * - CMS 전체 조회/내보내기는 includeArchive() 로 보관 테이블 포함 여부를 판단
+ */
+public interface MessageRetentionService {
+
+	/** 보관 이동 + (설정 시) 보관분 최종 삭제 1회 실행 */
+	MessageRetentionResult runRetention();
+
+	/**
+	 * 조회 시작일이 보관 구간에 걸치는지 여부
+	 * @param startDate 조회 시작일(YYYY-MM-DD, 없으면 전체 기간)
+	 */
+	boolean includeArchive(String startDate);
+}
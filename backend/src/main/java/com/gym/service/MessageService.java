@@ -3,6 +3,7 @@ package com.gym.service;
 import com.gym.domain.message.Message;
 import com.gym.domain.message.MessageResponse;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -18,6 +19,20 @@ public interface MessageService {
 	 */
 	int markAsRead(Long messageId);
 
+	/**
+	 * 251109 추가
+	 * 선택 메시지 일괄 읽음 처리 (로그인 회원 소유분만)
+	 * @return 실제 읽음으로 전환된 건수
+	 */
+	int markAsReadBulk(String memberId, List<Long> messageIds);
+
+	/**
+	 * 251109 추가
+	 * 회원 메시지 전체(또는 upToMessageId 이하) 읽음 처리
+	 * @return 실제 읽음으로 전환된 건수
+	 */
+	int markAllAsRead(String memberId, Long upToMessageId);
+
 	
 	/**
 	 * 251016 추가
@@ -31,6 +46,19 @@ public interface MessageService {
      */
     List<MessageResponse> findByMemberId(String memberId, int limit);
 
+    /**
+     * 251108 추가
+     * 사용자별 이전 메시지 키셋 페이징 조회
+     * @param cursor 직전 페이지 마지막 메시지 ID
+     */
+    List<MessageResponse> findOlderByMemberId(String memberId, Long cursor, int limit);
+
+    /**
+     * 251111 추가
+     * 회원 메시지함 캐시 무효화 (sendMessage 를 거치지 않는 대량 발송 후 호출)
+     */
+    void evictInboxes(Collection<String> memberIds);
+
     /**
      * 메시지 저장 및 로그 기록
      * @param message 저장할 메시지 객체
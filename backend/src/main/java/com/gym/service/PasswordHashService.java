@@ -0,0 +1,40 @@
+package com.gym.service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * [251122] 비밀번호 BCrypt 해시/검증 서비스
+ * - 해시는 CPU 를 오래 쓰므로 요청 스레드(Tomcat)에서 돌리지 않고 passwordHashExecutor(코어 수 이하)에서 실행
+ * - 대기 건수가 상한(member.password.max-pending)을 넘으면 즉시 PasswordHashBusyException → 503 + Retry-After
+ * - 비용(cost)은 member.password.bcrypt-cost, 저장된 해시의 비용이 다르면 로그인 성공 시 백그라운드 재해시
+ */
+public interface PasswordHashService {
+
+	/**
+	 * 비밀번호 해시 (회원 등록/비밀번호 변경)
+	 * @throws com.gym.common.exception.PasswordHashBusyException 해시 대기열 초과/대기 시간 초과
+	 */
+	String encode(String rawPassword);
+
+	/**
+	 * 비밀번호 검증 — BCrypt 해시가 아니면(이전 평문 저장분) 문자열 비교
+	 * @throws com.gym.common.exception.PasswordHashBusyException 해시 대기열 초과/대기 시간 초과
+	 */
+	boolean matches(String rawPassword, String storedPassword);
+
+	/** 저장값이 평문이거나 BCrypt 비용이 현재 설정과 다르면 true */
+	boolean needsRehash(String storedPassword);
+
+	/**
+	 * 로그인 성공 직후 재해시 (needsRehash 인 경우만, 응답을 기다리게 하지 않음)
+	 * - 해시 풀이 바쁘면 건너뜀(다음 로그인 때 다시 시도)
+	 * - 그 사이 비밀번호가 바뀌었으면 저장하지 않음(이전 해시와 같을 때만 UPDATE)
+	 */
+	void rehashOnLogin(String memberId, String rawPassword, String storedPassword);
+
+	/**
+	 * 일괄 작업용 해시 (회원 가져오기) — 로그인 대기열을 밀어내지 않도록 풀의 절반까지만 쓰고,
+	 * 넘치면 호출 스레드에서 직접 해시
+	 */
+	CompletableFuture<String> encodeBackground(String rawPassword);
+}
@@ -9,5 +9,13 @@ public interface PaymentService {
 
 	List<PaymentResponse> findList(PaymentSearchRequest req); // 목록 검색
 
+	List<PaymentResponse> findPage(PaymentSearchRequest req, int page, int size); // [251106] 페이지 조회(키셋 우선, size+1건 반환)
+
+	long count(PaymentSearchRequest req); // [251106] 건수(단기 캐시)
+
 	void updateStatus(Long paymentId, String status); // 상태 변경
+
+	Long updateStatus(Long paymentId, String status, Long expectedVersion); // [251104] 상태 변경(상태머신 + 낙관적 버전) → 변경 후 버전
+
+	List<PaymentStatusChangeResult> updateStatusBatch(List<PaymentStatusChangeRequest> reqs); // [251104] 상태 일괄 변경
 }
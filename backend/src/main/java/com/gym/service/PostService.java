@@ -35,5 +35,11 @@ public interface PostService {
     
     // ==================== [NEW -250925-] ====================
     void increaseViewCount(Long postId); // [250925추가] 게시글 조회수 1 증가
-    
+
+    // ==================== [NEW -251113-] ====================
+    // 게시글 연쇄삭제(한 트랜잭션): 댓글 → 첨부파일 행 → 게시글 순 집합 DELETE, 물리파일은 커밋 후 비동기 정리
+    int deletePostCascade(Long postId);              // 단건 (없으면 예외)
+    int deletePostsCascade(Long boardId, List<Long> postIds); // 여러 건 (최대 1000건, boardId 지정 시 해당 게시판 소속만)
+    int deletePostsByBoard(Long boardId);            // 게시판 전체
+
 }
@@ -0,0 +1,28 @@
+package com.gym.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.gym.domain.stats.RevenueDailyResponse;
+import com.gym.domain.stats.StatsRollupResult;
+import com.gym.domain.stats.UsageDailyResponse;
+
+/**
+ * [251107] 일별 매출/이용 집계(롤업) 서비스
+ * - CMS 대시보드는 원본(payment/paylog/reservation) 대신 집계 테이블을 조회
+ * - 집계는 원본 INSERT 트리거가 쌓은 큐(stat_queue_tbl)의 행만 반영하는 증분 방식(주기 실행 + 수동 실행)
+ */
+public interface StatsRollupService {
+
+	/** 큐에 쌓인 신규 원본만 집계에 반영 */
+	StatsRollupResult runIncremental();
+
+	/** 집계 테이블을 비우고 처음부터 다시 집계(데이터 보정/최초 적재용) */
+	StatsRollupResult rebuild();
+
+	/** 일별 시설종류별 매출 (기간 미지정 시 최근 30일) */
+	List<RevenueDailyResponse> getRevenueDaily(LocalDate fromDate, LocalDate toDate, String facilityType);
+
+	/** 일별 시설 이용/가동률 (기간 미지정 시 최근 30일) */
+	List<UsageDailyResponse> getUsageDaily(LocalDate fromDate, LocalDate toDate, Long facilityId);
+}
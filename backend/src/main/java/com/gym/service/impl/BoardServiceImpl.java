@@ -5,8 +5,8 @@ import com.gym.domain.board.BoardCreateRequest;
 import com.gym.domain.board.BoardResponse;
 import com.gym.domain.board.BoardUpdateRequest;
 import com.gym.domain.member.Member;
-import com.gym.mapper.annotation.MemberMapper;
 import com.gym.mapper.xml.BoardQueryMapper;
+import com.gym.security.RequestMemberCache;
 import com.gym.service.BoardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DuplicateKeyException;
@@ -27,14 +27,14 @@ import java.util.stream.Collectors;
 public class BoardServiceImpl implements BoardService {
 
     private final BoardQueryMapper boardQueryMapper; // 게시판 관련 DB 작업을 위한 XML 매퍼입니다.
-    private final MemberMapper memberMapper; // 회원 정보 조회를 위한 어노테이션 매퍼입니다.
+    private final RequestMemberCache requestMemberCache; // [251121] 회원 역할 조회 (요청당 회원별 1회, 인증 단계에서 읽은 행 재사용)
 
     @Override
     @Transactional // 이 메서드 전체를 하나의 트랜잭션으로 묶습니다. 실패 시 모든 작업이 롤백됩니다.
     public Integer createBoard(BoardCreateRequest request) {
         // ✅ =================== [핵심 수정] 자바 검문소 로직 추가 ===================
-        // 1. 요청으로 들어온 memberId가 유효한지 확인합니다.
-        Member member = memberMapper.selectMemberById(request.getMemberId());
+        // 1. 요청으로 들어온 memberId가 유효한지 확인합니다. ([251119] 아이디+역할만 조회)
+        Member member = requestMemberCache.findRoleRow(request.getMemberId());
         if (member == null) {
             // 회원이 존재하지 않으면, 시퀀스를 사용하기 전에 즉시 에러를 발생시킵니다.
             throw new RuntimeException("존재하지 않는 회원 ID입니다: " + request.getMemberId());
@@ -137,14 +137,14 @@ public class BoardServiceImpl implements BoardService {
                 .orElseThrow(() -> new RuntimeException("수정할 게시판을 찾을 수 없습니다. ID: " + boardId));
 
         // [추가] 경로 memberId 유효성 및 관리자 권한 확인 (수정도 관리자만)
-        Member actor = memberMapper.selectMemberById(memberId);
+        Member actor = requestMemberCache.findRoleRow(memberId);
         if (actor == null || !"admin".equalsIgnoreCase(actor.getMemberRole())) {
             throw new RuntimeException("수정 권한이 없습니다. (관리자만 가능)");
         }
 
         // 담당자(memberId)를 변경하는 경우, 변경될 담당자가 유효한 관리자인지 확인합니다.
         if (request.getMemberId() != null) {
-            Member newOwner = memberMapper.selectMemberById(request.getMemberId());
+            Member newOwner = requestMemberCache.findRoleRow(request.getMemberId());
             if (newOwner == null || !"admin".equalsIgnoreCase(newOwner.getMemberRole())) {
                 throw new RuntimeException("담당자를 변경할 수 없습니다. (존재하지 않거나 권한 없는 회원)");
             }
@@ -202,7 +202,7 @@ public class BoardServiceImpl implements BoardService {
         boardQueryMapper.findBoardById(boardId)
                 .orElseThrow(() -> new RuntimeException("삭제할 게시판을 찾을 수 없습니다. ID: " + boardId));
 
-        Member actor = memberMapper.selectMemberById(memberId);
+        Member actor = requestMemberCache.findRoleRow(memberId);
         if (actor == null || !"admin".equalsIgnoreCase(actor.getMemberRole())) {
             throw new RuntimeException("삭제 권한이 없습니다. (관리자만 가능)");
         }
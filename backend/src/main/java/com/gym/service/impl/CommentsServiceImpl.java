@@ -16,6 +16,8 @@ import java.util.List;
 @Service
 public class CommentsServiceImpl implements CommentsService {
 
+    private static final int MAX_PAGE_SIZE = 100; // [251112] 댓글 페이지 최대 크기
+
     private final CommentsMapper commentsMapper;
 
     public CommentsServiceImpl(CommentsMapper commentsMapper) {
@@ -34,6 +36,7 @@ public class CommentsServiceImpl implements CommentsService {
             .content(request.getContent())
             .build();
         commentsMapper.insertComments(comments);
+        commentsMapper.addPostCommentCount(request.getPostId(), 1); // [251112] 게시글 댓글 수 +1 (같은 트랜잭션)
         return comments.getCommentsId();
     }
 
@@ -46,6 +49,18 @@ public class CommentsServiceImpl implements CommentsService {
         return commentsMapper.selectCommentsByPost(postId);
     }
 
+    /**
+     * [251112] 게시글 댓글 키셋 페이징
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommentsResponse> getCommentsPage(Long postId, Long cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        return commentsMapper.selectCommentsPage(postId, cursor, size);
+    }
+
     /**
      * 댓글 단건 조회
      */
@@ -73,9 +88,22 @@ public class CommentsServiceImpl implements CommentsService {
     @Override
     @Transactional
     public void deleteComments(Long commentsId) {
+        CommentsResponse target = commentsMapper.selectCommentsById(commentsId); // [251112] 댓글 수 차감 대상 게시글
         int deleted = commentsMapper.deleteCommentsById(commentsId);
         if (deleted == 0) {
             throw new RuntimeException("삭제할 댓글이 없습니다. ID=" + commentsId);
         }
+        if (target != null && target.getPostId() != null) {
+            commentsMapper.addPostCommentCount(target.getPostId(), -1); // [251112] 게시글 댓글 수 -1
+        }
+    }
+
+    /**
+     * [251112] 회원 삭제 전 게시글 댓글 수 차감
+     */
+    @Override
+    @Transactional
+    public void subtractCommentCountsByMember(String memberId) {
+        commentsMapper.subtractCommentCountsByMember(memberId);
     }
 }
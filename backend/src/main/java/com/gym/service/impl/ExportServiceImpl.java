@@ -0,0 +1,158 @@
+package com.gym.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.gym.common.export.RowWriter;
+import com.gym.domain.member.Member;
+import com.gym.domain.message.MessageResponse;
+import com.gym.domain.payment.PaymentResponse;
+import com.gym.domain.payment.PaymentSearchRequest;
+import com.gym.domain.reservation.ReservationResponse;
+import com.gym.domain.reservation.ReservationSearchRequest;
+import com.gym.mapper.xml.MemberQueryMapper;
+import com.gym.mapper.xml.MessageMapper;
+import com.gym.mapper.xml.PaymentMapper;
+import com.gym.mapper.xml.ReservationQueryMapper;
+import com.gym.service.ExportService;
+import com.gym.service.MessageRetentionService;
+
+/**
+ * [251103] CMS 데이터 내보내기 구현
+ * - MyBatis Cursor는 SqlSession(=DB 커넥션)이 열려 있는 동안만 순회 가능
+ *   → 읽기전용 TransactionTemplate 안에서 열고, 마지막 행을 읽는 즉시 커서/트랜잭션을 닫아 커넥션 반납
+ * - 컨트롤러의 StreamingResponseBody(비동기 스레드)에서 호출되므로 @Transactional 대신 TransactionTemplate 사용
+ * - XLSX는 SXSSF 임시파일에 먼저 쌓고, 커넥션 반납 후 zip 으로 출력
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportServiceImpl implements ExportService {
+
+	private final ReservationQueryMapper reservationQueryMapper;
+	private final PaymentMapper paymentMapper;
+	private final MessageMapper messageMapper;
+	private final MessageRetentionService messageRetentionService;	// [251110] 보관 테이블 포함 여부
+	private final MemberQueryMapper memberQueryMapper;				// [251120] 회원 내보내기
+	private final PlatformTransactionManager transactionManager;
+
+	/** 행 → 셀 값 배열 변환기 */
+	private interface RowMapper<T> {
+		Object[] toRow(T item);
+	}
+
+	@Override
+	public long exportReservations(ReservationSearchRequest req, String format, OutputStream out) throws IOException {
+		String[] header = {"예약ID", "회원ID", "회원명", "시설ID", "시설명", "요구사항", "희망일", "신청일",
+				"인원", "상태", "이용료", "시작일시", "종료일시", "총금액", "취소신청", "취소사유"};
+		RowMapper<ReservationResponse> mapper = r -> new Object[] {
+				r.getResvId(), r.getMemberId(), r.getMemberName(), r.getFacilityId(), r.getFacilityName(),
+				r.getResvContent(), r.getWantDate(), r.getResvDate(), r.getResvPersonCount(), r.getResvStatus(),
+				r.getFacilityMoney(), r.getResvStartTime(), r.getResvEndTime(), r.getResvMoney(),
+				r.getResvCancel(), r.getResvCancelReason()};
+		return stream("reservations", format, out, header,
+				() -> reservationQueryMapper.cursorReservations(req), mapper);
+	}
+
+	@Override
+	public long exportPayments(PaymentSearchRequest req, String format, OutputStream out) throws IOException {
+		String[] header = {"결제ID", "회원ID", "계좌ID", "카드ID", "예약ID", "결제금액", "결제수단",
+				"결제상태", "결제일시", "할부개월"};
+		RowMapper<PaymentResponse> mapper = p -> new Object[] {
+				p.getPaymentId(), p.getMemberId(), p.getAccountId(), p.getCardId(), p.getResvId(),
+				p.getPaymentMoney(), p.getPaymentMethod(), p.getPaymentStatus(), p.getPaymentDate(),
+				p.getCardInstallment()};
+		return stream("payments", format, out, header,
+				() -> paymentMapper.cursorPayments(req), mapper);
+	}
+
+	@Override
+	public long exportMessages(String startDate, String endDate, String messageType, String receiverId,
+			String format, OutputStream out) throws IOException {
+		// selectAllMessages와 동일한 파라미터 맵 구성
+		Map<String, Object> params = new HashMap<>();
+		params.put("startDate", startDate);
+		params.put("endDate", endDate);
+		params.put("messageType", messageType);
+		params.put("receiverId", receiverId);
+		params.put("includeArchive", messageRetentionService.includeArchive(startDate)); // [251110]
+
+		String[] header = {"메시지ID", "회원ID", "회원명", "예약ID", "휴관일ID", "유형", "내용", "발송일시", "읽음"};
+		RowMapper<MessageResponse> mapper = m -> new Object[] {
+				m.getMessageId(), m.getMemberId(), m.getMemberName(), m.getResvId(), m.getClosedId(),
+				m.getMessageType(), m.getMessageContent(), m.getMessageDate(), m.getReadStatus()};
+		return stream("messages", format, out, header,
+				() -> messageMapper.cursorAllMessages(params), mapper);
+	}
+
+	/**
+	 * [251120] 회원 내보내기
+	 * - 열 제목은 회원 일괄 가져오기(MemberImportServiceImpl)가 읽는 제목과 같음 → 비밀번호 열만 추가하면 다시 가져오기 가능
+	 */
+	@Override
+	public long exportMembers(String keyword, String role, String format, OutputStream out) throws IOException {
+		String[] header = {"회원ID", "이름", "성별", "이메일", "휴대폰", "전화번호", "우편번호", "도로명주소",
+				"지번주소", "상세주소", "생년월일", "결제수단", "가입일", "권한", "관리자유형"};
+		RowMapper<Member> mapper = m -> new Object[] {
+				m.getMemberId(), m.getMemberName(), m.getMemberGender(), m.getMemberEmail(), m.getMemberMobile(),
+				m.getMemberPhone(), m.getZip(), m.getRoadAddress(), m.getJibunAddress(), m.getDetailAddress(),
+				m.getMemberBirthday(), m.getMemberManipay(), m.getMemberJoindate(), m.getMemberRole(),
+				m.getAdminType()};
+		return stream("members", format, out, header,
+				() -> memberQueryMapper.cursorMemberExport(keyword, role), mapper);
+	}
+
+	/**
+	 * 공통 스트리밍 처리
+	 * [1] 읽기전용 트랜잭션 시작 → 커서 오픈
+	 * [2] 1행씩 RowWriter로 기록 (CSV는 500행마다 flush)
+	 * [3] 커서/트랜잭션 종료 → 커넥션 반납
+	 * [4] finish(): XLSX는 이 시점에 zip 기록
+	 */
+	private <T> long stream(String name, String format, OutputStream out, String[] header,
+			Supplier<Cursor<T>> cursorSupplier, RowMapper<T> rowMapper) throws IOException {
+		long started = System.currentTimeMillis();
+
+		TransactionTemplate tx = new TransactionTemplate(transactionManager);
+		tx.setReadOnly(true);
+
+		try (RowWriter writer = RowWriter.of(format, name, out)) {
+			writer.header(header);
+
+			Long count;
+			try {
+				count = tx.execute(status -> {
+					long n = 0;
+					try (Cursor<T> cursor = cursorSupplier.get()) {
+						for (T item : cursor) {
+							writer.row(rowMapper.toRow(item));
+							n++;
+						}
+					} catch (IOException e) {
+						throw new UncheckedIOException(e); // 클라이언트 연결 끊김 등 → 롤백(읽기전용) 후 상위로 전달
+					}
+					return n;
+				});
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+
+			writer.finish();
+			log.info("[내보내기] {} {}건, format={}, {}ms", name, count, format,
+					System.currentTimeMillis() - started);
+			return count == null ? 0L : count;
+		}
+	}
+}
@@ -178,6 +178,7 @@ public class FacilityServiceImpl implements FacilityService {
                 .facilityPhone(f.getFacilityPhone())
                 .facilityContent(f.getFacilityContent())
                 .facilityImagePath(f.getFacilityImagePath())
+                .facilityThumbPath(thumbPathOf(f.getFacilityImagePath())) // [251115] 목록은 썸네일 사용
                 .facilityPersonMax(f.getFacilityPersonMax())
                 .facilityPersonMin(f.getFacilityPersonMin())
                 .facilityUse(f.isFacilityUse())
@@ -189,4 +190,10 @@ public class FacilityServiceImpl implements FacilityService {
                 .facilityType(f.getFacilityType()) // ✅ [251007 추가] 시설유형 매핑
                 .build();
     }
+
+    /** [251115] 원본 이미지 경로 → 썸네일 조회 경로 (FileDownloadController ?size=thumb, 파생본 없으면 원본 응답) */
+    private String thumbPathOf(String imagePath) {
+        if (imagePath == null || imagePath.isBlank() || imagePath.contains("?")) return imagePath;
+        return imagePath + "?size=thumb";
+    }
 }
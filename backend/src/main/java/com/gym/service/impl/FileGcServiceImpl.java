@@ -0,0 +1,317 @@
+package com.gym.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.gym.domain.file.FileGcReport;
+import com.gym.mapper.xml.FileQueryMapper;
+import com.gym.service.FileGcService;
+import com.gym.service.ImageDerivativeService;
+
+/**
+ * 251117 고아 파일 GC 구현 (mark-and-sweep)
+ * [1] mark: 업로드 루트를 코드포인트 순으로 깊이 우선 순회 + 참조 경로 커서(같은 순서)를 병합 비교
+ *     - 디렉터리 항목은 "이름/"(디렉터리) · "이름"(파일) 기준으로 정렬 → 순회 순서 = 전체 상대경로 문자열 순서
+ *     - 메모리: 디렉터리 1개의 항목 + 삭제 후보(maxDeletes 건)만 유지
+ *     - 파생본(_thumb/_medium)은 원본 파일이 남아 있으면 보존(원본과 함께 정리)
+ *     - 유예기간(graceHours) 안에 수정된 파일은 보존 (업로드 직후 아직 DB 에 기록 전인 파일 보호)
+ * [2] sweep: 후보를 batchSize 건씩 삭제, 배치 사이 pauseMillis 대기
+ *     - 삭제 직전 참조 수를 다시 확인(mark 이후 새로 연결된 파일 보호)
+ * - excludeDirs(기본 images/editor): 본문 HTML 안에서만 참조되는 리치에디터 이미지는 경로 컬럼이 없어 대상에서 제외
+ */
+@Slf4j
+@Service
+public class FileGcServiceImpl implements FileGcService {
+
+	private static final int SAMPLE_LIMIT = 100;
+	private static final Pattern DERIVED = Pattern.compile("^(.*)_(thumb|medium)\\.(jpg|png)$");
+	private static final List<String> ORIGINAL_EXTS = List.of("jpg", "jpeg", "png", "gif");
+
+	/** 코드포인트 순서 (= UTF-8 바이트 순서 = Oracle NLSSORT BINARY) */
+	private static final Comparator<String> CODE_POINT_ORDER = FileGcServiceImpl::compareCodePoints;
+
+	private final FileQueryMapper fileQueryMapper;
+	private final ImageDerivativeService imageDerivativeService;
+	private final TransactionTemplate readTx;
+	private final Path root;
+	private final boolean enabled;
+	private final long graceHours;
+	private final int batchSize;
+	private final long pauseMillis;
+	private final int maxDeletes;
+	private final Set<String> excludeDirs;
+
+	private final AtomicBoolean running = new AtomicBoolean(false); // 같은 서버 내 중복 실행 방지
+
+	public FileGcServiceImpl(FileQueryMapper fileQueryMapper,
+			ImageDerivativeService imageDerivativeService,
+			PlatformTransactionManager transactionManager,
+			@Value("${fileUploadPath}") String fileUploadPath,
+			@Value("${file.gc.enabled:false}") boolean enabled,
+			@Value("${file.gc.grace-hours:72}") long graceHours,
+			@Value("${file.gc.batch-size:200}") int batchSize,
+			@Value("${file.gc.pause-ms:200}") long pauseMillis,
+			@Value("${file.gc.max-deletes:5000}") int maxDeletes,
+			@Value("${file.gc.exclude-dirs:images/editor}") String[] excludeDirs) {
+		if (graceHours < 1) {
+			throw new IllegalArgumentException("file.gc.grace-hours 는 1 이상이어야 합니다.");
+		}
+		this.fileQueryMapper = fileQueryMapper;
+		this.imageDerivativeService = imageDerivativeService;
+		this.readTx = new TransactionTemplate(transactionManager);
+		this.readTx.setReadOnly(true);
+		this.root = Paths.get(fileUploadPath).toAbsolutePath().normalize();
+		this.enabled = enabled;
+		this.graceHours = graceHours;
+		this.batchSize = Math.max(1, batchSize);
+		this.pauseMillis = pauseMillis;
+		this.maxDeletes = Math.max(1, maxDeletes);
+		this.excludeDirs = new LinkedHashSet<>();
+		for (String d : excludeDirs) {
+			String v = d.trim().replace('\\', '/');
+			while (v.endsWith("/")) v = v.substring(0, v.length() - 1);
+			if (!v.isEmpty()) this.excludeDirs.add(v);
+		}
+	}
+
+	/** 주기 실행 (기본 매일 04:00, file.gc.enabled=true 일 때만) */
+	@Scheduled(cron = "${file.gc.cron:0 0 4 * * *}")
+	public void scheduledGc() {
+		if (!enabled) return;
+		try {
+			FileGcReport r = run(false);
+			log.info("[FileGc] 실행 완료: scanned={}, orphan={}, deleted={}({} bytes), remaining={}",
+					r.getScannedFiles(), r.getOrphanFiles(), r.getDeletedFiles(), r.getDeletedBytes(), r.isRemaining());
+		} catch (IllegalStateException e) {
+			log.info("[FileGc] 건너뜀: {}", e.getMessage());
+		} catch (RuntimeException e) {
+			log.error("[FileGc] 실행 실패 — 이미 삭제한 파일은 유지, 다음 실행에서 이어서 처리", e);
+		}
+	}
+
+	@Override
+	public FileGcReport run(boolean dryRun) {
+		if (!running.compareAndSet(false, true)) {
+			throw new IllegalStateException("파일 GC 가 이미 실행 중입니다.");
+		}
+		long started = System.currentTimeMillis();
+		try {
+			if (!Files.isDirectory(root)) {
+				throw new IllegalStateException("업로드 루트가 없습니다: " + root);
+			}
+			Instant cutoff = Instant.now().minusSeconds(graceHours * 3600);
+			FileGcReport report = FileGcReport.builder()
+					.dryRun(dryRun)
+					.graceCutoff(LocalDateTime.ofInstant(cutoff, ZoneId.systemDefault()))
+					.samples(new ArrayList<>())
+					.build();
+
+			// [1] mark (커서는 트랜잭션 안에서만 유효)
+			List<String> candidates = new ArrayList<>();
+			readTx.executeWithoutResult(status -> {
+				try (Cursor<String> refs = fileQueryMapper.cursorReferencedPaths()) {
+					RefIterator refIt = new RefIterator(refs.iterator());
+					walk(root, "", (rel, path, attrs) -> mark(rel, path, attrs, refIt, cutoff, report, candidates));
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+
+			// [2] sweep
+			if (!dryRun) {
+				sweep(candidates, cutoff, report);
+			}
+			report.setElapsedMillis(System.currentTimeMillis() - started);
+			return report;
+		} finally {
+			running.set(false);
+		}
+	}
+
+	// ---------------------------------------------------------------
+	// mark
+	// ---------------------------------------------------------------
+
+	private void mark(String rel, Path path, BasicFileAttributes attrs, RefIterator refs,
+			Instant cutoff, FileGcReport report, List<String> candidates) {
+		report.setScannedFiles(report.getScannedFiles() + 1);
+
+		if (refs.contains(rel) || hasLiveOriginal(path)) {
+			report.setReferencedFiles(report.getReferencedFiles() + 1);
+			return;
+		}
+		if (attrs.lastModifiedTime().toInstant().isAfter(cutoff)) {
+			report.setSkippedRecent(report.getSkippedRecent() + 1);
+			return;
+		}
+		report.setOrphanFiles(report.getOrphanFiles() + 1);
+		report.setOrphanBytes(report.getOrphanBytes() + attrs.size());
+		if (report.getSamples().size() < SAMPLE_LIMIT) {
+			report.getSamples().add(rel);
+		}
+		if (candidates.size() < maxDeletes) {
+			candidates.add(rel);
+		} else {
+			report.setRemaining(true);
+		}
+	}
+
+	/** 파생본이면 원본 파일(같은 이름, 이미지 확장자) 존재 여부 — 원본 정리 때 함께 삭제됨 */
+	private boolean hasLiveOriginal(Path path) {
+		Matcher m = DERIVED.matcher(path.getFileName().toString());
+		if (!m.matches()) return false;
+		for (String ext : ORIGINAL_EXTS) {
+			if (Files.exists(path.resolveSibling(m.group(1) + "." + ext))) return true;
+		}
+		return false;
+	}
+
+	/** 코드포인트 순 깊이 우선 순회 (심볼릭 링크는 따라가지 않음, excludeDirs 제외) */
+	private void walk(Path dir, String prefix, FileVisitor visitor) throws IOException {
+		List<Object[]> entries = new ArrayList<>(); // {정렬키, 경로, 속성}
+		try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir)) {
+			for (Path p : ds) {
+				BasicFileAttributes attrs = Files.readAttributes(p, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+				if (attrs.isSymbolicLink() || attrs.isOther()) continue;
+				String name = p.getFileName().toString();
+				entries.add(new Object[] { attrs.isDirectory() ? name + "/" : name, p, attrs });
+			}
+		}
+		entries.sort((a, b) -> CODE_POINT_ORDER.compare((String) a[0], (String) b[0]));
+
+		for (Object[] e : entries) {
+			String key = (String) e[0];
+			Path p = (Path) e[1];
+			BasicFileAttributes attrs = (BasicFileAttributes) e[2];
+			if (attrs.isDirectory()) {
+				String relDir = prefix + key.substring(0, key.length() - 1);
+				if (excludeDirs.contains(relDir)) continue;
+				walk(p, relDir + "/", visitor);
+			} else {
+				visitor.visit(prefix + key, p, attrs);
+			}
+		}
+	}
+
+	// ---------------------------------------------------------------
+	// sweep
+	// ---------------------------------------------------------------
+
+	private void sweep(List<String> candidates, Instant cutoff, FileGcReport report) {
+		for (int from = 0; from < candidates.size(); from += batchSize) {
+			int to = Math.min(candidates.size(), from + batchSize);
+			for (String rel : candidates.subList(from, to)) {
+				deleteIfStillOrphan(rel, cutoff, report);
+			}
+			if (to < candidates.size()) pause();
+		}
+	}
+
+	private void deleteIfStillOrphan(String rel, Instant cutoff, FileGcReport report) {
+		Path target = root.resolve(rel).normalize();
+		if (!target.startsWith(root)) return;
+		try {
+			if (!Files.isRegularFile(target, LinkOption.NOFOLLOW_LINKS)) return;
+			if (Files.getLastModifiedTime(target).toInstant().isAfter(cutoff)) return; // mark 이후 갱신됨
+			if (fileQueryMapper.countFilePathRefs(rel) > 0) return;                     // mark 이후 참조됨
+
+			long size = Files.size(target);
+			if (Files.deleteIfExists(target)) {
+				report.setDeletedFiles(report.getDeletedFiles() + 1);
+				report.setDeletedBytes(report.getDeletedBytes() + size);
+			}
+			// 원본과 함께 파생본 정리
+			for (String s : imageDerivativeService.sizes()) {
+				String derived = imageDerivativeService.derivedPath(rel, s);
+				if (derived == null) continue;
+				Path d = root.resolve(derived).normalize();
+				if (!d.startsWith(root) || !Files.isRegularFile(d, LinkOption.NOFOLLOW_LINKS)) continue;
+				long dSize = Files.size(d);
+				if (Files.deleteIfExists(d)) {
+					report.setDeletedFiles(report.getDeletedFiles() + 1);
+					report.setDeletedBytes(report.getDeletedBytes() + dSize);
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			log.warn("[FileGc] 삭제 실패: {} ({})", rel, e.getMessage());
+		}
+	}
+
+	private void pause() {
+		if (pauseMillis <= 0) return;
+		try {
+			Thread.sleep(pauseMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// ---------------------------------------------------------------
+	// 병합 비교 보조
+	// ---------------------------------------------------------------
+
+	@FunctionalInterface
+	private interface FileVisitor {
+		void visit(String rel, Path path, BasicFileAttributes attrs);
+	}
+
+	/** 정렬된 참조 경로 커서를 앞으로만 이동하며 포함 여부 판단 (중복값은 건너뜀) */
+	private static final class RefIterator {
+		private final Iterator<String> it;
+		private String current;
+
+		private RefIterator(Iterator<String> it) {
+			this.it = it;
+			this.current = it.hasNext() ? it.next() : null;
+		}
+
+		/** rel 은 호출마다 증가하는 순서여야 함 */
+		boolean contains(String rel) {
+			while (current != null && CODE_POINT_ORDER.compare(current, rel) < 0) {
+				current = it.hasNext() ? it.next() : null;
+			}
+			return current != null && current.equals(rel);
+		}
+	}
+
+	private static int compareCodePoints(String a, String b) {
+		int i = 0;
+		int j = 0;
+		while (i < a.length() && j < b.length()) {
+			int ca = a.codePointAt(i);
+			int cb = b.codePointAt(j);
+			if (ca != cb) return Integer.compare(ca, cb);
+			i += Character.charCount(ca);
+			j += Character.charCount(cb);
+		}
+		return Integer.compare(a.length() - i, b.length() - j);
+	}
+}
@@ -4,6 +4,7 @@ import com.gym.domain.file.*;
 import com.gym.mapper.annotation.FileMapper;
 import com.gym.mapper.xml.FileQueryMapper;
 import com.gym.service.FileService;
+import com.gym.service.ImageDerivativeService; // [251115] 썸네일/중간 크기 파생본
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 
@@ -16,6 +17,24 @@ import java.io.File;               // [251009] File 클래스: 실제 파일 경
 import java.util.Arrays;           // [251009] Arrays.asList 사용을 위해 import
 import java.util.Locale;           // [251009] 확장자 소문자 변환 시 사용
 import org.springframework.beans.factory.annotation.Value; // [251010추가] yml 속성 주입용 import
+import org.springframework.beans.factory.annotation.Qualifier; // [251113] 파일정리 전용 스레드풀 지정
+import org.springframework.core.task.TaskExecutor;             // [251113] 물리파일 비동기 삭제
+import org.springframework.core.task.TaskRejectedException;    // [251113] 큐 포화
+import java.nio.file.Files;                                    // [251113] 물리파일 삭제
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.io.InputStream;                                    // [251114] 내용 해시 저장
+import java.io.BufferedInputStream;                            // [251116] 시그니처 미리보기(mark/reset)
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;                       // [251114] 중복 저장 시 수정시각 갱신
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 
 /**
  * 파일 서비스 구현체
@@ -34,10 +53,25 @@ public class FileServiceImpl implements FileService {
     @Value("${fileUploadPath}")
     private String absoluteUploadRoot; // C:/developer_project/gym_reservation_files/
 
+    // [251113] 물리파일 삭제 전용 스레드풀 (AsyncConfig.fileCleanupExecutor)
+    private final TaskExecutor fileCleanupExecutor;
+    // [251115] 이미지 파생본(썸네일/중간 크기) 생성
+    private final ImageDerivativeService imageDerivativeService;
+    // [251114] 같은 내용 저장(중복 확인·수정시각 갱신)과 물리 삭제를 경로별로 직렬화 (해시 경로 → 잠금 1/64)
+    private final Object[] pathLocks = new Object[64];
+    // [251114] 이 시간 안에 수정(= 업로드/중복 저장)된 파일은 참조가 없어도 삭제하지 않음 — 업로드 후 DB 등록 전 구간 보호
+    @Value("${file.cleanup.grace-seconds:600}")
+    private long cleanupGraceSeconds;
+
     // 생성자 주입 (스프링이 FileMapper, FileQueryMapper를 자동으로 넣어줌)
-    public FileServiceImpl(FileMapper fileMapper, FileQueryMapper fileQueryMapper) {
+    public FileServiceImpl(FileMapper fileMapper, FileQueryMapper fileQueryMapper,
+                           @Qualifier("fileCleanupExecutor") TaskExecutor fileCleanupExecutor,
+                           ImageDerivativeService imageDerivativeService) {
         this.fileMapper = fileMapper;
         this.fileQueryMapper = fileQueryMapper;
+        this.fileCleanupExecutor = fileCleanupExecutor;
+        this.imageDerivativeService = imageDerivativeService;
+        for (int i = 0; i < pathLocks.length; i++) pathLocks[i] = new Object();
     }
     
     // 업로드 기능
@@ -45,6 +79,11 @@ public class FileServiceImpl implements FileService {
     // 반환값: int (INSERT 성공 시 영향받은 행 수, 보통 1)
     @Override
     public int uploadFile(FileUploadRequest request) {
+        // [251115] 이미지면 파생본 경로를 규칙대로 함께 기록 (파일은 비동기 생성, 생성 전에는 원본으로 응답)
+        if (request.getFileThumbPath() == null && imageDerivativeService.isImage(request.getFilePath())) {
+            request.setFileThumbPath(imageDerivativeService.derivedPath(request.getFilePath(), "thumb"));
+            request.setFileMediumPath(imageDerivativeService.derivedPath(request.getFilePath(), "medium"));
+        }
         return fileMapper.uploadFile(request);
     }
 
@@ -63,7 +102,13 @@ public class FileServiceImpl implements FileService {
     // 반환값: int (DELETE 성공 시 영향받은 행 수, 보통 1)
     @Override
     public int deleteFileById(Long fileId) {
-        return fileMapper.deleteFileById(fileId);
+        // [251114] 내용 주소 저장소: 행 삭제 후 같은 경로 참조가 0 이면 물리파일도 정리 (참조 수 = 같은 file_path 행 수)
+        FileResponse origin = fileQueryMapper.selectFileById(fileId);
+        int deleted = fileMapper.deleteFileById(fileId);
+        if (deleted > 0 && origin != null && origin.getFilePath() != null) {
+            deletePhysicalFilesAsync(List.of(origin.getFilePath()));
+        }
+        return deleted;
     }
 
 	// 파일 목록 조회 기능
@@ -103,36 +148,42 @@ public class FileServiceImpl implements FileService {
 		String ext = originalName.substring(originalName.lastIndexOf(".") + 1).toLowerCase(Locale.ROOT);
 
 		// [3] 확장자에 따라 하위 폴더 분류
-		String subDir;
-		if (Arrays.asList("jpg", "jpeg", "png", "gif").contains(ext)) {
-			subDir = "images";
-		} else if (Arrays.asList("txt", "pdf", "hwpx", "pptx", "xlsx", "docx").contains(ext)) {
-			subDir = "documents";
-		} else {
-			subDir = "etc";
-		}
+		String subDir = subDirOf(ext); // [251114] storeFile 과 공용
 
-		// [4] 실제 물리 경로 생성 (예: C:/.../images/)
-		String uploadDir = baseDir + File.separator + subDir;
-		File dir = new File(uploadDir);
-		if (!dir.exists()) {
-			boolean created = dir.mkdirs();
-			log.info("[251015] 폴더 생성됨: {} → {}", created, uploadDir);
-		}
+		// [4] 실제 물리 경로 생성 (예: C:/.../images/) → [251114] storeContent 에서 생성
 
 		// [5] 중복 방지를 위한 UUID 파일명 생성
-		String savedName = UUID.randomUUID() + "_" + originalName;
-		File saveFile = new File(dir, savedName);
-		multipartFile.transferTo(saveFile);
-		log.info("[251015] 파일 저장 완료: {}", saveFile.getAbsolutePath());
+		// [251114] UUID 파일명 → 내용 해시(SHA-256) 파일명으로 변경 (같은 내용은 한 번만 저장)
+		// String savedName = UUID.randomUUID() + "_" + originalName;
+		// File saveFile = new File(dir, savedName);
+		// multipartFile.transferTo(saveFile);
+		StoredFile stored = storeContent(multipartFile, subDir, ext);
+		log.info("[251114] 파일 저장 완료: {} (중복={})", stored.getFilePath(), stored.isDeduplicated());
 
 		// [6] DB 저장용 상대경로 (폴더명부터 시작)
-		String relativePath = subDir + "/" + savedName;
+		String relativePath = stored.getFilePath();
 		log.info("[251015] DB 기록용 경로: {}", relativePath);
 
 		// [7] 결과 반환
 		return relativePath;
 	}
+
+	/* ================================================================
+	   [251114] 내용 주소(SHA-256) 저장 + 해시/크기 반환
+	   - FileController 업로드가 file_tbl.file_hash 까지 기록할 때 사용
+	   - 폴더 분류(images/documents/etc)는 savePhysicalFile 과 동일
+	   ================================================================ */
+	@Override
+	public StoredFile storeFile(MultipartFile multipartFile) throws IOException {
+		String originalName = multipartFile.getOriginalFilename();
+		if (originalName == null || !originalName.contains(".")) {
+			throw new IllegalArgumentException("파일 이름에 확장자가 없습니다.");
+		}
+		String ext = originalName.substring(originalName.lastIndexOf(".") + 1).toLowerCase(Locale.ROOT);
+		StoredFile stored = storeContent(multipartFile, subDirOf(ext), ext);
+		log.info("[251114] 파일 저장 완료: {} (hash={}, 중복={})", stored.getFilePath(), stored.getFileHash(), stored.isDeduplicated());
+		return stored;
+	}
      
      
   /* ================================================================
@@ -159,19 +210,18 @@ public class FileServiceImpl implements FileService {
 		}
 
 		// [3] 파일명(UUID + 확장자)
+		// [251114] UUID → 내용 해시(SHA-256) 파일명 (같은 이미지를 여러 번 붙여도 한 번만 저장)
 		String originalName = image.getOriginalFilename();
 		String ext = "";
 		int dot = (originalName != null) ? originalName.lastIndexOf(".") : -1;
 		if (dot != -1) {
-			ext = originalName.substring(dot);
+			ext = originalName.substring(dot + 1).toLowerCase(Locale.ROOT);
 		}
-		String uuid = UUID.randomUUID().toString().replace("-", "");
-		String newName = uuid + ext;
 
 		// [4] 실제 저장
-		File saveFile = new File(dir, newName);
-		image.transferTo(saveFile);
-		log.info("[251014] 리치에디터 이미지 저장 완료: {}", saveFile.getAbsolutePath());
+		StoredFile stored = storeContent(image, "images/editor", ext);
+		String newName = stored.getFilePath().substring(stored.getFilePath().lastIndexOf('/') + 1);
+		log.info("[251114] 리치에디터 이미지 저장 완료: {} (중복={})", stored.getFilePath(), stored.isDeduplicated());
 
 		// [5] 프론트 접근용 경로 반환
 		String relativePath = "/images/editor/" + newName;
@@ -179,4 +229,229 @@ public class FileServiceImpl implements FileService {
 		return relativePath;
 	}
 
+	/** [251114] 확장자 → 하위 폴더 (images / documents / etc) */
+	private String subDirOf(String ext) {
+		if (Arrays.asList("jpg", "jpeg", "png", "gif").contains(ext)) {
+			return "images";
+		} else if (Arrays.asList("txt", "pdf", "hwpx", "pptx", "xlsx", "docx").contains(ext)) {
+			return "documents";
+		}
+		return "etc";
+	}
+
+	/* ================================================================
+	   [251114] 내용 주소 저장 공통 로직
+	   흐름:
+	     1) 같은 폴더에 임시파일 생성 → 업로드 스트림을 복사하면서 SHA-256 계산 (한 번 읽기)
+	     2) 최종 이름 = {sha256}.{ext}
+	     3) 이미 있으면 임시파일 삭제(중복 제거), 없으면 원자적 이동(rename)
+	        [251114] 중복이면 기존 파일 수정시각 갱신 → 정리 작업이 "참조 0건" 으로 보고 지우지 않음
+	                 (확인·갱신과 삭제는 같은 경로 잠금 안에서 → 그 사이 삭제되면 새로 저장)
+	   - 같은 폴더 안 rename 이라 복사 없이 끝나고, 동시 업로드 경합 시에도 한쪽만 남음
+	   - 반환 경로: "{subDir}/{sha256}.{ext}" (기존 /images/{category}/{fileName} URL 규칙 그대로)
+	   ================================================================ */
+	private StoredFile storeContent(MultipartFile multipartFile, String subDir, String ext) throws IOException {
+		return storeContent(multipartFile.getInputStream(), subDir, ext);
+	}
+
+	/** [251116] InputStream 버전 (스트리밍 업로드 공용) — in 은 여기서 닫음 */
+	private StoredFile storeContent(InputStream source, String subDir, String ext) throws IOException {
+		Path dir = Paths.get(absoluteUploadRoot, subDir).toAbsolutePath().normalize();
+		Files.createDirectories(dir);
+
+		Path tmp = Files.createTempFile(dir, ".upload-", ".tmp");
+		String hash;
+		long size;
+		try {
+			MessageDigest digest = newSha256();
+			try (InputStream in = new DigestInputStream(source, digest)) {
+				size = Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+			}
+			hash = HexFormat.of().formatHex(digest.digest());
+
+			String fileName = (ext == null || ext.isEmpty()) ? hash : hash + "." + ext;
+			Path target = dir.resolve(fileName);
+			boolean deduplicated;
+			synchronized (lockFor(target)) {
+				deduplicated = Files.exists(target);
+				if (deduplicated) {
+					Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis())); // [251114] 최근 사용 표시
+				} else {
+					try {
+						Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+					} catch (FileAlreadyExistsException e) {
+						deduplicated = true; // 동시에 같은 내용이 먼저 저장됨(다른 서버)
+					}
+				}
+			}
+			if (!deduplicated && imageDerivativeService.isImage(fileName)) {
+				imageDerivativeService.generateAsync(subDir + "/" + fileName); // [251115] 썸네일/중간 크기 예약
+			}
+			return StoredFile.builder()
+					.filePath(subDir + "/" + fileName)
+					.fileHash(hash)
+					.fileSize(size)
+					.deduplicated(deduplicated)
+					.build();
+		} finally {
+			Files.deleteIfExists(tmp); // 중복이거나 실패한 경우 임시파일 정리 (이동 성공 시 이미 없음)
+		}
+	}
+
+	/* ================================================================
+	   [251116] 스트리밍 업로드 저장 (MultipartFile 버퍼링 없이 요청 본문 → 최종 위치)
+	   - 확장자 허용목록 + 파일 앞부분 시그니처(매직 바이트) 검사를 바이트가 들어오는 시점에 수행
+	   - 검사 후 같은 스트림을 그대로 storeContent 로 넘겨 해시 계산과 저장을 한 번에 처리
+	   - 크기 제한은 StreamingMultipart(fileSizeMax)가 읽는 동안 적용
+	   ================================================================ */
+	@Override
+	public StoredFile storeStream(InputStream in, String originalName, boolean editorImage) throws IOException {
+		if (originalName == null || !originalName.contains(".")) {
+			throw new IllegalArgumentException("파일 이름에 확장자가 없습니다.");
+		}
+		String ext = originalName.substring(originalName.lastIndexOf(".") + 1).toLowerCase(Locale.ROOT);
+		String subDir = editorImage ? "images/editor" : subDirOf(ext);
+		if ("etc".equals(subDir) || (editorImage && !imageDerivativeService.isImage(originalName))) {
+			throw new IllegalArgumentException("허용되지 않는 파일 형식입니다: " + ext);
+		}
+
+		BufferedInputStream buffered = new BufferedInputStream(in, 8192);
+		buffered.mark(MAGIC_PEEK);
+		byte[] head = buffered.readNBytes(MAGIC_PEEK);
+		buffered.reset();
+		if (!matchesSignature(ext, head)) {
+			throw new IllegalArgumentException("파일 내용이 확장자(" + ext + ")와 맞지 않습니다.");
+		}
+
+		StoredFile stored = storeContent(buffered, subDir, ext);
+		log.info("[251116] 스트리밍 저장 완료: {} ({} bytes, 중복={})", stored.getFilePath(), stored.getFileSize(), stored.isDeduplicated());
+		return stored;
+	}
+
+	/** 시그니처 확인용으로 미리 읽는 바이트 수 */
+	private static final int MAGIC_PEEK = 8;
+
+	/** 확장자별 파일 시그니처 (txt 는 시그니처 없음 → NUL 바이트만 없으면 허용) */
+	private static boolean matchesSignature(String ext, byte[] head) {
+		switch (ext) {
+			case "jpg": case "jpeg":
+				return startsWith(head, 0xFF, 0xD8, 0xFF);
+			case "png":
+				return startsWith(head, 0x89, 'P', 'N', 'G');
+			case "gif":
+				return startsWith(head, 'G', 'I', 'F', '8');
+			case "pdf":
+				return startsWith(head, '%', 'P', 'D', 'F');
+			case "docx": case "xlsx": case "pptx": case "hwpx":
+				return startsWith(head, 'P', 'K', 0x03, 0x04); // OOXML/OWPML 은 zip 컨테이너
+			case "txt":
+				for (byte b : head) if (b == 0) return false;
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private static boolean startsWith(byte[] head, int... sig) {
+		if (head.length < sig.length) return false;
+		for (int i = 0; i < sig.length; i++) {
+			if ((head[i] & 0xFF) != sig[i]) return false;
+		}
+		return true;
+	}
+
+	private static MessageDigest newSha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 미지원 JVM", e);
+		}
+	}
+
+	/* ================================================================
+	   [251113] 물리파일 비동기 삭제
+	   목적:
+	     - 게시글 연쇄삭제 트랜잭션 커밋 후, 요청 스레드를 막지 않고 실제 파일 정리
+	   설명:
+	     - 경로 정규화: "/images/images/x.png" → "images/x.png" (file_tbl.file_path 형태)
+	     - 업로드 루트 밖을 가리키는 경로("..", 절대경로, http URL)는 무시
+	     - file_tbl / post_tbl 에 같은 경로 참조가 남아 있으면 삭제하지 않음
+	     - [251114] 최근(grace-seconds) 수정된 파일은 삭제하지 않음 — 같은 내용 업로드가 DB 등록 전일 수 있음
+	     - 큐 포화 시 이번 정리는 건너뜀 (파일은 남지만 DB 정합성에는 영향 없음)
+	   ================================================================ */
+	@Override
+	public void deletePhysicalFilesAsync(Collection<String> filePaths) {
+		if (filePaths == null || filePaths.isEmpty()) return;
+
+		Set<String> targets = new LinkedHashSet<>();
+		for (String p : filePaths) {
+			String rel = toRelativePath(p);
+			if (rel != null) targets.add(rel);
+		}
+		if (targets.isEmpty()) return;
+
+		try {
+			fileCleanupExecutor.execute(() -> deletePhysicalFiles(targets));
+		} catch (TaskRejectedException e) {
+			log.warn("[251113] 파일정리 큐 포화 → 건너뜀: {}건 {}", targets.size(), targets);
+		}
+	}
+
+	/** 실제 삭제 (fileCleanupExecutor 스레드에서 실행) */
+	private void deletePhysicalFiles(Set<String> relPaths) {
+		Path root = Paths.get(absoluteUploadRoot).toAbsolutePath().normalize();
+		int deleted = 0;
+		for (String rel : relPaths) {
+			try {
+				if (fileQueryMapper.countFilePathRefs(rel) > 0) {
+					log.info("[251113] 참조 남아 있음 → 보존: {}", rel);
+					continue;
+				}
+				Path target = root.resolve(rel).normalize();
+				if (!target.startsWith(root)) {
+					log.warn("[251113] 업로드 루트 밖 경로 무시: {}", rel);
+					continue;
+				}
+				synchronized (lockFor(target)) {
+					if (isRecentlyModified(target)) {
+						log.info("[251114] 최근 저장된 파일 → 보존: {}", rel);
+						continue;
+					}
+					if (Files.deleteIfExists(target)) deleted++;
+				}
+				// [251115] 이미지 파생본도 함께 정리
+				for (String size : imageDerivativeService.sizes()) {
+					String derived = imageDerivativeService.derivedPath(rel, size);
+					if (derived != null) Files.deleteIfExists(root.resolve(derived).normalize());
+				}
+			} catch (Exception e) {
+				log.warn("[251113] 물리파일 삭제 실패: {} ({})", rel, e.getMessage());
+			}
+		}
+		log.info("[251113] 물리파일 정리 완료: 요청 {}건, 삭제 {}건", relPaths.size(), deleted);
+	}
+
+	/** [251114] 경로별 잠금 (저장 중복 확인 ↔ 삭제) */
+	private Object lockFor(Path target) {
+		return pathLocks[(target.hashCode() & 0x7fffffff) % pathLocks.length];
+	}
+
+	/** [251114] grace-seconds 안에 수정된 파일인지 (없는 파일은 false) */
+	private boolean isRecentlyModified(Path target) throws IOException {
+		if (!Files.exists(target)) return false;
+		long age = System.currentTimeMillis() - Files.getLastModifiedTime(target).toMillis();
+		return age < cleanupGraceSeconds * 1000;
+	}
+
+	/** 저장 경로 → 업로드 루트 기준 상대경로 (처리 불가 시 null) */
+	private String toRelativePath(String path) {
+		if (path == null) return null;
+		String p = path.trim().replace('\\', '/');
+		if (p.isEmpty() || p.startsWith("http://") || p.startsWith("https://")) return null;
+		if (p.startsWith("/images/")) p = p.substring("/images/".length()); // 다운로드 URL 접두 제거
+		while (p.startsWith("/")) p = p.substring(1);
+		if (p.isEmpty() || p.contains("..") || p.contains(":")) return null;
+		return p;
+	}
+
 }
@@ -0,0 +1,267 @@
+package com.gym.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import com.gym.domain.idempotency.IdempotencyRecord;
+import com.gym.mapper.annotation.IdempotencyMapper;
+import com.gym.service.IdempotencyService;
+
+/**
+ * [251105] 멱등키 처리 구현
+ * 1) 메모리(LRU, 최대 cacheSize건): 키 → CompletableFuture(결과 PK)
+ *    - 같은 서버의 동시 중복 요청은 최초 요청의 future를 기다림(경쟁 없이 1회 실행)
+ *    - 재시도 요청은 DB 조회 없이 메모리에서 바로 응답
+ * 2) DB(idempotency_tbl): 서버 재시작/다중 서버 대비
+ *    - 'P'(처리중) INSERT로 선점 → PK 충돌이면 다른 서버가 처리 중 → 완료될 때까지 짧게 폴링
+ *    - 등록(action) + 'D'/결과ID 기록은 한 트랜잭션(TransactionTemplate, action 의 @Transactional 이 합류)
+ *      → 함께 커밋되거나 함께 롤백: 등록은 됐는데 'D' 가 없는 상태가 생기지 않음
+ *    - 실패(롤백) 시 내 선점 행 삭제(같은 키로 재시도 가능)
+ *    - 처리중('P') 행이 pending-timeout(DB 시각 기준)보다 오래되면 다른 요청이 인수해 실행
+ *      · 'P' = 등록이 커밋되지 않음 → 다시 실행해도 중복 아님
+ *      · 늦게 끝난 이전 선점자는 claim_token 불일치로 'D' 기록 0건 → 자기 등록을 롤백하고 인수자 결과를 기다림
+ *    - 보관기간 지난 행은 purge-ms 마다 chunk 삭제
+ * - 선점 INSERT 는 트랜잭션 밖(즉시 커밋) — 다른 서버가 바로 볼 수 있어야 함
+ */
+@Slf4j
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+	private static final long WAIT_MILLIS = 10_000;   // 동시 중복 요청 최대 대기
+	private static final long POLL_MILLIS = 200;      // 다른 서버 처리중일 때 DB 폴링 간격
+	private static final int PURGE_DELETE_LIMIT = 1000; // 1회 DB 정리 최대 건수
+
+	private final IdempotencyMapper idempotencyMapper;
+	private final TransactionTemplate tx;
+	private final Duration ttl;
+	private final Duration pendingTimeout;
+	private final Map<String, Entry> cache;
+
+	/** 메모리 항목: 요청 해시 + 결과 future + 생성시각 */
+	private static final class Entry {
+		final String requestHash;
+		final CompletableFuture<Long> result = new CompletableFuture<>();
+		final long createdAt = System.currentTimeMillis();
+
+		Entry(String requestHash) {
+			this.requestHash = requestHash;
+		}
+	}
+
+	public IdempotencyServiceImpl(IdempotencyMapper idempotencyMapper,
+			PlatformTransactionManager transactionManager,
+			@Value("${idempotency.cache-size:10000}") int cacheSize,
+			@Value("${idempotency.ttl-hours:24}") long ttlHours,
+			@Value("${idempotency.pending-timeout-seconds:60}") long pendingTimeoutSeconds) {
+		this.idempotencyMapper = idempotencyMapper;
+		this.tx = new TransactionTemplate(transactionManager);
+		this.ttl = Duration.ofHours(ttlHours);
+		this.pendingTimeout = Duration.ofSeconds(pendingTimeoutSeconds);
+		// accessOrder=true → LRU, 최대 건수 초과 시 가장 오래 안 쓴 항목 제거
+		this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	@Override
+	public Long execute(String scope, String memberId, String key, String fingerprint, Supplier<Long> action) {
+		if (key == null || key.isBlank()) {
+			return action.get();                         // 헤더 없으면 기존 동작 그대로
+		}
+		if (key.length() > 100) {
+			throw new IllegalArgumentException("Idempotency-Key는 100자 이하여야 합니다.");
+		}
+		String cacheKey = scope + "|" + memberId + "|" + key;
+		String hash = sha256(fingerprint);
+
+		// [1] 메모리 선점: 이미 있으면 그 결과를 기다림, 없으면 내가 실행 담당
+		Entry mine = new Entry(hash);
+		Entry existing;
+		synchronized (cache) {
+			existing = cache.get(cacheKey);
+			if (existing != null && isExpired(existing)) {
+				cache.remove(cacheKey);
+				existing = null;
+			}
+			if (existing == null) {
+				cache.put(cacheKey, mine);
+			}
+		}
+		if (existing != null) {
+			checkSameRequest(existing.requestHash, hash);
+			log.info("[멱등키] 재요청 대기/재사용: {}", cacheKey);
+			return await(existing.result);
+		}
+
+		// [2] 실행 담당: DB 확인/선점 → 실행 → 결과 기록
+		try {
+			Long result = runOnce(scope, memberId, key, hash, action);
+			mine.result.complete(result);
+			return result;
+		} catch (RuntimeException e) {
+			synchronized (cache) {
+				cache.remove(cacheKey, mine);             // 실패는 저장하지 않음 → 재시도 허용
+			}
+			mine.result.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	/** DB 선점 후 1회 실행 (다른 서버가 먼저 선점했으면 그 결과를 기다림) */
+	private Long runOnce(String scope, String memberId, String key, String hash, Supplier<Long> action) {
+		String token = UUID.randomUUID().toString();
+		IdempotencyRecord rec = IdempotencyRecord.builder()
+				.idemScope(scope)
+				.memberId(memberId)
+				.idemKey(key)
+				.requestHash(hash)
+				.claimToken(token)
+				.build();
+		while (true) {
+			try {
+				idempotencyMapper.insertPending(rec);
+				break;                                    // 선점 성공 → 실행
+			} catch (DuplicateKeyException dup) {
+				if (idempotencyMapper.deleteIfExpired(scope, memberId, key, ttl.toHours()) == 1) {
+					continue;                             // 보관기간 지남 → 정리 후 재선점
+				}
+				IdempotencyRecord found = idempotencyMapper.selectByKey(scope, memberId, key);
+				if (found == null) continue;              // 그 사이 실패로 삭제됨 → 다시 선점 시도
+				checkSameRequest(found.getRequestHash(), hash);
+				// 처리중이 pending-timeout(DB 시각)을 넘김 → 조건부 UPDATE 로 1곳만 인수
+				if ("P".equals(found.getIdemStatus())
+						&& idempotencyMapper.takeOverStale(scope, memberId, key, token, pendingTimeout.toSeconds()) == 1) {
+					log.warn("[멱등키] 오래된 처리중 행 인수: {}|{}|{}", scope, memberId, key);
+					break;
+				}
+				return pollCompleted(found, scope, memberId, key);
+			}
+		}
+
+		try {
+			// 등록 + 완료 기록을 한 트랜잭션으로 (완료 기록 0건 = 그 사이 인수됨 → 등록까지 롤백)
+			return tx.execute(status -> {
+				Long result = action.get();
+				if (idempotencyMapper.complete(scope, memberId, key, token, result) != 1) {
+					throw new ClaimLostException();
+				}
+				return result;
+			});
+		} catch (ClaimLostException lost) {
+			log.warn("[멱등키] 처리 중 다른 요청에 인수됨 → 내 등록 롤백, 인수 결과 대기: {}|{}|{}", scope, memberId, key);
+			IdempotencyRecord cur = idempotencyMapper.selectByKey(scope, memberId, key);
+			if (cur == null) throw new IllegalStateException("이전 요청이 실패했습니다. 다시 시도하세요.");
+			return pollCompleted(cur, scope, memberId, key);
+		} catch (RuntimeException e) {
+			try {
+				idempotencyMapper.deleteClaim(scope, memberId, key, token); // 롤백됨 → 같은 키로 재시도 허용
+			} catch (RuntimeException ce) {
+				log.warn("[멱등키] 선점 행 삭제 실패 — pending-timeout 후 인수 가능: {}|{}|{}", scope, memberId, key, ce);
+			}
+			throw e;
+		}
+	}
+
+	/** 완료 기록 시점에 내 선점이 이미 인수된 경우(트랜잭션 롤백용) */
+	private static final class ClaimLostException extends RuntimeException {
+		ClaimLostException() {
+			super(null, null, false, false);
+		}
+	}
+
+	/** 보관기간 지난 행 정리(메모리 + DB) */
+	@Scheduled(initialDelayString = "${idempotency.purge-ms:3600000}", fixedDelayString = "${idempotency.purge-ms:3600000}")
+	public void purge() {
+		synchronized (cache) {
+			cache.values().removeIf(e -> e.result.isDone() && isExpired(e));
+		}
+		try {
+			int deleted = idempotencyMapper.deleteExpired(ttl.toHours(), PURGE_DELETE_LIMIT);
+			if (deleted > 0) log.info("[멱등키] 만료 정리: DB 행={}", deleted);
+		} catch (RuntimeException e) {
+			log.warn("[멱등키] 만료 정리 실패 — 다음 주기에 재시도", e);
+		}
+	}
+
+	/** 다른 서버가 처리 중인 키: 완료('D')될 때까지 폴링, 시간 초과 시 409 성격 예외 */
+	private Long pollCompleted(IdempotencyRecord found, String scope, String memberId, String key) {
+		long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+		IdempotencyRecord cur = found;
+		while (true) {
+			if ("D".equals(cur.getIdemStatus())) {
+				log.info("[멱등키] DB 결과 재사용: {}|{}|{} → {}", scope, memberId, key, cur.getResultId());
+				return cur.getResultId();
+			}
+			if (System.currentTimeMillis() >= deadline) {
+				throw new IllegalStateException("같은 요청이 아직 처리 중입니다. 잠시 후 다시 시도하세요.");
+			}
+			try {
+				Thread.sleep(POLL_MILLIS);
+			} catch (InterruptedException ie) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("요청 처리가 중단되었습니다.");
+			}
+			cur = idempotencyMapper.selectByKey(scope, memberId, key);
+			if (cur == null) {
+				throw new IllegalStateException("이전 요청이 실패했습니다. 다시 시도하세요.");
+			}
+		}
+	}
+
+	/** 같은 서버의 최초 실행 결과 대기 (최초 실행의 예외는 그대로 전달) */
+	private Long await(CompletableFuture<Long> f) {
+		try {
+			return f.get(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			throw new IllegalStateException("같은 요청이 아직 처리 중입니다. 잠시 후 다시 시도하세요.");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("요청 처리가 중단되었습니다.");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException re) throw re;
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private boolean isExpired(Entry e) {
+		return System.currentTimeMillis() - e.createdAt > ttl.toMillis();
+	}
+
+	private void checkSameRequest(String saved, String incoming) {
+		if (!saved.equals(incoming)) {
+			throw new IllegalStateException("Idempotency-Key가 다른 요청 내용으로 재사용되었습니다.");
+		}
+	}
+
+	private static String sha256(String s) {
+		try {
+			MessageDigest md = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(md.digest(s.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,239 @@
+package com.gym.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.gym.service.ImageDerivativeService;
+
+/**
+ * 251115 이미지 파생본 생성 구현 (순수 Java ImageIO)
+ * [1] 업로드 직후 generateAsync → imageDerivativeExecutor 에서 원본 1회 디코딩 후 크기별로 축소 저장
+ * [2] 조회 시 resolve → 파생본이 있으면 그 파일, 없으면 null(원본 응답) + 생성 예약(기존 이미지 점진 보충)
+ * - 원본보다 큰 크기로는 확대하지 않음(같은 크기로 재인코딩만 → 다음 조회부터 바로 파생본 응답)
+ * - 출력 형식: png/gif(투명 가능) → png, 그 외 → jpg
+ * - 같은 원본에 대한 중복 예약은 pending 집합으로 1건만 유지
+ * - 픽셀 수가 maxPixels 를 넘는 원본은 디코딩하지 않음(힙 보호)
+ * - 파생본(이름이 _thumb/_medium 으로 끝남)의 파생본은 만들지 않음 — x_thumb_thumb.png … 식으로 디스크/CPU 무한 사용 방지
+ */
+@Slf4j
+@Service
+public class ImageDerivativeServiceImpl implements ImageDerivativeService {
+
+	private static final Set<String> IMAGE_EXTS = Set.of("jpg", "jpeg", "png", "gif");
+
+	private final TaskExecutor imageDerivativeExecutor;
+	private final Map<String, Integer> widths = new LinkedHashMap<>(); // size → 최대 가로(px)
+	private final long maxPixels;
+	private final Path root;
+	private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+	public ImageDerivativeServiceImpl(
+			@Qualifier("imageDerivativeExecutor") TaskExecutor imageDerivativeExecutor,
+			@Value("${fileUploadPath}") String fileUploadPath,
+			@Value("${image.derivative.thumb-width:320}") int thumbWidth,
+			@Value("${image.derivative.medium-width:960}") int mediumWidth,
+			@Value("${image.derivative.max-pixels:40000000}") long maxPixels) {
+		this.imageDerivativeExecutor = imageDerivativeExecutor;
+		this.root = Paths.get(fileUploadPath).toAbsolutePath().normalize();
+		this.widths.put("thumb", thumbWidth);
+		this.widths.put("medium", mediumWidth);
+		this.maxPixels = maxPixels;
+	}
+
+	@Override
+	public List<String> sizes() {
+		return new ArrayList<>(widths.keySet());
+	}
+
+	@Override
+	public boolean isImage(String path) {
+		String ext = extOf(path);
+		return ext != null && IMAGE_EXTS.contains(ext);
+	}
+
+	@Override
+	public String derivedPath(String relPath, String size) {
+		if (relPath == null || !widths.containsKey(size) || !isImage(relPath) || isDerivative(relPath)) return null;
+		return derivedName(relPath, size);
+	}
+
+	@Override
+	public void generateAsync(String relPath) {
+		if (relPath == null || !isImage(relPath) || isDerivative(relPath)) return;
+		Path src = root.resolve(relPath).normalize();
+		if (!src.startsWith(root)) return;
+		submit(src);
+	}
+
+	@Override
+	public Path resolve(Path original, String size) {
+		if (original == null || !widths.containsKey(size)) return null;
+		String name = original.getFileName().toString();
+		if (!isImage(name) || isDerivative(name)) return null;                  // 파생본 요청은 그 파일 그대로 응답
+		Path derived = original.resolveSibling(derivedName(original.getFileName().toString(), size));
+		try {
+			if (Files.exists(derived)
+					&& Files.getLastModifiedTime(derived).compareTo(Files.getLastModifiedTime(original)) >= 0) {
+				return derived;
+			}
+		} catch (IOException e) {
+			log.debug("[251115] 파생본 확인 실패: {} ({})", derived, e.getMessage());
+		}
+		submit(original); // 아직 없음(기존 이미지/생성 중) → 예약 후 원본 응답
+		return null;
+	}
+
+	// ---------------------------------------------------------------
+	// 내부 구현
+	// ---------------------------------------------------------------
+
+	/** 생성 예약 (같은 원본 중복 예약 방지, 큐 포화 시 건너뜀) */
+	private void submit(Path src) {
+		String key = src.toString();
+		if (!pending.add(key)) return;
+		try {
+			imageDerivativeExecutor.execute(() -> {
+				try {
+					generate(src);
+				} finally {
+					pending.remove(key);
+				}
+			});
+		} catch (TaskRejectedException e) {
+			pending.remove(key);
+			log.debug("[251115] 파생본 큐 포화 → 다음 조회 때 재시도: {}", src);
+		}
+	}
+
+	/** 원본 1회 디코딩 → 크기별 축소 저장 (임시파일 기록 후 rename) */
+	private void generate(Path src) {
+		if (!Files.isRegularFile(src)) return;
+		try {
+			if (pixelsOf(src) > maxPixels) {
+				log.warn("[251115] 원본 해상도 초과로 파생본 생략: {}", src);
+				return;
+			}
+			BufferedImage image = ImageIO.read(src.toFile());
+			if (image == null) return; // ImageIO 미지원 형식
+
+			String format = outExtOf(src.getFileName().toString());
+			for (Map.Entry<String, Integer> e : widths.entrySet()) {
+				Path target = src.resolveSibling(derivedName(src.getFileName().toString(), e.getKey()));
+				BufferedImage scaled = scale(image, e.getValue(), "png".equals(format));
+				Path tmp = Files.createTempFile(src.getParent(), ".derive-", ".tmp");
+				try {
+					ImageIO.write(scaled, format, tmp.toFile());
+					Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				} finally {
+					Files.deleteIfExists(tmp);
+				}
+			}
+			log.info("[251115] 파생본 생성 완료: {} ({}x{})", src.getFileName(), image.getWidth(), image.getHeight());
+		} catch (Exception e) {
+			log.warn("[251115] 파생본 생성 실패: {} ({})", src, e.getMessage());
+		}
+	}
+
+	/** 헤더만 읽어 픽셀 수 계산 (디코딩 없이) */
+	private static long pixelsOf(Path src) throws IOException {
+		try (ImageInputStream in = ImageIO.createImageInputStream(src.toFile())) {
+			if (in == null) return 0;
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+			if (!readers.hasNext()) return 0;
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(in, true, true);
+				return (long) reader.getWidth(0) * reader.getHeight(0);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	/** 반씩 단계 축소 후 목표 크기 (한 번에 크게 줄일 때 생기는 계단 현상 방지), 확대는 하지 않음 */
+	private static BufferedImage scale(BufferedImage src, int maxWidth, boolean alpha) {
+		int targetW = Math.min(maxWidth, src.getWidth());
+		int targetH = Math.max(1, (int) Math.round(src.getHeight() * (targetW / (double) src.getWidth())));
+		int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+		BufferedImage cur = src;
+		int w = src.getWidth();
+		int h = src.getHeight();
+		do {
+			w = Math.max(targetW, w / 2);
+			h = Math.max(targetH, h / 2);
+			BufferedImage next = new BufferedImage(w, h, type);
+			Graphics2D g = next.createGraphics();
+			try {
+				g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+				if (!alpha) {
+					g.setColor(Color.WHITE); // jpg 는 투명 불가 → 흰 배경
+					g.fillRect(0, 0, w, h);
+				}
+				g.drawImage(cur, 0, 0, w, h, null);
+			} finally {
+				g.dispose();
+			}
+			cur = next;
+		} while (w != targetW || h != targetH);
+		return cur;
+	}
+
+	/** "a/b/name.png" + thumb → "a/b/name_thumb.png" */
+	private static String derivedName(String path, String size) {
+		int dot = path.lastIndexOf('.');
+		return path.substring(0, dot) + "_" + size + "." + outExtOf(path);
+	}
+
+	/** 이름(확장자 제외)이 "_{size}" 로 끝나면 파생본 */
+	private boolean isDerivative(String path) {
+		int dot = path.lastIndexOf('.');
+		String base = dot < 0 ? path : path.substring(0, dot);
+		for (String size : widths.keySet()) {
+			if (base.endsWith("_" + size)) return true;
+		}
+		return false;
+	}
+
+	private static String outExtOf(String path) {
+		String ext = extOf(path);
+		return ("png".equals(ext) || "gif".equals(ext)) ? "png" : "jpg";
+	}
+
+	private static String extOf(String path) {
+		if (path == null) return null;
+		int dot = path.lastIndexOf('.');
+		int slash = Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\'));
+		if (dot <= slash || dot == path.length() - 1) return null;
+		String ext = path.substring(dot + 1).toLowerCase(Locale.ROOT);
+		int q = ext.indexOf('?');
+		return q >= 0 ? ext.substring(0, q) : ext;
+	}
+}
@@ -0,0 +1,451 @@
+package com.gym.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gym.common.export.CsvRowReader;
+import com.gym.domain.member.Member;
+import com.gym.domain.member.MemberImportError;
+import com.gym.domain.member.MemberImportStatus;
+import com.gym.mapper.xml.MemberQueryMapper;
+import com.gym.service.MemberImportService;
+import com.gym.service.MemberSearchIndex;
+import com.gym.service.PasswordHashService;
+
+/**
+ * 251120 회원 일괄 가져오기(CSV) 구현
+ * [1] 업로드 → 임시파일 복사 + 작업 등록 → memberImportExecutor 에 제출 후 즉시 반환
+ * [2] 파일을 한 번 훑어 전체 행 수(total) 확정 → 다시 1행씩 읽으며 검증(CMS 단건 등록과 같은 규칙 + member_tbl 열 길이)
+ * [3] chunkSize 행마다: 아이디 중복 1회 조회(IN) → 비밀번호 해시(PasswordHashService 일괄용: 해시 풀 절반까지 병렬)
+ *     → JDBC 배치 INSERT 1회 + 커밋 → 검색 인덱스 반영
+ *     - 배치가 실패하면(이메일/휴대폰 중복 등) 그 chunk 만 1행씩 다시 넣어 실패 행을 찾아냄
+ * - 행 오류는 줄 번호와 함께 최대 maxErrors 건 보관, 작업 상태는 메모리에 최근 maxJobs 건만 보관
+ */
+@Slf4j
+@Service
+public class MemberImportServiceImpl implements MemberImportService {
+
+	/** CSV 필드 (순서 = INSERT 파라미터 순서) */
+	private static final String[] FIELDS = {
+			"memberId", "memberPw", "memberName", "memberGender", "memberEmail", "memberMobile",
+			"memberPhone", "zip", "roadAddress", "jibunAddress", "detailAddress", "memberBirthday",
+			"memberManipay", "memberRole", "adminType"};
+	/** 같은 순서의 한글 제목 (CMS 회원 내보내기 헤더와 동일) */
+	private static final String[] LABELS = {
+			"회원ID", "비밀번호", "이름", "성별", "이메일", "휴대폰",
+			"전화번호", "우편번호", "도로명주소", "지번주소", "상세주소", "생년월일",
+			"결제수단", "권한", "관리자유형"};
+	private static final int ID = 0, PW = 1, NAME = 2, GENDER = 3, EMAIL = 4, MOBILE = 5,
+			PHONE = 6, ZIP = 7, ROAD = 8, JIBUN = 9, DETAIL = 10, BIRTHDAY = 11,
+			MANIPAY = 12, ROLE = 13, ADMIN_TYPE = 14;
+	private static final int[] REQUIRED = {ID, PW, NAME, GENDER, EMAIL, MOBILE, BIRTHDAY};
+	private static final Set<String> ADMIN_TYPES = Set.of("책임자", "관리자", "강사");
+	/** member_tbl 열 길이 — VARCHAR2 는 바이트(AL32UTF8, 한글 3바이트), NVARCHAR2 는 문자 수 (넘치면 ORA-12899 대신 행 오류) */
+	private static final int[][] MAX_BYTES = {{ID, 20}, {NAME, 100}, {EMAIL, 50}, {MOBILE, 13}, {PHONE, 13}};
+	private static final int[][] MAX_CHARS = {{ROAD, 50}, {JIBUN, 50}, {DETAIL, 50}};
+
+	private static final String INSERT_SQL =
+			"INSERT INTO member_tbl (member_id, member_pw, member_name, member_gender, member_email, "
+			+ "member_mobile, member_phone, zip, road_address, jibun_address, detail_address, "
+			+ "member_birthday, member_manipay, member_role, admin_type) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final int MAX_CHUNK = 1000; // Oracle IN 목록 제한
+
+	private final MemberQueryMapper memberQueryMapper;
+	private final MemberSearchIndex memberSearchIndex;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate tx;
+	private final TaskExecutor importExecutor;
+	private final PasswordHashService passwordHashService; // [251122] 설정 비용, 로그인 대기열을 밀어내지 않는 일괄 해시
+	private final int chunkSize;
+	private final int maxRows;
+	private final int maxErrors;
+	private final Map<String, Job> jobs;
+
+	/** 진행 중 작업 상태 (가져오기 스레드가 갱신, 조회 스레드가 읽음) */
+	private final class Job {
+		final String jobId = UUID.randomUUID().toString();
+		final String fileName;
+		final LocalDateTime requestedAt = LocalDateTime.now().withNano(0);
+		volatile String status = "QUEUED";
+		volatile int total;
+		final AtomicInteger inserted = new AtomicInteger();
+		final AtomicInteger failed = new AtomicInteger();
+		final List<MemberImportError> errors = new ArrayList<>(); // synchronized 로 접근
+		volatile LocalDateTime finishedAt;
+		volatile String error;
+
+		Job(String fileName) {
+			this.fileName = fileName;
+		}
+
+		void reject(long line, String memberId, String message) {
+			failed.incrementAndGet();
+			synchronized (errors) {
+				if (errors.size() < maxErrors) errors.add(new MemberImportError(line, memberId, message));
+			}
+		}
+
+		MemberImportStatus snapshot() {
+			List<MemberImportError> copy;
+			synchronized (errors) {
+				copy = new ArrayList<>(errors);
+			}
+			return MemberImportStatus.builder()
+					.jobId(jobId).status(status).fileName(fileName).total(total)
+					.inserted(inserted.get()).failed(failed.get()).errors(copy)
+					.requestedAt(requestedAt).finishedAt(finishedAt).error(error)
+					.build();
+		}
+	}
+
+	/** 검증을 통과한 1행 */
+	private static final class Row {
+		final long line;
+		final String[] v;
+		final LocalDate birthday;
+		volatile String hash;
+
+		Row(long line, String[] v, LocalDate birthday) {
+			this.line = line;
+			this.v = v;
+			this.birthday = birthday;
+		}
+	}
+
+	public MemberImportServiceImpl(MemberQueryMapper memberQueryMapper,
+			MemberSearchIndex memberSearchIndex,
+			JdbcTemplate jdbcTemplate,
+			PlatformTransactionManager transactionManager,
+			@Qualifier("memberImportExecutor") TaskExecutor importExecutor,
+			PasswordHashService passwordHashService,
+			@Value("${member.import.chunk-size:500}") int chunkSize,
+			@Value("${member.import.max-rows:50000}") int maxRows,
+			@Value("${member.import.max-errors:1000}") int maxErrors,
+			@Value("${member.import.max-jobs:20}") int maxJobs) {
+		if (chunkSize < 1 || chunkSize > MAX_CHUNK) {
+			throw new IllegalArgumentException("member.import.chunk-size 는 1~" + MAX_CHUNK + " 사이여야 합니다.");
+		}
+		this.memberQueryMapper = memberQueryMapper;
+		this.memberSearchIndex = memberSearchIndex;
+		this.jdbcTemplate = jdbcTemplate;
+		this.tx = new TransactionTemplate(transactionManager);
+		this.importExecutor = importExecutor;
+		this.passwordHashService = passwordHashService;
+		this.chunkSize = chunkSize;
+		this.maxRows = maxRows;
+		this.maxErrors = maxErrors;
+		this.jobs = new LinkedHashMap<>(32, 0.75f, false) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Job> eldest) {
+				return size() > maxJobs;
+			}
+		};
+	}
+
+	@Override
+	public MemberImportStatus start(InputStream in, String fileName) throws IOException {
+		Path temp = Files.createTempFile("member-import-", ".csv");
+		try {
+			Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			Files.deleteIfExists(temp);
+			throw e;
+		}
+
+		Job job = new Job(fileName);
+		synchronized (jobs) {
+			jobs.put(job.jobId, job);
+		}
+		try {
+			importExecutor.execute(() -> run(job, temp));
+		} catch (TaskRejectedException e) {
+			synchronized (jobs) {
+				jobs.remove(job.jobId);
+			}
+			Files.deleteIfExists(temp);
+			throw new IllegalStateException("대기 중인 가져오기 작업이 많습니다. 잠시 후 다시 시도해 주세요.");
+		}
+		log.info("[MemberImport] 작업 등록 jobId={}, file={}, {} bytes", job.jobId, fileName, Files.size(temp));
+		return job.snapshot();
+	}
+
+	@Override
+	public MemberImportStatus getStatus(String jobId) {
+		Job job;
+		synchronized (jobs) {
+			job = jobs.get(jobId);
+		}
+		return (job == null) ? null : job.snapshot();
+	}
+
+	/** 가져오기 스레드에서 실행 */
+	private void run(Job job, Path temp) {
+		long started = System.currentTimeMillis();
+		job.status = "RUNNING";
+		try {
+			job.total = countRows(temp);
+			if (job.total > maxRows) {
+				throw new IllegalArgumentException("최대 " + maxRows + "행까지 가져올 수 있습니다: " + job.total + "행");
+			}
+
+			try (CsvRowReader reader = new CsvRowReader(Files.newInputStream(temp))) {
+				List<String> header = reader.next();
+				if (header == null) throw new IllegalArgumentException("빈 파일입니다.");
+				int[] columnOf = resolveHeader(header);
+
+				Set<String> seenIds = new HashSet<>();
+				List<Row> chunk = new ArrayList<>(chunkSize);
+				List<String> cells;
+				while ((cells = reader.next()) != null) {
+					Row row = validate(job, reader.rowLine(), cells, columnOf);
+					if (row == null) continue;
+					if (!seenIds.add(row.v[ID])) {
+						job.reject(row.line, row.v[ID], "파일 안에서 회원ID 중복");
+						continue;
+					}
+					chunk.add(row);
+					if (chunk.size() == chunkSize) {
+						processChunk(job, chunk);
+						chunk = new ArrayList<>(chunkSize);
+					}
+				}
+				if (!chunk.isEmpty()) processChunk(job, chunk);
+			}
+			job.status = "DONE";
+			log.info("[MemberImport] 완료 jobId={}, 전체 {}행, 등록 {}건, 오류 {}건, {}ms",
+					job.jobId, job.total, job.inserted.get(), job.failed.get(), System.currentTimeMillis() - started);
+		} catch (IOException | RuntimeException e) {
+			job.status = "FAILED";
+			job.error = e.getMessage();
+			log.error("[MemberImport] 실패 jobId={} (커밋된 chunk {}건은 유지)", job.jobId, job.inserted.get(), e);
+		} finally {
+			job.finishedAt = LocalDateTime.now().withNano(0);
+			try {
+				Files.deleteIfExists(temp);
+			} catch (IOException e) {
+				log.warn("[MemberImport] 임시파일 삭제 실패: {}", temp);
+			}
+		}
+	}
+
+	/** 헤더 행 다음의 데이터 행 수 */
+	private static int countRows(Path temp) throws IOException {
+		int rows = -1;
+		try (CsvRowReader reader = new CsvRowReader(Files.newInputStream(temp))) {
+			while (reader.next() != null) rows++;
+		}
+		return Math.max(rows, 0);
+	}
+
+	/** 헤더 → 필드별 열 위치 (없으면 -1), 필수 열 누락 시 예외 */
+	private static int[] resolveHeader(List<String> header) {
+		Map<String, Integer> fieldOf = new HashMap<>();
+		for (int f = 0; f < FIELDS.length; f++) {
+			fieldOf.put(FIELDS[f].toLowerCase(), f);
+			fieldOf.put(LABELS[f], f);
+		}
+		int[] columnOf = new int[FIELDS.length];
+		Arrays.fill(columnOf, -1);
+		for (int c = 0; c < header.size(); c++) {
+			String h = header.get(c).trim();
+			Integer f = fieldOf.containsKey(h) ? fieldOf.get(h) : fieldOf.get(h.toLowerCase());
+			if (f != null && columnOf[f] < 0) columnOf[f] = c; // 모르는 열(가입일 등)은 무시
+		}
+		List<String> missing = new ArrayList<>();
+		for (int f : REQUIRED) {
+			if (columnOf[f] < 0) missing.add(LABELS[f] + "(" + FIELDS[f] + ")");
+		}
+		if (!missing.isEmpty()) {
+			throw new IllegalArgumentException("필수 열이 없습니다: " + String.join(", ", missing));
+		}
+		return columnOf;
+	}
+
+	/** 1행 검증 + 값 보정 (CMS 단건 등록/MemberServiceImpl.createMember 와 같은 규칙), 실패 시 null */
+	private static Row validate(Job job, long line, List<String> cells, int[] columnOf) {
+		String[] v = new String[FIELDS.length];
+		for (int f = 0; f < FIELDS.length; f++) {
+			int c = columnOf[f];
+			v[f] = (c >= 0 && c < cells.size()) ? cells.get(c).trim() : "";
+			// 내보내기(CsvRowWriter)가 수식 방지 접두를 붙이는 열만 제거 — 비밀번호는 내보내지 않으므로 입력값 그대로
+			if (f != PW) v[f] = CsvRowReader.stripFormulaGuard(v[f]);
+		}
+		String memberId = v[ID].isEmpty() ? null : v[ID];
+		for (int f : REQUIRED) {
+			if (v[f].isEmpty()) {
+				job.reject(line, memberId, LABELS[f] + " 필수");
+				return null;
+			}
+		}
+
+		for (int[] m : MAX_BYTES) {
+			if (v[m[0]].getBytes(StandardCharsets.UTF_8).length > m[1]) {
+				job.reject(line, memberId, LABELS[m[0]] + "은(는) 최대 " + m[1] + "바이트(한글 3바이트)");
+				return null;
+			}
+		}
+		for (int[] m : MAX_CHARS) {
+			if (v[m[0]].length() > m[1]) {
+				job.reject(line, memberId, LABELS[m[0]] + "은(는) 최대 " + m[1] + "자");
+				return null;
+			}
+		}
+
+		v[GENDER] = v[GENDER].toLowerCase();
+		if (!v[GENDER].equals("m") && !v[GENDER].equals("f")) {
+			job.reject(line, memberId, "성별은 'm' 또는 'f'만 허용");
+			return null;
+		}
+		LocalDate birthday;
+		try {
+			birthday = LocalDate.parse(v[BIRTHDAY]);
+		} catch (DateTimeParseException e) {
+			job.reject(line, memberId, "생년월일은 YYYY-MM-DD 형식");
+			return null;
+		}
+		if (v[ZIP].length() > 5) {
+			job.reject(line, memberId, "우편번호는 최대 5자리");
+			return null;
+		}
+		if (v[ROLE].isEmpty()) v[ROLE] = "user";
+		if (!v[ROLE].equals("user") && !v[ROLE].equals("admin")) {
+			job.reject(line, memberId, "권한은 'user' 또는 'admin'만 허용");
+			return null;
+		}
+		if (v[ADMIN_TYPE].isEmpty()) {
+			v[ADMIN_TYPE] = null;
+		} else if (!ADMIN_TYPES.contains(v[ADMIN_TYPE])) {
+			job.reject(line, memberId, "관리자유형은 책임자/관리자/강사 중 하나");
+			return null;
+		}
+		if (v[MANIPAY].isEmpty()) v[MANIPAY] = "account";
+		if (!v[MANIPAY].equals("account") && !v[MANIPAY].equals("card")) {
+			job.reject(line, memberId, "결제수단은 'account' 또는 'card'만 허용");
+			return null;
+		}
+		return new Row(line, v, birthday);
+	}
+
+	/** chunk 1개: 중복 조회 → 해시 → 배치 INSERT(커밋) → 검색 인덱스 */
+	private void processChunk(Job job, List<Row> rows) {
+		// [1] 이미 등록된 회원ID (1회 조회)
+		List<String> ids = new ArrayList<>(rows.size());
+		for (Row r : rows) ids.add(r.v[ID]);
+		Set<String> existing = new HashSet<>(memberQueryMapper.selectExistingMemberIds(ids));
+		List<Row> fresh = new ArrayList<>(rows.size());
+		for (Row r : rows) {
+			if (existing.contains(r.v[ID])) job.reject(r.line, r.v[ID], "이미 등록된 회원ID");
+			else fresh.add(r);
+		}
+		if (fresh.isEmpty()) return;
+
+		// [2] 비밀번호 해시 — 해시 풀 절반까지 병렬, 나머지는 이 스레드에서 직접 (로그인 해시 대기열 보호)
+		List<CompletableFuture<Void>> pending = new ArrayList<>(fresh.size());
+		for (Row r : fresh) {
+			pending.add(passwordHashService.encodeBackground(r.v[PW]).thenAccept(h -> r.hash = h));
+		}
+		CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+
+		// [3] 배치 INSERT 1회 (chunk = 트랜잭션 1개)
+		try {
+			tx.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, fresh, fresh.size(),
+					MemberImportServiceImpl::bind));
+		} catch (DataAccessException batchFailure) {
+			// 이메일/휴대폰 중복, 길이 초과, CHECK 위반 등 → 이 chunk 만 1행씩 다시 넣어 실패 행 특정
+			List<Row> done = new ArrayList<>(fresh.size());
+			try {
+				for (Row r : fresh) {
+					try {
+						tx.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, r)));
+						job.inserted.incrementAndGet();
+						done.add(r);
+					} catch (DuplicateKeyException e) {
+						job.reject(r.line, r.v[ID], "중복(회원ID/이메일/휴대폰)");
+					} catch (DataIntegrityViolationException e) {
+						job.reject(r.line, r.v[ID], "무결성 위반(" + causeOf(e) + ")");
+					} catch (DataAccessException e) {
+						// 분류되지 않은 DB 오류(ORA-12899 길이 초과, 매핑 안 된 CHECK 위반 등)도 그 행만 실패 처리
+						job.reject(r.line, r.v[ID], "DB 오류(" + causeOf(e) + ")");
+					}
+				}
+			} finally {
+				index(done);	// 작업이 중단되더라도 이미 커밋된 행은 검색 인덱스에 반영
+			}
+			return;
+		}
+		job.inserted.addAndGet(fresh.size());
+		index(fresh);
+	}
+
+	private static String causeOf(DataAccessException e) {
+		return (e.getMostSpecificCause() != null) ? e.getMostSpecificCause().getMessage() : e.getMessage();
+	}
+
+	private static void bind(PreparedStatement ps, Row r) throws SQLException {
+		String[] v = r.v;
+		ps.setString(1, v[ID]);
+		ps.setString(2, r.hash);
+		ps.setString(3, v[NAME]);
+		ps.setString(4, v[GENDER]);
+		ps.setString(5, v[EMAIL]);
+		ps.setString(6, v[MOBILE]);
+		ps.setString(7, v[PHONE]);
+		ps.setString(8, v[ZIP]);
+		ps.setString(9, v[ROAD]);
+		ps.setString(10, v[JIBUN]);
+		ps.setString(11, v[DETAIL]);
+		ps.setDate(12, Date.valueOf(r.birthday));
+		ps.setString(13, v[MANIPAY]);
+		ps.setString(14, v[ROLE]);
+		ps.setString(15, v[ADMIN_TYPE]);
+	}
+
+	/** 커밋된 행 → 검색 인덱스 */
+	private void index(List<Row> rows) {
+		for (Row r : rows) {
+			Member m = new Member();
+			m.setMemberId(r.v[ID]);
+			m.setMemberName(r.v[NAME]);
+			m.setMemberEmail(r.v[EMAIL]);
+			m.setMemberRole(r.v[ROLE]);
+			memberSearchIndex.put(m);
+		}
+	}
+}
@@ -0,0 +1,345 @@
+package com.gym.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.gym.domain.member.Member;
+import com.gym.domain.member.MemberSearchHits;
+import com.gym.mapper.xml.MemberQueryMapper;
+import com.gym.service.MemberSearchIndex;
+
+/**
+ * 251118 회원 검색 인덱스 구현 (메모리 n-gram 역색인)
+ * - 문서 = 회원 1명: "아이디␁이름␁이메일"(소문자) + 역할, 문서번호는 재적재 시 회원ID 순으로 부여
+ * - 역색인: 필드별 bigram/trigram → 문서번호 정렬 배열 (필드 경계를 넘는 n-gram 은 만들지 않음)
+ * - 검색: 검색어의 n-gram 목록 중 짧은 것부터 교집합 → 후보만 부분일치 확인 → 역할 필터 → offset/limit
+ *   (10만 명 기준 목록 크기 = 해당 n-gram 을 가진 회원 수, 문자열 비교는 후보만)
+ * - 동시성: 검색은 read lock, 변경은 write lock / 재적재는 lock 밖에서 새 인덱스를 만든 뒤 교체
+ *   (재적재 중 들어온 변경은 journal 에 모았다가 교체 직전에 다시 반영)
+ * - 다중 서버: 다른 서버의 변경은 주기 재적재(member.search-index.refresh-ms)로 반영
+ */
+@Slf4j
+@Service
+public class MemberSearchIndexImpl implements MemberSearchIndex {
+
+	private static final char FIELD_SEP = '\u0001'; // 필드 구분자 (검색어에는 없음 → 필드 경계를 넘는 일치 없음)
+
+	private final MemberQueryMapper memberQueryMapper;
+	private final TransactionTemplate readTx;
+	private final boolean enabled;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private Index index;                   // null = 적재 전 (lock 으로 보호)
+	private Map<String, Member> journal;   // 재적재 중 변경분 (값 null = 삭제, lock 으로 보호)
+	private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+	public MemberSearchIndexImpl(MemberQueryMapper memberQueryMapper,
+			PlatformTransactionManager transactionManager,
+			@Value("${member.search-index.enabled:true}") boolean enabled) {
+		this.memberQueryMapper = memberQueryMapper;
+		this.readTx = new TransactionTemplate(transactionManager);
+		this.readTx.setReadOnly(true);
+		this.enabled = enabled;
+	}
+
+	/** 기동 직후 1회 + 주기 재적재 (기본 10분) */
+	@Scheduled(initialDelayString = "${member.search-index.initial-delay-ms:3000}",
+			fixedDelayString = "${member.search-index.refresh-ms:600000}")
+	public void scheduledRebuild() {
+		if (!enabled) return;
+		try {
+			rebuild();
+		} catch (RuntimeException e) {
+			log.error("[MemberSearchIndex] 재적재 실패 — 기존 인덱스(또는 DB 검색) 유지", e);
+		}
+	}
+
+	@Override
+	public MemberSearchHits search(String keyword, String role, int offset, int limit) {
+		String q = normalize(keyword);
+		if (q.isEmpty()) return null;
+		String r = (role == null || role.isBlank()) ? null : role;
+
+		lock.readLock().lock();
+		try {
+			if (index == null) return null;
+			return index.search(q, r, Math.max(0, offset), Math.max(0, limit));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void put(Member member) {
+		if (member == null || member.getMemberId() == null) return;
+		lock.writeLock().lock();
+		try {
+			if (index != null) index.put(member);
+			if (journal != null) journal.put(member.getMemberId(), member);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void remove(String memberId) {
+		if (memberId == null) return;
+		lock.writeLock().lock();
+		try {
+			if (index != null) index.remove(memberId);
+			if (journal != null) journal.put(memberId, null);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void rebuild() {
+		if (!rebuilding.compareAndSet(false, true)) return; // 이미 재적재 중
+		long started = System.currentTimeMillis();
+		lock.writeLock().lock();
+		try {
+			journal = new LinkedHashMap<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		Index fresh = new Index();
+		try {
+			readTx.executeWithoutResult(status -> {
+				try (Cursor<Member> rows = memberQueryMapper.cursorSearchRows()) {
+					for (Member m : rows) fresh.put(m);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			lock.writeLock().lock();
+			try {
+				journal.forEach((id, m) -> {
+					if (m == null) fresh.remove(id);
+					else fresh.put(m);
+				});
+				index = fresh;
+			} finally {
+				journal = null;
+				lock.writeLock().unlock();
+			}
+			log.info("[MemberSearchIndex] 재적재 완료: members={}, grams={}, {}ms",
+					fresh.size(), fresh.postings.size(), System.currentTimeMillis() - started);
+		} finally {
+			if (journal != null) {
+				lock.writeLock().lock();
+				try {
+					journal = null;
+				} finally {
+					lock.writeLock().unlock();
+				}
+			}
+			rebuilding.set(false);
+		}
+	}
+
+	/** 소문자 + 앞뒤 공백 제거 + 제어문자 제거 */
+	private static String normalize(String s) {
+		if (s == null) return "";
+		StringBuilder sb = new StringBuilder(s.length());
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (!Character.isISOControl(c)) sb.append(c);
+		}
+		return sb.toString().trim().toLowerCase(Locale.ROOT);
+	}
+
+	/** n-gram 키: 상위 16비트 = 길이(2/3), 하위 48비트 = 문자 3개(bigram 은 2개) */
+	private static long gramKey(CharSequence s, int from, int n) {
+		long key = n;
+		for (int i = 0; i < n; i++) key = (key << 16) | s.charAt(from + i);
+		return key;
+	}
+
+	// ---------------------------------------------------------------
+	// 인덱스 본체 (스레드 안전하지 않음 — 외부 lock 으로 보호)
+	// ---------------------------------------------------------------
+
+	private static final class Index {
+		private final Map<String, Integer> docOf = new HashMap<>();
+		private final Map<Long, Posting> postings = new HashMap<>();
+		private String[] ids = new String[1024];
+		private String[] texts = new String[1024];
+		private String[] roles = new String[1024];
+		private int docCount; // 부여한 문서번호 수 (삭제된 번호 포함, 재적재 때 압축)
+
+		int size() {
+			return docOf.size();
+		}
+
+		void put(Member m) {
+			String text = normalize(m.getMemberId()) + FIELD_SEP
+					+ normalize(m.getMemberName()) + FIELD_SEP
+					+ normalize(m.getMemberEmail());
+			Integer doc = docOf.get(m.getMemberId());
+			if (doc != null) {
+				if (text.equals(texts[doc])) {          // 검색 필드 변화 없음 → 역할만 갱신
+					roles[doc] = m.getMemberRole();
+					return;
+				}
+				unindex(doc);
+			} else {
+				doc = docCount++;
+				if (doc == ids.length) grow();
+				docOf.put(m.getMemberId(), doc);
+			}
+			ids[doc] = m.getMemberId();
+			texts[doc] = text;
+			roles[doc] = m.getMemberRole();
+			for (long g : grams(text)) postings.computeIfAbsent(g, k -> new Posting()).add(doc);
+		}
+
+		void remove(String memberId) {
+			Integer doc = docOf.remove(memberId);
+			if (doc == null) return;
+			unindex(doc);
+			ids[doc] = null;
+			texts[doc] = null;
+			roles[doc] = null;
+		}
+
+		private void unindex(int doc) {
+			for (long g : grams(texts[doc])) {
+				Posting p = postings.get(g);
+				if (p == null) continue;
+				p.remove(doc);
+				if (p.size == 0) postings.remove(g);
+			}
+		}
+
+		private void grow() {
+			int n = ids.length * 2;
+			ids = Arrays.copyOf(ids, n);
+			texts = Arrays.copyOf(texts, n);
+			roles = Arrays.copyOf(roles, n);
+		}
+
+		/** 필드별 bigram + trigram (중복 제거) */
+		private static Set<Long> grams(String text) {
+			Set<Long> out = new HashSet<>();
+			int start = 0;
+			for (int i = 0; i <= text.length(); i++) {
+				if (i == text.length() || text.charAt(i) == FIELD_SEP) {
+					for (int n = 2; n <= 3; n++) {
+						for (int j = start; j + n <= i; j++) out.add(gramKey(text, j, n));
+					}
+					start = i + 1;
+				}
+			}
+			return out;
+		}
+
+		MemberSearchHits search(String q, String role, int offset, int limit) {
+			List<String> page = new ArrayList<>(Math.min(limit, 1000));
+			long total = 0;
+
+			if (q.length() == 1) {
+				// 1글자: n-gram 없음 → 메모리 순차 확인 (문자 1개 indexOf, 10만 건 수 ms)
+				for (int d = 0; d < docCount; d++) {
+					if (texts[d] == null || texts[d].indexOf(q.charAt(0)) < 0) continue;
+					if (role != null && !role.equals(roles[d])) continue;
+					if (total++ >= offset && page.size() < limit) page.add(ids[d]);
+				}
+				return new MemberSearchHits(page, total);
+			}
+
+			// 검색어의 n-gram (2글자 = bigram 1개, 3글자 이상 = trigram 들)
+			int n = (q.length() == 2) ? 2 : 3;
+			List<Posting> lists = new ArrayList<>();
+			Set<Long> seen = new HashSet<>();
+			for (int j = 0; j + n <= q.length(); j++) {
+				long g = gramKey(q, j, n);
+				if (!seen.add(g)) continue;
+				Posting p = postings.get(g);
+				if (p == null) return new MemberSearchHits(page, 0); // 없는 n-gram → 일치 없음
+				lists.add(p);
+			}
+			lists.sort((a, b) -> Integer.compare(a.size, b.size));
+
+			// 가장 짧은 목록을 기준으로 나머지 목록은 앞으로만 이동하며 탐색 (gallop)
+			Posting base = lists.get(0);
+			int[] pos = new int[lists.size()];
+			boolean exact = lists.size() == 1 && q.length() == n; // n-gram 1개 = 검색어 그 자체
+			outer:
+			for (int i = 0; i < base.size; i++) {
+				int d = base.docs[i];
+				for (int k = 1; k < lists.size(); k++) {
+					Posting p = lists.get(k);
+					pos[k] = p.seek(pos[k], d);
+					if (pos[k] == p.size) break outer;        // 남은 후보 없음
+					if (p.docs[pos[k]] != d) continue outer;
+				}
+				if (role != null && !role.equals(roles[d])) continue;
+				if (!exact && !texts[d].contains(q)) continue; // trigram 이 모두 있어도 연속이 아닐 수 있음
+				if (total++ >= offset && page.size() < limit) page.add(ids[d]);
+			}
+			return new MemberSearchHits(page, total);
+		}
+	}
+
+	/** 문서번호 오름차순 정렬 배열 (재적재 시 순서대로 추가 → 대부분 끝에 붙임) */
+	private static final class Posting {
+		private int[] docs = new int[4];
+		private int size;
+
+		void add(int doc) {
+			if (size == 0 || docs[size - 1] < doc) {
+				ensure();
+				docs[size++] = doc;
+				return;
+			}
+			int i = Arrays.binarySearch(docs, 0, size, doc);
+			if (i >= 0) return;
+			i = -i - 1;
+			ensure();
+			System.arraycopy(docs, i, docs, i + 1, size - i);
+			docs[i] = doc;
+			size++;
+		}
+
+		void remove(int doc) {
+			int i = Arrays.binarySearch(docs, 0, size, doc);
+			if (i < 0) return;
+			System.arraycopy(docs, i + 1, docs, i, size - i - 1);
+			size--;
+		}
+
+		/** from 이후에서 doc 이상인 첫 위치 (없으면 size) — 간격을 2배씩 늘려 범위를 찾은 뒤 이진 탐색 */
+		int seek(int from, int doc) {
+			int bound = 1;
+			while (from + bound < size && docs[from + bound] < doc) bound <<= 1;
+			int i = Arrays.binarySearch(docs, from + (bound >> 1), Math.min(size, from + bound + 1), doc);
+			return (i >= 0) ? i : -i - 1;
+		}
+
+		private void ensure() {
+			if (size == docs.length) docs = Arrays.copyOf(docs, size + (size >> 1) + 1);
+		}
+	}
+}
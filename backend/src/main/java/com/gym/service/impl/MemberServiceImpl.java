@@ -1,22 +1,36 @@
 package com.gym.service.impl;                                      // 📦 서비스 구현
 
+import com.gym.common.PageResponse;
 import com.gym.domain.member.Member;
+import com.gym.domain.member.MemberSearchHits;
 import com.gym.mapper.annotation.MemberMapper;
 import com.gym.mapper.xml.MemberQueryMapper;
+import com.gym.security.RequestMemberCache;
+import com.gym.security.TokenDenylist;
+import com.gym.service.CommentsService;
+import com.gym.service.MemberSearchIndex;
 import com.gym.service.MemberService;
 
 import lombok.extern.log4j.Log4j2;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * 회원 서비스 구현
  * - 규칙: 트랜잭션/검증/예외 변환(DDL 준수)
  * - DDL: member_manipay DEFAULT 'account', member_role DEFAULT 'user', member_joindate DEFAULT SYSDATE
+ * - [251118] 키워드 검색은 메모리 n-gram 인덱스(MemberSearchIndex)로 회원ID를 고른 뒤 현재 페이지분만 PK 조회
+ *   (인덱스 적재 전에는 기존 LIKE 검색), 등록/수정/삭제는 커밋 직후 인덱스에 반영
  */
 @Service
 @Log4j2 //250930 추가
@@ -24,10 +38,22 @@ public class MemberServiceImpl implements MemberService {
 
     private final MemberMapper memberMapper;
     private final MemberQueryMapper memberQueryMapper;
+    private final CommentsService commentsService; // [251112] 회원 삭제 시 게시글 댓글 수 보정
+    private final MemberSearchIndex memberSearchIndex; // [251118] 회원 검색 인덱스
+    private final RequestMemberCache requestMemberCache; // [251121] 같은 요청 안에서 바뀐 회원은 요청 캐시에서 폐기
+    private final TokenDenylist tokenDenylist; // [251124] 역할 변경/삭제 시 발급된 토큰 폐기
 
-    public MemberServiceImpl(MemberMapper memberMapper, MemberQueryMapper memberQueryMapper) {
+    private static final int MAX_HYDRATE = 1000;   // [251118] 1회 PK 조회 최대 건수(Oracle IN 목록 제한)
+
+    public MemberServiceImpl(MemberMapper memberMapper, MemberQueryMapper memberQueryMapper,
+                             CommentsService commentsService, MemberSearchIndex memberSearchIndex,
+                             RequestMemberCache requestMemberCache, TokenDenylist tokenDenylist) {
         this.memberMapper = memberMapper;
         this.memberQueryMapper = memberQueryMapper;
+        this.commentsService = commentsService;
+        this.memberSearchIndex = memberSearchIndex;
+        this.requestMemberCache = requestMemberCache;
+        this.tokenDenylist = tokenDenylist;
     }
 
     // 🔎 단건 조회
@@ -39,6 +65,15 @@ public class MemberServiceImpl implements MemberService {
         return found;
     }
 
+    // [251119] 🔎 프로필 조회 (비밀번호 제외)
+    @Override
+    @Transactional(readOnly = true)
+    public Member getMemberProfile(String memberId) {
+        Member found = memberMapper.selectMemberProfileById(memberId);
+        if (found == null) throw new RuntimeException("NOT_FOUND: member " + memberId);
+        return found;
+    }
+
     // ➕ 등록
     @Override
     @Transactional(rollbackFor = Exception.class)
@@ -81,7 +116,10 @@ public class MemberServiceImpl implements MemberService {
         
         // INSERT
         try {
-            return memberMapper.insert(member);
+            int affected = memberMapper.insert(member);
+            afterCommit(() -> memberSearchIndex.put(member)); // [251118] 검색 인덱스 반영
+            requestMemberCache.evict(member.getMemberId());   // [251121] "없음"으로 기억된 항목 폐기
+            return affected;
         } catch (org.springframework.dao.DuplicateKeyException e) {
             throw new RuntimeException("CONFLICT: PK/이메일/휴대폰 중복");
         } catch (org.springframework.dao.DataIntegrityViolationException e) {
@@ -96,6 +134,8 @@ public class MemberServiceImpl implements MemberService {
     public int updateMember(String memberId, Member member) {
         Member target = memberMapper.selectMemberById(memberId);
         if (target == null) throw new RuntimeException("NOT_FOUND: member " + memberId);
+        String oldRole = target.getMemberRole();      // [251124] 역할/관리자유형 변경 감지용
+        String oldAdminType = target.getAdminType();
 
         // null → 미변경
         if (member.getMemberPw() != null)        target.setMemberPw(member.getMemberPw());
@@ -134,6 +174,13 @@ public class MemberServiceImpl implements MemberService {
 
         int affected = memberMapper.update(target);
         if (affected == 0) throw new RuntimeException("NOT_FOUND: member " + memberId);
+        afterCommit(() -> memberSearchIndex.put(target)); // [251118] 검색 인덱스 반영(역할 변경 포함)
+        requestMemberCache.evict(memberId);               // [251121] 역할 변경 가능 → 요청 캐시 폐기
+        // [251124] 역할이 바뀌면 이전 역할이 담긴 토큰 폐기 (폐기 행은 같은 트랜잭션, 메모리 반영은 커밋 후 — 롤백되면 함께 취소)
+        //          비밀번호 변경은 폐기하지 않음(본인 변경 직후 현재 화면 세션 유지)
+        if (!Objects.equals(oldRole, target.getMemberRole()) || !Objects.equals(oldAdminType, target.getAdminType())) {
+            tokenDenylist.revokeMember(memberId, "role-change");
+        }
         return affected;
     }
 
@@ -141,8 +188,13 @@ public class MemberServiceImpl implements MemberService {
     @Override
     @Transactional(rollbackFor = Exception.class)
     public int deleteMember(String memberId) {
+        // [251112] 댓글은 FK CASCADE 로 함께 삭제되므로, 먼저 게시글 댓글 수(비정규화)에서 차감 — 같은 트랜잭션
+        commentsService.subtractCommentCountsByMember(memberId);
         int affected = memberMapper.delete(memberId);
         if (affected == 0) throw new RuntimeException("NOT_FOUND: member " + memberId);
+        afterCommit(() -> memberSearchIndex.remove(memberId)); // [251118] 검색 인덱스 반영
+        requestMemberCache.evict(memberId);                    // [251121] 요청 캐시 폐기
+        tokenDenylist.revokeMember(memberId, "deleted");       // [251124] 삭제된 회원 토큰 폐기(커밋 후 반영)
         return affected;
     }
 
@@ -150,6 +202,7 @@ public class MemberServiceImpl implements MemberService {
     @Override
     @Transactional(readOnly = true)
     public List<Member> listMembers(Integer page, Integer size, String keyword, String role) {
+        // [251118] 목록은 기존 LIKE 쿼리 그대로 (인덱스 검색은 /api/cms/members/search 에서만 — 일치 규칙/정렬이 다름)
         return memberQueryMapper.selectMembers(page, size, keyword, role);
     }
 
@@ -159,14 +212,58 @@ public class MemberServiceImpl implements MemberService {
     public long countMembers(String keyword, String role) {
         return memberQueryMapper.countMembers(keyword, role); // MemberQueryMapper랑 연동되어 있음
     }
+
+    // [251118] 회원 검색(타이핑 중 조회용) — 인덱스 1회 조회로 목록 + 전체 건수
+    //          목록(listMembers)과 다른 점: 앞뒤 공백 제거·대소문자 무시, 인덱스 순서, 다른 서버 변경은 주기 갱신까지 늦게 반영
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<Member> searchMembers(String keyword, String role, int page, int size) {
+        if (page < 1) page = 1;
+        if (size < 1 || size > MAX_HYDRATE) {
+            throw new IllegalArgumentException("size 는 1~" + MAX_HYDRATE + " 사이여야 합니다.");
+        }
+        MemberSearchHits hits = memberSearchIndex.search(keyword, role, (page - 1) * size, size);
+        if (hits != null) {
+            return PageResponse.of(hydrate(hits.getMemberIds()), hits.getTotal(), page, size);
+        }
+        // 인덱스 적재 전 / 키워드 없음 → 기존 쿼리
+        return PageResponse.of(memberQueryMapper.selectMembers(page, size, keyword, role),
+                memberQueryMapper.countMembers(keyword, role), page, size);
+    }
+
+    /** [251118] 회원ID 목록 → 회원 행 (PK 조회, ID 목록 순서 유지 / 그 사이 삭제된 회원은 빠짐) */
+    private List<Member> hydrate(List<String> memberIds) {
+        if (memberIds.isEmpty()) return new ArrayList<>();
+        Map<String, Member> byId = new HashMap<>();
+        for (Member m : memberQueryMapper.selectMembersByIds(memberIds)) byId.put(m.getMemberId(), m);
+        List<Member> out = new ArrayList<>(memberIds.size());
+        for (String id : memberIds) {
+            Member m = byId.get(id);
+            if (m != null) out.add(m);
+        }
+        return out;
+    }
+
+    /** [251118] 트랜잭션 커밋 후 실행 (롤백되면 인덱스도 그대로) */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
     
     // [251007] 회원ID 존재 여부 확인 구현부
     @Override
     public boolean existsById(String memberId) {
         log.info("[existsById] 중복확인 요청 memberId={}", memberId);
 
-        Member member = memberMapper.selectMemberById(memberId);
-        boolean exists = (member != null);
+        boolean exists = memberMapper.existsMemberById(memberId); // [251119] 행 전체 대신 존재 여부만
 
         log.info("[existsById] 결과: {}", exists ? "존재함" : "사용 가능");
         return exists;
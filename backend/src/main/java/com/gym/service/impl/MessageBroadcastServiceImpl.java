@@ -0,0 +1,217 @@
+package com.gym.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gym.domain.closedday.ClosedDayResponse;
+import com.gym.domain.message.MessageBroadcastRequest;
+import com.gym.domain.message.MessageBroadcastStatus;
+import com.gym.mapper.xml.ClosedDayMapper;
+import com.gym.mapper.xml.MessageMapper;
+import com.gym.service.MessageBroadcastService;
+import com.gym.service.MessageService;
+
+/**
+ * 251111 대량 공지 발송 구현
+ * [1] 요청 검증 + 작업 등록 → messageBroadcastExecutor 에 제출 후 즉시 반환
+ * [2] 수신 대상 회원ID 1회 조회
+ * [3] chunkSize 명씩 JDBC 배치 INSERT, chunk 마다 커밋 → 진행률 갱신 + 해당 회원 메시지함 캐시 제거
+ * - 발송일시는 작업 단위로 1번만 정함(모든 수신자 동일) → 행마다 now()/로그 없음
+ * - UNIQUE(member_id, message_type, message_date) 충돌(같은 초에 같은 공지 재요청)은 NOT EXISTS 로 건너뜀
+ * - 작업 상태는 메모리에 최근 maxJobs 건만 보관(서버 재시작 시 사라짐)
+ */
+@Slf4j
+@Service
+public class MessageBroadcastServiceImpl implements MessageBroadcastService {
+
+	private static final Set<String> MESSAGE_TYPES = Set.of("예약확인", "예약취소", "휴관공지");
+	private static final String DEFAULT_TYPE = "휴관공지";
+
+	private static final String INSERT_SQL =
+			"INSERT INTO message_tbl "
+			+ "(message_id, member_id, resv_id, closed_id, message_type, message_content, message_date) "
+			+ "SELECT seq_message_id.NEXTVAL, ?, NULL, ?, ?, ?, ? FROM dual "
+			+ "WHERE NOT EXISTS (SELECT 1 FROM message_tbl x "
+			+ "WHERE x.member_id = ? AND x.message_type = ? AND x.message_date = ?)";
+
+	private final MessageMapper messageMapper;
+	private final ClosedDayMapper closedDayMapper;
+	private final MessageService messageService;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate tx;
+	private final TaskExecutor executor;
+	private final int chunkSize;
+	private final Map<String, Job> jobs;
+
+	/** 진행 중 작업 상태 (발송 스레드가 갱신, 조회 스레드가 읽음) */
+	private static final class Job {
+		final String jobId = UUID.randomUUID().toString();
+		final LocalDateTime requestedAt = LocalDateTime.now().withNano(0);
+		volatile String status = "QUEUED";
+		volatile int total;
+		final AtomicInteger sent = new AtomicInteger();
+		final AtomicInteger skipped = new AtomicInteger();
+		volatile LocalDateTime finishedAt;
+		volatile String error;
+
+		MessageBroadcastStatus snapshot() {
+			return MessageBroadcastStatus.builder()
+					.jobId(jobId).status(status).total(total)
+					.sent(sent.get()).skipped(skipped.get())
+					.requestedAt(requestedAt).finishedAt(finishedAt).error(error)
+					.build();
+		}
+	}
+
+	public MessageBroadcastServiceImpl(MessageMapper messageMapper,
+			ClosedDayMapper closedDayMapper,
+			MessageService messageService,
+			JdbcTemplate jdbcTemplate,
+			PlatformTransactionManager transactionManager,
+			@Qualifier("messageBroadcastExecutor") TaskExecutor executor,
+			@Value("${message.broadcast.chunk-size:500}") int chunkSize,
+			@Value("${message.broadcast.max-jobs:100}") int maxJobs) {
+		this.messageMapper = messageMapper;
+		this.closedDayMapper = closedDayMapper;
+		this.messageService = messageService;
+		this.jdbcTemplate = jdbcTemplate;
+		this.tx = new TransactionTemplate(transactionManager);
+		this.executor = executor;
+		this.chunkSize = chunkSize;
+		this.jobs = new LinkedHashMap<>(64, 0.75f, false) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Job> eldest) {
+				return size() > maxJobs;
+			}
+		};
+	}
+
+	@Override
+	public MessageBroadcastStatus start(MessageBroadcastRequest req) {
+		if (req == null || req.getMessageContent() == null || req.getMessageContent().isBlank()) {
+			throw new IllegalArgumentException("문자 내용은 필수입니다.");
+		}
+		String messageType = (req.getMessageType() == null || req.getMessageType().isBlank())
+				? DEFAULT_TYPE : req.getMessageType().trim();
+		if (!MESSAGE_TYPES.contains(messageType)) {
+			throw new IllegalArgumentException("문자 유형은 예약확인/예약취소/휴관공지 중 하나여야 합니다.");
+		}
+
+		// 휴관일 지정 시 시설/날짜를 휴관일 기준으로 고정
+		Long facilityId = req.getFacilityId();
+		LocalDate targetDate = req.getTargetDate();
+		if (req.getClosedId() != null) {
+			ClosedDayResponse closed = closedDayMapper.selectClosedDayById(req.getClosedId());
+			if (closed == null) {
+				throw new IllegalArgumentException("존재하지 않는 휴관일입니다: " + req.getClosedId());
+			}
+			facilityId = closed.getFacilityId();
+			targetDate = closed.getClosedDate();
+		}
+
+		Job job = new Job();
+		synchronized (jobs) {
+			jobs.put(job.jobId, job);
+		}
+		final Long fFacilityId = facilityId;
+		final LocalDate fTargetDate = targetDate;
+		try {
+			executor.execute(() -> run(job, fFacilityId, fTargetDate, req.getMemberRole(),
+					req.getClosedId(), messageType, req.getMessageContent()));
+		} catch (TaskRejectedException e) {
+			synchronized (jobs) {
+				jobs.remove(job.jobId);
+			}
+			throw new IllegalStateException("대기 중인 발송 작업이 많습니다. 잠시 후 다시 시도해 주세요.");
+		}
+		log.info("[MessageBroadcast] 작업 등록 jobId={}, facilityId={}, targetDate={}, role={}, type={}",
+				job.jobId, facilityId, targetDate, req.getMemberRole(), messageType);
+		return job.snapshot();
+	}
+
+	@Override
+	public MessageBroadcastStatus getStatus(String jobId) {
+		Job job;
+		synchronized (jobs) {
+			job = jobs.get(jobId);
+		}
+		return (job == null) ? null : job.snapshot();
+	}
+
+	/** 발송 스레드에서 실행 */
+	private void run(Job job, Long facilityId, LocalDate targetDate, String memberRole,
+			Long closedId, String messageType, String content) {
+		long started = System.currentTimeMillis();
+		job.status = "RUNNING";
+		try {
+			List<String> recipients = messageMapper.selectBroadcastRecipients(facilityId, targetDate, memberRole);
+			job.total = recipients.size();
+			Timestamp messageDate = Timestamp.valueOf(LocalDateTime.now().withNano(0));
+
+			for (int from = 0; from < recipients.size(); from += chunkSize) {
+				List<String> chunk = recipients.subList(from, Math.min(from + chunkSize, recipients.size()));
+				int[] counts = tx.execute(status -> jdbcTemplate.batchUpdate(INSERT_SQL,
+						new BatchPreparedStatementSetter() {
+							@Override
+							public void setValues(PreparedStatement ps, int i) throws SQLException {
+								String memberId = chunk.get(i);
+								ps.setString(1, memberId);
+								if (closedId == null) ps.setNull(2, Types.NUMERIC);
+								else ps.setLong(2, closedId);
+								ps.setString(3, messageType);
+								ps.setString(4, content);
+								ps.setTimestamp(5, messageDate);
+								ps.setString(6, memberId);
+								ps.setString(7, messageType);
+								ps.setTimestamp(8, messageDate);
+							}
+
+							@Override
+							public int getBatchSize() {
+								return chunk.size();
+							}
+						}));
+				int inserted = 0;
+				for (int c : counts) {
+					// 드라이버가 건수를 주지 않으면(SUCCESS_NO_INFO) 저장된 것으로 간주
+					if (c > 0 || c == Statement.SUCCESS_NO_INFO) inserted++;
+				}
+				job.sent.addAndGet(inserted);
+				job.skipped.addAndGet(chunk.size() - inserted);
+				messageService.evictInboxes(chunk);
+			}
+			job.status = "DONE";
+			log.info("[MessageBroadcast] 완료 jobId={}, 대상 {}명, 저장 {}건, 건너뜀 {}건, {}ms",
+					job.jobId, job.total, job.sent.get(), job.skipped.get(), System.currentTimeMillis() - started);
+		} catch (RuntimeException e) {
+			job.status = "FAILED";
+			job.error = e.getMessage();
+			log.error("[MessageBroadcast] 실패 jobId={} (커밋된 chunk {}건은 유지)", job.jobId, job.sent.get(), e);
+		} finally {
+			job.finishedAt = LocalDateTime.now().withNano(0);
+		}
+	}
+}
@@ -0,0 +1,178 @@
+package com.gym.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.gym.domain.message.MessageRetentionResult;
+import com.gym.mapper.xml.MessageMapper;
+import com.gym.service.MessageRetentionService;
+
+/**
+ * 251110 메시지 보관(retention) 구현
+ * - chunk 1개 = 트랜잭션 1개: 상한 ID 조회 → 보관 테이블 INSERT…SELECT → 운영 테이블 DELETE → 커밋
+ *   → 긴 트랜잭션/대량 undo 없이 진행, 중간에 실패해도 이미 커밋한 chunk 는 유지되고 다음 실행에서 이어서 처리
+ * - chunk 사이 pauseMillis 만큼 쉬어 운영 트래픽과 경합 완화, 1회 실행 최대 maxChunks 까지
+ * - 보관 테이블의 최신 발송일시(archivedUpTo)를 메모리에 두고(주기적 재조회) 조회 시 UNION ALL 필요 여부 판단
+ * - 보관 이동 직후 회원 메시지함 캐시(MessageServiceImpl)는 TTL 경과로 자연 갱신
+ */
+@Slf4j
+@Service
+public class MessageRetentionServiceImpl implements MessageRetentionService {
+
+	private static final long ARCHIVED_UP_TO_REFRESH_MILLIS = 5 * 60 * 1000L; // 보관 상한 재조회 간격
+
+	private final MessageMapper messageMapper;
+	private final TransactionTemplate tx;
+	private final boolean enabled;
+	private final int hotDays;
+	private final int archiveDays;
+	private final int chunkSize;
+	private final int maxChunks;
+	private final long pauseMillis;
+
+	private final AtomicBoolean running = new AtomicBoolean(false); // 같은 서버 내 중복 실행 방지
+	private volatile LocalDateTime archivedUpTo;                  // 보관 테이블 최신 발송일시(null = 비어 있음)
+	private volatile long archivedUpToLoadedAt;                   // 0 = 아직 조회 안 함
+
+	public MessageRetentionServiceImpl(MessageMapper messageMapper,
+			PlatformTransactionManager transactionManager,
+			@Value("${message.retention.enabled:true}") boolean enabled,
+			@Value("${message.retention.hot-days:180}") int hotDays,
+			@Value("${message.retention.archive-days:0}") int archiveDays,
+			@Value("${message.retention.chunk-size:1000}") int chunkSize,
+			@Value("${message.retention.max-chunks:500}") int maxChunks,
+			@Value("${message.retention.pause-ms:100}") long pauseMillis) {
+		if (hotDays < 1) {
+			throw new IllegalArgumentException("message.retention.hot-days 는 1 이상이어야 합니다.");
+		}
+		if (archiveDays != 0 && archiveDays <= hotDays) {
+			throw new IllegalArgumentException("message.retention.archive-days 는 0(무기한) 또는 hot-days 보다 커야 합니다.");
+		}
+		this.messageMapper = messageMapper;
+		this.tx = new TransactionTemplate(transactionManager);
+		this.enabled = enabled;
+		this.hotDays = hotDays;
+		this.archiveDays = archiveDays;
+		this.chunkSize = chunkSize;
+		this.maxChunks = maxChunks;
+		this.pauseMillis = pauseMillis;
+	}
+
+	/** 주기 실행 (기본 매일 03:30) */
+	@Scheduled(cron = "${message.retention.cron:0 30 3 * * *}")
+	public void scheduledRetention() {
+		if (!enabled) return;
+		try {
+			MessageRetentionResult r = runRetention();
+			log.info("[MessageRetention] 보관 실행 완료: {}", r);
+		} catch (RuntimeException e) {
+			log.error("[MessageRetention] 보관 실행 실패 — 커밋된 chunk 는 유지, 다음 실행에서 이어서 처리", e);
+		}
+	}
+
+	@Override
+	public MessageRetentionResult runRetention() {
+		if (!running.compareAndSet(false, true)) {
+			throw new IllegalStateException("메시지 보관 작업이 이미 실행 중입니다.");
+		}
+		long started = System.currentTimeMillis();
+		LocalDate archiveCutoff = LocalDate.now().minusDays(hotDays);
+		LocalDate purgeCutoff = (archiveDays > 0) ? LocalDate.now().minusDays(archiveDays) : null;
+		long archived = 0;
+		long purged = 0;
+		int chunks = 0;
+		boolean remaining = false;
+		try {
+			// [1] 운영 → 보관 (chunk 마다 커밋)
+			while (true) {
+				if (chunks >= maxChunks) { remaining = true; break; }
+				Integer moved = tx.execute(status -> {
+					Long maxId = messageMapper.selectArchiveChunkMaxId(archiveCutoff, chunkSize);
+					if (maxId == null) return 0;
+					int copied = messageMapper.copyToArchive(archiveCutoff, maxId);
+					int deleted = messageMapper.deleteArchived(archiveCutoff, maxId);
+					if (copied != deleted) {
+						// 같은 조건이므로 달라질 수 없음 → 달라지면 롤백(원본 보존)
+						throw new IllegalStateException("보관 복사/삭제 건수 불일치: " + copied + " / " + deleted);
+					}
+					return deleted;
+				});
+				if (moved == null || moved == 0) break;
+				archived += moved;
+				chunks++;
+				pause();
+			}
+
+			// [2] 보관분 최종 삭제 (archive-days 설정 시)
+			if (purgeCutoff != null) {
+				while (!remaining) {
+					if (chunks >= maxChunks) { remaining = true; break; }
+					Integer deleted = tx.execute(status -> messageMapper.purgeArchive(purgeCutoff, chunkSize));
+					if (deleted == null || deleted == 0) break;
+					purged += deleted;
+					chunks++;
+					pause();
+				}
+			}
+		} finally {
+			archivedUpToLoadedAt = 0;   // 다음 조회 때 보관 상한 재조회
+			running.set(false);
+		}
+
+		return MessageRetentionResult.builder()
+				.archiveCutoff(archiveCutoff)
+				.purgeCutoff(purgeCutoff)
+				.archived(archived)
+				.purged(purged)
+				.chunks(chunks)
+				.remaining(remaining)
+				.elapsedMillis(System.currentTimeMillis() - started)
+				.build();
+	}
+
+	@Override
+	public boolean includeArchive(String startDate) {
+		LocalDateTime upTo = archivedUpTo();
+		if (upTo == null) {
+			return false;                                   // 보관 테이블 비어 있음
+		}
+		if (startDate == null || startDate.isBlank()) {
+			return true;                                    // 시작일 없음 = 전체 기간
+		}
+		try {
+			return !LocalDate.parse(startDate).isAfter(upTo.toLocalDate());
+		} catch (DateTimeParseException e) {
+			return true;                                    // 형식 판단 불가 → 누락보다는 함께 조회
+		}
+	}
+
+	/** 보관 테이블 최신 발송일시 (주기적 재조회, 다른 서버의 보관 실행도 반영) */
+	private LocalDateTime archivedUpTo() {
+		long now = System.currentTimeMillis();
+		if (archivedUpToLoadedAt == 0 || now - archivedUpToLoadedAt > ARCHIVED_UP_TO_REFRESH_MILLIS) {
+			archivedUpTo = messageMapper.selectArchivedMaxDate();
+			archivedUpToLoadedAt = now;
+		}
+		return archivedUpTo;
+	}
+
+	private void pause() {
+		if (pauseMillis <= 0) return;
+		try {
+			Thread.sleep(pauseMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("메시지 보관 작업이 중단되었습니다.", e);
+		}
+	}
+}
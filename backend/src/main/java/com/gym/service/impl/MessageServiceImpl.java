@@ -4,22 +4,40 @@ import com.gym.domain.message.Message;
 import com.gym.domain.message.MessageResponse;
 import com.gym.domain.message.MessageMarkReadRequest;
 import com.gym.mapper.xml.MessageMapper;
+import com.gym.service.MessageRetentionService;
 import com.gym.service.MessageService;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
 /**
  * 메시지 관련 비즈니스 로직 구현 클래스
  * - 메시지 저장 시 현재 시간 세팅, DB 삽입 및 로그 기록
  * - 조회 및 카운트 기능 구현
+ *
+ * 251108 회원별 메시지함 캐시 추가
+ * - 헤더 뱃지(안 읽은 개수)·메시지함(최신 N건)을 렌더링할 때마다 DB를 조회하던 것을 메모리 캐시로 대체
+ * - 회원ID → Inbox(안 읽은 개수, 최신 recentSize건), 최대 cacheSize명 LRU + TTL(다중 서버 간 불일치 상한)
+ * - sendMessage / markAsRead 는 DB 반영이 커밋된 뒤 캐시를 증분 갱신(롤백되면 캐시도 그대로)
+ * - 캐시 적재 중 변경이 끼어들면(mutations 변화) 적재를 포기 → 오래된 값이 캐시에 남지 않음
  */
 @Service
 public class MessageServiceImpl implements MessageService {
@@ -27,37 +45,112 @@ public class MessageServiceImpl implements MessageService {
     private static final Logger logger = LoggerFactory.getLogger(MessageServiceImpl.class);
 
     private final MessageMapper messageMapper;
+    private final MessageRetentionService messageRetentionService; // 251110 보관 테이블 포함 여부 판단
+
+    // 251108 메시지함 캐시
+    private final int recentSize;                   // 회원별 보관 최신 메시지 수
+    private final long ttlMillis;                   // 항목 유효시간
+    private final Map<String, Inbox> inboxCache;    // 회원ID → Inbox (LRU, synchronized 로 접근)
+    private final AtomicLong mutations = new AtomicLong(); // 증분 갱신 발생 횟수(적재 경합 감지용)
+
+    private static final int MAX_BULK_READ = 1000;  // 251109 일괄 읽음 최대 건수(Oracle IN 목록 제한)
+
+    /** 251108 회원 1명의 메시지함 캐시 항목 (null 필드 = 아직 적재 안 됨) */
+    private static final class Inbox {
+        Integer unread;                     // 안 읽은 메시지 수
+        List<MessageResponse> recent;       // 최신순 최대 recentSize 건
+        final long createdAt = System.currentTimeMillis();
+    }
 
     /**
      * 생성자 기반 의존성 주입
      * @param messageMapper 메시지 매퍼
      */
-    public MessageServiceImpl(MessageMapper messageMapper) {
+    public MessageServiceImpl(MessageMapper messageMapper,
+                              MessageRetentionService messageRetentionService,
+                              @Value("${message.inbox-cache.size:5000}") int cacheSize,
+                              @Value("${message.inbox-cache.recent-size:20}") int recentSize,
+                              @Value("${message.inbox-cache.ttl-seconds:60}") long ttlSeconds) {
         this.messageMapper = messageMapper;
+        this.messageRetentionService = messageRetentionService;
+        this.recentSize = recentSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        // accessOrder=true → LRU, 최대 인원 초과 시 가장 오래 안 쓴 회원 제거
+        this.inboxCache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Inbox> eldest) {
+                return size() > cacheSize;
+            }
+        };
     }
        
     /**
      * 251016 추가
      * DB에서 읽지 않은 메시지 수 조회 메서드
+     * 251108 캐시 우선, 없을 때만 DB 조회 후 적재
      */
     @Override
     public int countUnreadMessages(String memberId) {
-        logger.info("[translate:읽지 않은 메시지 개수 조회] memberId={}", memberId);
+        synchronized (inboxCache) {
+            Inbox inbox = cachedInbox(memberId);
+            if (inbox != null && inbox.unread != null) {
+                return inbox.unread;
+            }
+        }
+        long stamp = mutations.get();
         int count = messageMapper.countUnreadMessages(memberId);
-        logger.info("[translate:읽지 않은 메시지 개수] {}", count);
+        logger.info("[translate:읽지 않은 메시지 개수] memberId={}, {}", memberId, count);
+        synchronized (inboxCache) {
+            if (stamp == mutations.get()) {
+                inboxFor(memberId).unread = count;
+            }
+        }
         return count;
     }
 
     /**
      * 251016 추가
      * 회원별 메시지 리스트 조회 메서드
+     * 251108 limit 이 캐시 보관 건수 이하면 캐시에서 잘라서 반환, 초과하면 DB 직접 조회
      */
     @Override
     public List<MessageResponse> findByMemberId(String memberId, int limit) {
-        logger.info("[translate:매퍼 호출] memberId={} 및 limit={} 로 호출합니다.", memberId, limit); // 로그확인
-        List<MessageResponse> list = messageMapper.findByMemberId(memberId, limit);
-        logger.info("[translate:매퍼가 반환한 결과 수] {}건", list.size());
-        return list;
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        if (limit > recentSize) {
+            return messageMapper.findByMemberId(memberId, limit);
+        }
+        synchronized (inboxCache) {
+            Inbox inbox = cachedInbox(memberId);
+            if (inbox != null && inbox.recent != null) {
+                return copyOf(inbox.recent, limit);
+            }
+        }
+        long stamp = mutations.get();
+        List<MessageResponse> list = messageMapper.findByMemberId(memberId, recentSize);
+        logger.info("[translate:매퍼가 반환한 결과 수] memberId={}, {}건", memberId, list.size());
+        synchronized (inboxCache) {
+            if (stamp == mutations.get()) {
+                inboxFor(memberId).recent = new ArrayList<>(list);
+            }
+        }
+        return copyOf(list, limit);
+    }
+
+    /**
+     * 251108 추가
+     * 회원별 이전 메시지 키셋 페이징 (캐시 범위 밖이므로 DB 직접 조회)
+     */
+    @Override
+    public List<MessageResponse> findOlderByMemberId(String memberId, Long cursor, int limit) {
+        if (cursor == null) {
+            return findByMemberId(memberId, limit);
+        }
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        return messageMapper.findOlderByMemberId(memberId, cursor, limit);
     }
 
     /**
@@ -74,6 +167,9 @@ public class MessageServiceImpl implements MessageService {
             throw new IllegalStateException("[translate:메시지 저장 실패:] 예상과 다른 영향 행 수 " + affected);
         }
 
+        // 251108 커밋 후 메시지함 캐시에 추가(안 읽은 개수 +1, 최신 목록 맨 앞)
+        afterCommit(() -> applySent(message));
+
         // 메시지 전송 내용 로그 기록
         logger.info("[translate:문자전송 요청] - 수신자 ID: {}, 유형: {}, 내용: {}, 발송 시간: {}",
             message.getMemberId(),
@@ -93,6 +189,8 @@ public class MessageServiceImpl implements MessageService {
         
         params.put("messageType", messageType);
         params.put("receiverId", receiverId);
+        // 251110 조회 기간이 보관 구간에 걸치면 보관 테이블도 함께 조회
+        params.put("includeArchive", messageRetentionService.includeArchive(startDate));
 
         logger.info("[translate:전체 메시지 조회] 필터 - startDate: {}, endDate: {}, messageType: {}, receiverId: {}",
                 startDate, endDate, messageType, receiverId);
@@ -116,7 +214,200 @@ public class MessageServiceImpl implements MessageService {
     	MessageMarkReadRequest request = new MessageMarkReadRequest(messageId);
         return messageMapper.markAsRead(request);
         */
-    	return messageMapper.markAsRead(messageId); 
+    	int updated = messageMapper.markAsRead(messageId); 
     	// [251023] 불필요한 DTO 생성 로직 → mapper에 있는 Long (messageId) 값을 직접 전달
+    	// [251108] N→Y 로 실제 바뀐 경우에만 커밋 후 캐시 차감
+    	if (updated == 1) {
+    		String memberId = messageMapper.selectMemberIdByMessageId(messageId);
+    		if (memberId != null) {
+    			afterCommit(() -> applyRead(memberId, messageId));
+    		}
+    	}
+    	return updated;
+    }
+
+    /**
+     * 251109 추가
+     * 선택 메시지 일괄 읽음 처리 — 1회 UPDATE, 소유자 검사는 SQL(member_id 조건)
+     */
+    @Transactional
+    @Override
+    public int markAsReadBulk(String memberId, List<Long> messageIds) {
+        if (messageIds == null || messageIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = messageIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.size() > MAX_BULK_READ) {
+            throw new IllegalArgumentException("한 번에 읽음 처리할 수 있는 메시지는 최대 " + MAX_BULK_READ + "건입니다.");
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int updated = messageMapper.markAsReadByIds(memberId, ids);
+        logger.info("[translate:일괄 읽음 처리] memberId={}, 요청 {}건, 반영 {}건", memberId, ids.size(), updated);
+        if (updated > 0) {
+            Set<Long> idSet = new HashSet<>(ids);
+            afterCommit(() -> applyReadBulk(memberId, updated, m -> idSet.contains(m.getMessageId())));
+        }
+        return updated;
+    }
+
+    /**
+     * 251109 추가
+     * 회원 메시지 전체(또는 upToMessageId 이하) 읽음 처리 — 1회 UPDATE
+     */
+    @Transactional
+    @Override
+    public int markAllAsRead(String memberId, Long upToMessageId) {
+        int updated = messageMapper.markAllAsRead(memberId, upToMessageId);
+        logger.info("[translate:전체 읽음 처리] memberId={}, upTo={}, 반영 {}건", memberId, upToMessageId, updated);
+        if (updated > 0) {
+            afterCommit(() -> applyReadBulk(memberId, updated,
+                    m -> upToMessageId == null || (m.getMessageId() != null && m.getMessageId() <= upToMessageId)));
+        }
+        return updated;
+    }
+
+    /**
+     * 251111 추가
+     * 대량 발송 대상 회원의 캐시 제거 → 다음 조회 때 DB에서 다시 적재
+     */
+    @Override
+    public void evictInboxes(Collection<String> memberIds) {
+        mutations.incrementAndGet();
+        synchronized (inboxCache) {
+            for (String memberId : memberIds) {
+                inboxCache.remove(memberId);
+            }
+        }
+    }
+
+    // ===================== 251108 메시지함 캐시 내부 =====================
+
+    /** 유효한 캐시 항목 (만료 시 제거 후 null) — inboxCache 잠금 안에서 호출 */
+    private Inbox cachedInbox(String memberId) {
+        Inbox inbox = inboxCache.get(memberId);
+        if (inbox != null && System.currentTimeMillis() - inbox.createdAt > ttlMillis) {
+            inboxCache.remove(memberId);
+            return null;
+        }
+        return inbox;
+    }
+
+    /** 캐시 항목 조회/생성 — inboxCache 잠금 안에서 호출 */
+    private Inbox inboxFor(String memberId) {
+        Inbox inbox = cachedInbox(memberId);
+        if (inbox == null) {
+            inbox = new Inbox();
+            inboxCache.put(memberId, inbox);
+        }
+        return inbox;
+    }
+
+    /** 트랜잭션 안이면 커밋 후, 아니면 즉시 실행 */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /** 발송 반영: 캐시에 있는 회원만 증분 갱신 (없으면 다음 조회 때 DB에서 적재) */
+    private void applySent(Message message) {
+        mutations.incrementAndGet();
+        synchronized (inboxCache) {
+            Inbox inbox = cachedInbox(message.getMemberId());
+            if (inbox == null) return;
+            if (inbox.unread != null && !"Y".equals(message.getReadStatus())) {
+                inbox.unread = inbox.unread + 1;
+            }
+            if (inbox.recent != null) {
+                if (inbox.recent.isEmpty()) {
+                    inbox.recent = null;            // 회원명을 알 수 없으므로 다음 조회 때 DB 적재
+                    return;
+                }
+                MessageResponse added = MessageResponse.builder()
+                        .messageId(message.getMessageId())
+                        .memberId(message.getMemberId())
+                        .memberName(inbox.recent.get(0).getMemberName())
+                        .resvId(message.getResvId())
+                        .closedId(message.getClosedId())
+                        .messageType(message.getMessageType())
+                        .messageContent(message.getMessageContent())
+                        .messageDate(message.getMessageDate())
+                        .readStatus(message.getReadStatus() != null ? message.getReadStatus() : "N")
+                        .build();
+                inbox.recent.add(0, added);         // 최신순 맨 앞
+                if (inbox.recent.size() > recentSize) {
+                    inbox.recent.remove(inbox.recent.size() - 1);
+                }
+            }
+        }
+    }
+
+    /** 읽음 반영: 안 읽은 개수 -1, 최신 목록에 있으면 읽음 표시 */
+    private void applyRead(String memberId, Long messageId) {
+        mutations.incrementAndGet();
+        synchronized (inboxCache) {
+            Inbox inbox = cachedInbox(memberId);
+            if (inbox == null) return;
+            if (inbox.unread != null && inbox.unread > 0) {
+                inbox.unread = inbox.unread - 1;
+            }
+            if (inbox.recent != null) {
+                for (MessageResponse m : inbox.recent) {
+                    if (messageId.equals(m.getMessageId())) {
+                        m.setReadStatus("Y");
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /** 251109 일괄 읽음 반영: 안 읽은 개수 -updated(DB 실제 전환 건수), 최신 목록 중 대상은 읽음 표시 */
+    private void applyReadBulk(String memberId, int updated, Predicate<MessageResponse> target) {
+        mutations.incrementAndGet();
+        synchronized (inboxCache) {
+            Inbox inbox = cachedInbox(memberId);
+            if (inbox == null) return;
+            if (inbox.unread != null) {
+                inbox.unread = Math.max(0, inbox.unread - updated);
+            }
+            if (inbox.recent != null) {
+                for (MessageResponse m : inbox.recent) {
+                    if (target.test(m)) {
+                        m.setReadStatus("Y");
+                    }
+                }
+            }
+        }
+    }
+
+    /** 캐시 원본이 호출자에게 노출되지 않도록 앞 limit 건을 복사해서 반환 */
+    private static List<MessageResponse> copyOf(List<MessageResponse> src, int limit) {
+        int n = Math.min(limit, src.size());
+        List<MessageResponse> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            MessageResponse m = src.get(i);
+            out.add(MessageResponse.builder()
+                    .messageId(m.getMessageId())
+                    .memberId(m.getMemberId())
+                    .memberName(m.getMemberName())
+                    .resvId(m.getResvId())
+                    .closedId(m.getClosedId())
+                    .messageType(m.getMessageType())
+                    .messageContent(m.getMessageContent())
+                    .messageDate(m.getMessageDate())
+                    .readStatus(m.getReadStatus())
+                    .build());
+        }
+        return out;
     }
 }
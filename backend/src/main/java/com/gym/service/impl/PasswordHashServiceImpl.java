@@ -0,0 +1,177 @@
+package com.gym.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.gym.common.exception.PasswordHashBusyException;
+import com.gym.security.mapper.LoginQueryMapper;
+import com.gym.service.PasswordHashService;
+
+/**
+ * 251122 비밀번호 해시 구현
+ * - 요청(로그인/회원 등록·수정): interactive 세마포어로 대기+실행 건수 제한 → 넘치면 기다리지 않고 바로 503
+ *   (해시 풀이 밀려 있을 때 요청 스레드가 줄줄이 붙잡히는 것 방지), 제출 후에도 wait-ms 를 넘기면 503
+ * - 대기 시간 초과로 포기한 작업은 풀에서 차례가 와도 해시하지 않고 건너뜀(CPU 낭비 방지)
+ * - 일괄(회원 가져오기)/재해시: background 세마포어로 풀 스레드의 절반까지만 → 로그인 대기열 보호
+ * - 비용 변경: 저장 해시 "$2a$NN$..." 의 NN 이 설정과 다르면 로그인 성공 시 백그라운드 재해시(조건부 UPDATE)
+ */
+@Slf4j
+@Service
+public class PasswordHashServiceImpl implements PasswordHashService {
+
+	private static final Pattern BCRYPT = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}$");
+
+	private final PasswordEncoder passwordEncoder;
+	private final ThreadPoolTaskExecutor hashExecutor;
+	private final LoginQueryMapper loginQueryMapper;
+	private final int cost;
+	private final long waitMillis;
+	private final int retryAfterSeconds;
+	private final boolean rehashOnLogin;
+
+	private final Semaphore interactive; // 요청 해시 대기+실행 상한
+	private final Semaphore background;  // 일괄/재해시 동시 실행 상한
+
+	public PasswordHashServiceImpl(PasswordEncoder passwordEncoder,
+			@Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor hashExecutor,
+			LoginQueryMapper loginQueryMapper,
+			@Value("${member.password.bcrypt-cost:10}") int cost,
+			@Value("${member.password.max-pending:64}") int maxPending,
+			@Value("${member.password.wait-ms:5000}") long waitMillis,
+			@Value("${member.password.retry-after-seconds:2}") int retryAfterSeconds,
+			@Value("${member.password.rehash-on-login:true}") boolean rehashOnLogin) {
+		if (maxPending < 1) {
+			throw new IllegalArgumentException("member.password.max-pending 는 1 이상이어야 합니다.");
+		}
+		this.passwordEncoder = passwordEncoder;
+		this.hashExecutor = hashExecutor;
+		this.loginQueryMapper = loginQueryMapper;
+		this.cost = cost;
+		this.waitMillis = waitMillis;
+		this.retryAfterSeconds = retryAfterSeconds;
+		this.rehashOnLogin = rehashOnLogin;
+		this.interactive = new Semaphore(maxPending);
+		this.background = new Semaphore(Math.max(1, hashExecutor.getMaxPoolSize() / 2));
+	}
+
+	@Override
+	public String encode(String rawPassword) {
+		return runInteractive(() -> passwordEncoder.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(String rawPassword, String storedPassword) {
+		if (rawPassword == null || storedPassword == null) return false;
+		if (!isBCrypt(storedPassword)) {
+			return rawPassword.equals(storedPassword); // 이전 평문 저장분 (로그인 성공 시 재해시로 전환)
+		}
+		Boolean ok = runInteractive(() -> passwordEncoder.matches(rawPassword, storedPassword));
+		return Boolean.TRUE.equals(ok);
+	}
+
+	@Override
+	public boolean needsRehash(String storedPassword) {
+		if (storedPassword == null) return false;
+		Matcher m = BCRYPT.matcher(storedPassword);
+		if (!m.matches()) return true;                        // 평문
+		return Integer.parseInt(m.group(1)) != cost;          // 비용 변경(올림/내림 모두)
+	}
+
+	@Override
+	public void rehashOnLogin(String memberId, String rawPassword, String storedPassword) {
+		if (!rehashOnLogin || rawPassword == null || !needsRehash(storedPassword)) return;
+		if (!background.tryAcquire()) return;                 // 바쁘면 다음 로그인 때
+		try {
+			hashExecutor.execute(() -> {
+				try {
+					String hash = passwordEncoder.encode(rawPassword);
+					int updated = loginQueryMapper.updatePasswordHash(memberId, storedPassword, hash);
+					log.info("[PasswordHash] 로그인 재해시 memberId={}, cost={}, updated={}", memberId, cost, updated);
+				} catch (RuntimeException e) {
+					log.warn("[PasswordHash] 로그인 재해시 실패 memberId={} — 다음 로그인 때 재시도", memberId, e);
+				} finally {
+					background.release();
+				}
+			});
+		} catch (TaskRejectedException e) {
+			background.release();
+		}
+	}
+
+	@Override
+	public CompletableFuture<String> encodeBackground(String rawPassword) {
+		if (background.tryAcquire()) {
+			try {
+				return CompletableFuture.supplyAsync(() -> {
+					try {
+						return passwordEncoder.encode(rawPassword);
+					} finally {
+						background.release();
+					}
+				}, hashExecutor);
+			} catch (TaskRejectedException e) {
+				background.release();
+			}
+		}
+		return CompletableFuture.completedFuture(passwordEncoder.encode(rawPassword)); // 호출 스레드에서 직접
+	}
+
+	/** 해시 풀에서 실행 후 결과 대기 (상한 초과/대기 시간 초과 → PasswordHashBusyException) */
+	private <T> T runInteractive(Callable<T> work) {
+		if (!interactive.tryAcquire()) {
+			throw busy();
+		}
+		AtomicBoolean abandoned = new AtomicBoolean(false);
+		Future<T> future;
+		try {
+			future = hashExecutor.submit(() -> {
+				try {
+					return abandoned.get() ? null : work.call(); // 호출측이 이미 포기했으면 건너뜀
+				} finally {
+					interactive.release();
+				}
+			});
+		} catch (TaskRejectedException e) {
+			interactive.release();
+			throw busy();
+		}
+		try {
+			return future.get(waitMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			abandoned.set(true);
+			throw busy();
+		} catch (InterruptedException e) {
+			abandoned.set(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("비밀번호 처리가 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException re) throw re;
+			throw new IllegalStateException("비밀번호 처리에 실패했습니다.", e.getCause());
+		}
+	}
+
+	private PasswordHashBusyException busy() {
+		return new PasswordHashBusyException("요청이 많아 비밀번호를 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.", retryAfterSeconds);
+	}
+
+	private static boolean isBCrypt(String s) {
+		return s.startsWith("$2a$") || s.startsWith("$2b$") || s.startsWith("$2y$");
+	}
+}
@@ -5,8 +5,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 
 import com.gym.domain.payment.*;
 import com.gym.mapper.xml.PaymentMapper;
@@ -16,6 +25,7 @@ import com.gym.service.PaymentService;
 
 //[250925추가] 예약 동기화/조회용
 import org.springframework.jdbc.core.JdbcTemplate; // 예약/결제 보조 조회/갱신(SQL 한 줄)
+import org.springframework.jdbc.core.BatchPreparedStatementSetter; // [251104] 상태 일괄 변경 배치
 //[250925추가] 문자 전송
 import com.gym.service.MessageService; // 기존 서비스 인터페이스 사용
 import com.gym.domain.message.Message; // 메시지 엔티티(이력/전송용)
@@ -31,6 +41,14 @@ public class PaymentServiceImpl implements PaymentService {
 	private final PaymentMapper paymentMapper;
 	private final JdbcTemplate jdbcTemplate; // [250925추가] 보조 SQL
     private final MessageService messageService; // [250925추가] 문자 서비스
+
+    // [251106] 결제 건수 단기 캐시(필터 문자열 → 건수)
+    private static final long COUNT_TTL_MILLIS = 30_000;
+    private static final int COUNT_CACHE_MAX = 500;
+    private static final int MAX_BATCH = 1000;   // [251104] 일괄 변경 최대 건수(Oracle IN 목록 제한)
+    private final Map<String, CachedCount> countCache = new ConcurrentHashMap<>();
+
+    private record CachedCount(long value, long expiresAt) {}
 	/**
      * 결제 등록
      * - paymentMethod 미입력 시 accountId/cardId로 자동 유추
@@ -91,19 +109,69 @@ public class PaymentServiceImpl implements PaymentService {
         // [5] 같은 세션에서 CURRVAL 회수
         Long id = paymentMapper.getPaymentSeqCurrval();
         p.setPaymentId(id);
+        countCache.clear();                          // [251106] 건수 캐시 무효화
         return id;
     }
 
 	/**
      * 결제 목록/검색
-     * - paymentId, memberId, resvId, method, paymentStatus 등 선택적 필터
+     * - paymentId, memberId, resvId, method, paymentStatus, fromDate~toDate 등 선택적 필터
      * - 페이징 없음(요청 범위 준수)
+     * - [251106] 매퍼가 PaymentResponse로 바로 매핑 → 엔티티 변환 단계 제거
      */
     @Override
+    @Transactional(readOnly = true)
     public List<PaymentResponse> findList(PaymentSearchRequest req) {
-        return paymentMapper.selectPayments(req).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        validateDates(req);
+        return paymentMapper.selectPayments(req, null, null);
+    }
+
+    /**
+     * [251106] 결제 목록 페이지 조회(CMS)
+     * - req.cursor 있으면 키셋(payment_id &lt; cursor), 없으면 page*size OFFSET(기존 화면 호환)
+     * - 다음 페이지 존재 여부 판별을 위해 size+1건까지 조회해서 반환(호출부에서 size건만 사용)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PaymentResponse> findPage(PaymentSearchRequest req, int page, int size) {
+        validateDates(req);
+        Integer offset = (req.getCursor() == null && page > 0) ? page * size : null;
+        return paymentMapper.selectPayments(req, offset, size + 1);
+    }
+
+    /**
+     * [251106] 결제 건수(필터 기준, cursor 무시)
+     * - 목록 화면은 페이지를 넘길 때마다 같은 조건으로 COUNT를 다시 부름
+     *   → 같은 필터는 COUNT_TTL_MILLIS 동안 메모리 값 재사용
+     * - 등록/상태 변경 시 전체 무효화
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long count(PaymentSearchRequest req) {
+        validateDates(req);
+        String key = req.getPaymentId() + "|" + req.getMemberId() + "|" + req.getResvId() + "|" + req.getMethod()
+                + "|" + req.getPaymentStatus() + "|" + req.getFromDate() + "|" + req.getToDate();
+        long now = System.currentTimeMillis();
+        CachedCount cached = countCache.get(key);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.value;
+        }
+        long value = paymentMapper.countPayments(req);
+        if (countCache.size() >= COUNT_CACHE_MAX) {
+            countCache.clear();                      // 필터 조합이 많을 때 무한 증가 방지
+        }
+        countCache.put(key, new CachedCount(value, now + COUNT_TTL_MILLIS));
+        return value;
+    }
+
+    /** [251106] 결제일 범위 형식 검증(YYYY-MM-DD) — 잘못된 값은 DB까지 보내지 않음 */
+    private void validateDates(PaymentSearchRequest req) {
+        try {
+            if (req.getFromDate() != null && !req.getFromDate().isBlank()) LocalDate.parse(req.getFromDate().trim());
+            if (req.getToDate() != null && !req.getToDate().isBlank()) LocalDate.parse(req.getToDate().trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("결제일은 YYYY-MM-DD 형식이어야 합니다.");
+        }
     }
 
 
@@ -116,92 +184,208 @@ public class PaymentServiceImpl implements PaymentService {
     /**
      * 결제 상태 변경
      * - 허용값: '완료' | '예약' | '취소'
+     * - [251104] 버전 검사 없이 상태머신만 적용 (기존 호출부 호환)
      */
-    
 	@Override
 	@Transactional(rollbackFor = Exception.class)
 	public void updateStatus(Long paymentId, String status) {
-		log.info("[updateStatus] 결제 상태 변경 요청: paymentId={}, status={}", paymentId, status);
-	    int rows = paymentMapper.updatePaymentStatus(paymentId, status);
-	    if (rows != 1) {
-	        log.error("[updateStatus] 결제 상태 변경 실패: paymentId={}, status={}", paymentId, status);
-	        throw new IllegalStateException("상태 변경 실패");
-	    } else {
-	        log.info("[updateStatus] 결제 상태 변경 성공: paymentId={}, status={}", paymentId, status);
-	    }
-	    
-		// [250925추가] 상태 변경 성공 시 후속 처리(예약 동기화 + 문자 발송)
-        // 1) 결제건에서 예약ID/회원ID 확보
-        Long resvId = jdbcTemplate.queryForObject(
-                "SELECT p.resv_id FROM payment_tbl p WHERE p.payment_id = ?",
-                Long.class,  // requiredType 먼저
-                paymentId
-        ); // 예약 PK
-
-        String memberId = jdbcTemplate.queryForObject(
-                "SELECT p.member_id FROM payment_tbl p WHERE p.payment_id = ?",
-                String.class,
-                paymentId
-        ); // 신청자 ID
-        
-        log.info("[updateStatus] 예약 및 회원 조회: resvId={}, memberId={}", resvId, memberId);
-
-        // 2) 예약 상태 동기화(트리거 보정은 남기되, 서비스 계층에서 먼저 반영)
-        if ("완료".equals(status)) {
-            jdbcTemplate.update(
-                    "UPDATE reservation_tbl SET resv_status = '완료' WHERE resv_id = ? AND resv_status <> '완료' AND resv_status <> '취소'",
-                    resvId
-            ); // 취소된 예약은 되살리지 않음
-            
-        log.info("[updateStatus] 예약 상태 '완료'로 변경: resvId={}", resvId);
-        
-        } else if ("취소".equals(status)) {
-            jdbcTemplate.update(
-                    "UPDATE reservation_tbl SET resv_status = '취소' WHERE resv_id = ? AND resv_status <> '취소'",
-                    resvId
-            );
-            
-        log.info("[updateStatus] 예약 상태 '취소'로 변경: resvId={}", resvId);
-        } // '예약'은 동기화 불필요
-
-        // 3) 문자 발송(상태별 고정 문구) — MessageService 시그니처 유지
-        if ("완료".equals(status)) {
-            Message msg = Message.builder()
-                    .memberId(memberId)                 // 수신자 회원ID
-                    .resvId(resvId)                     // 관련 예약ID
-                    .messageType("예약확인")            // 유형
-                    .messageContent("예약신청 완료되었습니다.") // 본문
-                    .build();
-            messageService.sendMessage(msg);            // 기존 시그니처 사용
-        } else if ("취소".equals(status)) {
-            Message msg = Message.builder()
-                    .memberId(memberId)
-                    .resvId(resvId)
-                    .messageType("예약취소")
-                    .messageContent("예약신청 취소되었습니다.")
-                    .build();
-            
-            log.info("sendMessage 호출 직전 - 메시지 내용: {}", msg);
-            messageService.sendMessage(msg);
-            log.info("sendMessage 호출 직후");
-            
-        }
-	
+		updateStatus(paymentId, status, null);
+	}
+
+	/**
+	 * [251104] 결제 상태 변경(상태머신 + 낙관적 버전)
+	 * - 기존: UPDATE → SELECT resv_id → SELECT member_id → 예약 UPDATE → 문자 INSERT (왕복 5회)
+	 * - 변경: PL/SQL 블록 1회(UPDATE ... RETURNING + 예약 동기화) → 문자 INSERT (왕복 2회)
+	 * - 전이 불가/버전 불일치: IllegalStateException, 결제 없음: IllegalArgumentException
+	 */
+	@Override
+	@Transactional(rollbackFor = Exception.class)
+	public Long updateStatus(Long paymentId, String status, Long expectedVersion) {
+		log.info("[updateStatus] 결제 상태 변경 요청: paymentId={}, status={}, version={}", paymentId, status, expectedVersion);
+		PaymentStatus to = PaymentStatus.of(status);
+		if (to.allowedFrom().isEmpty()) {
+			throw new IllegalStateException("'" + to.label() + "' 상태로는 변경할 수 없습니다.");
+		}
+
+		PaymentTransition t = PaymentTransition.builder()
+				.paymentId(paymentId)
+				.toStatus(to.label())
+				.fromStatuses(to.allowedFrom())
+				.reservationStatus(to.reservationStatus())
+				.expectedVersion(expectedVersion)
+				.build();
+		paymentMapper.transitPaymentStatus(t);
+
+		if (t.getRows() == null || t.getRows() != 1) {
+			List<Payment> current = paymentMapper.selectPaymentStates(List.of(paymentId));
+			String reason = rejectReason(current.isEmpty() ? null : current.get(0), to, expectedVersion);
+			log.error("[updateStatus] 결제 상태 변경 실패: paymentId={}, status={}, reason={}", paymentId, status, reason);
+			if (current.isEmpty()) throw new IllegalArgumentException(reason);
+			throw new IllegalStateException(reason);
+		}
+		countCache.clear();                          // [251106] 상태 필터 건수 캐시 무효화
+		log.info("[updateStatus] 결제 상태 변경 성공: paymentId={}, resvId={}, memberId={}, version={}",
+				paymentId, t.getResvId(), t.getMemberId(), t.getVersion());
+
+		// 문자 발송(상태별 고정 문구) — MessageService 시그니처 유지
+		sendStatusMessage(to, t.getMemberId(), t.getResvId());
+		return t.getVersion();
+	}
+
+	/**
+	 * [251104] 결제 상태 일괄 변경
+	 * - 결제 UPDATE: JDBC batch 1회 (건별 성공/실패는 update count로 판별)
+	 * - 결과 회수: selectPaymentStates 1회 (IN 목록)
+	 * - 예약 동기화: 목표 상태별 1회 (최대 2회)
+	 * - 건별 실패는 전체를 롤백하지 않고 결과에 사유를 담아 반환
+	 * - 최대 MAX_BATCH 건(IN 목록 제한) — 초과 시 전체 거부
+	 */
+	@Override
+	@Transactional(rollbackFor = Exception.class)
+	public List<PaymentStatusChangeResult> updateStatusBatch(List<PaymentStatusChangeRequest> reqs) {
+		List<PaymentStatusChangeResult> results = new ArrayList<>();
+		if (reqs == null || reqs.isEmpty()) return results;
+		if (reqs.size() > MAX_BATCH) {
+			throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH + "건까지 상태를 변경할 수 있습니다.");
+		}
+
+		// [1] 요청 검증(상태값/중복) — 통과한 건만 배치 대상
+		Map<Long, PaymentStatus> targets = new LinkedHashMap<>();
+		Map<Long, Long> versions = new HashMap<>();
+		Map<Long, PaymentStatusChangeResult> byId = new HashMap<>();
+		for (PaymentStatusChangeRequest r : reqs) {
+			PaymentStatusChangeResult res = PaymentStatusChangeResult.builder()
+					.paymentId(r.getPaymentId())
+					.paymentStatus(r.getPaymentStatus())
+					.build();
+			results.add(res);
+			if (r.getPaymentId() == null) {
+				res.setReason("결제ID가 없습니다.");
+				continue;
+			}
+			if (targets.containsKey(r.getPaymentId())) {
+				res.setReason("같은 결제ID가 중복 요청되었습니다.");
+				continue;
+			}
+			try {
+				PaymentStatus to = PaymentStatus.of(r.getPaymentStatus());
+				if (to.allowedFrom().isEmpty()) {
+					res.setReason("'" + to.label() + "' 상태로는 변경할 수 없습니다.");
+					continue;
+				}
+				targets.put(r.getPaymentId(), to);
+				versions.put(r.getPaymentId(), r.getVersion());
+				byId.put(r.getPaymentId(), res);
+			} catch (IllegalArgumentException e) {
+				res.setReason(e.getMessage());
+			}
+		}
+		if (targets.isEmpty()) return results;
+
+		// [2] 결제 UPDATE 배치 — 허용 이전 상태는 '|예약|완료|' 형태로 바인딩
+		List<Long> ids = new ArrayList<>(targets.keySet());
+		int[] counts = jdbcTemplate.batchUpdate(
+				"UPDATE payment_tbl SET payment_status = ?, payment_version = payment_version + 1 "
+						+ "WHERE payment_id = ? "
+						+ "AND INSTR(?, '|' || payment_status || '|') > 0 "
+						+ "AND payment_version = NVL(?, payment_version)",
+				new BatchPreparedStatementSetter() {
+					@Override
+					public void setValues(PreparedStatement ps, int i) throws SQLException {
+						Long id = ids.get(i);
+						PaymentStatus to = targets.get(id);
+						ps.setString(1, to.label());
+						ps.setLong(2, id);
+						ps.setString(3, "|" + String.join("|", to.allowedFrom()) + "|");
+						Long v = versions.get(id);
+						if (v == null) ps.setNull(4, Types.NUMERIC);
+						else ps.setLong(4, v);
+					}
+
+					@Override
+					public int getBatchSize() {
+						return ids.size();
+					}
+				});
+
+		// [3] 반영 결과 회수(ojdbc 12c 이상은 배치 건별 update count 반환)
+		Map<Long, Payment> states = new HashMap<>();
+		for (Payment p : paymentMapper.selectPaymentStates(ids)) {
+			states.put(p.getPaymentId(), p);
+		}
+
+		Map<PaymentStatus, List<Long>> resvByTarget = new HashMap<>();
+		List<Payment> applied = new ArrayList<>();
+		for (int i = 0; i < ids.size(); i++) {
+			Long id = ids.get(i);
+			PaymentStatus to = targets.get(id);
+			Payment cur = states.get(id);
+			PaymentStatusChangeResult res = byId.get(id);
+			if (counts[i] == 1 && cur != null) {
+				res.setSuccess(true);
+				res.setPaymentStatus(cur.getPaymentStatus());
+				res.setVersion(cur.getPaymentVersion());
+				resvByTarget.computeIfAbsent(to, k -> new ArrayList<>()).add(cur.getResvId());
+				applied.add(cur);
+			} else {
+				res.setReason(rejectReason(cur, to, versions.get(id)));
+			}
+		}
+
+		if (!applied.isEmpty()) countCache.clear();  // [251106] 건수 캐시 무효화
+
+		// [4] 예약 상태 동기화(목표 상태별 1회)
+		resvByTarget.forEach((to, resvIds) ->
+				paymentMapper.syncReservationStatus(to.reservationStatus(), resvIds));
+
+		// [5] 문자 발송 — message_tbl UNIQUE(member_id, message_type, message_date)가 초 단위라
+		//     같은 회원·같은 상태는 1건만 발송(문구가 고정이므로 내용 손실 없음)
+		Map<String, Payment> notify = new LinkedHashMap<>();
+		for (Payment p : applied) {
+			notify.putIfAbsent(p.getMemberId() + "|" + targets.get(p.getPaymentId()), p);
+		}
+		for (Payment p : notify.values()) {
+			sendStatusMessage(targets.get(p.getPaymentId()), p.getMemberId(), p.getResvId());
+		}
+		log.info("[updateStatusBatch] 요청 {}건, 반영 {}건", reqs.size(), applied.size());
+		return results;
+	}
+
+	/** 상태전이 실패 사유 판별 (현재 상태/버전 기준) */
+	private String rejectReason(Payment current, PaymentStatus to, Long expectedVersion) {
+		if (current == null) {
+			return "결제 정보가 없습니다.";
+		}
+		PaymentStatus from = PaymentStatus.of(current.getPaymentStatus());
+		if (!from.canTransitTo(to)) {
+			return "'" + from.label() + "' → '" + to.label() + "' 상태 변경은 허용되지 않습니다.";
+		}
+		if (expectedVersion != null && !expectedVersion.equals(current.getPaymentVersion())) {
+			return "다른 사용자가 먼저 변경했습니다. 다시 조회 후 시도하세요. (현재 버전 " + current.getPaymentVersion() + ")";
+		}
+		return "상태 변경 실패";
+	}
+
+	/** 상태별 고정 문구 문자 발송 ('예약'은 발송 없음) */
+	private void sendStatusMessage(PaymentStatus to, String memberId, Long resvId) {
+		if (to == PaymentStatus.COMPLETED) {
+			Message msg = Message.builder()
+					.memberId(memberId)                 // 수신자 회원ID
+					.resvId(resvId)                     // 관련 예약ID
+					.messageType("예약확인")            // 유형
+					.messageContent("예약신청 완료되었습니다.") // 본문
+					.build();
+			messageService.sendMessage(msg);            // 기존 시그니처 사용
+		} else if (to == PaymentStatus.CANCELED) {
+			Message msg = Message.builder()
+					.memberId(memberId)
+					.resvId(resvId)
+					.messageType("예약취소")
+					.messageContent("예약신청 취소되었습니다.")
+					.build();
+			messageService.sendMessage(msg);
+		}
 	}
 
 		
-	/** 내부 변환: 엔티티 → 응답 DTO */
-    private PaymentResponse toResponse(Payment p) {
-        return PaymentResponse.builder()
-                .paymentId(p.getPaymentId())
-                .memberId(p.getMemberId())
-                .accountId(p.getAccountId())
-                .cardId(p.getCardId())
-                .resvId(p.getResvId())
-                .paymentMoney(p.getPaymentMoney())
-                .paymentMethod(p.getPaymentMethod())
-                .paymentStatus(p.getPaymentStatus())
-                .paymentDate(p.getPaymentDate())
-                .build();
-    }
 }
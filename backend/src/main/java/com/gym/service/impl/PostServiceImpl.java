@@ -3,12 +3,16 @@ package com.gym.service.impl;
 import com.gym.domain.post.PostResponse;
 import com.gym.domain.post.Post;                 // ★ 추가
 import com.gym.mapper.xml.PostMapper;
+import com.gym.security.RequestMemberCache;      // [251121] 요청 단위 회원 캐시
+import com.gym.service.FileService;            // [251113] 물리파일 비동기 정리
 import com.gym.service.PostService;
 
 import lombok.extern.log4j.Log4j2;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;        // [251113] 커밋 후 파일정리
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.bind.annotation.CrossOrigin;
 
 import java.util.List;
@@ -19,9 +23,16 @@ import java.util.List;
 public class PostServiceImpl implements PostService {
 
     private final PostMapper postMapper;
+    private final FileService fileService; // [251113] 연쇄삭제 후 물리파일 정리
+    private final RequestMemberCache requestMemberCache; // [251121] 작성자 존재 확인 (인증 단계에서 읽은 행 재사용)
 
-    public PostServiceImpl(PostMapper postMapper) {
+    /** [251113] 일괄 삭제 최대 건수 (Oracle IN 목록 상한) */
+    private static final int MAX_BULK_DELETE = 1000;
+
+    public PostServiceImpl(PostMapper postMapper, FileService fileService, RequestMemberCache requestMemberCache) {
         this.postMapper = postMapper;
+        this.fileService = fileService;
+        this.requestMemberCache = requestMemberCache;
     }
 
     /**
@@ -71,7 +82,7 @@ public class PostServiceImpl implements PostService {
         // [2] FK 사전검증 (실패 시 INSERT 진입 금지 → NEXTVAL 미호출)
         if (!postMapper.existsBoardId(postResponse.getBoardId()))
             throw new IllegalArgumentException("boardId not found");
-        if (!postMapper.existsMemberId(postResponse.getMemberId()))
+        if (!requestMemberCache.exists(postResponse.getMemberId())) // [251121] postMapper.existsMemberId → 요청 캐시
             throw new IllegalArgumentException("memberId not found");
 
         // [3] DTO → 엔티티(Post) 변환
@@ -206,4 +217,75 @@ public class PostServiceImpl implements PostService {
     public void increaseViewCount(Long postId) {
         postMapper.increaseViewCount(postId); // [250925추가] 매퍼 호출
     }
-}
\ No newline at end of file
+
+    // ==================== [251113] 게시글 연쇄삭제 ====================
+    // 기존: 댓글 전체 조회 → 댓글마다 DELETE + 트랜잭션 → 게시글 DELETE
+    // 변경: 한 트랜잭션에서 post_id 기준 집합 DELETE 3회(댓글/첨부파일 행/게시글)
+    //       물리파일은 커밋 성공 후에만 비동기로 정리(롤백 시 파일 보존)
+
+    /** 게시글 단건 연쇄삭제 */
+    @Override
+    @Transactional
+    public int deletePostCascade(Long postId) {
+        if (postId == null) throw new IllegalArgumentException("postId is required");
+        int deleted = cascadeDelete(null, List.of(postId));
+        if (deleted == 0) {
+            throw new RuntimeException("삭제할 게시글이 존재하지 않습니다. postId=" + postId);
+        }
+        return deleted;
+    }
+
+    /** 게시글 여러 건 연쇄삭제 (boardId 지정 시 해당 게시판 소속 글만) */
+    @Override
+    @Transactional
+    public int deletePostsCascade(Long boardId, List<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) return 0;
+        List<Long> ids = postIds.stream().filter(java.util.Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) return 0;
+        if (ids.size() > MAX_BULK_DELETE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BULK_DELETE + "건까지 삭제할 수 있습니다.");
+        }
+        return cascadeDelete(boardId, ids);
+    }
+
+    /** 게시판 전체 게시글 연쇄삭제 */
+    @Override
+    @Transactional
+    public int deletePostsByBoard(Long boardId) {
+        if (boardId == null) throw new IllegalArgumentException("boardId is required");
+        return cascadeDelete(boardId, null);
+    }
+
+    /** 공통: 파일경로 수집 → 댓글 → 첨부파일 행 → 게시글 (호출측 트랜잭션 안에서 실행) */
+    private int cascadeDelete(Long boardId, List<Long> postIds) {
+        log.info("[게시글 연쇄삭제 요청] boardId={}, postIds={}", boardId, postIds);
+
+        List<String> filePaths = postMapper.selectCascadeFilePaths(boardId, postIds);
+        int comments = postMapper.deleteCommentsByPosts(boardId, postIds);
+        int files = postMapper.deleteFilesByPosts(boardId, postIds);
+        int posts = postMapper.deletePostsByTarget(boardId, postIds);
+
+        log.info("[게시글 연쇄삭제 결과] posts={}, comments={}, files={}, 물리파일 후보={}",
+                posts, comments, files, filePaths.size());
+
+        if (posts > 0 && !filePaths.isEmpty()) {
+            afterCommit(() -> fileService.deletePhysicalFilesAsync(filePaths));
+        }
+        return posts;
+    }
+
+    /** 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 즉시 실행) */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+}
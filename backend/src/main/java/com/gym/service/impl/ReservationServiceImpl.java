@@ -5,9 +5,9 @@ import com.gym.domain.reservation.ReservationCreateRequest;
 import com.gym.domain.reservation.ReservationResponse;
 import com.gym.domain.reservation.ReservationSearchRequest;
 import com.gym.domain.reservation.ReservationUpdateRequest;
-import com.gym.mapper.annotation.MemberMapper; 
 import com.gym.mapper.annotation.ReservationMapper;
 import com.gym.mapper.xml.ReservationQueryMapper;  
+import com.gym.security.RequestMemberCache;
 import com.gym.service.ReservationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,7 +32,7 @@ public class ReservationServiceImpl implements ReservationService {
 
     private final ReservationMapper reservationMapper;	// CUD 매퍼
     private final ReservationQueryMapper reservationQueryMapper;	// 조회 매퍼(XML)
-    private final MemberMapper memberMapper; // 회원 검증
+    private final RequestMemberCache requestMemberCache; // 회원 검증 ([251121] 요청 단위 캐시 경유)
     private final JdbcTemplate jdbcTemplate; //[250919] 추가 (부트 자동 구성)
     private final MessageService messageService; // [250925추가] 메시지 서비스 빈 주입(기존 구현체 사용, 새로운 메서드 생성 금지)
     
@@ -45,7 +45,7 @@ public class ReservationServiceImpl implements ReservationService {
     	log.info("[createReservation] 예약 생성 시작: {}", request);
     	
         // 1) 회원 존재 확인: 없으면 중단
-        if (!memberMapper.existsMemberById(request.getMemberId())) {
+        if (!requestMemberCache.exists(request.getMemberId())) {
             throw new IllegalArgumentException("존재하지 않는 회원 ID: " + request.getMemberId());
         }
 
@@ -0,0 +1,167 @@
+package com.gym.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import com.gym.domain.stats.RevenueDailyResponse;
+import com.gym.domain.stats.StatsRollupResult;
+import com.gym.domain.stats.UsageDailyResponse;
+import com.gym.mapper.xml.StatsRollupMapper;
+import com.gym.service.StatsRollupService;
+
+/**
+ * [251107] 일별 매출/이용 집계 구현
+ * - 1회 실행 = 1트랜잭션: 잠금 → 큐(stat_queue_tbl)에서 PK 꺼냄 → MERGE → 큐 삭제 → 진행 위치 기록
+ *   → 실패 시 전체 롤백되어 큐가 그대로 남고 다음 실행에서 다시 처리(중복 누적 없음)
+ * - 큐는 원본 INSERT 트리거가 원본과 같은 트랜잭션에서 적재 → 커밋이 늦은 원본도 빠짐없이 반영
+ *   (이전 "최대 PK 이하" 상한은 시퀀스 순서 ≠ 커밋 순서라 늦게 커밋된 행을 영구히 건너뛸 수 있었음)
+ * - watermark 행 FOR UPDATE 로 스케줄/수동/다중 서버 동시 실행을 직렬화
+ * - @Scheduled 는 같은 빈 내부 호출이라 @Transactional 프록시가 적용되지 않음 → TransactionTemplate 사용
+ */
+@Slf4j
+@Service
+public class StatsRollupServiceImpl implements StatsRollupService {
+
+	static final String PAYLOG = "paylog";
+	static final String RESERVATION = "reservation";
+	private static final int DRAIN_CHUNK = 1000;		// Oracle IN 목록 상한
+	private static final long MAX_RANGE_DAYS = 366;	// 조회 기간 상한
+
+	private final StatsRollupMapper statsRollupMapper;
+	private final TransactionTemplate tx;
+	private final boolean enabled;
+	private final int maxRowsPerRun;
+
+	public StatsRollupServiceImpl(StatsRollupMapper statsRollupMapper,
+			PlatformTransactionManager transactionManager,
+			@Value("${stats.rollup.enabled:true}") boolean enabled,
+			@Value("${stats.rollup.max-rows-per-run:20000}") int maxRowsPerRun) {
+		this.statsRollupMapper = statsRollupMapper;
+		this.tx = new TransactionTemplate(transactionManager);
+		this.enabled = enabled;
+		this.maxRowsPerRun = Math.max(DRAIN_CHUNK, maxRowsPerRun);
+	}
+
+	/** 주기 실행 (기본 5분 간격) — 실패해도 다음 주기에 남은 큐부터 재시도, 상한에 걸리면 이어서 한 번 더 */
+	@Scheduled(initialDelayString = "${stats.rollup.initial-delay-ms:60000}",
+			fixedDelayString = "${stats.rollup.fixed-delay-ms:300000}")
+	public void scheduledRollup() {
+		if (!enabled) return;
+		try {
+			StatsRollupResult r;
+			do {
+				r = runIncremental();
+				if (r.getRevenueMerged() + r.getUsageMerged() > 0) {
+					log.info("[StatsRollup] 증분 집계 완료: {}", r);
+				}
+			} while (r.isBacklog());
+		} catch (RuntimeException e) {
+			log.error("[StatsRollup] 증분 집계 실패 — 다음 주기에 재시도", e);
+		}
+	}
+
+	@Override
+	public StatsRollupResult runIncremental() {
+		return tx.execute(status -> rollup(false));
+	}
+
+	@Override
+	public StatsRollupResult rebuild() {
+		return tx.execute(status -> rollup(true));
+	}
+
+	private StatsRollupResult rollup(boolean rebuild) {
+		long started = System.currentTimeMillis();
+
+		if (statsRollupMapper.lockWatermark(PAYLOG) == null || statsRollupMapper.lockWatermark(RESERVATION) == null) {
+			throw new IllegalStateException("stat_watermark_tbl 초기 행이 없습니다. (DB/15_stat_tbl DDL 확인)");
+		}
+
+		if (rebuild) {
+			// 큐에 없는 원본 전체를 다시 집계 — 큐에 남은 행은 이후 증분이 반영
+			// (원본과 큐 행은 함께 커밋되므로 각 MERGE 문 시점에 둘 중 한쪽에서만 보임)
+			statsRollupMapper.deleteRevenueAll();
+			statsRollupMapper.deleteUsageAll();
+			int revenueMerged = statsRollupMapper.mergeRevenue(null);
+			int usageMerged = statsRollupMapper.mergeUsageDone(null) + statsRollupMapper.mergeUsageRequested(null);
+			return StatsRollupResult.builder()
+					.revenueMerged(revenueMerged).usageMerged(usageMerged)
+					.rebuilt(true)
+					.elapsedMillis(System.currentTimeMillis() - started)
+					.build();
+		}
+
+		int[] revenueMerged = {0};
+		Drained paylog = drain(PAYLOG, ids -> {
+			revenueMerged[0] += statsRollupMapper.mergeRevenue(ids);
+			return statsRollupMapper.mergeUsageDone(ids);
+		});
+		Drained resv = drain(RESERVATION, statsRollupMapper::mergeUsageRequested);
+
+		return StatsRollupResult.builder()
+				.paylogRows(paylog.rows).resvRows(resv.rows)
+				.backlog(paylog.backlog || resv.backlog)
+				.revenueMerged(revenueMerged[0]).usageMerged(paylog.merged + resv.merged)
+				.rebuilt(false)
+				.elapsedMillis(System.currentTimeMillis() - started)
+				.build();
+	}
+
+	/** 큐에서 DRAIN_CHUNK 건씩 꺼내 MERGE 후 삭제 (1회 최대 maxRowsPerRun 건) */
+	private Drained drain(String statName, ToIntFunction<List<Long>> merge) {
+		Drained d = new Drained();
+		long lastId = 0;
+		while (d.rows < maxRowsPerRun) {
+			List<Long> ids = statsRollupMapper.selectQueuedIds(statName, DRAIN_CHUNK);
+			if (ids.isEmpty()) break;
+			d.merged += merge.applyAsInt(ids);
+			statsRollupMapper.deleteQueued(statName, ids);
+			d.rows += ids.size();
+			lastId = ids.get(ids.size() - 1);	// PK 오름차순
+			d.backlog = ids.size() == DRAIN_CHUNK;
+		}
+		if (d.rows > 0) statsRollupMapper.updateWatermark(statName, lastId);
+		return d;
+	}
+
+	private static final class Drained {
+		int rows;			// 큐에서 꺼내 반영한 원본 행 수
+		int merged;			// MERGE 반영 집계 행 수
+		boolean backlog;	// 마지막 조회가 가득 참 → 큐에 남은 행이 있을 수 있음
+	}
+
+	@Override
+	public List<RevenueDailyResponse> getRevenueDaily(LocalDate fromDate, LocalDate toDate, String facilityType) {
+		LocalDate[] range = resolveRange(fromDate, toDate);
+		return statsRollupMapper.selectRevenueDaily(range[0], range[1], facilityType);
+	}
+
+	@Override
+	public List<UsageDailyResponse> getUsageDaily(LocalDate fromDate, LocalDate toDate, Long facilityId) {
+		LocalDate[] range = resolveRange(fromDate, toDate);
+		return statsRollupMapper.selectUsageDaily(range[0], range[1], facilityId);
+	}
+
+	/** 기간 기본값(최근 30일) + 검증 */
+	private LocalDate[] resolveRange(LocalDate fromDate, LocalDate toDate) {
+		LocalDate to = (toDate != null) ? toDate : LocalDate.now();
+		LocalDate from = (fromDate != null) ? fromDate : to.minusDays(29);
+		if (from.isAfter(to)) {
+			throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+		}
+		if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+			throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+		}
+		return new LocalDate[] {from, to};
+	}
+}
@@ -0,0 +1,105 @@
+package com.gym.bench;	// 📦 성능 비교용 테스트 패키지
+
+import com.gym.mapper.annotation.MemberMapper;
+import com.gym.mapper.xml.MemberQueryMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * [251119] 회원 조회 projection 벤치마크 (매퍼 단위)
+ * - 비교: 전체 행(selectMemberById) ↔ 프로필(비번 제외) ↔ 아이디+역할 ↔ 존재 여부 / 목록 1페이지
+ * - 측정: 호출 1회당 힙 할당 바이트(현재 스레드), 평균 시간, 선택 컬럼의 DB 저장 바이트(VSIZE 합)
+ * - 실DB 필요 → 기본 테스트에서는 제외, 실행: ./gradlew test --tests '*MemberProjectionBenchmark' -Dbench=true
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@EnabledIfSystemProperty(named = "bench", matches = "true")
+@Log4j2
+class MemberProjectionBenchmark {
+
+    private static final int WARMUP = 200;      // JIT/커넥션 예열
+    private static final int ITERATIONS = 2000; // 측정 횟수
+
+    private static final String FULL_COLUMNS = "member_id, member_pw, member_name, member_gender, member_email, member_mobile, "
+            + "member_phone, zip, road_address, jibun_address, detail_address, member_birthday, member_manipay, "
+            + "member_joindate, member_role, admin_type";
+    private static final String PROFILE_COLUMNS = FULL_COLUMNS.replace("member_pw, ", "");
+    private static final String ROLE_COLUMNS = "member_id, member_role, admin_type";
+    private static final String LIST_ROW_COLUMNS = "member_id, member_name, member_gender, member_email, member_mobile, "
+            + "member_birthday, member_joindate, member_role, admin_type";
+
+    @Autowired MemberMapper memberMapper;
+    @Autowired MemberQueryMapper memberQueryMapper;
+    @Autowired JdbcTemplate jdbc;
+
+    @Test
+    void compareProjections() {
+        String memberId = jdbc.queryForObject("SELECT MIN(member_id) FROM member_tbl", String.class);
+        if (memberId == null) {
+            log.info("[BENCH] member_tbl 비어 있음 — 건너뜀");
+            return;
+        }
+
+        log.info("[BENCH] 대상 회원={}, 반복={}", memberId, ITERATIONS);
+        report("full    selectMemberById       ", rowBytes(FULL_COLUMNS, memberId),
+                () -> memberMapper.selectMemberById(memberId));
+        report("profile selectMemberProfileById", rowBytes(PROFILE_COLUMNS, memberId),
+                () -> memberMapper.selectMemberProfileById(memberId));
+        report("role    selectMemberRoleById   ", rowBytes(ROLE_COLUMNS, memberId),
+                () -> memberMapper.selectMemberRoleById(memberId));
+        report("exists  existsMemberById       ", 1,
+                () -> memberMapper.existsMemberById(memberId));
+
+        // 목록 1페이지(20건): 목록 행 ↔ 같은 회원들의 전체 행 저장 바이트
+        long listBytes = pageBytes(LIST_ROW_COLUMNS);
+        long fullPageBytes = pageBytes(FULL_COLUMNS);
+        log.info("[BENCH] list page(20) 저장 바이트: 전체 행={} → 목록 행={}", fullPageBytes, listBytes);
+        report("list    selectMembers(1,20)    ", listBytes,
+                () -> memberQueryMapper.selectMembers(1, 20, null, null));
+    }
+
+    /** 호출 1회당 할당 바이트/시간 측정 후 로그 */
+    private void report(String label, long storedBytes, Supplier<?> call) {
+        for (int i = 0; i < WARMUP; i++) call.get();
+
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().getId();
+        long allocBefore = mx.getThreadAllocatedBytes(tid);
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) call.get();
+        long elapsed = System.nanoTime() - started;
+        long allocated = mx.getThreadAllocatedBytes(tid) - allocBefore;
+
+        log.info("[BENCH] {} | DB 저장 바이트={} | 할당 {} bytes/call | {} us/call",
+                label, storedBytes, allocated / ITERATIONS, elapsed / ITERATIONS / 1000.0);
+    }
+
+    /** 회원 1명의 선택 컬럼 저장 바이트 합 (VSIZE) */
+    private long rowBytes(String columns, String memberId) {
+        Long v = jdbc.queryForObject("SELECT " + vsizeSum(columns) + " FROM member_tbl WHERE member_id = ?",
+                Long.class, memberId);
+        return v == null ? 0 : v;
+    }
+
+    /** 목록 1페이지(20건)의 선택 컬럼 저장 바이트 합 */
+    private long pageBytes(String columns) {
+        Long v = jdbc.queryForObject("SELECT NVL(SUM(b), 0) FROM (SELECT " + vsizeSum(columns)
+                + " AS b FROM member_tbl OFFSET 0 ROWS FETCH NEXT 20 ROWS ONLY)", Long.class);
+        return v == null ? 0 : v;
+    }
+
+    private static String vsizeSum(String columns) {
+        StringBuilder sb = new StringBuilder();
+        for (String c : columns.split(",")) {
+            if (sb.length() > 0) sb.append(" + ");
+            sb.append("NVL(VSIZE(").append(c.trim()).append("), 0)");
+        }
+        return sb.toString();
+    }
+}
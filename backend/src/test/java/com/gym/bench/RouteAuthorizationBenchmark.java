@@ -0,0 +1,92 @@
+package com.gym.bench;	// 📦 성능 비교용 테스트 패키지
+
+import com.gym.config.SecurityConfig;
+import com.gym.security.AccessRule;
+import com.gym.security.AccessRule.Access;
+import com.gym.security.RouteAuthorizationManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * [251127] 경로 권한 판단 벤치마크 (DB 없음, CPU 만)
+ * - 비교: 기존 방식(규칙 순서대로 AntPathRequestMatcher 체인, 첫 일치) ↔ RouteAuthorizationManager(트라이 1회 탐색)
+ * - 같은 선언표(SecurityConfig.ACCESS_RULES)로 두 방식을 만들어 시간만 비교
+ *   · 판단 결과 동일성은 일반 단위 테스트 RouteAuthorizationManagerTest 에서 검증(MVC 와 같은 PathPattern 기준)
+ * - 표본: 체인 앞쪽 규칙(예약) / 뒤쪽 규칙(회원·CMS) / 어떤 규칙에도 없는 경로(기본값, 체인 전체를 훑음)
+ * - 실행: ./gradlew test --tests '*RouteAuthorizationBenchmark' -Dbench=true
+ */
+@EnabledIfSystemProperty(named = "bench", matches = "true")
+@Log4j2
+class RouteAuthorizationBenchmark {
+
+    private static final int WARMUP = 200_000;       // JIT 예열
+    private static final int ITERATIONS = 2_000_000; // 측정 횟수
+
+    private static final String[][] SAMPLES = {
+            {"POST",   "/api/reservations/12"},                 // 1번째 규칙
+            {"GET",    "/api/boards/01/posts/8"},               // 앞쪽
+            {"OPTIONS","/api/cms/members/hong"},                // 프리플라이트
+            {"GET",    "/api/cms/stats/daily"},                 // CMS 중간
+            {"POST",   "/api/files/upload/editor"},             // 파일
+            {"PUT",    "/api/cms/boards/01/posts/8/comments/3"},// 댓글(앞 규칙에 가려짐)
+            {"GET",    "/api/members/me"},                      // 뒤쪽
+            {"DELETE", "/api/members/hong"},                    // denyAll
+            {"PUT",    "/api/cms/closed-days/2025-12-25"},      // 마지막 규칙 근처
+            {"GET",    "/api/messages/inbox/1"},                // 규칙 없음 → 기본값(authenticated)
+    };
+
+    @Test
+    void compareChainAndTrie() {
+        List<AccessRule> rules = SecurityConfig.ACCESS_RULES;
+        RouteAuthorizationManager trie = new RouteAuthorizationManager(rules, Access.AUTHENTICATED);
+        List<AntPathRequestMatcher> matchers = new ArrayList<>();
+        List<Access> accesses = new ArrayList<>();
+        for (AccessRule rule : rules) {
+            for (String pattern : rule.getPatterns()) {
+                matchers.add(rule.getMethod() == null
+                        ? new AntPathRequestMatcher(pattern)
+                        : new AntPathRequestMatcher(pattern, rule.getMethod().name()));
+                accesses.add(rule.getAccess());
+            }
+        }
+        log.info("[BENCH] 규칙(패턴)={}, 충돌 보고={}", matchers.size(), trie.conflicts().size());
+
+        List<MockHttpServletRequest> requests = new ArrayList<>();
+        for (String[] s : SAMPLES) {
+            MockHttpServletRequest req = new MockHttpServletRequest(s[0], s[1]);
+            req.setServletPath(s[1]);
+            requests.add(req);
+        }
+
+        for (int i = 0; i < WARMUP; i++) {
+            MockHttpServletRequest req = requests.get(i % requests.size());
+            chain(matchers, accesses, req);
+            trie.decide(req.getMethod(), req.getServletPath());
+        }
+
+        for (int k = 0; k < requests.size(); k++) {
+            MockHttpServletRequest req = requests.get(k);
+            long t0 = System.nanoTime();
+            for (int i = 0; i < ITERATIONS / requests.size(); i++) chain(matchers, accesses, req);
+            long t1 = System.nanoTime();
+            for (int i = 0; i < ITERATIONS / requests.size(); i++) trie.decide(req.getMethod(), req.getServletPath());
+            long t2 = System.nanoTime();
+            long n = ITERATIONS / requests.size();
+            log.info("[BENCH] {} {} | 체인 {} ns | 트라이 {} ns", SAMPLES[k][0], SAMPLES[k][1], (t1 - t0) / n, (t2 - t1) / n);
+        }
+    }
+
+    /** 기존 방식: 선언 순서대로 매칭, 첫 일치 규칙의 조건 (없으면 authenticated) */
+    private static Access chain(List<AntPathRequestMatcher> matchers, List<Access> accesses, MockHttpServletRequest req) {
+        for (int i = 0; i < matchers.size(); i++) {
+            if (matchers.get(i).matches(req)) return accesses.get(i);
+        }
+        return Access.AUTHENTICATED;
+    }
+}
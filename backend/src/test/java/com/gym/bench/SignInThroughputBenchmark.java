@@ -0,0 +1,121 @@
+package com.gym.bench;	// 📦 성능 비교용 테스트 패키지
+
+import com.gym.common.exception.PasswordHashBusyException;
+import com.gym.service.impl.PasswordHashServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import lombok.extern.log4j.Log4j2;
+
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * [251122] 로그인 폭주 중 다른 요청 응답시간 벤치마크 (DB 없음, CPU 만)
+ * - 요청 스레드 200개(Tomcat 기본) 위에서 로그인 STORM 건을 한꺼번에 넣고, 동시에 가벼운 일반 요청을 5ms 간격으로 계속 넣음
+ * - 비교: 요청 스레드에서 바로 BCrypt ↔ PasswordHashService(전용 풀 + 대기 상한, 초과 시 503)
+ * - 측정: 로그인 성공/503 건수·초당 처리량, 일반 요청 응답시간 p50/p99/max
+ * - 실행: ./gradlew test --tests '*SignInThroughputBenchmark' -Dbench=true
+ */
+@EnabledIfSystemProperty(named = "bench", matches = "true")
+@Log4j2
+class SignInThroughputBenchmark {
+
+    private static final int COST = 10;                 // 운영 기본값(member.password.bcrypt-cost)
+    private static final int REQUEST_THREADS = 200;     // Tomcat 기본 max threads
+    private static final int STORM = 400;               // 한꺼번에 들어오는 로그인 수(수업 시작 직전)
+    private static final long OTHER_INTERVAL_MS = 5;    // 일반 요청 간격
+
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(COST);
+    private final String stored = encoder.encode("pw1234!");
+
+    @Test
+    void compareSignInUnderLoad() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        log.info("[BENCH] 코어={}, 로그인={}, 요청 스레드={}, cost={}", cores, STORM, REQUEST_THREADS, COST);
+
+        run("요청 스레드에서 직접 BCrypt", () -> encoder.matches("pw1234!", stored));
+
+        ThreadPoolTaskExecutor hashPool = new ThreadPoolTaskExecutor();
+        hashPool.setCorePoolSize(Math.max(1, cores / 2));   // 코어 절반은 다른 요청 몫
+        hashPool.setMaxPoolSize(Math.max(1, cores / 2));
+        hashPool.setQueueCapacity(1000);
+        hashPool.setThreadNamePrefix("bench-hash-");
+        hashPool.initialize();
+        PasswordHashServiceImpl service = new PasswordHashServiceImpl(encoder, hashPool, null,
+                COST, 64, 5000, 2, false);
+        try {
+            run("PasswordHashService(풀 " + hashPool.getMaxPoolSize() + ", 대기 64)",
+                    () -> service.matches("pw1234!", stored));
+        } finally {
+            hashPool.shutdown();
+        }
+    }
+
+    private void run(String label, BooleanSupplier login) throws Exception {
+        ExecutorService requests = Executors.newFixedThreadPool(REQUEST_THREADS);
+        List<Long> otherMicros = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger ok = new AtomicInteger();
+        AtomicInteger busy = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(STORM);
+
+        // 예열(JIT)
+        for (int i = 0; i < 20; i++) { login.getAsBoolean(); otherWork(); }
+
+        long started = System.nanoTime();
+        for (int i = 0; i < STORM; i++) {
+            requests.execute(() -> {
+                try {
+                    if (login.getAsBoolean()) ok.incrementAndGet();
+                } catch (PasswordHashBusyException e) {
+                    busy.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        // 로그인이 끝날 때까지 일반 요청 계속 투입
+        while (done.getCount() > 0) {
+            long submitted = System.nanoTime();
+            requests.execute(() -> {
+                otherWork();
+                otherMicros.add((System.nanoTime() - submitted) / 1000);
+            });
+            Thread.sleep(OTHER_INTERVAL_MS);
+        }
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        requests.shutdown();
+        requests.awaitTermination(1, TimeUnit.MINUTES);
+
+        List<Long> sorted = new ArrayList<>(otherMicros);
+        Collections.sort(sorted);
+        log.info("[BENCH] {} | 로그인 성공={} 503={} | {} ms ({} 건/초) | 일반 요청 {}건 p50={}us p99={}us max={}us",
+                label, ok.get(), busy.get(), elapsedMs, ok.get() * 1000L / Math.max(1, elapsedMs),
+                sorted.size(), pct(sorted, 50), pct(sorted, 99), sorted.isEmpty() ? 0 : sorted.get(sorted.size() - 1));
+    }
+
+    /** 가벼운 일반 요청 흉내 (SHA-256 몇백 번 ≒ 수백 us CPU) */
+    private static void otherWork() {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] buf = new byte[256];
+            for (int i = 0; i < 300; i++) buf = md.digest(buf);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long pct(List<Long> sorted, int p) {
+        if (sorted.isEmpty()) return 0;
+        return sorted.get(Math.min(sorted.size() - 1, sorted.size() * p / 100));
+    }
+}
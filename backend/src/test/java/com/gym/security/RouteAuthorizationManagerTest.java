@@ -0,0 +1,112 @@
+package com.gym.security;	// 📦 테스트 대상과 같은 패키지
+
+import com.gym.config.SecurityConfig;
+import com.gym.security.AccessRule.Access;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * [251127] 경로 권한 트라이 ↔ 기존 체인 판단 동일성 (DB/스프링 컨텍스트 없음)
+ * - 기준(기존 체인): 선언표(SecurityConfig.ACCESS_RULES)를 순서대로 MVC 와 같은 PathPattern 으로 매칭, 첫 일치
+ *   · Spring 6 PathPatternParser 기본값 = 기존 requestMatchers(MVC 매처)와 같은 규칙(끝 "/" 선택 일치 꺼짐)
+ * - 표본: 선언표의 모든 패턴에서 만든 경로 + 끝 "/" + "**" 기준 경로 + 규칙 없는 경로, 모든 메서드
+ */
+class RouteAuthorizationManagerTest {
+
+    private static final String[] METHODS = {"GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"};
+    private static final PathPatternParser PARSER = new PathPatternParser();
+
+    private final RouteAuthorizationManager trie =
+            new RouteAuthorizationManager(SecurityConfig.ACCESS_RULES, Access.AUTHENTICATED);
+
+    @Test
+    void methodSpecificRules() {
+        assertEquals(Access.DENY_ALL, trie.decide("DELETE", "/api/members/x"));     // 사용자 삭제 차단
+        assertEquals(Access.DENY_ALL, trie.decide("GET", "/api/members"));          // 사용자 목록 차단
+        assertEquals(Access.PERMIT_ALL, trie.decide("POST", "/api/members"));       // 회원가입
+        assertEquals(Access.AUTHENTICATED, trie.decide("GET", "/api/members/me"));
+        assertEquals(Access.AUTHENTICATED, trie.decide("PUT", "/api/members/x"));   // 규칙 없음 → 기본값
+        assertEquals(Access.PERMIT_ALL, trie.decide("OPTIONS", "/api/members/x"));  // 프리플라이트
+    }
+
+    @Test
+    void basePathAndTrailingSlash() {
+        assertEquals(Access.PERMIT_ALL, trie.decide("POST", "/api/reservations"));    // "**" 는 기준 경로도 일치
+        assertEquals(Access.PERMIT_ALL, trie.decide("POST", "/api/reservations/"));
+        assertEquals(Access.PERMIT_ALL, trie.decide("GET", "/api/facilities/"));      // 끝 "*" 는 빈 세그먼트도 일치
+        assertEquals(Access.DENY_ALL, trie.decide("GET", "/api/members"));
+        assertEquals(Access.AUTHENTICATED, trie.decide("GET", "/api/members/"));      // 리터럴 + 끝 "/" 는 불일치
+        assertEquals(Access.AUTHENTICATED, trie.decide("GET", "/"));
+        assertEquals(Access.PERMIT_ALL, trie.decide("OPTIONS", "/"));
+    }
+
+    @Test
+    void sameDecisionAsPatternChain() {
+        List<Compiled> chain = compile(SecurityConfig.ACCESS_RULES);
+        Set<String> paths = samplePaths(SecurityConfig.ACCESS_RULES);
+        int checked = 0;
+        for (String path : paths) {
+            for (String method : METHODS) {
+                assertEquals(chain(chain, method, path), trie.decide(method, path), method + " " + path);
+                checked++;
+            }
+        }
+        assertTrue(checked > 1000, "표본이 너무 적습니다: " + checked);
+    }
+
+    /* ====================== 기준(기존 체인) ====================== */
+
+    private record Compiled(HttpMethod method, PathPattern pattern, Access access) {}
+
+    private static List<Compiled> compile(List<AccessRule> rules) {
+        List<Compiled> out = new ArrayList<>();
+        for (AccessRule rule : rules) {
+            for (String pattern : rule.getPatterns()) {
+                out.add(new Compiled(rule.getMethod(), PARSER.parse(pattern), rule.getAccess()));
+            }
+        }
+        return out;
+    }
+
+    private static Access chain(List<Compiled> chain, String method, String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (Compiled c : chain) {
+            if ((c.method() == null || c.method().matches(method)) && c.pattern().matches(container)) return c.access();
+        }
+        return Access.AUTHENTICATED;
+    }
+
+    /* ====================== 표본 경로 ====================== */
+
+    private static Set<String> samplePaths(List<AccessRule> rules) {
+        Set<String> out = new TreeSet<>(List.of(
+                "/", "/api", "/api/", "/api/messages/inbox/1", "/api/members/", "/api/members/x/",
+                "/api/boards/01/posts/8/comments/3/", "/api/cms", "/api/cms/"));
+        for (AccessRule rule : rules) {
+            for (String pattern : rule.getPatterns()) {
+                boolean rest = pattern.endsWith("/**");
+                String base = rest ? pattern.substring(0, pattern.length() - 3) : pattern;
+                List<String> suffixes = rest ? List.of("", "/", "/1", "/1/edit", "/1/edit/") : List.of("", "/");
+                for (String filled : List.of(base.replace("*", "1"), base.replace("*", "me"))) {
+                    for (String suffix : suffixes) {
+                        String path = filled + suffix;
+                        out.add(path.isEmpty() ? "/" : path);
+                    }
+                }
+                if (base.endsWith("/*")) out.add(base.substring(0, base.length() - 1).replace("*", "1")); // 끝 "*" 빈 세그먼트
+            }
+        }
+        return out;
+    }
+}
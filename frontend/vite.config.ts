@@ -25,12 +25,14 @@ export default defineConfig({
       "/api": {
         target: 'http://localhost:8181/',  // ⚙️ 백엔드(Spring Boot) 서버 주소
         changeOrigin: true, // 요청 헤더의 Origin을 백엔드 기준으로 변경
+        xfwd: true,         // [251126] X-Forwarded-For 전달 → 백엔드 요청 속도 제한이 사용자 IP 단위로 동작
         rewrite: (path) => path.replace(/^\/api/, ''), // "/api" 프리픽스 제거 후 전달
       },
       // 이미지 요청 프록시 설정 (예: 업로드 이미지 접근)
       "/images": {
       target: "http://localhost:8181/",   // ✅ 백엔드 서버로 연결
       changeOrigin: true,                 // ✅ 호스트 헤더도 백엔드 기준으로 변경
+      xfwd: true,                         // [251126] X-Forwarded-For 전달(사용자 IP)
       },
     },
   },